@@ -0,0 +1,50 @@
+package com.kauanferreira.smartorder.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuration for asynchronous report downloads.
+ *
+ * <p>Long-running downloads such as the admin order report return a
+ * {@code WebAsyncTask} that runs on the executor declared here, so the
+ * servlet request threads that serve customers are released as soon as the
+ * export starts. The admin sales rollup rebuild runs here too. Only the
+ * endpoints that pass this executor to their task use it; other async MVC
+ * work keeps Spring's default executor and timeout.</p>
+ *
+ * <p>The pool is intentionally small: each running export holds a database
+ * connection for its whole duration. Tuned through
+ * {@code smartorder.reports.export.*}.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+@Configuration
+public class AsyncWebConfig {
+
+    @Value("${smartorder.reports.export.threads:2}")
+    private int exportThreads;
+
+    @Value("${smartorder.reports.export.queue-capacity:4}")
+    private int exportQueueCapacity;
+
+    /**
+     * Executor dedicated to streaming report downloads.
+     *
+     * @return a bounded thread pool; requests beyond its queue are rejected
+     */
+    @Bean
+    public ThreadPoolTaskExecutor reportExportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(exportThreads);
+        executor.setMaxPoolSize(exportThreads);
+        executor.setQueueCapacity(exportQueueCapacity);
+        executor.setThreadNamePrefix("report-export-");
+        executor.initialize();
+        return executor;
+    }
+}
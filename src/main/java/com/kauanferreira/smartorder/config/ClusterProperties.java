@@ -0,0 +1,54 @@
+package com.kauanferreira.smartorder.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Whether this instance is one of several serving the same users.
+ *
+ * <p>Set through {@code smartorder.cluster.multi-node}. Several components
+ * keep per-user or aggregate state in memory and keep it current from the
+ * application events of this instance; with more than one node, the changes
+ * made through the other nodes never reach them. When multi-node is on:</p>
+ *
+ * <ul>
+ *   <li>{@code CartStore} reads the cart on every call and writes each
+ *       change before returning;</li>
+ *   <li>{@code ChatUnreadCounter}, {@code FavoriteProductCache} and
+ *       {@code PurchasedProductCache} keep nothing and read the database on
+ *       every call;</li>
+ *   <li>{@code ProductRankingRegistry} ignores order events and is rebuilt
+ *       from the order tables on a schedule, so every node ranks the same
+ *       sales;</li>
+ *   <li>{@code LiveMetricsRegistry} is unaffected: its snapshots go to a
+ *       node-local destination, so each dashboard shows the counters of the
+ *       node it is connected to.</li>
+ * </ul>
+ *
+ * <p>This is independent of the STOMP transport
+ * ({@code smartorder.websocket.broker.mode}): a multi-node deployment also
+ * needs the relay broker so chat reaches users connected to other nodes, but
+ * the two are configured separately.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+@Component
+public class ClusterProperties {
+
+    private final boolean multiNode;
+
+    public ClusterProperties(@Value("${smartorder.cluster.multi-node:false}") boolean multiNode) {
+        this.multiNode = multiNode;
+    }
+
+    /**
+     * Returns whether other instances serve the same users.
+     *
+     * @return {@code true} if in-memory state must not outlive a call
+     */
+    public boolean isMultiNode() {
+        return multiNode;
+    }
+}
@@ -0,0 +1,55 @@
+package com.kauanferreira.smartorder.config;
+
+import com.kauanferreira.smartorder.dto.response.PageResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Compatibility mode for clients written against the old list endpoints,
+ * which returned a bare JSON array.
+ *
+ * <p>When {@code smartorder.pagination.legacy-list-response} is enabled, every
+ * {@link PageResponse} is written as the array of its rows, and the pagination
+ * state moves to the {@code X-Has-Next} and {@code X-Total-Count} headers. The
+ * rows are still one bounded page. Clients that already read the envelope can
+ * send {@code X-Page-Format: envelope} to receive it while the flag is on, so
+ * they can migrate one by one before the flag is turned off.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+@RestControllerAdvice
+public class LegacyListResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final String FORMAT_HEADER = "X-Page-Format";
+
+    @Value("${smartorder.pagination.legacy-list-response:false}")
+    private boolean legacyListResponse;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return legacyListResponse;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(body instanceof PageResponse<?> page)
+                || "envelope".equalsIgnoreCase(request.getHeaders().getFirst(FORMAT_HEADER))) {
+            return body;
+        }
+        response.getHeaders().set("X-Has-Next", String.valueOf(page.hasNext()));
+        if (page.totalElements() != null) {
+            response.getHeaders().set("X-Total-Count", String.valueOf(page.totalElements()));
+        }
+        return page.content();
+    }
+}
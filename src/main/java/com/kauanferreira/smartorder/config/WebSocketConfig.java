@@ -1,17 +1,55 @@
 package com.kauanferreira.smartorder.config;
 
+import com.kauanferreira.smartorder.config.security.StompAuthChannelInterceptor;
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.stomp.StompReactorNettyCodec;
+import org.springframework.messaging.tcp.reactor.ReactorNettyTcpClient;
+import org.springframework.util.StringUtils;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import reactor.netty.resources.LoopResources;
 
 /**
  * WebSocket configuration for real-time chat functionality.
  *
- * <p>Configures STOMP over WebSocket with a simple in-memory
- * message broker for real-time messaging between customers
- * and sellers.</p>
+ * <p>Configures STOMP over WebSocket for real-time messaging between
+ * customers and sellers. The broker runs in one of two modes, chosen by
+ * {@code smartorder.websocket.broker.mode}:</p>
+ *
+ * <ul>
+ *   <li><b>simple</b> (default) — an in-memory broker inside this instance.
+ *       Messages only reach clients connected to the same instance, so it
+ *       suits a single node.</li>
+ *   <li><b>relay</b> — every subscription and message is relayed to an
+ *       external STOMP broker (ActiveMQ Artemis, RabbitMQ with the STOMP
+ *       plugin, ...), so a message sent on one instance reaches receivers
+ *       connected to any other. Each client session gets its own broker
+ *       connection and the server keeps one shared system connection for
+ *       messages it sends itself; all of them run on a shared, fixed set of
+ *       I/O threads. A multi-node deployment uses this mode; whether the
+ *       other components share their state across nodes is set separately,
+ *       by {@link ClusterProperties}.</li>
+ * </ul>
+ *
+ * <p>Destinations under {@value #LOCAL_PREFIX} are served by an in-memory
+ * broker in both modes and never leave this instance, for messages that
+ * describe this instance only, such as the {@code LiveMetricsRegistry}
+ * snapshots.</p>
+ *
+ * <p>Per-user messages (chat, unread counts) go to {@code /user/queue/...}
+ * destinations. Each session is authenticated once, from the JWT of its
+ * CONNECT frame, by {@link StompAuthChannelInterceptor}; Spring keeps the
+ * user's live sessions in its {@code SimpUserRegistry} and delivers a
+ * user-destination message to those sessions only. In relay mode the
+ * registries of all instances are shared through the broker, and messages
+ * for users connected elsewhere are broadcast for the other instances to
+ * resolve.</p>
  *
  * @author Kauan Santos Ferreira
  * @version 1.0
@@ -19,20 +57,102 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
  */
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    /**
+     * Prefix of the destinations kept inside this instance, even in relay mode.
+     */
+    public static final String LOCAL_PREFIX = "/local";
+
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
+    /**
+     * {@code simple} for the in-memory broker, {@code relay} for an external STOMP broker.
+     */
+    @Value("${smartorder.websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${smartorder.websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${smartorder.websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${smartorder.websocket.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    @Value("${smartorder.websocket.broker.relay.client-login:guest}")
+    private String relayClientLogin;
+
+    @Value("${smartorder.websocket.broker.relay.client-passcode:guest}")
+    private String relayClientPasscode;
+
+    @Value("${smartorder.websocket.broker.relay.system-login:guest}")
+    private String relaySystemLogin;
+
+    @Value("${smartorder.websocket.broker.relay.system-passcode:guest}")
+    private String relaySystemPasscode;
+
+    /**
+     * How often the system connection sends heartbeats to the broker. Defaults to 10 seconds.
+     */
+    @Value("${smartorder.websocket.broker.relay.heartbeat-send-ms:10000}")
+    private long relayHeartbeatSendMs;
+
+    /**
+     * How often the broker is expected to send heartbeats before the system
+     * connection is considered lost and re-established. Defaults to 10 seconds.
+     */
+    @Value("${smartorder.websocket.broker.relay.heartbeat-receive-ms:10000}")
+    private long relayHeartbeatReceiveMs;
+
+    /**
+     * I/O threads shared by all broker connections. Defaults to the number of processors.
+     */
+    @Value("${smartorder.websocket.broker.relay.io-threads:0}")
+    private int relayIoThreads;
+
+    @Value("${smartorder.websocket.broker.relay.connect-timeout-ms:5000}")
+    private int relayConnectTimeoutMs;
+
     /**
      * Configures the message broker.
      *
-     * <p>{@code /topic} — prefix for messages that the server SENDS to clients
-     * (clients subscribe to /topic/chat/{userId} to receive messages).</p>
+     * <p>{@code /topic} — prefix for messages that the server broadcasts to
+     * every subscriber.</p>
+     *
+     * <p>{@code /local} — like {@code /topic}, but only reaches the
+     * subscribers connected to this instance (admins subscribe to
+     * /local/admin/metrics).</p>
+     *
+     * <p>{@code /user/queue} — prefix for messages that the server sends to
+     * one user's sessions (clients subscribe to /user/queue/chat to receive
+     * messages and to /user/queue/chat/unread to receive their unread count).</p>
      *
      * <p>{@code /app} — prefix for messages that clients SEND to the server
      * (clients send to /app/chat.send to send a message).</p>
      */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            var relay = config.enableStompBrokerRelay("/topic", "/queue")
+                    .setTcpClient(relayTcpClient())
+                    .setClientLogin(relayClientLogin)
+                    .setClientPasscode(relayClientPasscode)
+                    .setSystemLogin(relaySystemLogin)
+                    .setSystemPasscode(relaySystemPasscode)
+                    .setSystemHeartbeatSendInterval(relayHeartbeatSendMs)
+                    .setSystemHeartbeatReceiveInterval(relayHeartbeatReceiveMs);
+            if (StringUtils.hasText(relayVirtualHost)) {
+                relay.setVirtualHost(relayVirtualHost);
+            }
+            relay.setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                    .setUserRegistryBroadcast("/topic/simp-user-registry");
+            config.enableSimpleBroker(LOCAL_PREFIX);
+        } else {
+            config.enableSimpleBroker("/topic", "/queue", LOCAL_PREFIX);
+        }
         config.setApplicationDestinationPrefixes("/app");
     }
 
@@ -48,4 +168,30 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
     }
-}
\ No newline at end of file
+
+    /**
+     * Authenticates each session on its CONNECT frame and checks its
+     * subscriptions.
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+    }
+
+    /**
+     * Builds the TCP client of the relay: all broker connections share one
+     * event loop of {@code relay.io-threads} daemon threads, instead of one
+     * thread per connection.
+     */
+    private ReactorNettyTcpClient<byte[]> relayTcpClient() {
+        int threads = relayIoThreads > 0 ? relayIoThreads : Runtime.getRuntime().availableProcessors();
+        LoopResources loops = LoopResources.create("stomp-relay", threads, true);
+        return new ReactorNettyTcpClient<>(client -> client
+                .host(relayHost)
+                .port(relayPort)
+                .runOn(loops)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, relayConnectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true),
+                new StompReactorNettyCodec());
+    }
+}
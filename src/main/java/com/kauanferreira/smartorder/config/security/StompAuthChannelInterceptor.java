@@ -0,0 +1,137 @@
+package com.kauanferreira.smartorder.config.security;
+
+import com.kauanferreira.smartorder.services.metrics.LiveMetricsRegistry;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Authenticates STOMP sessions from the JWT sent with the CONNECT frame.
+ *
+ * <p>Browsers cannot set headers on the WebSocket handshake, so the token
+ * travels as the {@code Authorization: Bearer ...} native header of the
+ * STOMP CONNECT frame instead. It is validated once, the user is loaded
+ * once, and the resulting authentication becomes the session's user: Spring
+ * attaches it to every later frame of the session and registers the session
+ * under the user's name in the {@code SimpUserRegistry}, which is what
+ * {@code /user/...} destinations are resolved against.</p>
+ *
+ * <p>Clients may only SEND to {@code /app/**}, which is handled by
+ * {@code @MessageMapping} methods; everything published to {@code /topic},
+ * {@code /local} and {@code /queue}, including other users' {@code /user/...}
+ * destinations, comes from the server alone.</p>
+ *
+ * <p>Subscriptions are checked against the session's user:</p>
+ * <ul>
+ *     <li>patterns ({@code *}, {@code **}, <code>{var}</code>) are refused,
+ *         since the simple broker would match them against every topic</li>
+ *     <li>{@code /queue/**} can only be subscribed through the
+ *         {@code /user} prefix, so a session never reads another
+ *         session's queue</li>
+ *     <li>{@code /local/admin} and everything under it, such as the
+ *         {@link LiveMetricsRegistry} snapshots, require the ADMIN role</li>
+ * </ul>
+ *
+ * <p>A rejected frame is answered with a STOMP ERROR frame and the session
+ * is closed.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see JwtService
+ * @see JwtAuthenticationFilter
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    /** Destination prefix of the {@code @MessageMapping} methods, the only ones clients may send to. */
+    private static final String APPLICATION_PREFIX = "/app/";
+
+    private final JwtService jwtService;
+    private final UserDetailsService userDetailsService;
+
+    /**
+     * Authenticates CONNECT frames and authorizes SEND and SUBSCRIBE frames.
+     *
+     * @param message the inbound STOMP frame
+     * @param channel the client inbound channel
+     * @return the frame, with the session's user set on CONNECT
+     * @throws BadCredentialsException if a CONNECT frame carries no valid token
+     * @throws AccessDeniedException   if a SEND frame targets a broker destination, or a SUBSCRIBE
+     *                                 frame targets a destination the user cannot read
+     */
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        switch (accessor.getCommand()) {
+            case CONNECT, STOMP -> accessor.setUser(authenticate(accessor.getFirstNativeHeader("Authorization")));
+            case SEND -> authorizeSend(accessor.getDestination());
+            case SUBSCRIBE -> authorizeSubscription(accessor);
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    private Authentication authenticate(String authHeader) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            throw new BadCredentialsException("Missing bearer token on STOMP CONNECT");
+        }
+        String token = authHeader.substring(7);
+
+        try {
+            UserDetails userDetails = userDetailsService.loadUserByUsername(jwtService.extractUsername(token));
+            if (!jwtService.isTokenValid(token, userDetails)) {
+                throw new BadCredentialsException("Invalid token on STOMP CONNECT");
+            }
+            return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BadCredentialsException("Invalid token on STOMP CONNECT", e);
+        }
+    }
+
+    private static void authorizeSend(String destination) {
+        if (destination == null || !destination.startsWith(APPLICATION_PREFIX)) {
+            throw new AccessDeniedException("Clients can only send to " + APPLICATION_PREFIX + "**");
+        }
+    }
+
+    private void authorizeSubscription(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (destination == null) {
+            return;
+        }
+        if (destination.contains("*") || destination.contains("{")) {
+            throw new AccessDeniedException("Subscribe to a single destination, not a pattern");
+        }
+        if (destination.startsWith("/queue/")) {
+            throw new AccessDeniedException("Subscribe to /user" + destination + " instead");
+        }
+        if (destination.startsWith(LiveMetricsRegistry.ADMIN_TOPIC_PREFIX) && !isAdmin(accessor)) {
+            throw new AccessDeniedException("Admin role required for " + destination);
+        }
+    }
+
+    private static boolean isAdmin(StompHeaderAccessor accessor) {
+        return accessor.getUser() instanceof Authentication authentication
+                && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+}
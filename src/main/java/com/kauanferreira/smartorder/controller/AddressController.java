@@ -4,6 +4,7 @@ import com.kauanferreira.smartorder.dto.mapper.AddressMapper;
 import com.kauanferreira.smartorder.dto.request.AddressCustomerRequest;
 import com.kauanferreira.smartorder.dto.request.AddressRequest;
 import com.kauanferreira.smartorder.dto.response.AddressResponse;
+import com.kauanferreira.smartorder.dto.response.PageResponse;
 import com.kauanferreira.smartorder.entity.Address;
 import com.kauanferreira.smartorder.services.interfaces.AddressService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -124,19 +126,19 @@ public class AddressController {
     }
 
     /**
-     * Retrieves all addresses.
+     * Retrieves one page of all addresses.
      *
-     * @return HTTP 200 with the list of addresses
+     * @param pageable pagination parameters (page, size up to the server maximum, sort)
+     * @param count    whether to include the total number of addresses
+     * @return HTTP 200 with a page of addresses
      */
-    @Operation(summary = "List all addresses", description = "Retrieves all addresses without pagination.")
-    @ApiResponse(responseCode = "200", description = "List of addresses retrieved successfully")
+    @Operation(summary = "List all addresses", description = "Retrieves one page of addresses. The total is only computed when count=true.")
+    @ApiResponse(responseCode = "200", description = "Page of addresses retrieved successfully")
     @GetMapping
-    public ResponseEntity<List<AddressResponse>> findAll() {
-        List<AddressResponse> responses = addressService.findAll()
-                .stream()
-                .map(AddressMapper::toResponse)
-                .toList();
-        return ResponseEntity.ok().body(responses);
+    public ResponseEntity<PageResponse<AddressResponse>> findAll(@SortDefault("id") Pageable pageable,
+                                                                 @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok().body(PageResponse.of(
+                addressService.findAll(pageable, count).map(AddressMapper::toResponse)));
     }
 
     /**
@@ -172,54 +174,57 @@ public class AddressController {
     }
 
     /**
-     * Retrieves all addresses in a specific city.
+     * Retrieves one page of the addresses in a specific city.
      *
-     * @param city the city name
-     * @return HTTP 200 with the list of addresses
+     * @param city     the city name
+     * @param pageable pagination parameters
+     * @param count    whether to include the total number of matches
+     * @return HTTP 200 with a page of addresses
      */
-    @Operation(summary = "Find addresses by city", description = "Retrieves all addresses in a specific city (case-insensitive).")
+    @Operation(summary = "Find addresses by city", description = "Retrieves one page of the addresses in a specific city (case-insensitive).")
     @ApiResponse(responseCode = "200", description = "Addresses retrieved successfully")
     @GetMapping("/city/{city}")
-    public ResponseEntity<List<AddressResponse>> findByCity(@PathVariable String city) {
-        List<AddressResponse> responses = addressService.findByCity(city)
-                .stream()
-                .map(AddressMapper::toResponse)
-                .toList();
-        return ResponseEntity.ok().body(responses);
+    public ResponseEntity<PageResponse<AddressResponse>> findByCity(@PathVariable String city,
+                                                                    @SortDefault("id") Pageable pageable,
+                                                                    @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok().body(PageResponse.of(
+                addressService.findByCity(city, pageable, count).map(AddressMapper::toResponse)));
     }
 
     /**
-     * Retrieves all addresses in a specific state.
+     * Retrieves one page of the addresses in a specific state.
      *
-     * @param state the state name
-     * @return HTTP 200 with the list of addresses
+     * @param state    the state name
+     * @param pageable pagination parameters
+     * @param count    whether to include the total number of matches
+     * @return HTTP 200 with a page of addresses
      */
-    @Operation(summary = "Find addresses by state", description = "Retrieves all addresses in a specific state (case-insensitive).")
+    @Operation(summary = "Find addresses by state", description = "Retrieves one page of the addresses in a specific state (case-insensitive).")
     @ApiResponse(responseCode = "200", description = "Addresses retrieved successfully")
     @GetMapping("/state/{state}")
-    public ResponseEntity<List<AddressResponse>> findByStates(@PathVariable String state) {
-        List<AddressResponse> responses = addressService.findByState(state)
-                .stream()
-                .map(AddressMapper::toResponse)
-                .toList();
-        return ResponseEntity.ok().body(responses);
+    public ResponseEntity<PageResponse<AddressResponse>> findByStates(@PathVariable String state,
+                                                                      @SortDefault("id") Pageable pageable,
+                                                                      @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok().body(PageResponse.of(
+                addressService.findByState(state, pageable, count).map(AddressMapper::toResponse)));
     }
 
     /**
-     * Retrieves all addresses with a specific zip code.
+     * Retrieves one page of the addresses with a specific zip code.
      *
-     * @param zipCode the zip code
-     * @return HTTP 200 with the list of addresses
+     * @param zipCode  the zip code
+     * @param pageable pagination parameters
+     * @param count    whether to include the total number of matches
+     * @return HTTP 200 with a page of addresses
      */
-    @Operation(summary = "Find addresses by zip code", description = "Retrieves all addresses with a specific zip code.")
+    @Operation(summary = "Find addresses by zip code", description = "Retrieves one page of the addresses with a specific zip code.")
     @ApiResponse(responseCode = "200", description = "Addresses retrieved successfully")
     @GetMapping("/zipcode/{zipCode}")
-    public ResponseEntity<List<AddressResponse>> findByZipCode(@PathVariable String zipCode) {
-        List<AddressResponse> responses = addressService.findByZipCode(zipCode)
-                .stream()
-                .map(AddressMapper::toResponse)
-                .toList();
-        return ResponseEntity.ok().body(responses);
+    public ResponseEntity<PageResponse<AddressResponse>> findByZipCode(@PathVariable String zipCode,
+                                                                       @SortDefault("id") Pageable pageable,
+                                                                       @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok().body(PageResponse.of(
+                addressService.findByZipCode(zipCode, pageable, count).map(AddressMapper::toResponse)));
     }
 
     /**
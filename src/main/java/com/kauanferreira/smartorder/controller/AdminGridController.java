@@ -0,0 +1,134 @@
+package com.kauanferreira.smartorder.controller;
+
+import com.kauanferreira.smartorder.dto.request.GridQueryRequest;
+import com.kauanferreira.smartorder.dto.response.AddressResponse;
+import com.kauanferreira.smartorder.dto.response.GridPageResponse;
+import com.kauanferreira.smartorder.dto.response.OrderItemResponse;
+import com.kauanferreira.smartorder.dto.response.OrderResponse;
+import com.kauanferreira.smartorder.dto.response.ProductResponse;
+import com.kauanferreira.smartorder.dto.response.UserResponse;
+import com.kauanferreira.smartorder.services.interfaces.AdminGridService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for the server-side admin grids.
+ *
+ * <p>All endpoints accept the same query parameters: repeatable
+ * {@code filter=field:operator:value} and {@code sort=field,asc|desc},
+ * {@code q}, {@code size}, and either {@code cursor} (keyset) or
+ * {@code page} (offset). Pages never include a total count.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see AdminGridService
+ * @see GridQueryRequest
+ */
+@RestController
+@RequestMapping("/api/admin/grid")
+@RequiredArgsConstructor
+@Tag(name = "Admin Grids", description = "Filtered, sorted and paginated lists for the admin pages")
+public class AdminGridController {
+
+    private final AdminGridService adminGridService;
+
+    /**
+     * Retrieves one page of users.
+     *
+     * @param params the grid query parameters
+     * @return HTTP 200 with the page
+     */
+    @Operation(summary = "Query users", description = "Fields: id, name, email, role, createdAt, phone. " +
+            "Search matches name, email and phone.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Admin role required"),
+            @ApiResponse(responseCode = "422", description = "Invalid filter, sort or pagination")
+    })
+    @GetMapping("/users")
+    public ResponseEntity<GridPageResponse<UserResponse>> findUsers(@RequestParam MultiValueMap<String, String> params) {
+        return ResponseEntity.ok(adminGridService.findUsers(GridQueryRequest.from(params)));
+    }
+
+    /**
+     * Retrieves one page of orders.
+     *
+     * @param params the grid query parameters
+     * @return HTTP 200 with the page
+     */
+    @Operation(summary = "Query orders", description = "Fields: id, orderDate, status, totalAmount, userId, " +
+            "customer, street. Search matches customer name, street and id.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Admin role required"),
+            @ApiResponse(responseCode = "422", description = "Invalid filter, sort or pagination")
+    })
+    @GetMapping("/orders")
+    public ResponseEntity<GridPageResponse<OrderResponse>> findOrders(@RequestParam MultiValueMap<String, String> params) {
+        return ResponseEntity.ok(adminGridService.findOrders(GridQueryRequest.from(params)));
+    }
+
+    /**
+     * Retrieves one page of addresses.
+     *
+     * @param params the grid query parameters
+     * @return HTTP 200 with the page
+     */
+    @Operation(summary = "Query addresses", description = "Fields: id, city, state, zipCode, street, country, " +
+            "userId, customer. Search matches address fields and customer name.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Admin role required"),
+            @ApiResponse(responseCode = "422", description = "Invalid filter, sort or pagination")
+    })
+    @GetMapping("/addresses")
+    public ResponseEntity<GridPageResponse<AddressResponse>> findAddresses(@RequestParam MultiValueMap<String, String> params) {
+        return ResponseEntity.ok(adminGridService.findAddresses(GridQueryRequest.from(params)));
+    }
+
+    /**
+     * Retrieves one page of order items.
+     *
+     * @param params the grid query parameters
+     * @return HTTP 200 with the page
+     */
+    @Operation(summary = "Query order items", description = "Fields: id, orderId, quantity, subtotal, productId, " +
+            "product. Search matches product name and id.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Admin role required"),
+            @ApiResponse(responseCode = "422", description = "Invalid filter, sort or pagination")
+    })
+    @GetMapping("/order-items")
+    public ResponseEntity<GridPageResponse<OrderItemResponse>> findOrderItems(@RequestParam MultiValueMap<String, String> params) {
+        return ResponseEntity.ok(adminGridService.findOrderItems(GridQueryRequest.from(params)));
+    }
+
+    /**
+     * Retrieves one page of products.
+     *
+     * @param params the grid query parameters
+     * @return HTTP 200 with the page
+     */
+    @Operation(summary = "Query products", description = "Fields: id, name, price, stockQuantity, active, featured, " +
+            "categoryId, category. Search matches product and category name.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Admin role required"),
+            @ApiResponse(responseCode = "422", description = "Invalid filter, sort or pagination")
+    })
+    @GetMapping("/products")
+    public ResponseEntity<GridPageResponse<ProductResponse>> findProducts(@RequestParam MultiValueMap<String, String> params) {
+        return ResponseEntity.ok(adminGridService.findProducts(GridQueryRequest.from(params)));
+    }
+}
@@ -0,0 +1,166 @@
+package com.kauanferreira.smartorder.controller;
+
+import com.kauanferreira.smartorder.dto.response.AdminMetricsResponse;
+import com.kauanferreira.smartorder.dto.response.TimeseriesPointResponse;
+import com.kauanferreira.smartorder.dto.response.WebSocketBrokerStatsResponse;
+import com.kauanferreira.smartorder.enums.RollupDimension;
+import com.kauanferreira.smartorder.enums.RollupGranularity;
+import com.kauanferreira.smartorder.services.interfaces.AdminMetricsService;
+import com.kauanferreira.smartorder.services.interfaces.SalesRollupService;
+import com.kauanferreira.smartorder.services.metrics.WebSocketBrokerMonitor;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST controller for the admin dashboard metrics.
+ *
+ * <p>Replaces the client-side aggregation the dashboard used to do over the
+ * full order list with one server-side call.</p>
+ *
+ * <p>A rollup rebuild can take minutes, so it runs as a {@link WebAsyncTask}
+ * on the report export executor (see
+ * {@link com.kauanferreira.smartorder.config.AsyncWebConfig}) and never holds
+ * a servlet request thread.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see AdminMetricsService
+ * @see SalesRollupService
+ * @see WebSocketBrokerMonitor
+ */
+@RestController
+@RequestMapping("/api/admin/metrics")
+@RequiredArgsConstructor
+@Tag(name = "Admin Metrics", description = "Aggregated figures for the admin dashboard")
+public class AdminMetricsController {
+
+    private final AdminMetricsService adminMetricsService;
+    private final SalesRollupService salesRollupService;
+    private final WebSocketBrokerMonitor webSocketBrokerMonitor;
+    private final ThreadPoolTaskExecutor reportExportExecutor;
+
+    /**
+     * How long a rollup rebuild may run before it is cut off. Shares the export timeout.
+     */
+    @Value("${smartorder.reports.export.timeout-minutes:30}")
+    private long rebuildTimeoutMinutes;
+
+    /**
+     * Retrieves the dashboard metrics.
+     *
+     * @return HTTP 200 with revenue, order counts by status, user/product counts and recent orders
+     */
+    @Operation(
+            summary = "Get dashboard metrics",
+            description = "Returns total revenue (non-cancelled orders), order counts by status, user and " +
+                    "product counts and the latest orders. Values are cached for a few seconds."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Metrics retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Authentication required"),
+            @ApiResponse(responseCode = "403", description = "Admin role required")
+    })
+    @GetMapping
+    public ResponseEntity<AdminMetricsResponse> getMetrics() {
+        return ResponseEntity.ok(adminMetricsService.getMetrics());
+    }
+
+    /**
+     * Retrieves a revenue/sales time series from the rollup tables.
+     *
+     * @param granularity HOUR or DAY buckets
+     * @param dimension   TOTAL, CATEGORY or PRODUCT
+     * @param id          the category or product id (required unless TOTAL)
+     * @param from        the start of the range (inclusive)
+     * @param to          the end of the range (exclusive)
+     * @return HTTP 200 with one point per bucket, zeros included
+     */
+    @Operation(
+            summary = "Get sales time series",
+            description = "Returns order count, units and revenue per hour or day, in total or for one " +
+                    "category or product. Reads only the pre-aggregated rollups; cancelled orders are excluded."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Time series retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Authentication required"),
+            @ApiResponse(responseCode = "403", description = "Admin role required"),
+            @ApiResponse(responseCode = "422", description = "Invalid range, too many buckets or missing id")
+    })
+    @GetMapping("/timeseries")
+    public ResponseEntity<List<TimeseriesPointResponse>> getTimeseries(
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @RequestParam(defaultValue = "TOTAL") RollupDimension dimension,
+            @RequestParam(required = false) Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(salesRollupService.findTimeseries(granularity, dimension, id, from, to));
+    }
+
+    /**
+     * Recomputes the rollups of a range of days from the orders.
+     *
+     * @param from the first day to rebuild
+     * @param to   the last day to rebuild (inclusive)
+     * @return the rebuild, run on the report export executor; HTTP 200 with the number of days rebuilt
+     */
+    @Operation(
+            summary = "Rebuild sales rollups",
+            description = "Recomputes the hourly and daily rollups of the given days (inclusive) from the " +
+                    "orders, one transaction per day, in parallel, off the request thread. " +
+                    "Safe to run repeatedly."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Rollups rebuilt successfully"),
+            @ApiResponse(responseCode = "401", description = "Authentication required"),
+            @ApiResponse(responseCode = "403", description = "Admin role required"),
+            @ApiResponse(responseCode = "422", description = "Invalid or too large range")
+    })
+    @PostMapping("/rollups/rebuild")
+    public WebAsyncTask<ResponseEntity<Map<String, Integer>>> rebuildRollups(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return new WebAsyncTask<>(Duration.ofMinutes(rebuildTimeoutMinutes).toMillis(), reportExportExecutor,
+                () -> ResponseEntity.ok(Map.of("daysRebuilt", salesRollupService.rebuild(from, to))));
+    }
+
+    /**
+     * Retrieves the state of the STOMP broker behind chat and live metrics.
+     *
+     * @return HTTP 200 with the broker mode, availability and counters of this instance
+     */
+    @Operation(
+            summary = "Get WebSocket broker stats",
+            description = "Returns the broker mode (simple or relay), whether it is available, how many times it " +
+                    "became unavailable, the session, STOMP frame, relay and executor counters of this instance, " +
+                    "and how many delivered chat messages are not yet written."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Broker stats retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Authentication required"),
+            @ApiResponse(responseCode = "403", description = "Admin role required")
+    })
+    @GetMapping("/websocket")
+    public ResponseEntity<WebSocketBrokerStatsResponse> getWebSocketStats() {
+        return ResponseEntity.ok(webSocketBrokerMonitor.snapshot());
+    }
+}
@@ -0,0 +1,112 @@
+package com.kauanferreira.smartorder.controller;
+
+import com.kauanferreira.smartorder.enums.OrderStatus;
+import com.kauanferreira.smartorder.services.interfaces.OrderReportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * REST controller for administrative report downloads.
+ *
+ * <p>Reports are streamed: the response body is written by a
+ * {@link WebAsyncTask} on the dedicated export executor (see
+ * {@link com.kauanferreira.smartorder.config.AsyncWebConfig}) while rows are
+ * read from the database, so neither the request thread nor the heap holds
+ * the full report. The executor and the long export timeout apply to these
+ * downloads only.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see OrderReportService
+ */
+@RestController
+@RequestMapping("/api/admin/reports")
+@RequiredArgsConstructor
+@Tag(name = "Admin Reports", description = "Endpoints for exporting administrative reports")
+public class AdminReportController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+    private static final MediaType APPLICATION_GZIP = MediaType.parseMediaType("application/gzip");
+
+    private final OrderReportService orderReportService;
+    private final ThreadPoolTaskExecutor reportExportExecutor;
+
+    /**
+     * How long an export may run before it is cut off. Defaults to 30 minutes.
+     */
+    @Value("${smartorder.reports.export.timeout-minutes:30}")
+    private long exportTimeoutMinutes;
+
+    /**
+     * Streams a CSV with one row per order item for orders placed in a date range.
+     *
+     * @param from     the first day of the report (inclusive, ISO format)
+     * @param to       the last day of the report (inclusive, ISO format)
+     * @param status   optional status filter
+     * @param gzip     whether to gzip-compress the download
+     * @param response the response the CSV is streamed to
+     * @return the export, run on the report export executor
+     */
+    @Operation(
+            summary = "Export orders as CSV",
+            description = "Streams one CSV row per order item for orders placed between 'from' and 'to' " +
+                    "(inclusive), optionally filtered by status. Set gzip=true for a compressed download."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Report streamed successfully"),
+            @ApiResponse(responseCode = "401", description = "Authentication required"),
+            @ApiResponse(responseCode = "403", description = "Admin role required"),
+            @ApiResponse(responseCode = "422", description = "Invalid or too wide date range")
+    })
+    @GetMapping("/orders")
+    public WebAsyncTask<Void> exportOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) {
+
+        orderReportService.validateRange(from, to);
+
+        String fileName = String.format("orders_%s_%s%s.csv%s",
+                from, to, status != null ? "_" + status.name().toLowerCase() : "", gzip ? ".gz" : "");
+
+        response.setContentType((gzip ? APPLICATION_GZIP : TEXT_CSV).toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName).build().toString());
+
+        return new WebAsyncTask<>(Duration.ofMinutes(exportTimeoutMinutes).toMillis(), reportExportExecutor, () -> {
+            OutputStream out = response.getOutputStream();
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024);
+                orderReportService.writeOrdersCsv(from, to, status, compressed);
+                compressed.finish();
+            } else {
+                orderReportService.writeOrdersCsv(from, to, status, out);
+            }
+            out.flush();
+            return null;
+        });
+    }
+}
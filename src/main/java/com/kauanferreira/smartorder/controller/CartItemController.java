@@ -1,9 +1,13 @@
 package com.kauanferreira.smartorder.controller;
 
 import com.kauanferreira.smartorder.dto.mapper.CartItemMapper;
+import com.kauanferreira.smartorder.dto.request.CartBatchRequest;
 import com.kauanferreira.smartorder.dto.request.CartItemRequest;
+import com.kauanferreira.smartorder.dto.response.CartCountResponse;
 import com.kauanferreira.smartorder.dto.response.CartItemResponse;
+import com.kauanferreira.smartorder.dto.response.CartSummaryResponse;
 import com.kauanferreira.smartorder.entity.CartItem;
+import com.kauanferreira.smartorder.entity.User;
 import com.kauanferreira.smartorder.services.interfaces.CartItemService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -57,7 +61,7 @@ public class CartItemController {
     public ResponseEntity<CartItemResponse> addToCart(Authentication authentication,
                                                       @Valid @RequestBody CartItemRequest request) {
         CartItem entity = CartItemMapper.toEntity(request);
-        CartItem created = cartItemService.addToCart(authentication.getName(), entity);
+        CartItem created = cartItemService.addToCart(userId(authentication), entity);
         CartItemResponse response = CartItemMapper.toResponse(created);
 
         URI location = ServletUriComponentsBuilder
@@ -79,13 +83,39 @@ public class CartItemController {
     @ApiResponse(responseCode = "200", description = "Cart items retrieved successfully")
     @GetMapping
     public ResponseEntity<List<CartItemResponse>> getCart(Authentication authentication) {
-        List<CartItemResponse> responses = cartItemService.getCart(authentication.getName())
+        List<CartItemResponse> responses = cartItemService.getCart(userId(authentication))
                 .stream()
                 .map(CartItemMapper::toResponse)
                 .toList();
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * Retrieves the priced cart of the authenticated user.
+     *
+     * @param authentication the authenticated user's security context
+     * @return HTTP 200 with line totals, savings, grand total, item count and stock status
+     */
+    @Operation(summary = "Get cart summary", description = "Returns the cart lines with unit and line prices, discount savings, the grand total, the item count and a stock status per line, computed server-side.")
+    @ApiResponse(responseCode = "200", description = "Cart summary retrieved successfully")
+    @GetMapping("/summary")
+    public ResponseEntity<CartSummaryResponse> getSummary(Authentication authentication) {
+        return ResponseEntity.ok(cartItemService.getSummary(userId(authentication)));
+    }
+
+    /**
+     * Counts the units in the authenticated user's cart.
+     *
+     * @param authentication the authenticated user's security context
+     * @return HTTP 200 with the number of units
+     */
+    @Operation(summary = "Get cart item count", description = "Returns the total quantity in the authenticated user's cart, for badges.")
+    @ApiResponse(responseCode = "200", description = "Cart item count retrieved successfully")
+    @GetMapping("/count")
+    public ResponseEntity<CartCountResponse> getCount(Authentication authentication) {
+        return ResponseEntity.ok(new CartCountResponse(cartItemService.countItems(userId(authentication))));
+    }
+
     /**
      * Updates the quantity of an existing cart item.
      *
@@ -104,10 +134,31 @@ public class CartItemController {
     public ResponseEntity<CartItemResponse> updateQuantity(Authentication authentication,
                                                            @PathVariable Long id,
                                                            @Valid @RequestBody CartItemRequest request) {
-        CartItem updated = cartItemService.updateQuantity(authentication.getName(), id, request.quantity());
+        CartItem updated = cartItemService.updateQuantity(userId(authentication), id, request.quantity());
         return ResponseEntity.ok(CartItemMapper.toResponse(updated));
     }
 
+    /**
+     * Applies several cart changes in one request.
+     *
+     * @param authentication the authenticated user's security context
+     * @param request        the add, update and remove operations, in order
+     * @return HTTP 200 with the cart summary after the changes
+     */
+    @Operation(summary = "Batch update cart", description = "Applies a list of ADD, UPDATE and REMOVE operations in order. Either all operations are applied or none is. Returns the updated cart summary.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Operations applied successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "404", description = "Product or cart item not found"),
+            @ApiResponse(responseCode = "409", description = "Not enough stock for a resulting quantity"),
+            @ApiResponse(responseCode = "422", description = "Operation missing a required field")
+    })
+    @PatchMapping
+    public ResponseEntity<CartSummaryResponse> applyOperations(Authentication authentication,
+                                                               @Valid @RequestBody CartBatchRequest request) {
+        return ResponseEntity.ok(cartItemService.applyOperations(userId(authentication), request.operations()));
+    }
+
     /**
      * Removes a single item from the authenticated user's cart.
      *
@@ -123,7 +174,7 @@ public class CartItemController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> removeItem(Authentication authentication,
                                            @PathVariable Long id) {
-        cartItemService.removeItem(authentication.getName(), id);
+        cartItemService.removeItem(userId(authentication), id);
         return ResponseEntity.noContent().build();
     }
 
@@ -137,7 +188,14 @@ public class CartItemController {
     @ApiResponse(responseCode = "204", description = "Cart cleared successfully")
     @DeleteMapping
     public ResponseEntity<Void> clearCart(Authentication authentication) {
-        cartItemService.clearCart(authentication.getName());
+        cartItemService.clearCart(userId(authentication));
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the id of the authenticated user, loaded with the principal for this request.
+     */
+    private static Long userId(Authentication authentication) {
+        return ((User) authentication.getPrincipal()).getId();
+    }
+}
@@ -1,13 +1,20 @@
 package com.kauanferreira.smartorder.controller;
 
+import com.kauanferreira.smartorder.dto.mapper.ChatConversationMapper;
 import com.kauanferreira.smartorder.dto.mapper.ChatMessageMapper;
+import com.kauanferreira.smartorder.dto.response.ChatConversationResponse;
 import com.kauanferreira.smartorder.dto.response.ChatMessageResponse;
+import com.kauanferreira.smartorder.dto.response.GridPageResponse;
+import com.kauanferreira.smartorder.dto.response.PageResponse;
+import com.kauanferreira.smartorder.entity.User;
 import com.kauanferreira.smartorder.services.interfaces.ChatMessageService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -37,44 +44,67 @@ public class ChatMessageController {
     private final ChatMessageService chatMessageService;
 
     /**
-     * Retrieves all conversations for the authenticated user.
-     * Returns the most recent message from each unique conversation.
+     * Retrieves one page of the inbox of the authenticated user.
+     * Returns each conversation with its last message and unread count.
      *
      * @param authentication the authenticated user's security context
-     * @return HTTP 200 with the list of conversations
+     * @param pageable       pagination parameters
+     * @return HTTP 200 with a page of conversations, most recent first
      */
-    @Operation(summary = "List conversations", description = "Retrieves the most recent message from each conversation the user is involved in.")
+    @Operation(summary = "List conversations", description = "Retrieves one page of the conversations the user is involved in, "
+            + "each with the other participant, the product, a preview of the last message and the user's unread count.")
     @ApiResponse(responseCode = "200", description = "Conversations retrieved successfully")
     @GetMapping("/conversations")
-    public ResponseEntity<List<ChatMessageResponse>> getMyConversations(Authentication authentication) {
-        List<ChatMessageResponse> responses = chatMessageService.getMyConversations(authentication.getName())
-                .stream()
-                .map(ChatMessageMapper::toResponse)
-                .toList();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<PageResponse<ChatConversationResponse>> getMyConversations(Authentication authentication,
+                                                                                     Pageable pageable) {
+        return ResponseEntity.ok(PageResponse.of(
+                chatMessageService.getMyConversations(authentication.getName(), pageable)
+                        .map(ChatConversationMapper::toResponse)));
     }
 
     /**
      * Retrieves the message history between the authenticated user
-     * and another user about a specific product.
+     * and another user about a specific product, keyed on message ids.
+     *
+     * <p>The first request returns the latest messages. Older pages are
+     * requested with {@code beforeId} set to the returned {@code nextCursor};
+     * after a reconnect, {@code afterId} set to the newest id the client has
+     * returns only the messages it missed.</p>
      *
      * @param authentication the authenticated user's security context
      * @param otherUserId    the ID of the other user
      * @param productId      the ID of the product
-     * @return HTTP 200 with the list of messages in chronological order
+     * @param beforeId       return messages older than this id
+     * @param afterId        return messages newer than this id
+     * @param size           the maximum number of messages
+     * @return HTTP 200 with messages in chronological order
      */
-    @Operation(summary = "Get conversation history", description = "Retrieves all messages between two users about a specific product.")
-    @ApiResponse(responseCode = "200", description = "Messages retrieved successfully")
+    @Operation(summary = "Get conversation history", description = "Retrieves the messages between two users about a specific product in chronological order. "
+            + "Without cursors it returns the latest messages; beforeId pages back in time and afterId returns only newer messages. "
+            + "nextCursor is the id to pass as beforeId (or afterId when syncing) to continue, and is null when there is nothing more.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Messages retrieved successfully"),
+            @ApiResponse(responseCode = "422", description = "Both beforeId and afterId were given")
+    })
     @GetMapping("/messages/{otherUserId}/product/{productId}")
-    public ResponseEntity<List<ChatMessageResponse>> getConversation(Authentication authentication,
-                                                                     @PathVariable Long otherUserId,
-                                                                     @PathVariable Long productId) {
-        List<ChatMessageResponse> responses = chatMessageService
-                .getConversation(authentication.getName(), otherUserId, productId)
-                .stream()
-                .map(ChatMessageMapper::toResponse)
-                .toList();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<GridPageResponse<ChatMessageResponse>> getConversation(Authentication authentication,
+                                                                                 @PathVariable Long otherUserId,
+                                                                                 @PathVariable Long productId,
+                                                                                 @RequestParam(required = false) Long beforeId,
+                                                                                 @RequestParam(required = false) Long afterId,
+                                                                                 @RequestParam(required = false) Integer size) {
+        Slice<ChatMessageResponse> slice = chatMessageService
+                .getConversation(authentication.getName(), otherUserId, productId, beforeId, afterId, size)
+                .map(ChatMessageMapper::toResponse);
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            List<ChatMessageResponse> content = slice.getContent();
+            ChatMessageResponse edge = afterId != null ? content.get(content.size() - 1) : content.get(0);
+            nextCursor = String.valueOf(edge.id());
+        }
+        return ResponseEntity.ok(new GridPageResponse<>(slice.getContent(), slice.getSize(), null,
+                slice.hasNext(), nextCursor));
     }
 
     /**
@@ -83,11 +113,13 @@ public class ChatMessageController {
      * @param authentication the authenticated user's security context
      * @return HTTP 200 with the unread message count
      */
-    @Operation(summary = "Count unread messages", description = "Returns the total number of unread messages for the authenticated user.")
+    @Operation(summary = "Count unread messages", description = "Returns the total number of unread messages for the authenticated user. "
+            + "Served from memory; later changes are pushed to /user/queue/chat/unread.")
     @ApiResponse(responseCode = "200", description = "Unread count retrieved successfully")
     @GetMapping("/unread/count")
     public ResponseEntity<Integer> countUnread(Authentication authentication) {
-        return ResponseEntity.ok(chatMessageService.countUnread(authentication.getName()));
+        User user = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(chatMessageService.countUnread(user.getId()));
     }
 
     /**
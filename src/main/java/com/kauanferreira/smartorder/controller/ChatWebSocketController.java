@@ -4,28 +4,28 @@ import com.kauanferreira.smartorder.dto.mapper.ChatMessageMapper;
 import com.kauanferreira.smartorder.dto.request.ChatMessageRequest;
 import com.kauanferreira.smartorder.dto.response.ChatMessageResponse;
 import com.kauanferreira.smartorder.entity.ChatMessage;
+import com.kauanferreira.smartorder.entity.User;
 import com.kauanferreira.smartorder.services.interfaces.ChatMessageService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 
-import java.security.Principal;
-
 /**
  * WebSocket STOMP controller for real-time chat messaging.
  *
  * <p>Handles messages sent via WebSocket and forwards them to the
- * appropriate recipient's topic channel. Works in conjunction with
+ * sessions of both participants. Works in conjunction with
  * {@link ChatMessageController} which handles REST-based history.</p>
  *
  * <p>Flow:
  * <ol>
  *   <li>Client sends message to {@code /app/chat.send}</li>
  *   <li>This controller processes and saves it</li>
- *   <li>Message is forwarded to {@code /topic/chat/{receiverId}}</li>
- *   <li>Receiver gets it in real time if subscribed</li>
+ *   <li>Message is forwarded to the receiver's {@code /user/queue/chat}</li>
+ *   <li>Receiver gets it in real time on each of their live sessions</li>
  * </ol></p>
  *
  * @author Kauan Santos Ferreira
@@ -38,41 +38,45 @@ import java.security.Principal;
 @RequiredArgsConstructor
 public class ChatWebSocketController {
 
+    /**
+     * User destination of chat messages; clients subscribe to {@code /user/queue/chat}.
+     */
+    private static final String CHAT_DESTINATION = "/queue/chat";
+
     private final ChatMessageService chatMessageService;
     private final SimpMessagingTemplate messagingTemplate;
 
     /**
      * Handles incoming chat messages via WebSocket.
      *
-     * <p>Saves the message to the database and forwards it to the
-     * receiver's personal topic channel for real-time delivery.
-     * Also sends back to the sender's channel so both sides
-     * of the conversation update in real time.</p>
+     * <p>Validates and queues the message for storage, then forwards it to
+     * the receiver's live sessions for real-time delivery, without waiting
+     * for the database. Also sends it
+     * back to the sender's sessions so both sides of the conversation
+     * update in real time. The message is always sent to the receiver's
+     * user destination: with no live session it is dropped and the receiver
+     * reads it from the history, and in relay mode a session on another
+     * node is reached even before this node's user registry has heard of
+     * it.</p>
      *
-     * @param request   the chat message data
-     * @param principal the authenticated user (injected by Spring Security)
+     * <p>The response is built from the sent message, which already carries
+     * the validated sender, receiver and product, so the cost of sending
+     * does not depend on the length of the conversation.</p>
+     *
+     * @param request        the chat message data
+     * @param authentication the user the session authenticated as on CONNECT
      */
     @MessageMapping("/chat.send")
-    public void sendMessage(@Payload ChatMessageRequest request, Principal principal) {
+    public void sendMessage(@Payload ChatMessageRequest request, Authentication authentication) {
+        User sender = (User) authentication.getPrincipal();
         ChatMessage entity = ChatMessageMapper.toEntity(request);
-        ChatMessage saved = chatMessageService.send(principal.getName(), entity);
-
-        // Reload to get full sender/receiver/product data for the response
-        ChatMessage fullMessage = chatMessageService
-                .getConversation(principal.getName(), request.receiverId(), request.productId())
-                .stream()
-                .filter(m -> m.getId().equals(saved.getId()))
-                .findFirst()
-                .orElse(saved);
-
-        ChatMessageResponse response = ChatMessageMapper.toResponse(fullMessage);
+        ChatMessage sent = chatMessageService.send(sender, entity);
+        ChatMessageResponse response = ChatMessageMapper.toResponse(sent);
 
-        // Send to receiver's channel
-        messagingTemplate.convertAndSend(
-                "/topic/chat/" + request.receiverId(), response);
+        // Send to receiver's sessions
+        messagingTemplate.convertAndSendToUser(sent.getReceiver().getEmail(), CHAT_DESTINATION, response);
 
-        // Send back to sender's channel (so their UI updates too)
-        messagingTemplate.convertAndSend(
-                "/topic/chat/" + fullMessage.getSender().getId(), response);
+        // Send back to sender's sessions (so their UI updates too)
+        messagingTemplate.convertAndSendToUser(sender.getUsername(), CHAT_DESTINATION, response);
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.kauanferreira.smartorder.controller;
 import com.kauanferreira.smartorder.dto.mapper.FavoriteMapper;
 import com.kauanferreira.smartorder.dto.response.FavoriteResponse;
 import com.kauanferreira.smartorder.entity.Favorite;
+import com.kauanferreira.smartorder.entity.User;
 import com.kauanferreira.smartorder.services.interfaces.FavoriteService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -94,7 +95,42 @@ public class FavoriteController {
     @GetMapping("/{productId}/check")
     public ResponseEntity<Boolean> isFavorited(Authentication authentication,
                                                @PathVariable Long productId) {
-        return ResponseEntity.ok(favoriteService.isFavorited(authentication.getName(), productId));
+        User user = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(favoriteService.isFavorited(user.getId(), productId));
+    }
+
+    /**
+     * Returns the IDs of every product the authenticated user has favorited.
+     * Used to fill the hearts on product grids without loading the favorites.
+     *
+     * @param authentication the authenticated user's security context
+     * @return HTTP 200 with the favorited product IDs, ascending
+     */
+    @Operation(summary = "Get favorited product IDs", description = "Returns only the IDs of the products in the authenticated user's favorites.")
+    @ApiResponse(responseCode = "200", description = "Favorite IDs retrieved successfully")
+    @GetMapping("/ids")
+    public ResponseEntity<List<Long>> getFavoriteProductIds(Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(favoriteService.getFavoriteProductIds(user.getId()));
+    }
+
+    /**
+     * Returns which of the given products the authenticated user has favorited.
+     *
+     * @param authentication the authenticated user's security context
+     * @param productIds     the product IDs shown on the page
+     * @return HTTP 200 with the favorited subset of {@code productIds}
+     */
+    @Operation(summary = "Check which products are favorited", description = "Bulk version of check. Returns the subset of the given product IDs in the authenticated user's favorites. Accepts up to 200 IDs.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Check completed successfully"),
+            @ApiResponse(responseCode = "422", description = "Too many product IDs")
+    })
+    @GetMapping("/ids/check")
+    public ResponseEntity<List<Long>> findFavoritedProductIds(Authentication authentication,
+                                                              @RequestParam List<Long> productIds) {
+        User user = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(favoriteService.findFavoritedProductIds(user.getId(), productIds));
     }
 
     /**
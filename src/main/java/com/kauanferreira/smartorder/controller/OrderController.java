@@ -4,7 +4,9 @@ import com.kauanferreira.smartorder.dto.mapper.OrderMapper;
 import com.kauanferreira.smartorder.dto.request.CheckoutRequest;
 import com.kauanferreira.smartorder.dto.request.OrderRequest;
 import com.kauanferreira.smartorder.dto.response.OrderResponse;
+import com.kauanferreira.smartorder.dto.response.PageResponse;
 import com.kauanferreira.smartorder.entity.Order;
+import com.kauanferreira.smartorder.entity.User;
 import com.kauanferreira.smartorder.enums.OrderStatus;
 import com.kauanferreira.smartorder.services.interfaces.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -18,6 +20,7 @@ import lombok.RequiredArgsConstructor;
 import org.aspectj.weaver.ast.Or;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -62,8 +65,7 @@ public class OrderController {
     public ResponseEntity<OrderResponse> create(@Valid @RequestBody OrderRequest request) {
         Order entity = OrderMapper.toEntity(request);
         Order created = orderService.create(entity);
-        Order fullOrder = orderService.findById(created.getId());
-        OrderResponse response = OrderMapper.toResponser(fullOrder);
+        OrderResponse response = OrderMapper.toResponser(created);
 
         URI location = ServletUriComponentsBuilder
                 .fromCurrentRequest()
@@ -102,8 +104,7 @@ public class OrderController {
     public ResponseEntity<OrderResponse> checkout(Authentication authentication,
                                                   @Valid @RequestBody CheckoutRequest request) {
         Order created = orderService.checkout(authentication.getName(), request);
-        Order fullOrder = orderService.findById(created.getId());
-        OrderResponse response = OrderMapper.toResponser(fullOrder);
+        OrderResponse response = OrderMapper.toResponser(created);
 
         URI location = ServletUriComponentsBuilder
                 .fromCurrentRequest()
@@ -115,36 +116,36 @@ public class OrderController {
     }
 
     /**
-     * Retrieves an order by its id.
+     * Retrieves an order by its id, including orders in archived months.
      *
      * @param id the order id
      * @return HTTP 200 with the order data
      */
-    @Operation(summary = "Find order by ID", description = "Retrieves a single order with user, address, and items details.")
+    @Operation(summary = "Find order by ID", description = "Retrieves a single order with user, address, and items details. " +
+            "Orders in archived months are found too.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Order found"),
             @ApiResponse(responseCode = "404", description = "Order not found")
     })
     @GetMapping("/{id}")
     public ResponseEntity<OrderResponse> findById(@PathVariable Long id) {
-        Order order = orderService.findById(id);
+        Order order = orderService.findInHistoryById(id);
         return ResponseEntity.ok(OrderMapper.toResponser(order));
     }
 
     /**
-     * Retrieves all orders.
+     * Retrieves one page of all orders.
      *
-     * @return HTTP 200 with the list of orders
+     * @param pageable pagination parameters (page, size up to the server maximum, sort)
+     * @param count    whether to include the total number of orders
+     * @return HTTP 200 with a page of orders
      */
-    @Operation(summary = "List all orders", description = "Retrieves all orders without pagination.")
-    @ApiResponse(responseCode = "200", description = "List of orders retrieved successfully")
+    @Operation(summary = "List all orders", description = "Retrieves one page of orders. The total is only computed when count=true.")
+    @ApiResponse(responseCode = "200", description = "Page of orders retrieved successfully")
     @GetMapping
-    public ResponseEntity<List<OrderResponse>> findAll() {
-        List<OrderResponse> responses = orderService.findAll()
-                .stream()
-                .map(OrderMapper::toResponser)
-                .toList();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<PageResponse<OrderResponse>> findAll(@SortDefault("id") Pageable pageable,
+                                                               @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(PageResponse.of(orderService.findAll(pageable, count).map(OrderMapper::toResponser)));
     }
 
     /**
@@ -163,73 +164,78 @@ public class OrderController {
     }
 
     /**
-     * Retrieves all orders belonging to a specific user.
+     * Retrieves one page of the orders belonging to a specific user.
      *
-     * @param userId the user id
-     * @return HTTP 200 with the list of orders
+     * @param userId   the user id
+     * @param pageable pagination parameters
+     * @param count    whether to include the total number of matching orders
+     * @return HTTP 200 with a page of orders
      */
-    @Operation(summary = "Find orders by user", description = "Retrieves all orders placed by a specific user, sorted by date descending.")
+    @Operation(summary = "Find orders by user", description = "Retrieves one page of the orders placed by a specific user, sorted by date descending. " +
+            "Orders in archived months are included.")
     @ApiResponse(responseCode = "200", description = "Orders retrieved successfully")
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<OrderResponse>> findByUserId(@PathVariable Long userId) {
-        List<OrderResponse> responses = orderService.findByUserId(userId)
-                .stream()
-                .map(OrderMapper::toResponser)
-                .toList();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<PageResponse<OrderResponse>> findByUserId(@PathVariable Long userId, Pageable pageable,
+                                                                    @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(PageResponse.of(
+                orderService.findByUserId(userId, pageable, count).map(OrderMapper::toResponser)));
     }
 
     /**
-     * Retrieves all orders with a specific status.
+     * Retrieves one page of the orders with a specific status.
      *
-     * @param status the order status
-     * @return HTTP 200 with the list of orders
+     * @param status   the order status
+     * @param pageable pagination parameters
+     * @param count    whether to include the total number of matching orders
+     * @return HTTP 200 with a page of orders
      */
-    @Operation(summary = "Find orders by status", description = "Retrieves all orders with a specific status (PENDING, CONFIRMED, SHIPPED, DELIVERED, CANCELLED).")
+    @Operation(summary = "Find orders by status", description = "Retrieves one page of the orders with a specific status (PENDING, CONFIRMED, SHIPPED, DELIVERED, CANCELLED).")
     @ApiResponse(responseCode = "200", description = "Orders retrieved successfully")
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<OrderResponse>> findByStatus(@PathVariable OrderStatus status) {
-        List<OrderResponse> responses = orderService.findByStatus(status)
-                .stream()
-                .map(OrderMapper::toResponser)
-                .toList();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<PageResponse<OrderResponse>> findByStatus(@PathVariable OrderStatus status,
+                                                                    @SortDefault("id") Pageable pageable,
+                                                                    @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(PageResponse.of(
+                orderService.findByStatus(status, pageable, count).map(OrderMapper::toResponser)));
     }
 
     /**
-     * Retrieves all orders belonging to a specific user with a specific status.
+     * Retrieves one page of the orders belonging to a specific user with a specific status.
      *
-     * @param userId the user id
-     * @param status the order status
-     * @return HTTP 200 with the list of orders
+     * @param userId   the user id
+     * @param status   the order status
+     * @param pageable pagination parameters
+     * @param count    whether to include the total number of matching orders
+     * @return HTTP 200 with a page of orders
      */
-    @Operation(summary = "Find orders by user and status", description = "Retrieves all orders for a specific user filtered by status.")
+    @Operation(summary = "Find orders by user and status", description = "Retrieves one page of the orders for a specific user filtered by status. " +
+            "Orders in archived months are included. Sortable by id, orderDate, status and totalAmount.")
     @ApiResponse(responseCode = "200", description = "Orders retrieved successfully")
     @GetMapping("/user/{userId}/status/{status}")
-    public ResponseEntity<List<OrderResponse>> findByUserIdAndStatus(@PathVariable Long userId,
-                                                                     @PathVariable OrderStatus status) {
-        List<OrderResponse> responses = orderService.findByUserIdAndStatus(userId, status)
-                .stream()
-                .map(OrderMapper::toResponser)
-                .toList();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<PageResponse<OrderResponse>> findByUserIdAndStatus(@PathVariable Long userId,
+                                                                             @PathVariable OrderStatus status,
+                                                                             @SortDefault("id") Pageable pageable,
+                                                                             @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(PageResponse.of(
+                orderService.findByUserIdAndStatus(userId, status, pageable, count).map(OrderMapper::toResponser)));
     }
 
     /**
-     * Retrieves all orders associated with a specific address.
+     * Retrieves one page of the orders associated with a specific address.
      *
      * @param addressId the address id
-     * @return HTTP 200 with the list of orders
+     * @param pageable  pagination parameters
+     * @param count     whether to include the total number of matching orders
+     * @return HTTP 200 with a page of orders
      */
-    @Operation(summary = "Find orders by address", description = "Retrieves all orders shipped to a specific address.")
+    @Operation(summary = "Find orders by address", description = "Retrieves one page of the orders shipped to a specific address.")
     @ApiResponse(responseCode = "200", description = "Orders retrieved successfully")
     @GetMapping("/address/{addressId}")
-    public ResponseEntity<List<OrderResponse>> findByAddressId(@PathVariable Long addressId) {
-        List<OrderResponse> responses = orderService.findByAddressId(addressId)
-                .stream()
-                .map(OrderMapper::toResponser)
-                .toList();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<PageResponse<OrderResponse>> findByAddressId(@PathVariable Long addressId,
+                                                                       @SortDefault("id") Pageable pageable,
+                                                                       @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(PageResponse.of(
+                orderService.findByAddressId(addressId, pageable, count).map(OrderMapper::toResponser)));
     }
 
     /**
@@ -238,7 +244,7 @@ public class OrderController {
      * @param userId the user id
      * @return HTTP 200 with the order count
      */
-    @Operation(summary = "Count orders by user", description = "Returns the total number of orders placed by a specific user.")
+    @Operation(summary = "Count orders by user", description = "Returns the total number of orders placed by a specific user, archived months included.")
     @ApiResponse(responseCode = "200", description = "Count retrieved successfully")
     @GetMapping("/user/{userId}/count")
     public ResponseEntity<Long> countByUserId(@PathVariable Long userId) {
@@ -261,6 +267,9 @@ public class OrderController {
     /**
      * Checks whether the authenticated user has already purchased the given product
      * in any non-cancelled order. Used by the review form to gate submission.
+     *
+     * <p>The user id is taken from the authenticated principal, so the check
+     * needs no user lookup and is served from memory once the user is cached.</p>
      */
     @Operation(
             summary = "Check if user has purchased product",
@@ -276,40 +285,67 @@ public class OrderController {
                             schema = @Schema(implementation = Boolean.class)
                     )
             ),
-            @ApiResponse(responseCode = "401", description = "Authentication required"),
-            @ApiResponse(responseCode = "404", description = "User not found")
+            @ApiResponse(responseCode = "401", description = "Authentication required")
     })
     @GetMapping("/has-purchased/{productId}")
     public ResponseEntity<Boolean> hasPurchased(Authentication authentication,
                                                 @PathVariable Long productId) {
+        User user = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(
+                orderService.hasUserPurchasedProduct(user.getId(), productId)
+        );
+    }
+
+    /**
+     * Returns which of the given products the authenticated user has purchased
+     * in any non-cancelled order. Used to render "purchased" badges on product listings.
+     *
+     * @param authentication the authentication object provided by Spring Security
+     * @param productIds     the product ids shown on the page
+     * @return HTTP 200 with the purchased subset of {@code productIds}
+     */
+    @Operation(
+            summary = "Check which products the user has purchased",
+            description = "Bulk version of has-purchased. Returns the subset of the given product ids " +
+                    "the authenticated user has in at least one non-cancelled order. Accepts up to 200 ids."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Check completed successfully"),
+            @ApiResponse(responseCode = "401", description = "Authentication required"),
+            @ApiResponse(responseCode = "422", description = "Too many product ids")
+    })
+    @GetMapping("/has-purchased")
+    public ResponseEntity<List<Long>> findPurchased(Authentication authentication,
+                                                    @RequestParam List<Long> productIds) {
+        User user = (User) authentication.getPrincipal();
         return ResponseEntity.ok(
-                orderService.hasUserPurchasedProduct(authentication.getName(), productId)
+                orderService.findPurchasedProductIds(user.getId(), productIds)
         );
     }
 
     /**
-     * Retrieves all orders belonging to the authenticated user.
+     * Retrieves one page of the orders belonging to the authenticated user.
      * User identity is extracted from the JWT token, not from request parameters.
      *
      * @param authentication the authentication object provided by Spring Security
-     * @return HTTP 200 with the list of orders sorted by date descending
+     * @param pageable       pagination parameters
+     * @param count          whether to include the total number of the user's orders
+     * @return HTTP 200 with a page of orders sorted by date descending
      */
     @Operation(
             summary = "Find orders of the authenticated user",
-            description = "Retrieves all orders placed by the currently authenticated user, sorted by date descending. " +
-                    "User identity is extracted from the JWT token."
+            description = "Retrieves one page of the orders placed by the currently authenticated user, sorted by date descending. " +
+                    "Orders in archived months are included. User identity is extracted from the JWT token."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Orders retrieved successfully"),
             @ApiResponse(responseCode = "401", description = "Authentication required")
     })
     @GetMapping("/my")
-    public ResponseEntity<List<OrderResponse>> findMyOrders(Authentication authentication) {
-        List<OrderResponse> responses = orderService.findByAuthenticatedUser(authentication.getName())
-                .stream()
-                .map(OrderMapper::toResponser)
-                .toList();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<PageResponse<OrderResponse>> findMyOrders(Authentication authentication, Pageable pageable,
+                                                                    @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(PageResponse.of(
+                orderService.findByAuthenticatedUser(authentication.getName(), pageable, count).map(OrderMapper::toResponser)));
     }
 
     /**
@@ -3,6 +3,7 @@ package com.kauanferreira.smartorder.controller;
 import com.kauanferreira.smartorder.dto.mapper.OrderItemMapper;
 import com.kauanferreira.smartorder.dto.request.OrderItemRequest;
 import com.kauanferreira.smartorder.dto.response.OrderItemResponse;
+import com.kauanferreira.smartorder.dto.response.PageResponse;
 import com.kauanferreira.smartorder.entity.OrderItem;
 import com.kauanferreira.smartorder.services.interfaces.OrderItemService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,6 +14,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -56,8 +58,7 @@ public class OrderItemController {
     public ResponseEntity<OrderItemResponse> create(@Valid @RequestBody OrderItemRequest request) {
         OrderItem entity = OrderItemMapper.toEntity(request);
         OrderItem created = orderItemService.create(entity);
-        OrderItem fullItem = orderItemService.findById(created.getId());
-        OrderItemResponse response = OrderItemMapper.toResponse(fullItem);
+        OrderItemResponse response = OrderItemMapper.toResponse(created);
 
         URI location = ServletUriComponentsBuilder
                 .fromCurrentRequest()
@@ -86,19 +87,19 @@ public class OrderItemController {
     }
 
     /**
-     * Retrieves all order items.
+     * Retrieves one page of all order items.
      *
-     * @return HTTP 200 with the list of order items
+     * @param pageable pagination parameters (page, size up to the server maximum, sort)
+     * @param count    whether to include the total number of order items
+     * @return HTTP 200 with a page of order items
      */
-    @Operation(summary = "List all order items", description = "Retrieves all order items without pagination.")
-    @ApiResponse(responseCode = "200", description = "List of order items retrieved successfully")
+    @Operation(summary = "List all order items", description = "Retrieves one page of order items. The total is only computed when count=true.")
+    @ApiResponse(responseCode = "200", description = "Page of order items retrieved successfully")
     @GetMapping
-    public ResponseEntity<List<OrderItemResponse>> findAll() {
-        List<OrderItemResponse> responses = orderItemService.findAll()
-                .stream()
-                .map(OrderItemMapper::toResponse)
-                .toList();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<PageResponse<OrderItemResponse>> findAll(@SortDefault("id") Pageable pageable,
+                                                                   @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(PageResponse.of(
+                orderItemService.findAll(pageable, count).map(OrderItemMapper::toResponse)));
     }
 
     /**
@@ -134,20 +135,21 @@ public class OrderItemController {
     }
 
     /**
-     * Retrieves all order items referencing a specific product.
+     * Retrieves one page of the order items referencing a specific product.
      *
      * @param productId the product id
-     * @return HTTP 200 with the list of order items
+     * @param pageable  pagination parameters
+     * @param count     whether to include the total number of matching items
+     * @return HTTP 200 with a page of order items
      */
-    @Operation(summary = "Find items by product", description = "Retrieves all order items referencing a specific product.")
+    @Operation(summary = "Find items by product", description = "Retrieves one page of the order items referencing a specific product.")
     @ApiResponse(responseCode = "200", description = "Order items retrieved successfully")
     @GetMapping("/product/{productId}")
-    public ResponseEntity<List<OrderItemResponse>> findByProductId(@PathVariable Long productId) {
-        List<OrderItemResponse> responses = orderItemService.findByProductId(productId)
-                .stream()
-                .map(OrderItemMapper::toResponse)
-                .toList();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<PageResponse<OrderItemResponse>> findByProductId(@PathVariable Long productId,
+                                                                           @SortDefault("id") Pageable pageable,
+                                                                           @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(PageResponse.of(
+                orderItemService.findByProductId(productId, pageable, count).map(OrderItemMapper::toResponse)));
     }
 
     /**
@@ -180,9 +182,8 @@ public class OrderItemController {
     public ResponseEntity<OrderItemResponse> update(@PathVariable Long id,
                                                     @Valid @RequestBody OrderItemRequest request) {
         OrderItem entity = OrderItemMapper.toEntity(request);
-        orderItemService.update(id, entity);
-        OrderItem fullItem = orderItemService.findById(id);
-        return ResponseEntity.ok(OrderItemMapper.toResponse(fullItem));
+        OrderItem updated = orderItemService.update(id, entity);
+        return ResponseEntity.ok(OrderItemMapper.toResponse(updated));
     }
 
     /**
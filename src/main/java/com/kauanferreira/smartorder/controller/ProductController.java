@@ -2,8 +2,11 @@ package com.kauanferreira.smartorder.controller;
 
 import com.kauanferreira.smartorder.dto.mapper.ProductMapper;
 import com.kauanferreira.smartorder.dto.request.ProductRequest;
+import com.kauanferreira.smartorder.dto.response.PageResponse;
 import com.kauanferreira.smartorder.dto.response.ProductResponse;
 import com.kauanferreira.smartorder.entity.Product;
+import com.kauanferreira.smartorder.enums.ProductRanking;
+import com.kauanferreira.smartorder.services.interfaces.ProductRankingService;
 import com.kauanferreira.smartorder.services.interfaces.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,6 +16,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -31,6 +35,7 @@ import java.util.List;
  * @version 1.0
  * @since 2026
  * @see ProductService
+ * @see ProductRankingService
  * @see ProductMapper
  */
 @RestController
@@ -40,6 +45,7 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductRankingService productRankingService;
 
     /**
      * Creates a new product.
@@ -88,21 +94,18 @@ public class ProductController {
     }
 
     /**
-     * Retrieves all products.
+     * Retrieves one page of all products.
      *
-     * @return HTTP 200 with the list of products
+     * @param pageable pagination parameters (page, size up to the server maximum, sort)
+     * @param count    whether to include the total number of products
+     * @return HTTP 200 with a page of products
      */
-    @Operation(summary = "List all products", description = "Retrieves all products without pagination.")
-    @ApiResponse(responseCode = "200", description = "List of products retrieved successfully")
+    @Operation(summary = "List all products", description = "Retrieves one page of products. The total is only computed when count=true.")
+    @ApiResponse(responseCode = "200", description = "Page of products retrieved successfully")
     @GetMapping
-    public ResponseEntity<List<ProductResponse>> findAll() {
-//        List<ProductResponse> response = productService.findAll()
-//                .stream()
-//                .map(ProductMapper::toResponse)
-//                .toList();
-//        return ResponseEntity.ok(response);
-        return ResponseEntity.ok(productService.findAllWithRating());
-
+    public ResponseEntity<PageResponse<ProductResponse>> findAll(@SortDefault("id") Pageable pageable,
+                                                                 @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(PageResponse.of(productService.findAllWithRating(pageable, count)));
     }
 
     /**
@@ -122,127 +125,121 @@ public class ProductController {
     }
 
     /**
-     * Retrieves all products ordered by name ascending.
+     * Retrieves one page of the products ordered by name ascending.
      *
-     * @return HTTP 200 with the ordered list of products
+     * @param pageable pagination parameters; the sort is always by name
+     * @param count    whether to include the total number of products
+     * @return HTTP 200 with a page of products
      */
-    @Operation(summary = "List products ordered by name", description = "Retrieves all products sorted alphabetically by name.")
-    @ApiResponse(responseCode = "200", description = "Ordered list retrieved successfully")
+    @Operation(summary = "List products ordered by name", description = "Retrieves one page of products sorted alphabetically by name.")
+    @ApiResponse(responseCode = "200", description = "Ordered page retrieved successfully")
     @GetMapping("/ordered/name")
-    public ResponseEntity<List<ProductResponse>> findAllOrderByNameAsc() {
-//        List<ProductResponse> responses = productService.findAllOrderByNameAsc()
-//                .stream()
-//                .map(ProductMapper::toResponse)
-//                .toList();
-//        return ResponseEntity.ok(responses);
-        return ResponseEntity.ok(productService.findOrderedByNameWithRating());
+    public ResponseEntity<PageResponse<ProductResponse>> findAllOrderByNameAsc(Pageable pageable,
+                                                                               @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(PageResponse.of(productService.findOrderedByNameWithRating(pageable, count)));
     }
 
     /**
-     * Retrieves all products ordered by price ascending.
+     * Retrieves one page of the products ordered by price ascending.
      *
-     * @return HTTP 200 with the ordered list of products
+     * @param pageable pagination parameters; the sort is always by price
+     * @param count    whether to include the total number of products
+     * @return HTTP 200 with a page of products
      */
-    @Operation(summary = "List products ordered by price", description = "Retrieves all products sorted by price ascending.")
-    @ApiResponse(responseCode = "200", description = "Ordered list retrieved successfully")
+    @Operation(summary = "List products ordered by price", description = "Retrieves one page of products sorted by price ascending.")
+    @ApiResponse(responseCode = "200", description = "Ordered page retrieved successfully")
     @GetMapping("/ordered/price")
-    public ResponseEntity<List<ProductResponse>> findAllOrderByPriceAsc() {
-//        List<ProductResponse> responses = productService.findAllOrderByPriceAsc()
-//                .stream()
-//                .map(ProductMapper::toResponse)
-//                .toList();
-//        return ResponseEntity.ok(responses);
-        return ResponseEntity.ok(productService.findOrderedByPriceWithRating());
+    public ResponseEntity<PageResponse<ProductResponse>> findAllOrderByPriceAsc(Pageable pageable,
+                                                                                @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(PageResponse.of(productService.findOrderedByPriceWithRating(pageable, count)));
     }
 
     /**
      * Searches products by name (case-insensitive, partial match).
      *
-     * @param name the search term
-     * @return HTTP 200 with the list of matching products
+     * @param name     the search term
+     * @param pageable pagination parameters
+     * @param count    whether to include the total number of matches
+     * @return HTTP 200 with a page of matching products
      */
-    @Operation(summary = "Search products by name", description = "Finds products whose name contains the search term (case-insensitive).")
+    @Operation(summary = "Search products by name", description = "Finds one page of the products whose name contains the search term (case-insensitive).")
     @ApiResponse(responseCode = "200", description = "Search results retrieved successfully")
     @GetMapping("/search")
-    public ResponseEntity<List<ProductResponse>> searchByName(@RequestParam String name) {
-//        List<ProductResponse> responses = productService.searchByName(name)
-//                .stream()
-//                .map(ProductMapper::toResponse)
-//                .toList();
-//        return ResponseEntity.ok(responses);
-        return ResponseEntity.ok(productService.findByNameWithRating(name));
+    public ResponseEntity<PageResponse<ProductResponse>> searchByName(@RequestParam String name,
+                                                                      @SortDefault("id") Pageable pageable,
+                                                                      @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(PageResponse.of(productService.findByNameWithRating(name, pageable, count)));
     }
 
     /**
-     * Retrieves all products in a specific category.
+     * Retrieves one page of the products in a specific category.
      *
      * @param categoryId the category id
-     * @return HTTP 200 with the list of products
+     * @param pageable   pagination parameters
+     * @param count      whether to include the total number of products
+     * @return HTTP 200 with a page of products
      */
-    @Operation(summary = "Find products by category", description = "Retrieves all products belonging to a specific category.")
+    @Operation(summary = "Find products by category", description = "Retrieves one page of the products belonging to a specific category.")
     @ApiResponse(responseCode = "200", description = "Products retrieved successfully")
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<List<ProductResponse>> findAllByCategoryId(@PathVariable Long categoryId) {
-//        List<ProductResponse> responses = productService.findByCategoryId(categoryId)
-//                .stream()
-//                .map(ProductMapper::toResponse)
-//                .toList();
-//        return ResponseEntity.ok(responses);
-        return ResponseEntity.ok(productService.findByCategoryWithRating(categoryId));
+    public ResponseEntity<PageResponse<ProductResponse>> findAllByCategoryId(@PathVariable Long categoryId,
+                                                                             @SortDefault("id") Pageable pageable,
+                                                                             @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(PageResponse.of(productService.findByCategoryWithRating(categoryId, pageable, count)));
     }
 
     /**
-     * Retrieves all products filtered by active status.
+     * Retrieves one page of the products filtered by active status.
      *
-     * @param active the active status
-     * @return HTTP 200 with the list of products
+     * @param active   the active status
+     * @param pageable pagination parameters
+     * @param count    whether to include the total number of products
+     * @return HTTP 200 with a page of products
      */
-    @Operation(summary = "Find products by active status", description = "Retrieves products filtered by their active/inactive status.")
+    @Operation(summary = "Find products by active status", description = "Retrieves one page of the products filtered by their active/inactive status.")
     @ApiResponse(responseCode = "200", description = "Products retrieved successfully")
     @GetMapping("/active/{active}")
-    public ResponseEntity<List<ProductResponse>> findAllByActive(@PathVariable Boolean active) {
-        List<ProductResponse> responses = productService.findByActive(active)
-                .stream()
-                .map(ProductMapper::toResponse)
-                .toList();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<PageResponse<ProductResponse>> findAllByActive(@PathVariable Boolean active,
+                                                                         @SortDefault("id") Pageable pageable,
+                                                                         @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(PageResponse.of(productService.findActiveWithRating(active, pageable, count)));
     }
 
     /**
-     * Retrieves all active products in a specific category.
+     * Retrieves one page of the active products in a specific category.
      *
      * @param categoryId the category id
-     * @return HTTP 200 with the list of active products
+     * @param pageable   pagination parameters
+     * @param count      whether to include the total number of products
+     * @return HTTP 200 with a page of active products
      */
-    @Operation(summary = "Find active products by category", description = "Retrieves only active products belonging to a specific category.")
+    @Operation(summary = "Find active products by category", description = "Retrieves one page of the active products belonging to a specific category.")
     @ApiResponse(responseCode = "200", description = "Active products retrieved successfully")
     @GetMapping("/category/{categoryId}/active")
-    public ResponseEntity<List<ProductResponse>> findAllActiveByCategoryId(@PathVariable Long categoryId) {
-        List<ProductResponse> responses = productService.findActiveByCategoryId(categoryId)
-                .stream()
-                .map(ProductMapper::toResponse)
-                .toList();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<PageResponse<ProductResponse>> findAllActiveByCategoryId(@PathVariable Long categoryId,
+                                                                                   @SortDefault("id") Pageable pageable,
+                                                                                   @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(PageResponse.of(
+                productService.findActiveByCategoryWithRating(categoryId, true, pageable, count)));
     }
 
     /**
-     * Retrieves all products within a price range.
+     * Retrieves one page of the products within a price range.
      *
-     * @param min the minimum price
-     * @param max the maximum price
-     * @return HTTP 200 with the list of products
+     * @param min      the minimum price
+     * @param max      the maximum price
+     * @param pageable pagination parameters
+     * @param count    whether to include the total number of products
+     * @return HTTP 200 with a page of products
      */
-    @Operation(summary = "Find products by price range", description = "Retrieves products within a minimum and maximum price range.")
+    @Operation(summary = "Find products by price range", description = "Retrieves one page of the products within a minimum and maximum price range.")
     @ApiResponse(responseCode = "200", description = "Products retrieved successfully")
     @GetMapping("/price")
-    public ResponseEntity<List<ProductResponse>> findByPriceRange(@RequestParam BigDecimal min,
-                                                                   BigDecimal max){
-//        List<ProductResponse> responses = productService.findByPriceRange(min, max)
-//                .stream()
-//                .map(ProductMapper::toResponse)
-//                .toList();
-//        return ResponseEntity.ok(responses);
-        return ResponseEntity.ok(productService.findByPriceRangeWithRating(min, max));
+    public ResponseEntity<PageResponse<ProductResponse>> findByPriceRange(@RequestParam BigDecimal min,
+                                                                          BigDecimal max,
+                                                                                                       @SortDefault("id") Pageable pageable,
+                                                                          @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(PageResponse.of(productService.findByPriceRangeWithRating(min, max, pageable, count)));
     }
 
     /**
@@ -288,6 +285,42 @@ public class ProductController {
         return ResponseEntity.ok(productService.findFeaturedRandomWithRating());
     }
 
+    /**
+     * Returns the best-selling products, ranked by units sold with a slow decay.
+     * Served from memory; the ranking is updated on every checkout and cancellation.
+     *
+     * @param limit the maximum number of products (1 to 50)
+     * @return list of best-selling products as ProductResponse, best first
+     */
+    @GetMapping("/best-sellers")
+    @Operation(summary = "List best-selling products",
+            description = "Returns active products ranked by recent units sold (half-life of days). Served from an in-memory ranking.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Best sellers returned successfully"),
+            @ApiResponse(responseCode = "422", description = "Limit out of range")
+    })
+    public ResponseEntity<List<ProductResponse>> findBestSellers(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(productRankingService.findTop(ProductRanking.BEST_SELLERS, limit));
+    }
+
+    /**
+     * Returns the trending products, ranked by units sold with a fast decay.
+     * Served from memory; the ranking is updated on every checkout and cancellation.
+     *
+     * @param limit the maximum number of products (1 to 50)
+     * @return list of trending products as ProductResponse, hottest first
+     */
+    @GetMapping("/trending")
+    @Operation(summary = "List trending products",
+            description = "Returns active products ranked by units sold in the last hours (half-life of hours). Served from an in-memory ranking.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Trending products returned successfully"),
+            @ApiResponse(responseCode = "422", description = "Limit out of range")
+    })
+    public ResponseEntity<List<ProductResponse>> findTrending(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(productRankingService.findTop(ProductRanking.TRENDING, limit));
+    }
+
     /**
      * Returns active products with low stock.
      * A product is considered low stock when stockQuantity is at or below 5
@@ -2,8 +2,14 @@ package com.kauanferreira.smartorder.controller;
 
 import com.kauanferreira.smartorder.dto.mapper.ReviewMapper;
 import com.kauanferreira.smartorder.dto.request.ReviewRequest;
+import com.kauanferreira.smartorder.dto.response.GridPageResponse;
+import com.kauanferreira.smartorder.dto.response.PageResponse;
+import com.kauanferreira.smartorder.dto.response.ReviewFeedItemResponse;
 import com.kauanferreira.smartorder.dto.response.ReviewResponse;
 import com.kauanferreira.smartorder.entity.Review;
+import com.kauanferreira.smartorder.entity.User;
+import com.kauanferreira.smartorder.enums.ReviewSort;
+import com.kauanferreira.smartorder.services.interfaces.ReviewFeedService;
 import com.kauanferreira.smartorder.services.interfaces.ReviewLikeService;
 import com.kauanferreira.smartorder.services.interfaces.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,13 +18,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
-import java.util.List;
 
 /**
  * REST controller for managing product reviews.
@@ -41,6 +49,7 @@ public class ReviewController {
 
     private final ReviewService reviewService;
     private final ReviewLikeService reviewLikeService;
+    private final ReviewFeedService reviewFeedService;
 
     /**
      * Creates a new review for a product.
@@ -62,7 +71,7 @@ public class ReviewController {
                                                  @Valid @RequestBody ReviewRequest request) {
         Review entity = ReviewMapper.toEntity(request);
         Review created = reviewService.create(authentication.getName(), entity);
-        ReviewResponse response = ReviewMapper.toResponse(created, reviewLikeService.countLikes(created.getId()));
+        ReviewResponse response = ReviewMapper.toResponse(created, reviewLikeService.countLikes(created));
 
         URI location = ServletUriComponentsBuilder
                 .fromCurrentRequest()
@@ -74,39 +83,78 @@ public class ReviewController {
     }
 
     /**
-     * Retrieves all reviews for a specific product.
+     * Retrieves one page of the reviews for a specific product, newest first by default.
      * This endpoint is public and does not require authentication.
      *
      * @param productId the ID of the product
-     * @return HTTP 200 with the list of reviews
+     * @param pageable  pagination parameters
+     * @param count     whether to include the total number of reviews
+     * @return HTTP 200 with a page of reviews
      */
-    @Operation(summary = "Get reviews by product", description = "Retrieves all reviews for a specific product. Public endpoint.")
+    @Operation(summary = "Get reviews by product", description = "Retrieves one page of the reviews for a specific product. Public endpoint.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Reviews retrieved successfully"),
             @ApiResponse(responseCode = "404", description = "Product not found")
     })
     @GetMapping("/product/{productId}")
-    public ResponseEntity<List<ReviewResponse>> getByProduct(@PathVariable Long productId) {
-        List<ReviewResponse> responses = reviewService.getByProduct(productId)
-                .stream()
-                .map(review -> ReviewMapper.toResponse(review, reviewLikeService.countLikes(review.getId())))                .toList();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<PageResponse<ReviewResponse>> getByProduct(
+            @PathVariable Long productId,
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(PageResponse.of(reviewService.getByProduct(productId, pageable, count)
+                .map(review -> ReviewMapper.toResponse(review, reviewLikeService.countLikes(review)))));
     }
 
     /**
-     * Retrieves all reviews written by the authenticated user.
+     * Retrieves one page of a product's review feed, paginated with a cursor.
+     * Each review carries its like count and, for authenticated users, whether
+     * they liked it. This endpoint is public and does not require authentication.
+     *
+     * @param authentication the authenticated user's security context, {@code null} for anonymous visitors
+     * @param productId      the ID of the product
+     * @param sort           the feed order
+     * @param size           the page size
+     * @param cursor         the {@code nextCursor} of the previous page
+     * @return HTTP 200 with one page of reviews
+     */
+    @Operation(summary = "Get the review feed of a product",
+            description = "Retrieves one page of a product's reviews, newest, highest rated or most helpful first, " +
+                    "with like counts and the viewer's likes. Pass nextCursor back as cursor to load the next page. Public endpoint.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Reviews retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Product not found"),
+            @ApiResponse(responseCode = "422", description = "Invalid cursor")
+    })
+    @GetMapping("/product/{productId}/feed")
+    public ResponseEntity<GridPageResponse<ReviewFeedItemResponse>> getFeed(
+            Authentication authentication,
+            @PathVariable Long productId,
+            @RequestParam(defaultValue = "NEWEST") ReviewSort sort,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor) {
+        Long viewerId = authentication != null && authentication.getPrincipal() instanceof User user
+                ? user.getId()
+                : null;
+        return ResponseEntity.ok(reviewFeedService.getFeed(productId, sort, size, cursor, viewerId));
+    }
+
+    /**
+     * Retrieves one page of the reviews written by the authenticated user, newest first by default.
      *
      * @param authentication the authenticated user's security context
-     * @return HTTP 200 with the list of the user's reviews
+     * @param pageable       pagination parameters
+     * @param count          whether to include the total number of reviews
+     * @return HTTP 200 with a page of the user's reviews
      */
-    @Operation(summary = "Get my reviews", description = "Retrieves all reviews written by the authenticated user.")
+    @Operation(summary = "Get my reviews", description = "Retrieves one page of the reviews written by the authenticated user.")
     @ApiResponse(responseCode = "200", description = "Reviews retrieved successfully")
     @GetMapping("/my")
-    public ResponseEntity<List<ReviewResponse>> getMyReviews(Authentication authentication) {
-        List<ReviewResponse> responses = reviewService.getMyReviews(authentication.getName())
-                .stream()
-                .map(review -> ReviewMapper.toResponse(review, reviewLikeService.countLikes(review.getId())))                .toList();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<PageResponse<ReviewResponse>> getMyReviews(
+            Authentication authentication,
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(PageResponse.of(reviewService.getMyReviews(authentication.getName(), pageable, count)
+                .map(review -> ReviewMapper.toResponse(review, reviewLikeService.countLikes(review)))));
     }
 
     /**
@@ -129,7 +177,7 @@ public class ReviewController {
                                                  @Valid @RequestBody ReviewRequest request) {
         Review entity = ReviewMapper.toEntity(request);
         Review updated = reviewService.update(authentication.getName(), id, entity);
-        return ResponseEntity.ok(ReviewMapper.toResponse(updated, reviewLikeService.countLikes(updated.getId())));
+        return ResponseEntity.ok(ReviewMapper.toResponse(updated, reviewLikeService.countLikes(updated)));
     }
 
     /**
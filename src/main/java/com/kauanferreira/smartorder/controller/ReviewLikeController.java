@@ -1,5 +1,6 @@
 package com.kauanferreira.smartorder.controller;
 
+import com.kauanferreira.smartorder.entity.User;
 import com.kauanferreira.smartorder.services.interfaces.ReviewLikeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -48,7 +49,8 @@ public class ReviewLikeController {
     @PostMapping("/{reviewId}/like")
     public ResponseEntity<Void> like(Authentication authentication,
                                      @PathVariable Long reviewId) {
-        reviewLikeService.like(authentication.getName(), reviewId);
+        User user = (User) authentication.getPrincipal();
+        reviewLikeService.like(user.getId(), reviewId);
         return ResponseEntity.noContent().build();
     }
 
@@ -64,7 +66,8 @@ public class ReviewLikeController {
     @GetMapping("/{reviewId}/like/check")
     public ResponseEntity<Boolean> isLiked(Authentication authentication,
                                            @PathVariable Long reviewId) {
-        return ResponseEntity.ok(reviewLikeService.isLiked(authentication.getName(), reviewId));
+        User user = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(reviewLikeService.isLiked(user.getId(), reviewId));
     }
 
     /**
@@ -90,9 +93,8 @@ public class ReviewLikeController {
     })
     @GetMapping("/my-likes")
     public ResponseEntity<List<Long>> getMyLikedReviewIds(Authentication authentication) {
-        return ResponseEntity.ok(
-                reviewLikeService.getLikedReviewIds(authentication.getName())
-        );
+        User user = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(reviewLikeService.getLikedReviewIds(user.getId()));
     }
 
     /**
@@ -110,7 +112,8 @@ public class ReviewLikeController {
     @DeleteMapping("/{reviewId}/like")
     public ResponseEntity<Void> unlike(Authentication authentication,
                                        @PathVariable Long reviewId) {
-        reviewLikeService.unlike(authentication.getName(), reviewId);
+        User user = (User) authentication.getPrincipal();
+        reviewLikeService.unlike(user.getId(), reviewId);
         return ResponseEntity.noContent().build();
     }
 
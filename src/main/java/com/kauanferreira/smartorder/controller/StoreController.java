@@ -0,0 +1,109 @@
+package com.kauanferreira.smartorder.controller;
+
+import com.kauanferreira.smartorder.dto.response.ProductViewResponse;
+import com.kauanferreira.smartorder.dto.response.StoreBootstrapResponse;
+import com.kauanferreira.smartorder.entity.User;
+import com.kauanferreira.smartorder.enums.ReviewSort;
+import com.kauanferreira.smartorder.services.interfaces.StoreViewService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * REST controller for the composed storefront page responses.
+ *
+ * <p>Each endpoint returns everything one page needs in a single request.
+ * They are public; when a valid token is sent, the viewer-specific parts
+ * are filled in for that user.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see StoreViewService
+ */
+@RestController
+@RequestMapping("/api/store")
+@RequiredArgsConstructor
+@Tag(name = "Store", description = "Composed responses for the storefront pages")
+public class StoreController {
+
+    private final StoreViewService storeViewService;
+
+    /**
+     * How long browsers and shared caches may reuse the anonymous bootstrap,
+     * matching how long the server keeps its shared catalog. Defaults to 15 seconds.
+     */
+    @Value("${smartorder.cache.store-catalog.ttl-ms:15000}")
+    private long catalogTtlMs;
+
+    /**
+     * Retrieves everything the storefront home page needs on first load:
+     * categories, the three carousels, the first product page, and the
+     * viewer's cart count and favorite product ids.
+     *
+     * <p>Anonymous responses are the same for everyone and are marked
+     * publicly cacheable; responses for a signed-in viewer are private.</p>
+     *
+     * @param authentication the authenticated user's security context, {@code null} for anonymous visitors
+     * @return HTTP 200 with the composed home page
+     */
+    @Operation(summary = "Get the storefront bootstrap",
+            description = "Returns the categories, the featured, deals and low-stock carousels, the first product " +
+                    "page, the cart count and the favorite product ids in one response. The catalog part is shared " +
+                    "by all visitors and may lag by a few seconds. Public endpoint.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Storefront bootstrap retrieved successfully")
+    })
+    @GetMapping("/bootstrap")
+    public ResponseEntity<StoreBootstrapResponse> getBootstrap(Authentication authentication) {
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    .header(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION)
+                    .body(storeViewService.getBootstrap(user.getId()));
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(catalogTtlMs, TimeUnit.MILLISECONDS).cachePublic())
+                .header(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION)
+                .body(storeViewService.getBootstrap(null));
+    }
+
+    /**
+     * Retrieves everything the product page renders: the product, the
+     * viewer's favorite and purchase status, and the first page of reviews.
+     *
+     * @param authentication the authenticated user's security context, {@code null} for anonymous visitors
+     * @param productId      the ID of the product
+     * @param reviewSort     the order of the review feed
+     * @param reviewSize     the size of the first review page
+     * @return HTTP 200 with the composed product page
+     */
+    @Operation(summary = "Get the product page",
+            description = "Returns the product, the viewer's favorite and purchase status and the first page of " +
+                    "reviews in one response. Further review pages come from the review feed. Public endpoint.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Product page retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Product not found")
+    })
+    @GetMapping("/product/{productId}/view")
+    public ResponseEntity<ProductViewResponse> getProductView(
+            Authentication authentication,
+            @PathVariable Long productId,
+            @RequestParam(defaultValue = "NEWEST") ReviewSort reviewSort,
+            @RequestParam(required = false) Integer reviewSize) {
+        Long userId = authentication != null && authentication.getPrincipal() instanceof User user
+                ? user.getId()
+                : null;
+        return ResponseEntity.ok(storeViewService.getProductView(productId, userId, reviewSort, reviewSize));
+    }
+}
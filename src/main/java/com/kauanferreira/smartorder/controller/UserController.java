@@ -4,6 +4,7 @@ import com.kauanferreira.smartorder.dto.mapper.UserMapper;
 import com.kauanferreira.smartorder.dto.request.PasswordUpdateRequest;
 import com.kauanferreira.smartorder.dto.request.UserRequest;
 import com.kauanferreira.smartorder.dto.request.UserUpdateRequest;
+import com.kauanferreira.smartorder.dto.response.PageResponse;
 import com.kauanferreira.smartorder.dto.response.UserResponse;
 import com.kauanferreira.smartorder.entity.User;
 import com.kauanferreira.smartorder.enums.Role;
@@ -16,12 +17,12 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
-import java.util.List;
 
 /**
  * REST controller for managing {@link User} resources.
@@ -105,19 +106,18 @@ public class UserController {
     }
 
     /**
-     * Retrieves all users.
+     * Retrieves one page of all users.
      *
-     * @return HTTP 200 with the list of users
+     * @param pageable pagination parameters (page, size up to the server maximum, sort)
+     * @param count    whether to include the total number of users
+     * @return HTTP 200 with a page of users
      */
-    @Operation(summary = "List all users", description = "Retrieves all users without pagination.")
-    @ApiResponse(responseCode = "200", description = "List of users retrieved successfully")
+    @Operation(summary = "List all users", description = "Retrieves one page of users. The total is only computed when count=true.")
+    @ApiResponse(responseCode = "200", description = "Page of users retrieved successfully")
     @GetMapping
-    public ResponseEntity<List<UserResponse>> findAll() {
-        List<UserResponse> responses = userService.findAll()
-                .stream()
-                .map(UserMapper::toResponse)
-                .toList();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<PageResponse<UserResponse>> findAll(@SortDefault("id") Pageable pageable,
+                                                              @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(PageResponse.of(userService.findAll(pageable, count).map(UserMapper::toResponse)));
     }
 
     /**
@@ -136,53 +136,55 @@ public class UserController {
     }
 
     /**
-     * Retrieves all users ordered by name ascending.
+     * Retrieves one page of the users ordered by name ascending.
      *
-     * @return HTTP 200 with the ordered list of users
+     * @param pageable pagination parameters
+     * @param count    whether to include the total number of users
+     * @return HTTP 200 with a page of users
      */
-    @Operation(summary = "List users ordered by name", description = "Retrieves all users sorted alphabetically by name.")
-    @ApiResponse(responseCode = "200", description = "Ordered list retrieved successfully")
+    @Operation(summary = "List users ordered by name", description = "Retrieves one page of users sorted alphabetically by name.")
+    @ApiResponse(responseCode = "200", description = "Ordered page retrieved successfully")
     @GetMapping("/ordered")
-    public ResponseEntity<List<UserResponse>> findAllOrderByNameAsc() {
-        List<UserResponse> responses = userService.findAllOrderByNameAsc()
-                .stream()
-                .map(UserMapper::toResponse)
-                .toList();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<PageResponse<UserResponse>> findAllOrderByNameAsc(Pageable pageable,
+                                                                            @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(PageResponse.of(
+                userService.findAllOrderByNameAsc(pageable, count).map(UserMapper::toResponse)));
     }
 
     /**
      * Searches users by name (case-insensitive, partial match).
      *
-     * @param name the search term
-     * @return HTTP 200 with the list of matching users
+     * @param name     the search term
+     * @param pageable pagination parameters
+     * @param count    whether to include the total number of matching users
+     * @return HTTP 200 with a page of matching users
      */
-    @Operation(summary = "Search users by name", description = "Finds users whose name contains the search term (case-insensitive).")
+    @Operation(summary = "Search users by name", description = "Finds one page of users whose name contains the search term (case-insensitive).")
     @ApiResponse(responseCode = "200", description = "Search results retrieved successfully")
     @GetMapping("/search")
-    public ResponseEntity<List<UserResponse>> searchByName(@RequestParam String name) {
-        List<UserResponse> responses = userService.searchByName(name)
-                .stream()
-                .map(UserMapper::toResponse)
-                .toList();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<PageResponse<UserResponse>> searchByName(@RequestParam String name,
+                                                                   @SortDefault("id") Pageable pageable,
+                                                                   @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(PageResponse.of(
+                userService.searchByName(name, pageable, count).map(UserMapper::toResponse)));
     }
 
     /**
-     * Retrieves all users filtered by role.
+     * Retrieves one page of the users filtered by role.
      *
-     * @param role the user role
-     * @return HTTP 200 with the list of users
+     * @param role     the user role
+     * @param pageable pagination parameters
+     * @param count    whether to include the total number of matching users
+     * @return HTTP 200 with a page of users
      */
-    @Operation(summary = "Find users by role", description = "Retrieves all users with a specific role (ADMIN or CUSTOMER).")
+    @Operation(summary = "Find users by role", description = "Retrieves one page of the users with a specific role (ADMIN or CUSTOMER).")
     @ApiResponse(responseCode = "200", description = "Users retrieved successfully")
     @GetMapping("/role/{role}")
-    public ResponseEntity<List<UserResponse>> findByRole(@PathVariable Role role) {
-        List<UserResponse> responses = userService.findByRole(role)
-                .stream()
-                .map(UserMapper::toResponse)
-                .toList();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<PageResponse<UserResponse>> findByRole(@PathVariable Role role,
+                                                                 @SortDefault("id") Pageable pageable,
+                                                                 @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(PageResponse.of(
+                userService.findByRole(role, pageable, count).map(UserMapper::toResponse)));
     }
 
     /**
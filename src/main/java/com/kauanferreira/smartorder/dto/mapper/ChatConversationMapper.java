@@ -0,0 +1,39 @@
+package com.kauanferreira.smartorder.dto.mapper;
+
+import com.kauanferreira.smartorder.dto.response.ChatConversationResponse;
+import com.kauanferreira.smartorder.entity.ChatConversation;
+
+/**
+ * Mapper class for converting {@link ChatConversation} entities to
+ * response DTOs.
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see ChatConversation
+ * @see ChatConversationResponse
+ */
+public final class ChatConversationMapper {
+
+    private ChatConversationMapper() {}
+
+    /**
+     * Converts a {@link ChatConversation} entity to a {@link ChatConversationResponse}.
+     *
+     * @param conversation the inbox row, with its other participant and product loaded
+     * @return the response DTO
+     */
+    public static ChatConversationResponse toResponse(ChatConversation conversation) {
+        return new ChatConversationResponse(
+                conversation.getOtherUser().getId(),
+                conversation.getOtherUser().getName(),
+                conversation.getProduct().getId(),
+                conversation.getProduct().getName(),
+                conversation.getLastMessageId(),
+                conversation.getLastMessagePreview(),
+                conversation.getLastSenderId(),
+                conversation.getLastMessageAt(),
+                conversation.getUnreadCount()
+        );
+    }
+}
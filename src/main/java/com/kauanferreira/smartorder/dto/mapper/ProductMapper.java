@@ -137,7 +137,7 @@ public final class ProductMapper {
      * @param product the product to calculate price for
      * @return the final price after discount
      */
-    private static BigDecimal calculateFinalPrice(Product product) {
+    public static BigDecimal calculateFinalPrice(Product product) {
         BigDecimal finalPrice = product.getPrice();
         if (product.getDiscountPercent() != null && product.getDiscountPercent() > 0) {
             BigDecimal discount = product.getPrice()
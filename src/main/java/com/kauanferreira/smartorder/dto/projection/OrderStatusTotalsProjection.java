@@ -0,0 +1,24 @@
+package com.kauanferreira.smartorder.dto.projection;
+
+import com.kauanferreira.smartorder.enums.OrderStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection carrying the number of orders and their summed total for one
+ * {@link OrderStatus}. Built by OrderRepository#sumTotalsByStatus in a single
+ * GROUP BY query, so dashboard metrics never load order entities.
+ *
+ * @param status     the order status the row refers to
+ * @param orderCount number of orders in that status
+ * @param revenue    sum of the total amount of those orders
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+public record OrderStatusTotalsProjection(
+        OrderStatus status,
+        Long orderCount,
+        BigDecimal revenue
+) {
+}
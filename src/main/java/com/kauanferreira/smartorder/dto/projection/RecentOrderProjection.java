@@ -0,0 +1,29 @@
+package com.kauanferreira.smartorder.dto.projection;
+
+import com.kauanferreira.smartorder.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Flat projection of an order for the admin dashboard's "recent orders" table.
+ * Built by OrderRepository#findRecentOrders, which only joins the customer
+ * instead of fetching the whole order graph.
+ *
+ * @param id           the order unique identifier
+ * @param orderDate    the order creation timestamp
+ * @param status       the current order status
+ * @param totalAmount  the order total amount
+ * @param customerName the name of the customer who placed the order
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+public record RecentOrderProjection(
+        Long id,
+        LocalDateTime orderDate,
+        OrderStatus status,
+        BigDecimal totalAmount,
+        String customerName
+) {
+}
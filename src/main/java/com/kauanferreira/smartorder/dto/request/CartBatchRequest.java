@@ -0,0 +1,29 @@
+package com.kauanferreira.smartorder.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO for applying several cart changes at once.
+ *
+ * <p>The operations are applied in order and atomically: if any of them
+ * is invalid, none is applied.</p>
+ *
+ * @param operations the changes to apply (1 to 100)
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see CartOperationRequest
+ */
+public record CartBatchRequest(
+
+        @NotEmpty(message = "At least one operation is required")
+        @Size(max = 100, message = "A batch must not exceed 100 operations")
+        List<@Valid @NotNull CartOperationRequest> operations
+) {
+}
@@ -0,0 +1,36 @@
+package com.kauanferreira.smartorder.dto.request;
+
+import com.kauanferreira.smartorder.enums.CartOperationType;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO for one change of a batch cart request.
+ *
+ * <p>{@code ADD} requires {@code productId} and {@code quantity};
+ * {@code UPDATE} requires {@code cartItemId} and {@code quantity};
+ * {@code REMOVE} requires {@code cartItemId}.</p>
+ *
+ * @param type       the kind of change (required)
+ * @param cartItemId the cart line to update or remove
+ * @param productId  the product to add
+ * @param quantity   the quantity to add, or the new quantity (minimum 1)
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see CartBatchRequest
+ */
+public record CartOperationRequest(
+
+        @NotNull(message = "Operation type is required")
+        CartOperationType type,
+
+        Long cartItemId,
+
+        Long productId,
+
+        @Min(value = 1, message = "Quantity must be at least 1")
+        Integer quantity
+) {
+}
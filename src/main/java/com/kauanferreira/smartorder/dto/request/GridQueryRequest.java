@@ -0,0 +1,75 @@
+package com.kauanferreira.smartorder.dto.request;
+
+import com.kauanferreira.smartorder.exception.BusinessRuleException;
+import org.springframework.util.MultiValueMap;
+
+import java.util.List;
+
+/**
+ * Query parameters of an admin grid endpoint.
+ *
+ * <ul>
+ *   <li>{@code filter} — repeatable, {@code field:operator:value}, e.g.
+ *       {@code status:in:PENDING|CONFIRMED} or {@code orderDate:gte:2026-01-01}.
+ *       All filters must match.</li>
+ *   <li>{@code sort} — repeatable, {@code field,asc} or {@code field,desc}.
+ *       The id is always appended as a tie-breaker.</li>
+ *   <li>{@code q} — free-text search over the grid's text columns.</li>
+ *   <li>{@code size} — rows per page, capped by the server.</li>
+ *   <li>{@code cursor} — keyset pagination: the {@code nextCursor} of the previous page.</li>
+ *   <li>{@code page} — offset pagination (zero-based); cannot be combined with {@code cursor}.</li>
+ * </ul>
+ *
+ * <p>Built with {@link #from(MultiValueMap)} rather than by data binding,
+ * because binding a single {@code a,b} value to a list splits it on the comma.</p>
+ *
+ * @param filter the filter expressions
+ * @param sort   the sort expressions
+ * @param q      the free-text search term
+ * @param size   the page size
+ * @param cursor the keyset cursor
+ * @param page   the page number
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public record GridQueryRequest(
+        List<String> filter,
+        List<String> sort,
+        String q,
+        Integer size,
+        String cursor,
+        Integer page
+) {
+
+    /**
+     * Reads the grid parameters from the raw query string parameters.
+     *
+     * @param params the request parameters
+     * @return the grid query
+     * @throws BusinessRuleException if {@code size} or {@code page} is not a number
+     */
+    public static GridQueryRequest from(MultiValueMap<String, String> params) {
+        return new GridQueryRequest(
+                params.getOrDefault("filter", List.of()),
+                params.getOrDefault("sort", List.of()),
+                params.getFirst("q"),
+                integer(params, "size"),
+                params.getFirst("cursor"),
+                integer(params, "page")
+        );
+    }
+
+    private static Integer integer(MultiValueMap<String, String> params, String name) {
+        String value = params.getFirst(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new BusinessRuleException(String.format("'%s' must be a number", name));
+        }
+    }
+}
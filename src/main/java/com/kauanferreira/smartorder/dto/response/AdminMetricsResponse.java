@@ -0,0 +1,36 @@
+package com.kauanferreira.smartorder.dto.response;
+
+import com.kauanferreira.smartorder.dto.projection.RecentOrderProjection;
+import com.kauanferreira.smartorder.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO with the aggregated figures shown on the admin dashboard.
+ *
+ * @param totalRevenue   sum of the total amount of every non-cancelled order
+ * @param totalOrders    number of orders in any status
+ * @param ordersByStatus number of orders per status (every status is present, zero if none)
+ * @param totalUsers     number of registered users
+ * @param totalProducts  number of products in the catalog
+ * @param recentOrders   the most recently placed orders, newest first
+ * @param generatedAt    when these figures were computed
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public record AdminMetricsResponse(
+
+        BigDecimal totalRevenue,
+        long totalOrders,
+        Map<OrderStatus, Long> ordersByStatus,
+        long totalUsers,
+        long totalProducts,
+        List<RecentOrderProjection> recentOrders,
+        LocalDateTime generatedAt
+) {
+}
@@ -0,0 +1,16 @@
+package com.kauanferreira.smartorder.dto.response;
+
+/**
+ * DTO with the number of units in the shopping cart, for the navbar badge.
+ *
+ * @param count the total quantity across all cart lines
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public record CartCountResponse(
+
+        int count
+) {
+}
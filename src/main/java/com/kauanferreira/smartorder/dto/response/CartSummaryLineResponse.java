@@ -0,0 +1,44 @@
+package com.kauanferreira.smartorder.dto.response;
+
+import com.kauanferreira.smartorder.enums.CartStockStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO with one priced line of the cart summary.
+ *
+ * @param id              the cart item id
+ * @param productId       the product id
+ * @param productName     the product name
+ * @param imageUrl        the product image, or {@code null}
+ * @param categoryName    the product category name
+ * @param price           the unit list price
+ * @param discountPercent the discount applied, or {@code null}
+ * @param finalPrice      the unit price after the discount
+ * @param quantity        the quantity in the cart
+ * @param lineTotal       {@code finalPrice × quantity}
+ * @param lineSavings     {@code (price − finalPrice) × quantity}
+ * @param stockQuantity   the units left
+ * @param stockStatus     whether the quantity can be bought
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public record CartSummaryLineResponse(
+
+        Long id,
+        Long productId,
+        String productName,
+        String imageUrl,
+        String categoryName,
+        BigDecimal price,
+        Integer discountPercent,
+        BigDecimal finalPrice,
+        Integer quantity,
+        BigDecimal lineTotal,
+        BigDecimal lineSavings,
+        Integer stockQuantity,
+        CartStockStatus stockStatus
+) {
+}
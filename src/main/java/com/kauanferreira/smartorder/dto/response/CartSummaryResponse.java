@@ -0,0 +1,29 @@
+package com.kauanferreira.smartorder.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO with the priced shopping cart, computed server-side.
+ *
+ * @param lines          the cart lines, oldest first
+ * @param itemCount      the total number of units in the cart
+ * @param subtotal       the sum of list prices
+ * @param discount       the sum of discount savings
+ * @param total          {@code subtotal − discount}
+ * @param hasStockIssues whether any line cannot be bought as is
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public record CartSummaryResponse(
+
+        List<CartSummaryLineResponse> lines,
+        int itemCount,
+        BigDecimal subtotal,
+        BigDecimal discount,
+        BigDecimal total,
+        boolean hasStockIssues
+) {
+}
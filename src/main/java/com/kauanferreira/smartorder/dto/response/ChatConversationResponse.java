@@ -0,0 +1,37 @@
+package com.kauanferreira.smartorder.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one conversation of the chat inbox.
+ *
+ * <p>Seen from the authenticated user: the other participant, the product,
+ * a preview of the last message and how many messages the user has not
+ * read yet.</p>
+ *
+ * @param otherUserId        the other participant's user ID
+ * @param otherUserName      the other participant's display name
+ * @param productId          the product ID the conversation is about
+ * @param productName        the product name for display context
+ * @param lastMessageId      the ID of the last message
+ * @param lastMessagePreview the beginning of the last message
+ * @param lastSenderId       the ID of the user who sent the last message
+ * @param lastMessageAt      when the last message was sent
+ * @param unreadCount        the number of messages the user has not read
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public record ChatConversationResponse(
+        Long otherUserId,
+        String otherUserName,
+        Long productId,
+        String productName,
+        Long lastMessageId,
+        String lastMessagePreview,
+        Long lastSenderId,
+        LocalDateTime lastMessageAt,
+        int unreadCount
+) {
+}
@@ -0,0 +1,17 @@
+package com.kauanferreira.smartorder.dto.response;
+
+/**
+ * DTO pushed to a user over STOMP whenever their number of unread chat
+ * messages changes, for the unread badge.
+ *
+ * @param count the total number of unread messages
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public record ChatUnreadResponse(
+
+        int count
+) {
+}
@@ -0,0 +1,29 @@
+package com.kauanferreira.smartorder.dto.response;
+
+import java.util.List;
+
+/**
+ * One page of an admin grid.
+ *
+ * <p>No total count is computed, so the cost of a page does not depend on
+ * the size of the table.</p>
+ *
+ * @param content    the rows of the page
+ * @param size       the page size that was applied
+ * @param page       the page number in offset mode, {@code null} in keyset mode
+ * @param hasNext    whether more rows follow
+ * @param nextCursor the cursor of the next page, {@code null} on the last page
+ * @param <T>        the row type
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public record GridPageResponse<T>(
+        List<T> content,
+        int size,
+        Integer page,
+        boolean hasNext,
+        String nextCursor
+) {
+}
@@ -0,0 +1,33 @@
+package com.kauanferreira.smartorder.dto.response;
+
+import com.kauanferreira.smartorder.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * STOMP payload broadcast to {@code /local/admin/metrics} with the live
+ * business counters kept in memory.
+ *
+ * @param totalRevenue        sum of the total amount of every non-cancelled order
+ * @param totalOrders         number of orders in any status
+ * @param ordersByStatus      number of orders per status
+ * @param checkoutsLastMinute checkouts completed in the last 60 seconds
+ * @param activeCarts         number of users with at least one item in the cart
+ * @param timestamp           when the snapshot was taken
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public record LiveMetricsMessage(
+
+        BigDecimal totalRevenue,
+        long totalOrders,
+        Map<OrderStatus, Long> ordersByStatus,
+        long checkoutsLastMinute,
+        long activeCarts,
+        LocalDateTime timestamp
+) {
+}
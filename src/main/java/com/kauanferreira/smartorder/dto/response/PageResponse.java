@@ -0,0 +1,47 @@
+package com.kauanferreira.smartorder.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * One page of a list endpoint.
+ *
+ * <p>A slim replacement for serializing Spring's {@code PageImpl}: only the
+ * rows and what a client needs to fetch the next page. The total is present
+ * only when the client asked for it with {@code count=true}, because it costs
+ * an extra count query.</p>
+ *
+ * @param content       the rows of the page
+ * @param page          the zero-based page number
+ * @param size          the page size that was applied
+ * @param hasNext       whether more rows follow
+ * @param totalElements the number of rows across all pages, or {@code null} when not requested
+ * @param <T>           the row type
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public record PageResponse<T>(
+        List<T> content,
+        int page,
+        int size,
+        boolean hasNext,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Long totalElements
+) {
+
+    /**
+     * Builds the response from a slice. The total is included when the slice is a {@link Page}.
+     *
+     * @param slice the slice returned by the service
+     * @param <T>   the row type
+     * @return the page response
+     */
+    public static <T> PageResponse<T> of(Slice<T> slice) {
+        Long total = slice instanceof Page<T> page ? page.getTotalElements() : null;
+        return new PageResponse<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), total);
+    }
+}
@@ -0,0 +1,23 @@
+package com.kauanferreira.smartorder.dto.response;
+
+/**
+ * Everything the storefront product page needs to render, in one response.
+ *
+ * <p>The viewer-specific fields are {@code false} for anonymous visitors.</p>
+ *
+ * @param product   the product with its rating summary
+ * @param favorited whether the viewer has the product in their favorites
+ * @param purchased whether the viewer has bought the product, which allows them to review it
+ * @param reviews   the first page of the review feed, with the viewer's likes
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public record ProductViewResponse(
+        ProductResponse product,
+        boolean favorited,
+        boolean purchased,
+        GridPageResponse<ReviewFeedItemResponse> reviews
+) {
+}
@@ -0,0 +1,34 @@
+package com.kauanferreira.smartorder.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * One review of a product's review feed.
+ *
+ * <p>Unlike {@link ReviewResponse}, it carries only the reviewer's name and
+ * no product, since every review of the feed belongs to the same product.</p>
+ *
+ * @param id            the review unique identifier
+ * @param userId        the reviewer's id
+ * @param userName      the reviewer's name
+ * @param rating        the star rating (1-5)
+ * @param comment       the review comment text
+ * @param createdAt     the timestamp when the review was created
+ * @param likesCount    the number of likes on this review
+ * @param likedByViewer whether the authenticated user liked this review; always {@code false} for anonymous visitors
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public record ReviewFeedItemResponse(
+        Long id,
+        Long userId,
+        String userName,
+        Integer rating,
+        String comment,
+        LocalDateTime createdAt,
+        Integer likesCount,
+        boolean likedByViewer
+) {
+}
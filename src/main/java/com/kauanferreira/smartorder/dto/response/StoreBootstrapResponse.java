@@ -0,0 +1,33 @@
+package com.kauanferreira.smartorder.dto.response;
+
+import java.util.List;
+
+/**
+ * Everything the storefront home page needs on first load, in one response.
+ *
+ * <p>The catalog fields are shared by all visitors and may lag the database
+ * by a few seconds. The viewer-specific fields are {@code 0} and empty for
+ * anonymous visitors.</p>
+ *
+ * @param categories  the categories of the navbar
+ * @param featured    the featured carousel
+ * @param deals       the deals carousel
+ * @param lowStock    the low-stock carousel
+ * @param products    the first page of the product grid
+ * @param cartCount   the number of units in the viewer's cart
+ * @param favoriteIds the ids of the viewer's favorite products
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public record StoreBootstrapResponse(
+        List<CategoryResponse> categories,
+        List<ProductResponse> featured,
+        List<ProductResponse> deals,
+        List<ProductResponse> lowStock,
+        PageResponse<ProductResponse> products,
+        int cartCount,
+        List<Long> favoriteIds
+) {
+}
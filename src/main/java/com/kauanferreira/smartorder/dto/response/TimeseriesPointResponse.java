@@ -0,0 +1,25 @@
+package com.kauanferreira.smartorder.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO with the sales figures of one time bucket of a chart series.
+ *
+ * @param bucketStart the start of the hour or day the point covers
+ * @param orderCount  number of non-cancelled orders in the bucket
+ * @param units       number of units sold in the bucket
+ * @param revenue     revenue of the bucket
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public record TimeseriesPointResponse(
+
+        LocalDateTime bucketStart,
+        long orderCount,
+        long units,
+        BigDecimal revenue
+) {
+}
@@ -0,0 +1,41 @@
+package com.kauanferreira.smartorder.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO with the state of the STOMP broker of this instance, for operations.
+ *
+ * @param mode             {@code simple} or {@code relay}
+ * @param available        whether the broker accepts messages; in relay mode, whether the system connection is up
+ * @param lastChangeAt     when {@code available} last changed, or {@code null} if it never did
+ * @param outages          how many times the broker became unavailable since startup
+ * @param sessions         the open WebSocket and SockJS sessions
+ * @param stompConnect     the STOMP CONNECT frames received since startup
+ * @param stompConnected   the STOMP CONNECTED frames sent since startup
+ * @param stompDisconnect  the STOMP DISCONNECT frames received since startup
+ * @param relaySessions    the relay's open broker connections, or {@code null} in simple mode
+ * @param relayConnected   the CONNECTED frames the relay received from the broker, or {@code null} in simple mode
+ * @param inboundChannel   the state of the executor processing client messages
+ * @param outboundChannel  the state of the executor writing to clients
+ * @param chatWriteBacklog the number of delivered chat messages not yet written to the database
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public record WebSocketBrokerStatsResponse(
+        String mode,
+        boolean available,
+        LocalDateTime lastChangeAt,
+        long outages,
+        int sessions,
+        int stompConnect,
+        int stompConnected,
+        int stompDisconnect,
+        Integer relaySessions,
+        Integer relayConnected,
+        String inboundChannel,
+        String outboundChannel,
+        int chatWriteBacklog
+) {
+}
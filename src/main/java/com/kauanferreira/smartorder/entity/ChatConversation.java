@@ -0,0 +1,93 @@
+package com.kauanferreira.smartorder.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing one participant's side of a chat conversation, as
+ * shown in their inbox.
+ *
+ * <p>A conversation is every message between two users about one product.
+ * It has one row per participant, holding the last message and how many
+ * messages that participant has not read yet. Rows are written by
+ * {@link com.kauanferreira.smartorder.repository.ChatConversationRepository#upsertLastMessage}
+ * whenever a message is sent; {@link ChatMessage} stays the source of
+ * truth for the history.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see ChatMessage
+ */
+@Entity
+@Table(name = "tb_chat_conversation")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChatConversation {
+
+    /**
+     * Unique identifier for the row.
+     * Auto-generated by the database using BIGSERIAL.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The participant whose inbox this row belongs to.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    /**
+     * The other participant of the conversation.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "other_user_id", nullable = false)
+    private User otherUser;
+
+    /**
+     * The product the conversation is about.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
+
+    /**
+     * The id of the last message of the conversation.
+     */
+    @Column(name = "last_message_id", nullable = false)
+    private Long lastMessageId;
+
+    /**
+     * The beginning of the last message, at most 200 characters.
+     */
+    @Column(name = "last_message_preview", nullable = false, length = 200)
+    private String lastMessagePreview;
+
+    /**
+     * The id of the user who sent the last message.
+     */
+    @Column(name = "last_sender_id", nullable = false)
+    private Long lastSenderId;
+
+    /**
+     * When the last message was sent.
+     */
+    @Column(name = "last_message_at", nullable = false)
+    private LocalDateTime lastMessageAt;
+
+    /**
+     * How many messages of the conversation this participant has not read.
+     */
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount;
+}
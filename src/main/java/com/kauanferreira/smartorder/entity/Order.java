@@ -7,7 +7,6 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.CreationTimestamp;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -44,8 +43,8 @@ public class Order {
     /**
      * Timestamp of when the order was placed.
      * Automatically set on entity creation and cannot be updated.
+     * Also the partition key of {@code tb_order}.
      */
-    @CreationTimestamp
     @Column(name = "order_date", nullable = false, updatable = false)
     private LocalDateTime orderDate;
 
@@ -88,4 +87,18 @@ public class Order {
      */
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItem> items = new ArrayList<>();
+
+    /**
+     * Sets the order date before the first insert.
+     *
+     * <p>Assigned here (rather than by a generator) so the value is already on
+     * the entity when the cascaded {@link OrderItem}s copy it into their own
+     * partition key.</p>
+     */
+    @PrePersist
+    private void initOrderDate() {
+        if (orderDate == null) {
+            orderDate = LocalDateTime.now();
+        }
+    }
 }
@@ -9,6 +9,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 /**
  * Entity representing a single item within an {@link Order}.
@@ -78,4 +79,22 @@ public class OrderItem {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
+
+    /**
+     * Copy of the parent order's date.
+     * Part of the partition key of {@code tb_order_item}, so each item is stored
+     * in the same monthly partition as its order. Filled in automatically on insert.
+     */
+    @Column(name = "order_date", nullable = false, updatable = false)
+    private LocalDateTime orderDate;
+
+    /**
+     * Copies the order date from the parent order before the item is inserted.
+     */
+    @PrePersist
+    private void copyOrderDate() {
+        if (orderDate == null && order != null) {
+            orderDate = order.getOrderDate();
+        }
+    }
 }
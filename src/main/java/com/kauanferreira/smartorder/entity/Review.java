@@ -78,4 +78,12 @@ public class Review {
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
+
+    /**
+     * Number of likes, as last flushed by the like counter.
+     * Never written through JPA; likes recorded since the last flush are
+     * still pending in memory.
+     */
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false)
+    private int likeCount;
 }
@@ -0,0 +1,20 @@
+package com.kauanferreira.smartorder.enums;
+
+/**
+ * Kind of change in a batch cart request.
+ *
+ * <ul>
+ *   <li>{@link #ADD} — adds {@code quantity} of {@code productId}, merging with an existing line.</li>
+ *   <li>{@link #UPDATE} — sets the quantity of the line {@code cartItemId}.</li>
+ *   <li>{@link #REMOVE} — removes the line {@code cartItemId}.</li>
+ * </ul>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public enum CartOperationType {
+    ADD,
+    UPDATE,
+    REMOVE
+}
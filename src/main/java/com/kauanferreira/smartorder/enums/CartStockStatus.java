@@ -0,0 +1,24 @@
+package com.kauanferreira.smartorder.enums;
+
+/**
+ * Stock situation of one line of the shopping cart.
+ *
+ * <ul>
+ *   <li>{@link #IN_STOCK} — the quantity can be bought.</li>
+ *   <li>{@link #LOW_STOCK} — the quantity can be bought, but few units are left.</li>
+ *   <li>{@link #INSUFFICIENT_STOCK} — the quantity is larger than the units left.</li>
+ *   <li>{@link #OUT_OF_STOCK} — no units are left.</li>
+ *   <li>{@link #UNAVAILABLE} — the product was deactivated.</li>
+ * </ul>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public enum CartStockStatus {
+    IN_STOCK,
+    LOW_STOCK,
+    INSUFFICIENT_STOCK,
+    OUT_OF_STOCK,
+    UNAVAILABLE
+}
@@ -0,0 +1,27 @@
+package com.kauanferreira.smartorder.enums;
+
+/**
+ * Comparison operators accepted in admin grid filter expressions
+ * ({@code field:operator:value}).
+ *
+ * <ul>
+ *   <li>{@link #EQ}, {@link #NE} — equal / not equal.</li>
+ *   <li>{@link #LT}, {@link #LTE}, {@link #GT}, {@link #GTE} — ordered comparisons.</li>
+ *   <li>{@link #LIKE} — case-insensitive "contains", text fields only.</li>
+ *   <li>{@link #IN} — any of several values separated by {@code |}.</li>
+ * </ul>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public enum GridOperator {
+    EQ,
+    NE,
+    LT,
+    LTE,
+    GT,
+    GTE,
+    LIKE,
+    IN
+}
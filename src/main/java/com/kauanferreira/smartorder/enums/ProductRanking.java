@@ -0,0 +1,18 @@
+package com.kauanferreira.smartorder.enums;
+
+/**
+ * Storefront product rankings kept by the in-memory heavy-hitter sketches.
+ *
+ * <ul>
+ *   <li>{@link #BEST_SELLERS} — units sold, decaying slowly (half-life of days).</li>
+ *   <li>{@link #TRENDING} — units sold, decaying quickly (half-life of hours).</li>
+ * </ul>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public enum ProductRanking {
+    BEST_SELLERS,
+    TRENDING
+}
@@ -0,0 +1,21 @@
+package com.kauanferreira.smartorder.enums;
+
+/**
+ * Order of a product's review feed. Every order ends with the newest review
+ * first and then the review id, so pages never repeat or skip a review.
+ *
+ * <ul>
+ *   <li>{@link #NEWEST} — most recent first.</li>
+ *   <li>{@link #RATING} — highest star rating first.</li>
+ *   <li>{@link #HELPFUL} — most helpful first, ranked by likes.</li>
+ * </ul>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public enum ReviewSort {
+    NEWEST,
+    RATING,
+    HELPFUL
+}
@@ -0,0 +1,20 @@
+package com.kauanferreira.smartorder.enums;
+
+/**
+ * What a sales rollup row is aggregated by.
+ *
+ * <ul>
+ *   <li>{@link #TOTAL} — the whole store (dimension id is always 0).</li>
+ *   <li>{@link #CATEGORY} — one category (dimension id is the category id).</li>
+ *   <li>{@link #PRODUCT} — one product (dimension id is the product id).</li>
+ * </ul>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public enum RollupDimension {
+    TOTAL,
+    CATEGORY,
+    PRODUCT
+}
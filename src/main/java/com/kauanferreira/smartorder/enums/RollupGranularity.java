@@ -0,0 +1,18 @@
+package com.kauanferreira.smartorder.enums;
+
+/**
+ * Time bucket size of the sales rollups.
+ *
+ * <ul>
+ *   <li>{@link #HOUR} — one bucket per hour ({@code tb_sales_rollup_hourly}).</li>
+ *   <li>{@link #DAY} — one bucket per calendar day ({@code tb_sales_rollup_daily}).</li>
+ * </ul>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public enum RollupGranularity {
+    HOUR,
+    DAY
+}
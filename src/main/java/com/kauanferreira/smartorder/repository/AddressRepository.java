@@ -3,11 +3,13 @@ package com.kauanferreira.smartorder.repository;
 import com.kauanferreira.smartorder.entity.Address;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +35,16 @@ public interface AddressRepository extends JpaRepository<Address, Long> {
     @Query(value = "SELECT a FROM Address a JOIN FETCH a.user",
             countQuery = "SELECT COUNT(a) FROM Address a")
     Page<Address> findAll(Pageable pageable);
+
+    /**
+     * Retrieves one slice of all addresses, without a count query.
+     *
+     * @param pageable the page to fetch
+     * @return a slice of addresses with their users
+     */
+    @Query("SELECT a FROM Address a JOIN FETCH a.user")
+    Slice<Address> findAllBy(Pageable pageable);
+
     /**
      * Finds all addresses belonging to a specific user.
      *
@@ -43,31 +55,68 @@ public interface AddressRepository extends JpaRepository<Address, Long> {
     List<Address> findByUserId(@Param("userId") Long userId);
 
     /**
-     * Finds addresses by city, ignoring case.
+     * Finds the addresses with the given IDs, in no particular order.
+     * Eagerly loads the user to avoid LazyInitializationException during DTO mapping.
      *
-     * @param city the city name to search for
-     * @return a list of addresses in the given city
+     * @param ids the address IDs
+     * @return the addresses whose ID is in the list
+     */
+    @Query("SELECT a FROM Address a JOIN FETCH a.user WHERE a.id IN :ids")
+    List<Address> findWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Finds one slice of the addresses in a city, ignoring case.
+     *
+     * @param city     the city name to search for
+     * @param pageable the page to fetch
+     * @return a slice of addresses in the given city
      */
     @Query("SELECT a FROM Address a JOIN FETCH a.user WHERE LOWER(a.city) = LOWER(:city)")
-    List<Address> findByCityIgnoreCase(@Param("city") String city);
+    Slice<Address> findByCityIgnoreCase(@Param("city") String city, Pageable pageable);
+
+    /**
+     * Counts the addresses in a city, ignoring case.
+     *
+     * @param city the city name
+     * @return the number of addresses in the given city
+     */
+    long countByCityIgnoreCase(String city);
 
     /**
-     * Finds addresses by state, ignoring case.
+     * Finds one slice of the addresses in a state, ignoring case.
      *
-     * @param state the state name to search for
-     * @return a list of addresses in the given state
+     * @param state    the state name to search for
+     * @param pageable the page to fetch
+     * @return a slice of addresses in the given state
      */
     @Query("SELECT a FROM Address a JOIN FETCH a.user WHERE LOWER(a.state) = LOWER(:state)")
-    List<Address> findByStateIgnoreCase(@Param("state") String state);
+    Slice<Address> findByStateIgnoreCase(@Param("state") String state, Pageable pageable);
 
     /**
-     * Finds addresses by zip code.
+     * Counts the addresses in a state, ignoring case.
      *
-     * @param zipCode the zip code to search for
-     * @return a list of addresses with the given zip code
+     * @param state the state name
+     * @return the number of addresses in the given state
+     */
+    long countByStateIgnoreCase(String state);
+
+    /**
+     * Finds one slice of the addresses with a zip code.
+     *
+     * @param zipCode  the zip code to search for
+     * @param pageable the page to fetch
+     * @return a slice of addresses with the given zip code
      */
     @Query("SELECT a FROM Address a JOIN FETCH a.user WHERE a.zipCode = :zipCode")
-    List<Address> findByZipCode(@Param("zipCode") String zipCode);
+    Slice<Address> findByZipCode(@Param("zipCode") String zipCode, Pageable pageable);
+
+    /**
+     * Counts the addresses with a zip code.
+     *
+     * @param zipCode the zip code
+     * @return the number of addresses with the given zip code
+     */
+    long countByZipCode(String zipCode);
 
     /**
      * Counts how many addresses a user has.
@@ -53,4 +53,12 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
      * @param userId the ID of the user
      */
     void deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * Counts the users that currently have at least one item in their cart.
+     *
+     * @return the number of active carts
+     */
+    @Query("SELECT COUNT(DISTINCT ci.user.id) FROM CartItem ci")
+    long countActiveCarts();
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.kauanferreira.smartorder.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JDBC repository behind the in-memory cart store.
+ *
+ * <p>Loads a cart once when it is first touched and receives the batched
+ * write-behind flushes. Individual cart clicks never reach this repository.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+@Repository
+@RequiredArgsConstructor
+public class CartStoreRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * One row of {@code tb_cart_item}.
+     *
+     * @param id        the cart item id
+     * @param userId    the owner of the cart
+     * @param productId the product in the cart
+     * @param quantity  the quantity
+     * @param addedAt   when the product was first added
+     */
+    public record CartRow(long id, long userId, long productId, int quantity, LocalDateTime addedAt) {
+    }
+
+    /**
+     * Reads every item of one cart, oldest first.
+     *
+     * @param userId the owner of the cart
+     * @return the stored rows
+     */
+    public List<CartRow> findByUserId(long userId) {
+        return jdbcTemplate.query("""
+                        SELECT id, user_id, product_id, quantity, added_at
+                        FROM tb_cart_item
+                        WHERE user_id = ?
+                        ORDER BY added_at, id
+                        """,
+                (rs, rowNum) -> new CartRow(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getInt(4),
+                        rs.getTimestamp(5).toLocalDateTime()),
+                userId);
+    }
+
+    /**
+     * Reserves a block of ids from the {@code tb_cart_item} sequence, so items
+     * created in memory keep the same id once they are written.
+     *
+     * @param count the number of ids to reserve
+     * @return the reserved ids
+     */
+    public long[] nextIds(int count) {
+        return jdbcTemplate.queryForList(
+                        "SELECT nextval(pg_get_serial_sequence('tb_cart_item', 'id')) FROM generate_series(1, ?)",
+                        Long.class, count)
+                .stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    /**
+     * Applies one flush: deletes the removed items, then upserts the current ones.
+     *
+     * <p>Deletes run first so a product removed and added again within one
+     * flush interval does not collide with its old row on
+     * {@code uk_cart_item_user_product}.</p>
+     *
+     * @param deletedIds the ids of items removed since the last flush
+     * @param rows       the items added or changed since the last flush
+     */
+    @Transactional
+    public void write(Collection<Long> deletedIds, Collection<CartRow> rows) {
+        if (!deletedIds.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM tb_cart_item WHERE id = ?",
+                    deletedIds.stream().map(id -> new Object[]{id}).toList());
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("""
+                            INSERT INTO tb_cart_item (id, user_id, product_id, quantity, added_at)
+                            VALUES (?, ?, ?, ?, ?)
+                            ON CONFLICT (id) DO UPDATE SET quantity = EXCLUDED.quantity
+                            """,
+                    rows.stream()
+                            .map(row -> new Object[]{row.id(), row.userId(), row.productId(), row.quantity(),
+                                    Timestamp.valueOf(row.addedAt())})
+                            .toList());
+        }
+    }
+}
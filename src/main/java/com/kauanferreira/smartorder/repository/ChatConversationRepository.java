@@ -0,0 +1,111 @@
+package com.kauanferreira.smartorder.repository;
+
+import com.kauanferreira.smartorder.entity.ChatConversation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for {@link ChatConversation} entity.
+ *
+ * <p>Maintains and reads the denormalized chat inbox. Every read is limited
+ * to one user's rows, so its cost depends on how many conversations the
+ * user has, not on how many messages were ever exchanged.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+@Repository
+public interface ChatConversationRepository extends JpaRepository<ChatConversation, Long> {
+
+    /**
+     * Records a new last message on both participants' rows of a
+     * conversation, creating them on the first message, and adds to each
+     * participant's unread count.
+     *
+     * <p>Runs as a single statement. Callers pass the participant with the
+     * smaller id as {@code userA}, so concurrent sends in both directions
+     * lock the two rows in the same order.</p>
+     *
+     * @param userA         the participant with the smaller id
+     * @param userB         the participant with the larger id
+     * @param unreadA       how much to add to {@code userA}'s unread count
+     * @param unreadB       how much to add to {@code userB}'s unread count
+     * @param productId     the ID of the product
+     * @param messageId     the ID of the new message
+     * @param preview       the beginning of the new message
+     * @param senderId      the ID of the sender
+     * @param sentAt        when the message was sent
+     * @return the number of rows inserted or updated
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tb_chat_conversation (user_id, other_user_id, product_id, last_message_id, " +
+            "last_message_preview, last_sender_id, last_message_at, unread_count) " +
+            "VALUES (:userA, :userB, :productId, :messageId, :preview, :senderId, :sentAt, :unreadA), " +
+            "(:userB, :userA, :productId, :messageId, :preview, :senderId, :sentAt, :unreadB) " +
+            "ON CONFLICT ON CONSTRAINT uk_chat_conversation_participant DO UPDATE SET " +
+            "last_message_id = EXCLUDED.last_message_id, " +
+            "last_message_preview = EXCLUDED.last_message_preview, " +
+            "last_sender_id = EXCLUDED.last_sender_id, " +
+            "last_message_at = EXCLUDED.last_message_at, " +
+            "unread_count = tb_chat_conversation.unread_count + EXCLUDED.unread_count", nativeQuery = true)
+    int upsertLastMessage(@Param("userA") Long userA,
+                          @Param("userB") Long userB,
+                          @Param("unreadA") int unreadA,
+                          @Param("unreadB") int unreadB,
+                          @Param("productId") Long productId,
+                          @Param("messageId") Long messageId,
+                          @Param("preview") String preview,
+                          @Param("senderId") Long senderId,
+                          @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * Finds one slice of a user's inbox, most recent conversation first.
+     * Eagerly fetches the other participant and the product.
+     *
+     * @param userId   the ID of the user
+     * @param pageable the page to fetch
+     * @return a slice of the user's conversations
+     */
+    @Query("SELECT c FROM ChatConversation c " +
+            "JOIN FETCH c.otherUser " +
+            "JOIN FETCH c.product " +
+            "WHERE c.user.id = :userId " +
+            "ORDER BY c.lastMessageAt DESC, c.id DESC")
+    Slice<ChatConversation> findInbox(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Sums a user's unread messages across all their conversations.
+     *
+     * @param userId the ID of the user
+     * @return the number of unread messages
+     */
+    @Query("SELECT COALESCE(SUM(c.unreadCount), 0) FROM ChatConversation c " +
+            "WHERE c.user.id = :userId AND c.unreadCount > 0")
+    long sumUnread(@Param("userId") Long userId);
+
+    /**
+     * Resets a participant's unread count for one conversation.
+     *
+     * @param userId      the ID of the participant who read the conversation
+     * @param otherUserId the ID of the other participant
+     * @param productId   the ID of the product
+     * @return the number of rows updated (0 if nothing was unread)
+     */
+    @Modifying
+    @Query("UPDATE ChatConversation c SET c.unreadCount = 0 " +
+            "WHERE c.user.id = :userId " +
+            "AND c.otherUser.id = :otherUserId " +
+            "AND c.product.id = :productId " +
+            "AND c.unreadCount > 0")
+    int markAsRead(@Param("userId") Long userId,
+                   @Param("otherUserId") Long otherUserId,
+                   @Param("productId") Long productId);
+}
@@ -1,14 +1,14 @@
 package com.kauanferreira.smartorder.repository;
 
 import com.kauanferreira.smartorder.entity.ChatMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-
 /**
  * Repository interface for {@link ChatMessage} entity.
  *
@@ -23,46 +23,63 @@ import java.util.List;
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
     /**
-     * Finds all messages between two users about a specific product.
-     * Returns messages in chronological order (oldest first).
-     * Eagerly fetches sender, receiver, and product to avoid LazyInitializationException.
+     * Finds the messages of a conversation sent before a given message,
+     * newest first, so the first slice is the end of the conversation and
+     * each following slice continues further back in time.
+     *
+     * <p>Both directions of the conversation are matched on the ordered
+     * pair of user ids, which {@code idx_chat_message_pair} indexes together
+     * with the product and the message id, so a slice is read straight from
+     * the index however long the conversation is.</p>
      *
-     * @param userId1   the ID of one user in the conversation
-     * @param userId2   the ID of the other user
-     * @param productId the ID of the product
-     * @return a list of messages ordered by sent date ascending
+     * @param lowUserId  the smaller of the two user ids
+     * @param highUserId the larger of the two user ids
+     * @param productId  the ID of the product
+     * @param beforeId   only messages with a smaller id are returned
+     * @param pageable   the slice size; the page number must be 0
+     * @return a slice of messages ordered by id descending
      */
     @Query("SELECT m FROM ChatMessage m " +
             "JOIN FETCH m.sender " +
             "JOIN FETCH m.receiver " +
             "JOIN FETCH m.product " +
-            "WHERE ((m.sender.id = :userId1 AND m.receiver.id = :userId2) " +
-            "OR (m.sender.id = :userId2 AND m.receiver.id = :userId1)) " +
-            "AND m.product.id = :productId " +
-            "ORDER BY m.sentAt ASC")
-    List<ChatMessage> findConversation(@Param("userId1") Long userId1,
-                                       @Param("userId2") Long userId2,
-                                       @Param("productId") Long productId);
+            "WHERE m.product.id = :productId " +
+            "AND least(m.sender.id, m.receiver.id) = :lowUserId " +
+            "AND greatest(m.sender.id, m.receiver.id) = :highUserId " +
+            "AND m.id < :beforeId " +
+            "ORDER BY m.id DESC")
+    Slice<ChatMessage> findConversationBefore(@Param("lowUserId") Long lowUserId,
+                                              @Param("highUserId") Long highUserId,
+                                              @Param("productId") Long productId,
+                                              @Param("beforeId") Long beforeId,
+                                              Pageable pageable);
 
     /**
-     * Finds the most recent message for each unique conversation the user is involved in.
-     * Used to build the conversations list (like WhatsApp/Shopee chat list).
-     * Eagerly fetches sender, receiver, and product.
+     * Finds the messages of a conversation sent after a given message,
+     * oldest first. Used by clients that reconnect to fetch only what they
+     * missed.
      *
-     * @param userId the ID of the user
-     * @return a list of the latest message from each conversation
+     * @param lowUserId  the smaller of the two user ids
+     * @param highUserId the larger of the two user ids
+     * @param productId  the ID of the product
+     * @param afterId    only messages with a larger id are returned
+     * @param pageable   the slice size; the page number must be 0
+     * @return a slice of messages ordered by id ascending
      */
     @Query("SELECT m FROM ChatMessage m " +
             "JOIN FETCH m.sender " +
             "JOIN FETCH m.receiver " +
             "JOIN FETCH m.product " +
-            "WHERE m.id IN (" +
-            "   SELECT MAX(m2.id) FROM ChatMessage m2 " +
-            "   WHERE m2.sender.id = :userId OR m2.receiver.id = :userId " +
-            "   GROUP BY CASE WHEN m2.sender.id = :userId THEN m2.receiver.id ELSE m2.sender.id END, m2.product.id" +
-            ") " +
-            "ORDER BY m.sentAt DESC")
-    List<ChatMessage> findUserConversations(@Param("userId") Long userId);
+            "WHERE m.product.id = :productId " +
+            "AND least(m.sender.id, m.receiver.id) = :lowUserId " +
+            "AND greatest(m.sender.id, m.receiver.id) = :highUserId " +
+            "AND m.id > :afterId " +
+            "ORDER BY m.id ASC")
+    Slice<ChatMessage> findConversationAfter(@Param("lowUserId") Long lowUserId,
+                                             @Param("highUserId") Long highUserId,
+                                             @Param("productId") Long productId,
+                                             @Param("afterId") Long afterId,
+                                             Pageable pageable);
 
     /**
      * Marks all unread messages in a conversation as read.
@@ -0,0 +1,162 @@
+package com.kauanferreira.smartorder.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JDBC repository behind the write-behind chat message writer.
+ *
+ * <p>Receives the messages of one flush, already validated and with their
+ * ids assigned, and writes them with multi-row inserts together with the
+ * inbox rows of every conversation they touch. Individual sends never reach
+ * this repository.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageWriteRepository {
+
+    /** Rows per {@code INSERT} statement, well below the driver's bind parameter limit. */
+    private static final int ROWS_PER_INSERT = 500;
+
+    /** Length of {@code tb_chat_conversation.last_message_preview}. */
+    private static final int PREVIEW_LENGTH = 200;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatConversationRepository chatConversationRepository;
+
+    /**
+     * One row of {@code tb_chat_message}.
+     *
+     * @param id         the message id, reserved with {@link #nextIds(int)}
+     * @param senderId   the sender's id
+     * @param receiverId the receiver's id
+     * @param productId  the product the conversation is about
+     * @param message    the message text
+     * @param sentAt     when the message was sent
+     */
+    public record MessageRow(long id, long senderId, long receiverId, long productId, String message,
+                             LocalDateTime sentAt) {
+    }
+
+    /**
+     * Reserves a block of ids from the {@code tb_chat_message} sequence, so
+     * messages delivered before they are written keep the same id once they are.
+     *
+     * @param count the number of ids to reserve
+     * @return the reserved ids
+     */
+    public long[] nextIds(int count) {
+        return jdbcTemplate.queryForList(
+                        "SELECT nextval(pg_get_serial_sequence('tb_chat_message', 'id')) FROM generate_series(1, ?)",
+                        Long.class, count)
+                .stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    /**
+     * Writes one flush: inserts the messages, then records the last message
+     * of each conversation on both participants' inbox rows and adds the new
+     * messages to the receivers' unread counts.
+     *
+     * <p>Messages already stored (a flush retried after its commit was not
+     * acknowledged) are not inserted twice; their unread counts may be, and
+     * are reset the next time the conversation is read. Conversations are
+     * upserted in a fixed order, so concurrent flushes lock inbox rows in the
+     * same order.</p>
+     *
+     * @param rows the messages, in id order
+     */
+    @Transactional
+    public void write(List<MessageRow> rows) {
+        for (int from = 0; from < rows.size(); from += ROWS_PER_INSERT) {
+            insert(rows.subList(from, Math.min(from + ROWS_PER_INSERT, rows.size())));
+        }
+
+        for (Conversation conversation : conversations(rows)) {
+            MessageRow last = conversation.last;
+            chatConversationRepository.upsertLastMessage(
+                    conversation.userA, conversation.userB,
+                    conversation.unreadA, conversation.unreadB,
+                    conversation.productId, last.id(), preview(last.message()), last.senderId(), last.sentAt());
+        }
+    }
+
+    private void insert(List<MessageRow> chunk) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO tb_chat_message (id, sender_id, receiver_id, product_id, message, sent_at, is_read) VALUES ");
+        List<Object> args = new ArrayList<>(chunk.size() * 6);
+        for (int i = 0; i < chunk.size(); i++) {
+            MessageRow row = chunk.get(i);
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?, FALSE)");
+            args.add(row.id());
+            args.add(row.senderId());
+            args.add(row.receiverId());
+            args.add(row.productId());
+            args.add(row.message());
+            args.add(Timestamp.valueOf(row.sentAt()));
+        }
+        sql.append(" ON CONFLICT (id) DO NOTHING");
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    /**
+     * Groups the messages by conversation, ordered by participants and
+     * product, keeping each conversation's last message and unread counts.
+     */
+    private static Collection<Conversation> conversations(List<MessageRow> rows) {
+        Map<List<Long>, Conversation> conversations = new TreeMap<>(Comparator
+                .<List<Long>, Long>comparing(key -> key.get(0))
+                .thenComparing(key -> key.get(1))
+                .thenComparing(key -> key.get(2)));
+        for (MessageRow row : rows) {
+            long userA = Math.min(row.senderId(), row.receiverId());
+            long userB = Math.max(row.senderId(), row.receiverId());
+            Conversation conversation = conversations.computeIfAbsent(List.of(userA, userB, row.productId()),
+                    key -> new Conversation(userA, userB, row.productId()));
+            if (row.receiverId() == userA) {
+                conversation.unreadA++;
+            } else {
+                conversation.unreadB++;
+            }
+            if (conversation.last == null || row.id() > conversation.last.id()) {
+                conversation.last = row;
+            }
+        }
+        return conversations.values();
+    }
+
+    private static String preview(String message) {
+        return message.length() <= PREVIEW_LENGTH ? message : message.substring(0, PREVIEW_LENGTH);
+    }
+
+    private static final class Conversation {
+        private final long userA;
+        private final long userB;
+        private final long productId;
+        private int unreadA;
+        private int unreadB;
+        private MessageRow last;
+
+        private Conversation(long userA, long userB, long productId) {
+            this.userA = userA;
+            this.userB = userB;
+            this.productId = productId;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.kauanferreira.smartorder.repository;
 
 import com.kauanferreira.smartorder.entity.Favorite;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -35,6 +36,15 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     @Query("SELECT f FROM Favorite f JOIN FETCH f.product p JOIN FETCH p.category WHERE f.user.id = :userId")
     List<Favorite> findByUserId(@Param("userId") Long userId);
 
+    /**
+     * Finds the IDs of the products a user has favorited, without loading the products.
+     *
+     * @param userId the ID of the user
+     * @return the favorited product IDs, in no particular order
+     */
+    @Query("SELECT f.product.id FROM Favorite f WHERE f.user.id = :userId")
+    List<Long> findProductIdsByUserId(@Param("userId") Long userId);
+
     /**
      * Finds a favorite by user ID and product ID.
      * Used to check if a product is already favorited.
@@ -48,10 +58,13 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
 
     /**
      * Deletes a favorite by user ID and product ID.
-     * Used for unfavoriting a product.
+     * Used for unfavoriting a product. Runs as a single DELETE statement.
      *
      * @param userId    the ID of the user
      * @param productId the ID of the product
+     * @return the number of favorites deleted (0 or 1)
      */
-    void deleteByUserIdAndProductId(@Param("userId") Long userId, @Param("productId") Long productId);
+    @Modifying
+    @Query("DELETE FROM Favorite f WHERE f.user.id = :userId AND f.product.id = :productId")
+    int deleteByUserIdAndProductId(@Param("userId") Long userId, @Param("productId") Long productId);
 }
\ No newline at end of file
@@ -0,0 +1,268 @@
+package com.kauanferreira.smartorder.repository;
+
+import com.kauanferreira.smartorder.entity.Address;
+import com.kauanferreira.smartorder.entity.Order;
+import com.kauanferreira.smartorder.entity.OrderItem;
+import com.kauanferreira.smartorder.entity.Product;
+import com.kauanferreira.smartorder.entity.User;
+import com.kauanferreira.smartorder.enums.OrderStatus;
+import com.kauanferreira.smartorder.exception.BusinessRuleException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC repository for the read-only order history of a customer.
+ *
+ * <p>Reads {@code vw_order_history} / {@code vw_order_item_history}, so
+ * orders in months that {@code OrderPartitionMaintenanceJob} moved to the
+ * archive tables are still found by id and still listed in a customer's
+ * orders. The {@link Order} entity is mapped to {@code tb_order} only and
+ * cannot be loaded from the views, so every method returns new, detached
+ * {@link Order} and {@link OrderItem} instances built from the rows. Their
+ * user, address and products are managed entities loaded in bulk (one query
+ * each), with the associations the response mappers read already fetched.</p>
+ *
+ * <p>The instances are for reading only: saving one would insert a new order.
+ * Writes keep going through {@link OrderRepository}, which only sees the hot
+ * tables; archived orders are closed and never change.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see OrderRepository
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderHistoryRepository {
+
+    private static final String SELECT_ORDERS =
+            "SELECT id, order_date, status, total_amount, user_id, address_id FROM vw_order_history ";
+
+    /** Sortable {@link Order} properties and their view columns. */
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "orderDate", "order_date",
+            "status", "status",
+            "totalAmount", "total_amount"
+    );
+
+    private static final RowMapper<Order> ORDER_ROW = (rs, rowNum) -> {
+        User user = new User();
+        user.setId(rs.getLong("user_id"));
+        Address address = new Address();
+        address.setId(rs.getLong("address_id"));
+        return new Order(rs.getLong("id"), rs.getTimestamp("order_date").toLocalDateTime(),
+                OrderStatus.valueOf(rs.getString("status")), rs.getBigDecimal("total_amount"),
+                user, address, new ArrayList<>());
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final AddressRepository addressRepository;
+    private final ProductRepository productRepository;
+
+    /**
+     * Finds an order by id, whether it is in the hot or the archived months.
+     *
+     * @param id the order id
+     * @return the order with its user, address and items, or empty if none
+     */
+    public Optional<Order> findById(Long id) {
+        List<Order> orders = jdbcTemplate.query(SELECT_ORDERS + "WHERE id = ?", ORDER_ROW, id);
+        return withDetails(orders).stream().findFirst();
+    }
+
+    /**
+     * Finds one slice of the orders placed by a user, newest first.
+     *
+     * @param userId   the ID of the user
+     * @param pageable the page to fetch; its sort breaks ties between orders of the same date
+     * @return a slice of the user's orders, archived months included
+     */
+    public Slice<Order> findByUserId(Long userId, Pageable pageable) {
+        return findSlice("WHERE user_id = ?", Sort.by(Sort.Order.desc("orderDate")).and(pageable.getSort()),
+                pageable, userId);
+    }
+
+    /**
+     * Finds one slice of the orders of a user with a specific status.
+     *
+     * @param userId   the ID of the user
+     * @param status   the order status to filter by
+     * @param pageable the page to fetch
+     * @return a slice of matching orders, archived months included
+     * @throws BusinessRuleException if the page is sorted by an unsupported property
+     */
+    public Slice<Order> findByUserIdAndStatus(Long userId, OrderStatus status, Pageable pageable) {
+        return findSlice("WHERE user_id = ? AND status = ?", pageable.getSort(), pageable,
+                userId, status.name());
+    }
+
+    /**
+     * Counts the orders a user has placed, archived months included.
+     *
+     * @param userId the ID of the user
+     * @return the number of orders for the given user
+     */
+    public long countByUserId(Long userId) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM vw_order_history WHERE user_id = ?", Long.class, userId);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Counts the orders of a user with a specific status, archived months included.
+     *
+     * @param userId the ID of the user
+     * @param status the order status
+     * @return the number of matching orders
+     */
+    public long countByUserIdAndStatus(Long userId, OrderStatus status) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM vw_order_history WHERE user_id = ? AND status = ?",
+                Long.class, userId, status.name());
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Reads {@code size + 1} rows to learn whether another page follows,
+     * so no count query is issued.
+     */
+    private Slice<Order> findSlice(String where, Sort sort, Pageable pageable, Object... args) {
+        String sql = SELECT_ORDERS + where + orderBy(sort);
+        if (pageable.isPaged()) {
+            sql += " LIMIT " + (pageable.getPageSize() + 1) + " OFFSET " + pageable.getOffset();
+        }
+        List<Order> orders = jdbcTemplate.query(sql, ORDER_ROW, args);
+        boolean hasNext = pageable.isPaged() && orders.size() > pageable.getPageSize();
+        if (hasNext) {
+            orders = orders.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(withDetails(orders), pageable, hasNext);
+    }
+
+    /**
+     * Translates a sort into an ORDER BY clause, always ending with the id
+     * so rows of equal sort values keep a stable order across pages.
+     */
+    private static String orderBy(Sort sort) {
+        List<String> terms = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new BusinessRuleException(String.format(
+                        "Orders cannot be sorted by %s", order.getProperty()));
+            }
+            if (seen.add(column)) {
+                terms.add(column + (order.isAscending() ? " ASC" : " DESC"));
+            }
+        }
+        if (seen.add("id")) {
+            terms.add("id DESC");
+        }
+        return " ORDER BY " + String.join(", ", terms);
+    }
+
+    /**
+     * Attaches the items, products, user and address of each order.
+     */
+    private List<Order> withDetails(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return orders;
+        }
+
+        Map<Long, Order> byId = new HashMap<>();
+        for (Order order : orders) {
+            byId.put(order.getId(), order);
+        }
+        for (OrderItem item : findItems(orders)) {
+            Order order = byId.get(item.getOrder().getId());
+            item.setOrder(order);
+            order.getItems().add(item);
+        }
+
+        Map<Long, Address> addresses = addressRepository.findWithUserByIdIn(
+                        ids(orders, order -> order.getAddress().getId())).stream()
+                .collect(Collectors.toMap(Address::getId, Function.identity()));
+        Map<Long, User> users = new HashMap<>();
+        for (Address address : addresses.values()) {
+            users.put(address.getUser().getId(), address.getUser());
+        }
+        Set<Long> missingUsers = ids(orders, order -> order.getUser().getId());
+        missingUsers.removeAll(users.keySet());
+        if (!missingUsers.isEmpty()) {
+            userRepository.findAllById(missingUsers).forEach(user -> users.put(user.getId(), user));
+        }
+
+        List<OrderItem> items = orders.stream().flatMap(order -> order.getItems().stream()).toList();
+        Map<Long, Product> products = items.isEmpty()
+                ? Collections.emptyMap()
+                : productRepository.findWithCategoryByIdIn(ids(items, item -> item.getProduct().getId())).stream()
+                        .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        for (Order order : orders) {
+            order.setUser(users.get(order.getUser().getId()));
+            order.setAddress(addresses.get(order.getAddress().getId()));
+            for (OrderItem item : order.getItems()) {
+                item.setProduct(products.get(item.getProduct().getId()));
+            }
+        }
+        return orders;
+    }
+
+    /**
+     * Loads the items of the given orders, bounded by their oldest and newest
+     * order date so PostgreSQL prunes every other monthly partition.
+     */
+    private List<OrderItem> findItems(List<Order> orders) {
+        List<Object> args = new ArrayList<>();
+        for (Order order : orders) {
+            args.add(order.getId());
+        }
+        args.add(Timestamp.valueOf(orders.stream().map(Order::getOrderDate)
+                .min(Comparator.naturalOrder()).orElseThrow()));
+        args.add(Timestamp.valueOf(orders.stream().map(Order::getOrderDate)
+                .max(Comparator.naturalOrder()).orElseThrow()));
+
+        String placeholders = String.join(", ", Collections.nCopies(orders.size(), "?"));
+        return jdbcTemplate.query("""
+                SELECT id, quantity, price, subtotal, order_id, order_date, product_id
+                FROM vw_order_item_history
+                WHERE order_id IN (%s) AND order_date >= ? AND order_date <= ?
+                ORDER BY id
+                """.formatted(placeholders), (rs, rowNum) -> {
+            Order order = new Order();
+            order.setId(rs.getLong("order_id"));
+            Product product = new Product();
+            product.setId(rs.getLong("product_id"));
+            LocalDateTime orderDate = rs.getTimestamp("order_date").toLocalDateTime();
+            return new OrderItem(rs.getLong("id"), rs.getInt("quantity"), rs.getBigDecimal("price"),
+                    rs.getBigDecimal("subtotal"), order, product, orderDate);
+        }, args.toArray());
+    }
+
+    private static <T> Set<Long> ids(List<T> rows, Function<T, Long> id) {
+        return rows.stream().map(id).collect(Collectors.toCollection(HashSet::new));
+    }
+}
@@ -3,6 +3,7 @@ package com.kauanferreira.smartorder.repository;
 import com.kauanferreira.smartorder.entity.OrderItem;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -24,9 +25,6 @@ import java.util.Optional;
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
 
-    @Query("SELECT oi FROM OrderItem oi JOIN FETCH oi.product p JOIN FETCH p.category JOIN FETCH oi.order o JOIN FETCH o.user JOIN FETCH o.address a JOIN FETCH a.user")
-    List<OrderItem> findAll();
-
     @Query("SELECT oi FROM OrderItem oi JOIN FETCH oi.product p JOIN FETCH p.category JOIN FETCH oi.order o " +
             "JOIN FETCH o.user JOIN FETCH o.address a JOIN FETCH a.user WHERE oi.id = :id")
     Optional<OrderItem> findById(@Param("id") Long id);
@@ -35,6 +33,17 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
             "JOIN FETCH p.category JOIN FETCH oi.order o JOIN FETCH o.user JOIN FETCH o.address a JOIN FETCH a.user",
             countQuery = "SELECT COUNT(oi) FROM OrderItem oi")
     Page<OrderItem> findAll(Pageable pageable);
+
+    /**
+     * Finds one slice of all order items, without a count query.
+     *
+     * @param pageable the page to fetch
+     * @return a slice of order items
+     */
+    @Query("SELECT oi FROM OrderItem oi JOIN FETCH oi.product p JOIN FETCH p.category " +
+            "JOIN FETCH oi.order o JOIN FETCH o.user JOIN FETCH o.address a JOIN FETCH a.user")
+    Slice<OrderItem> findAllBy(Pageable pageable);
+
     /**
      * Finds all items belonging to a specific order.
      *
@@ -46,15 +55,34 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     List<OrderItem> findByOrderId(@Param("orderId") Long orderId);
 
     /**
-     * Finds all order items referencing a specific product.
+     * Finds the items of several orders with their products, in one query.
+     * Used to fill a page of orders without one query per order.
+     *
+     * @param orderIds the IDs of the orders
+     * @return the items of the given orders
+     */
+    @Query("SELECT oi FROM OrderItem oi JOIN FETCH oi.product p JOIN FETCH p.category WHERE oi.order.id IN :orderIds")
+    List<OrderItem> findByOrderIdIn(@Param("orderIds") List<Long> orderIds);
+
+    /**
+     * Finds one slice of the order items referencing a specific product.
      * Useful for analytics and stock management.
      *
      * @param productId the ID of the product
-     * @return a list of order items containing the given product
+     * @param pageable  the page to fetch
+     * @return a slice of order items containing the given product
      */
     @Query("SELECT oi FROM OrderItem oi JOIN FETCH oi.product p JOIN FETCH p.category " +
             "JOIN FETCH oi.order o JOIN FETCH o.user JOIN FETCH o.address a JOIN FETCH a.user WHERE oi.product.id = :productId")
-    List<OrderItem> findByProductId(@Param("productId") Long productId);
+    Slice<OrderItem> findByProductId(@Param("productId") Long productId, Pageable pageable);
+
+    /**
+     * Counts the order items referencing a specific product.
+     *
+     * @param productId the ID of the product
+     * @return the number of order items containing the given product
+     */
+    long countByProductId(Long productId);
 
     /**
      * Counts how many items are in a specific order.
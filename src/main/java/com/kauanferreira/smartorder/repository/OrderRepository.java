@@ -1,9 +1,12 @@
 package com.kauanferreira.smartorder.repository;
 
+import com.kauanferreira.smartorder.dto.projection.OrderStatusTotalsProjection;
+import com.kauanferreira.smartorder.dto.projection.RecentOrderProjection;
 import com.kauanferreira.smartorder.entity.Order;
 import com.kauanferreira.smartorder.enums.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -19,6 +22,10 @@ import java.util.Optional;
  * <p>Provides CRUD operations and custom query methods
  * for managing customer orders in the e-commerce system.</p>
  *
+ * <p>Every query reads the hot tables only, which hold the months inside the
+ * retention window. A customer's order history, archived months included, is
+ * read through {@link OrderHistoryRepository}.</p>
+ *
  * @author Kauan Santos Ferreira
  * @version 1.0
  * @since 2026
@@ -26,92 +33,101 @@ import java.util.Optional;
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
-    @Query("SELECT o FROM Order o JOIN FETCH o.user JOIN FETCH o.address a JOIN FETCH a.user LEFT JOIN FETCH " +
-            "o.items oi LEFT JOIN FETCH oi.product p LEFT JOIN FETCH p.category")
-    List<Order> findAll();
-
     @Query("SELECT o FROM Order o JOIN FETCH o.user JOIN FETCH o.address a JOIN FETCH a.user LEFT JOIN FETCH " +
             "o.items oi LEFT JOIN FETCH oi.product p LEFT JOIN FETCH p.category WHERE o.id = :id")
     Optional<Order> findById(@Param("id") Long id);
 
-    @Query(value = "SELECT o FROM Order o JOIN FETCH o.user JOIN FETCH o.address a JOIN FETCH a.user LEFT JOIN FETCH " +
-            "o.items oi LEFT JOIN FETCH oi.product p LEFT JOIN FETCH p.category",
+    @Query(value = "SELECT o FROM Order o JOIN FETCH o.user JOIN FETCH o.address a JOIN FETCH a.user",
             countQuery = "SELECT COUNT(o) FROM Order o")
     Page<Order> findAll(Pageable pageable);
 
     /**
-     * Finds all orders placed by a specific user, ordered by date descending.
+     * Finds one slice of all orders, without a count query.
      *
-     * @param userId the ID of the user
-     * @return a list of orders for the given user (most recent first)
+     * <p>Like every paginated order query, only the to-one associations are
+     * fetched: fetch-joining the items would make Hibernate paginate in memory.
+     * Load the items of the slice with {@link #findWithItemsByIdIn(List)}.</p>
+     *
+     * @param pageable the page to fetch
+     * @return a slice of orders
      */
-    @Query("SELECT o FROM Order o JOIN FETCH o.user JOIN FETCH o.address a JOIN FETCH a.user LEFT JOIN FETCH " +
-            "o.items oi LEFT JOIN FETCH oi.product p LEFT JOIN FETCH p.category WHERE o.user.id = :userId ORDER BY o.orderDate DESC")
-    List<Order> findByUserIdOrderByOrderDateDesc(@Param("userId") Long userId);
+    @Query("SELECT o FROM Order o JOIN FETCH o.user JOIN FETCH o.address a JOIN FETCH a.user")
+    Slice<Order> findAllBy(Pageable pageable);
 
     /**
-     * Finds all orders with a specific status.
+     * Loads the orders with the given ids together with their items,
+     * products and categories.
+     *
+     * <p>Called with the ids of a page already loaded in the same persistence
+     * context, it initializes the items of those orders with one query.</p>
      *
-     * @param status the order status to filter by
-     * @return a list of orders with the given status
+     * @param ids the order ids
+     * @return the orders with their items fetched, unordered
      */
-    @Query("SELECT o FROM Order o JOIN FETCH o.user JOIN FETCH o.address a JOIN FETCH a.user LEFT JOIN FETCH " +
-            "o.items oi LEFT JOIN FETCH oi.product p LEFT JOIN FETCH p.category WHERE o.status = :status")
-    List<Order> findByStatus(@Param("status") OrderStatus status);
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items oi LEFT JOIN FETCH oi.product p " +
+            "LEFT JOIN FETCH p.category WHERE o.id IN :ids")
+    List<Order> findWithItemsByIdIn(@Param("ids") List<Long> ids);
 
     /**
-     * Finds all orders for a specific user with a specific status.
+     * Finds one slice of the orders with a specific status.
      *
-     * @param userId the ID of the user
-     * @param status the order status to filter by
-     * @return a list of matching orders
+     * @param status   the order status to filter by
+     * @param pageable the page to fetch
+     * @return a slice of orders with the given status
      */
-    @Query("SELECT o FROM Order o JOIN FETCH o.user JOIN FETCH o.address a JOIN FETCH a.user LEFT JOIN FETCH " +
-            "o.items oi LEFT JOIN FETCH oi.product p LEFT JOIN FETCH p.category WHERE o.user.id = :userId AND o.status = :status")
-    List<Order> findByUserIdAndStatus(@Param("userId") Long userId, @Param("status") OrderStatus status);
+    @Query("SELECT o FROM Order o JOIN FETCH o.user JOIN FETCH o.address a JOIN FETCH a.user WHERE o.status = :status")
+    Slice<Order> findByStatus(@Param("status") OrderStatus status, Pageable pageable);
 
     /**
-     * Finds all orders shipped to a specific address.
+     * Finds one slice of the orders shipped to a specific address.
      *
      * @param addressId the ID of the address
-     * @return a list of orders for the given address
+     * @param pageable  the page to fetch
+     * @return a slice of orders for the given address
      */
-    @Query("SELECT o FROM Order o JOIN FETCH o.user JOIN FETCH o.address a JOIN FETCH a.user LEFT JOIN FETCH " +
-            "o.items oi LEFT JOIN FETCH oi.product p LEFT JOIN FETCH p.category WHERE o.address.id = :addressId")
-    List<Order> findByAddressId(@Param("addressId") Long addressId);
+    @Query("SELECT o FROM Order o JOIN FETCH o.user JOIN FETCH o.address a JOIN FETCH a.user " +
+            "WHERE o.address.id = :addressId")
+    Slice<Order> findByAddressId(@Param("addressId") Long addressId, Pageable pageable);
 
-    @Query("""
-    SELECT COUNT(oi) > 0 FROM Order o
-    JOIN o.items oi
-    WHERE o.user.id = :userId
-      AND oi.product.id = :productId
-      AND o.status <> :status
-""")
-    boolean existsByUserIdAndProductIdAndStatusNot(@Param("userId") Long userId,
-                                                   @Param("productId") Long productId,
-                                                   @Param("status") OrderStatus status);
+    /**
+     * Returns the distinct ids of every product the user bought in orders
+     * that were not cancelled.
+     *
+     * <p>Loads a user's whole purchase history in one query so it can be
+     * cached and checked in memory. Reads {@code vw_order_history} /
+     * {@code vw_order_item_history}, so purchases in archived months still
+     * count.</p>
+     *
+     * @param userId the ID of the user
+     * @return distinct purchased product ids, unordered
+     */
+    @Query(value = """
+    SELECT DISTINCT oi.product_id FROM vw_order_history o
+    JOIN vw_order_item_history oi ON oi.order_id = o.id AND oi.order_date = o.order_date
+    WHERE o.user_id = :userId
+      AND o.status <> 'CANCELLED'
+""", nativeQuery = true)
+    List<Long> findPurchasedProductIds(@Param("userId") Long userId);
 
     /**
-     * Finds all orders with the given status whose order date is older than
-     * the provided cutoff timestamp.
+     * Finds all orders with the given status placed inside a date window.
      *
      * <p>Used by the demo scheduler to advance orders that have been "stuck"
-     * in a transitional status for longer than the configured tick interval.</p>
+     * in a transitional status for longer than the configured tick interval.
+     * The lower bound lets PostgreSQL prune every monthly partition of
+     * {@code tb_order} outside the window instead of probing all of them.</p>
      *
      * @param status the status to filter by (typically PENDING or CONFIRMED)
+     * @param from   the oldest order date to consider (inclusive)
      * @param cutoff the threshold timestamp — only orders placed before this
      *               instant are returned
      * @return list of orders eligible to be advanced to the next status
      */
-    List<Order> findByStatusAndOrderDateBefore(OrderStatus status, LocalDateTime cutoff);
-
-    /**
-     * Counts how many orders a user has placed.
-     *
-     * @param userId the ID of the user
-     * @return the number of orders for the given user
-     */
-    long countByUserId(Long userId);
+    @Query("SELECT o FROM Order o WHERE o.status = :status " +
+            "AND o.orderDate >= :from AND o.orderDate < :cutoff")
+    List<Order> findByStatusAndOrderDateBetween(@Param("status") OrderStatus status,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("cutoff") LocalDateTime cutoff);
 
     /**
      * Counts how many orders have a specific status.
@@ -120,4 +136,38 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      * @return the number of orders with the given status
      */
     long countByStatus(OrderStatus status);
+
+    /**
+     * Counts the orders shipped to a specific address.
+     *
+     * @param addressId the ID of the address
+     * @return the number of orders for the given address
+     */
+    long countByAddressId(Long addressId);
+
+    /**
+     * Returns the number of orders and the summed total amount per status.
+     *
+     * <p>A single GROUP BY over {@code tb_order}; served by an index-only scan
+     * of {@code idx_order_status_total}. Statuses without orders are absent.
+     * Only the retention window is counted: orders in months moved to
+     * {@code tb_order_archive} are left out.</p>
+     *
+     * @return one row per status that has at least one order
+     */
+    @Query("SELECT new com.kauanferreira.smartorder.dto.projection.OrderStatusTotalsProjection(" +
+            "o.status, COUNT(o), COALESCE(SUM(o.totalAmount), 0)) FROM Order o GROUP BY o.status")
+    List<OrderStatusTotalsProjection> sumTotalsByStatus();
+
+    /**
+     * Returns the most recent orders as flat rows, newest first.
+     * Only the customer is joined; items and addresses are not loaded.
+     *
+     * @param pageable limits how many rows are returned
+     * @return the latest orders
+     */
+    @Query("SELECT new com.kauanferreira.smartorder.dto.projection.RecentOrderProjection(" +
+            "o.id, o.orderDate, o.status, o.totalAmount, u.name) " +
+            "FROM Order o JOIN o.user u ORDER BY o.orderDate DESC, o.id DESC")
+    List<RecentOrderProjection> findRecentOrders(Pageable pageable);
 }
@@ -0,0 +1,98 @@
+package com.kauanferreira.smartorder.repository;
+
+import com.kauanferreira.smartorder.enums.ProductRanking;
+import com.kauanferreira.smartorder.services.ranking.HeavyHitterSketch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC repository behind the in-memory product rankings.
+ *
+ * <p>Reads pre-aggregated sales to rebuild the sketches and writes the
+ * periodic {@code tb_product_ranking} snapshot. Storefront requests never
+ * reach this repository.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductRankingRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Receives units sold of one product during one hour.
+     */
+    @FunctionalInterface
+    public interface SaleConsumer {
+        void accept(long productId, LocalDateTime hour, long units);
+    }
+
+    /**
+     * Streams units sold per product and hour since {@code from}, oldest hour
+     * first, excluding cancelled orders.
+     *
+     * @param from     the start of the range (inclusive)
+     * @param consumer receives one row per product and hour
+     */
+    public void forEachHourlySale(LocalDateTime from, SaleConsumer consumer) {
+        jdbcTemplate.query("""
+                        SELECT oi.product_id, date_trunc('hour', o.order_date) AS hour, SUM(oi.quantity)
+                        FROM tb_order o
+                        JOIN tb_order_item oi ON oi.order_id = o.id AND oi.order_date = o.order_date
+                        WHERE o.order_date >= ? AND o.status <> 'CANCELLED'
+                        GROUP BY oi.product_id, hour
+                        ORDER BY hour
+                        """,
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1), rs.getTimestamp(2).toLocalDateTime(),
+                        rs.getLong(3)),
+                Timestamp.valueOf(from));
+    }
+
+    /**
+     * Reads the product and quantity of every item of one order.
+     *
+     * @param orderId   the order id
+     * @param orderDate the order date (partition key, used for pruning)
+     * @param consumer  receives one row per item (the hour argument is the order date)
+     */
+    public void forEachOrderLine(Long orderId, LocalDateTime orderDate, SaleConsumer consumer) {
+        jdbcTemplate.query(
+                "SELECT product_id, quantity FROM tb_order_item WHERE order_id = ? AND order_date = ?",
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1), orderDate, rs.getLong(2)),
+                orderId, Timestamp.valueOf(orderDate));
+    }
+
+    /**
+     * Replaces the stored snapshot of one ranking.
+     *
+     * @param ranking    the ranking
+     * @param counters   the ranked products, best first, with scores at {@code capturedAt}
+     * @param capturedAt when the scores were taken
+     */
+    @Transactional
+    public void replaceSnapshot(ProductRanking ranking, List<HeavyHitterSketch.Counter> counters,
+                                LocalDateTime capturedAt) {
+        jdbcTemplate.update("DELETE FROM tb_product_ranking WHERE ranking = ?", ranking.name());
+        Timestamp captured = Timestamp.valueOf(capturedAt);
+        List<Object[]> rows = new ArrayList<>(counters.size());
+        for (int i = 0; i < counters.size(); i++) {
+            HeavyHitterSketch.Counter counter = counters.get(i);
+            rows.add(new Object[]{ranking.name(), i + 1, counter.productId(), counter.count(), counter.error(), captured});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tb_product_ranking (ranking, position, product_id, score, error, captured_at)"
+                        + " VALUES (?, ?, ?, ?, ?, ?)",
+                rows);
+    }
+}
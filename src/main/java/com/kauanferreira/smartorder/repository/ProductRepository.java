@@ -3,6 +3,7 @@ package com.kauanferreira.smartorder.repository;
 import com.kauanferreira.smartorder.entity.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +41,16 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.id = :id")
     Optional<Product> findById(@Param("id") Long id);
+
+    /**
+     * Retrieves one slice of all products, without a count query.
+     *
+     * @param pageable the page to fetch, including its sort
+     * @return a slice of products with their categories
+     */
+    @Query("SELECT p FROM Product p JOIN FETCH p.category")
+    Slice<Product> findAllBy(Pageable pageable);
+
     /**
      * Finds a product by its exact name, ignoring case.
      *
@@ -56,6 +68,24 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<Product> findByNameContainingIgnoreCase(@Param("name") String name);
 
+    /**
+     * Finds one slice of the products matching a partial name, ignoring case.
+     *
+     * @param name     the partial name to search for
+     * @param pageable the page to fetch
+     * @return a slice of products matching the search term
+     */
+    @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%'))")
+    Slice<Product> findByNameContainingIgnoreCase(@Param("name") String name, Pageable pageable);
+
+    /**
+     * Counts the products matching a partial name, ignoring case.
+     *
+     * @param name the partial name to search for
+     * @return the number of matching products
+     */
+    long countByNameContainingIgnoreCase(String name);
+
     /**
      * Finds all products belonging to a specific category.
      *
@@ -64,6 +94,24 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      */
     List<Product> findByCategoryId(Long categoryId);
 
+    /**
+     * Finds one slice of the products belonging to a specific category.
+     *
+     * @param categoryId the ID of the category
+     * @param pageable   the page to fetch
+     * @return a slice of products in the given category
+     */
+    @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.category.id = :categoryId")
+    Slice<Product> findByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    /**
+     * Counts the products belonging to a specific category.
+     *
+     * @param categoryId the ID of the category
+     * @return the number of products in the given category
+     */
+    long countByCategoryId(Long categoryId);
+
     /**
      * Finds all active or inactive products.
      *
@@ -73,6 +121,24 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.active = :active")
     List<Product> findByActive(@Param("active") Boolean active);
 
+    /**
+     * Finds one slice of the active or inactive products.
+     *
+     * @param active   true for active products, false for inactive
+     * @param pageable the page to fetch
+     * @return a slice of products filtered by active status
+     */
+    @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.active = :active")
+    Slice<Product> findByActive(@Param("active") Boolean active, Pageable pageable);
+
+    /**
+     * Counts the active or inactive products.
+     *
+     * @param active the active status
+     * @return the number of products with the given status
+     */
+    long countByActive(Boolean active);
+
     /**
      * Finds active products belonging to a specific category.
      *
@@ -82,6 +148,28 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      */
     List<Product> findByCategoryIdAndActive(Long categoryId, Boolean active);
 
+    /**
+     * Finds one slice of the products of a category with a given active status.
+     *
+     * @param categoryId the ID of the category
+     * @param active     the active status
+     * @param pageable   the page to fetch
+     * @return a slice of matching products
+     */
+    @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.category.id = :categoryId AND p.active = :active")
+    Slice<Product> findByCategoryIdAndActive(@Param("categoryId") Long categoryId,
+                                             @Param("active") Boolean active,
+                                             Pageable pageable);
+
+    /**
+     * Counts the products of a category with a given active status.
+     *
+     * @param categoryId the ID of the category
+     * @param active     the active status
+     * @return the number of matching products
+     */
+    long countByCategoryIdAndActive(Long categoryId, Boolean active);
+
     /**
      * Finds products within a price range.
      *
@@ -92,6 +180,28 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.price BETWEEN :minPrice AND :maxPrice")
     List<Product> findByPriceBetween(@Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice);
 
+    /**
+     * Finds one slice of the products within a price range.
+     *
+     * @param minPrice minimum price (inclusive)
+     * @param maxPrice maximum price (inclusive)
+     * @param pageable the page to fetch
+     * @return a slice of products within the price range
+     */
+    @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.price BETWEEN :minPrice AND :maxPrice")
+    Slice<Product> findByPriceBetween(@Param("minPrice") BigDecimal minPrice,
+                                      @Param("maxPrice") BigDecimal maxPrice,
+                                      Pageable pageable);
+
+    /**
+     * Counts the products within a price range.
+     *
+     * @param minPrice minimum price (inclusive)
+     * @param maxPrice maximum price (inclusive)
+     * @return the number of products within the price range
+     */
+    long countByPriceBetween(BigDecimal minPrice, BigDecimal maxPrice);
+
     /**
      * Finds all products ordered by price ascending.
      *
@@ -175,4 +285,24 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
             "AND (p.stockQuantity <= 5 OR (p.initialStock IS NOT NULL AND p.stockQuantity <= p.initialStock * 0.1)) " +
             "ORDER BY function('random')")
     List<Product> findLowStockRandom(Pageable pageable);
+
+    /**
+     * Finds the active products among the given IDs, in no particular order.
+     * Eagerly loads category to avoid LazyInitializationException during DTO mapping.
+     *
+     * @param ids the product IDs
+     * @return the active products whose ID is in the list
+     */
+    @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.id IN :ids AND p.active = true")
+    List<Product> findActiveByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * Finds the products with the given IDs, active or not, in no particular order.
+     * Eagerly loads category to avoid LazyInitializationException during DTO mapping.
+     *
+     * @param ids the product IDs
+     * @return the products whose ID is in the list
+     */
+    @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.id IN :ids")
+    List<Product> findWithCategoryByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,119 @@
+package com.kauanferreira.smartorder.repository;
+
+import com.kauanferreira.smartorder.enums.ReviewSort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC repository behind the product review feed.
+ *
+ * <p>Reads one keyset page of a product's reviews with the reviewer's name
+ * and the stored like count of each review in a single query. Pages continue
+ * strictly after the last row of the previous one, so their cost does not
+ * depend on how deep the reader has scrolled.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReviewFeedRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * One review of the feed.
+     *
+     * @param id        the review id
+     * @param userId    the reviewer's id
+     * @param userName  the reviewer's name
+     * @param rating    the star rating
+     * @param comment   the comment, may be {@code null}
+     * @param createdAt when the review was written
+     * @param likeCount the stored number of likes, without the deltas not yet flushed
+     */
+    public record FeedRow(long id, long userId, String userName, int rating, String comment,
+                          LocalDateTime createdAt, int likeCount) {
+    }
+
+    /**
+     * The position of the last row of a page.
+     *
+     * @param key       the rating or like count of the row; ignored by {@link ReviewSort#NEWEST}
+     * @param createdAt the creation time of the row
+     * @param id        the id of the row
+     */
+    public record Position(int key, LocalDateTime createdAt, long id) {
+
+        /**
+         * Returns the position of a row under the given sort.
+         *
+         * @param sort the feed order
+         * @param row  the row
+         * @return the position of the row
+         */
+        public static Position of(ReviewSort sort, FeedRow row) {
+            int key = switch (sort) {
+                case NEWEST -> 0;
+                case RATING -> row.rating();
+                case HELPFUL -> row.likeCount();
+            };
+            return new Position(key, row.createdAt(), row.id());
+        }
+    }
+
+    /**
+     * Reads the reviews of a product that follow {@code after}, in feed order.
+     *
+     * @param productId the product id
+     * @param sort      the feed order
+     * @param after     the position of the last row already read, or {@code null} for the first page
+     * @param limit     the maximum number of rows to read
+     * @return up to {@code limit} rows
+     */
+    public List<FeedRow> findPage(long productId, ReviewSort sort, Position after, int limit) {
+        String keyColumn = switch (sort) {
+            case NEWEST -> null;
+            case RATING -> "r.rating";
+            case HELPFUL -> "r.like_count";
+        };
+
+        List<Object> args = new ArrayList<>();
+        args.add(productId);
+
+        StringBuilder sql = new StringBuilder("""
+                SELECT r.id, r.user_id, u.name, r.rating, r.comment, r.created_at, r.like_count
+                FROM tb_review r
+                JOIN tb_user u ON u.id = r.user_id
+                WHERE r.product_id = ?
+                """);
+        if (after != null) {
+            if (keyColumn == null) {
+                sql.append("AND (r.created_at, r.id) < (?, ?)\n");
+            } else {
+                sql.append("AND (").append(keyColumn).append(", r.created_at, r.id) < (?, ?, ?)\n");
+                args.add(after.key());
+            }
+            args.add(Timestamp.valueOf(after.createdAt()));
+            args.add(after.id());
+        }
+        sql.append("ORDER BY ");
+        if (keyColumn != null) {
+            sql.append(keyColumn).append(" DESC, ");
+        }
+        sql.append("r.created_at DESC, r.id DESC\nLIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> new FeedRow(rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getInt(4),
+                        rs.getString(5), rs.getTimestamp(6).toLocalDateTime(), rs.getInt(7)),
+                args.toArray());
+    }
+}
@@ -0,0 +1,64 @@
+package com.kauanferreira.smartorder.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JDBC repository behind the denormalized {@code tb_review.like_count}.
+ *
+ * <p>Receives the summed like deltas flushed by the like counter and runs
+ * the reconciliation against {@code tb_review_like}, which stays the source
+ * of truth. Liking a review never updates {@code tb_review} directly.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReviewLikeCountRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds one summed delta to each review, in id order so concurrent
+     * writers always lock rows in the same order.
+     *
+     * @param deltas the delta to add, by review id
+     */
+    @Transactional
+    public void addDeltas(Map<Long, Integer> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("UPDATE tb_review SET like_count = like_count + ? WHERE id = ?",
+                new TreeMap<>(deltas).entrySet().stream()
+                        .map(delta -> new Object[]{delta.getValue(), delta.getKey()})
+                        .toList());
+    }
+
+    /**
+     * Recounts the likes of every review and repairs the counts that drifted.
+     *
+     * @return the number of reviews whose count was corrected
+     */
+    @Transactional
+    public int reconcile() {
+        return jdbcTemplate.update("""
+                UPDATE tb_review r
+                SET like_count = c.actual
+                FROM (
+                    SELECT r2.id, COUNT(rl.id)::int AS actual
+                    FROM tb_review r2
+                    LEFT JOIN tb_review_like rl ON rl.review_id = r2.id
+                    GROUP BY r2.id
+                ) c
+                WHERE c.id = r.id AND r.like_count <> c.actual
+                """);
+    }
+}
@@ -2,12 +2,13 @@ package com.kauanferreira.smartorder.repository;
 
 import com.kauanferreira.smartorder.entity.ReviewLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Repository interface for {@link ReviewLike} entity.
@@ -23,14 +24,27 @@ import java.util.Optional;
 public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
 
     /**
-     * Finds a like by user ID and review ID.
-     * Used to check if a user has already liked a review.
+     * Checks if a user has liked a review.
      *
      * @param userId   the ID of the user
      * @param reviewId the ID of the review
-     * @return an Optional containing the like if found
+     * @return true if the like exists
      */
-    Optional<ReviewLike> findByUserIdAndReviewId(@Param("userId") Long userId, @Param("reviewId") Long reviewId);
+    boolean existsByUserIdAndReviewId(Long userId, Long reviewId);
+
+    /**
+     * Stores a like unless the user has already liked the review.
+     * Runs as a single INSERT; the unique (user_id, review_id) constraint
+     * makes repeated likes a no-op.
+     *
+     * @param userId   the ID of the user
+     * @param reviewId the ID of the review
+     * @return the number of likes inserted (0 if already liked, 1 otherwise)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tb_review_like (user_id, review_id) VALUES (:userId, :reviewId) " +
+            "ON CONFLICT ON CONSTRAINT uk_review_like_user_review DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("reviewId") Long reviewId);
 
     /**
      * Returns the IDs of all reviews liked by the given user.
@@ -44,19 +58,25 @@ public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
     List<Long> findLikedReviewIdsByUserId(@Param("userId") Long userId);
 
     /**
-     * Deletes a like by user ID and review ID.
-     * Used for unliking a review.
+     * Returns which of the given reviews the user has liked.
+     * Used by the review feed to flag the reviews of one page.
      *
-     * @param userId   the ID of the user
-     * @param reviewId the ID of the review
+     * @param userId    the authenticated user's ID
+     * @param reviewIds the IDs of the reviews to check
+     * @return the subset of {@code reviewIds} that the user has liked
      */
-    void deleteByUserIdAndReviewId(@Param("userId") Long userId, @Param("reviewId") Long reviewId);
+    @Query("SELECT rl.review.id FROM ReviewLike rl WHERE rl.user.id = :userId AND rl.review.id IN :reviewIds")
+    List<Long> findLikedReviewIds(@Param("userId") Long userId, @Param("reviewIds") Collection<Long> reviewIds);
 
     /**
-     * Counts the total number of likes for a specific review.
+     * Deletes a like by user ID and review ID.
+     * Used for unliking a review. Runs as a single DELETE statement.
      *
+     * @param userId   the ID of the user
      * @param reviewId the ID of the review
-     * @return the number of likes
+     * @return the number of likes deleted (0 or 1)
      */
-    Integer countByReviewId(@Param("reviewId") Long reviewId);
+    @Modifying
+    @Query("DELETE FROM ReviewLike rl WHERE rl.user.id = :userId AND rl.review.id = :reviewId")
+    int deleteByUserIdAndReviewId(@Param("userId") Long userId, @Param("reviewId") Long reviewId);
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.kauanferreira.smartorder.repository;
 
 import com.kauanferreira.smartorder.dto.projection.RatingProjection;
 import com.kauanferreira.smartorder.entity.Review;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -24,24 +26,42 @@ import java.util.Optional;
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     /**
-     * Finds all reviews for a specific product.
+     * Finds one slice of the reviews for a specific product.
      * Eagerly fetches the user and product with its category.
      *
      * @param productId the ID of the product
-     * @return a list of reviews for the given product
+     * @param pageable  the page to fetch
+     * @return a slice of reviews for the given product
      */
     @Query("SELECT r FROM Review r JOIN FETCH r.user JOIN FETCH r.product p JOIN FETCH p.category WHERE r.product.id = :productId")
-    List<Review> findByProductId(@Param("productId") Long productId);
+    Slice<Review> findByProductId(@Param("productId") Long productId, Pageable pageable);
 
     /**
-     * Finds all reviews written by a specific user.
+     * Counts the reviews for a specific product.
+     *
+     * @param productId the ID of the product
+     * @return the number of reviews for the given product
+     */
+    long countByProductId(Long productId);
+
+    /**
+     * Finds one slice of the reviews written by a specific user.
      * Eagerly fetches the user and product with its category.
      *
-     * @param userId the ID of the user
-     * @return a list of reviews by the given user
+     * @param userId   the ID of the user
+     * @param pageable the page to fetch
+     * @return a slice of reviews by the given user
      */
     @Query("SELECT r FROM Review r JOIN FETCH r.user JOIN FETCH r.product p JOIN FETCH p.category WHERE r.user.id = :userId")
-    List<Review> findByUserId(@Param("userId") Long userId);
+    Slice<Review> findByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Counts the reviews written by a specific user.
+     *
+     * @param userId the ID of the user
+     * @return the number of reviews by the given user
+     */
+    long countByUserId(Long userId);
 
     /**
      * Finds a review by user ID and product ID.
@@ -54,6 +74,24 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT r FROM Review r JOIN FETCH r.user JOIN FETCH r.product p JOIN FETCH p.category WHERE r.user.id = :userId AND r.product.id = :productId")
     Optional<Review> findByUserIdAndProductId(@Param("userId") Long userId, @Param("productId") Long productId);
 
+    /**
+     * Checks whether a user has already reviewed a product, without loading the review.
+     *
+     * @param userId    the ID of the user
+     * @param productId the ID of the product
+     * @return true if a review exists
+     */
+    boolean existsByUserIdAndProductId(Long userId, Long productId);
+
+    /**
+     * Returns the stored like count of a review, without loading it.
+     *
+     * @param id the review ID
+     * @return an Optional containing the flushed like count if the review exists
+     */
+    @Query("SELECT r.likeCount FROM Review r WHERE r.id = :id")
+    Optional<Integer> findLikeCountById(@Param("id") Long id);
+
     /**
      * Finds a review by ID with eagerly fetched relationships.
      *
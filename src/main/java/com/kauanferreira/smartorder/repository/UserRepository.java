@@ -2,10 +2,11 @@ package com.kauanferreira.smartorder.repository;
 
 import com.kauanferreira.smartorder.entity.User;
 import com.kauanferreira.smartorder.enums.Role;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -41,25 +42,52 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmailIgnoreCase(String email);
 
     /**
-     * Finds users by their role.
+     * Retrieves one slice of all users, without a count query.
      *
-     * @param role the role to filter by (ADMIN or CUSTOMER)
-     * @return a list of users with the given role
+     * @param pageable the page to fetch
+     * @return a slice of users
      */
-    List<User> findByRole(Role role);
+    Slice<User> findAllBy(Pageable pageable);
 
     /**
-     * Finds users by partial name match, ignoring case.
+     * Finds one slice of the users with a given role.
+     *
+     * @param role     the role to filter by (ADMIN or CUSTOMER)
+     * @param pageable the page to fetch
+     * @return a slice of users with the given role
+     */
+    Slice<User> findByRole(Role role, Pageable pageable);
+
+    /**
+     * Counts the users with a given role.
+     *
+     * @param role the role to filter by
+     * @return the number of users with the given role
+     */
+    long countByRole(Role role);
+
+    /**
+     * Finds one slice of the users matching a partial name, ignoring case.
+     *
+     * @param name     the partial name to search for
+     * @param pageable the page to fetch
+     * @return a slice of users matching the search term
+     */
+    Slice<User> findByNameContainingIgnoreCase(String name, Pageable pageable);
+
+    /**
+     * Counts the users matching a partial name, ignoring case.
      *
      * @param name the partial name to search for
-     * @return a list of users matching the search term
+     * @return the number of matching users
      */
-    List<User> findByNameContainingIgnoreCase(String name);
+    long countByNameContainingIgnoreCase(String name);
 
     /**
-     * Retrieves all users ordered by name ascending.
+     * Retrieves one slice of the users ordered by name ascending.
      *
-     * @return a list of users sorted alphabetically
+     * @param pageable the page to fetch
+     * @return a slice of users sorted alphabetically
      */
-    List<User> findAllByOrderByNameAsc();
+    Slice<User> findAllByOrderByNameAsc(Pageable pageable);
 }
@@ -0,0 +1,391 @@
+package com.kauanferreira.smartorder.repository.grid;
+
+import com.kauanferreira.smartorder.dto.request.GridQueryRequest;
+import com.kauanferreira.smartorder.dto.response.GridPageResponse;
+import com.kauanferreira.smartorder.enums.GridOperator;
+import com.kauanferreira.smartorder.exception.BusinessRuleException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Runs admin grid queries described by a {@link GridSchema} and a
+ * {@link GridQueryRequest} as a single JPA Criteria query.
+ *
+ * <p>Each page fetches {@code size + 1} rows to learn whether another page
+ * follows, so no count query is ever issued. In keyset mode (the default)
+ * the next page continues strictly after the last row's sort values, which
+ * the database resolves with an index range scan no matter how deep the
+ * client has paged. Offset mode is kept for "jump to page" but is limited to
+ * the first {@code smartorder.admin.grid.max-offset} rows.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see GridSchema
+ */
+@Component
+public class GridQueryExecutor {
+
+    private static final int MAX_SORTS = 3;
+    private static final int MAX_IN_VALUES = 100;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Page size used when the client sends none. Defaults to 25.
+     */
+    @Value("${smartorder.admin.grid.default-page-size:25}")
+    private int defaultPageSize;
+
+    /**
+     * Largest page size a client may request. Defaults to 100.
+     */
+    @Value("${smartorder.admin.grid.max-page-size:100}")
+    private int maxPageSize;
+
+    /**
+     * Deepest row reachable with offset pagination. Defaults to 10,000.
+     */
+    @Value("${smartorder.admin.grid.max-offset:10000}")
+    private int maxOffset;
+
+    /**
+     * Runs one page of a grid query.
+     *
+     * <p>Must be called inside a transaction when {@code mapper} touches
+     * associations that are not fetched by the schema.</p>
+     *
+     * @param schema  the grid definition
+     * @param request the client's filters, sort and pagination
+     * @param mapper  converts the page's entities to response rows (called once per page)
+     * @param <T>     the entity type
+     * @param <R>     the row type
+     * @return the requested page
+     * @throws BusinessRuleException if the request uses unknown fields, invalid values or exceeds the limits
+     */
+    public <T, R> GridPageResponse<R> find(GridSchema<T> schema, GridQueryRequest request,
+                                           Function<List<T>, List<R>> mapper) {
+        int size = pageSize(request.size());
+        if (request.cursor() != null && request.page() != null) {
+            throw new BusinessRuleException("Use either cursor or page, not both");
+        }
+        if (request.page() != null && (request.page() < 0 || (long) request.page() * size > maxOffset)) {
+            throw new BusinessRuleException(String.format(
+                    "Offset pagination is limited to the first %d rows; use the cursor to go further", maxOffset));
+        }
+
+        List<SortOrder> sorts = sorts(schema, request.sort());
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(schema.type());
+        Map<String, From<?, ?>> aliases = fetchJoins(schema, root);
+
+        List<Expression<?>> sortExpressions = new ArrayList<>();
+        List<Order> orders = new ArrayList<>();
+        for (SortOrder sort : sorts) {
+            Expression<?> expression = path(root, aliases, sort.field().path());
+            sortExpressions.add(expression);
+            orders.add(sort.descending() ? cb.desc(expression) : cb.asc(expression));
+        }
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (request.filter() != null) {
+            for (String expression : request.filter()) {
+                predicates.add(filter(cb, schema, root, aliases, expression));
+            }
+        }
+        if (request.q() != null && !request.q().isBlank()) {
+            predicates.add(search(cb, schema, root, aliases, request.q().trim()));
+        }
+        if (request.cursor() != null) {
+            predicates.add(keyset(cb, sorts, sortExpressions, decodeCursor(sorts, request.cursor())));
+        }
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root);
+        selections.addAll(sortExpressions);
+        query.select(cb.tuple(selections.toArray(Selection[]::new)))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(orders);
+
+        TypedQuery<Tuple> typed = entityManager.createQuery(query).setMaxResults(size + 1);
+        if (request.page() != null) {
+            typed.setFirstResult(request.page() * size);
+        }
+        List<Tuple> rows = typed.getResultList();
+
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+        List<T> entities = rows.stream().map(row -> row.get(0, schema.type())).toList();
+        String nextCursor = hasNext && request.page() == null ? encodeCursor(sorts, rows.get(rows.size() - 1)) : null;
+
+        return new GridPageResponse<>(mapper.apply(entities), size, request.page(), hasNext, nextCursor);
+    }
+
+    private int pageSize(Integer requested) {
+        if (requested == null) {
+            return defaultPageSize;
+        }
+        if (requested < 1 || requested > maxPageSize) {
+            throw new BusinessRuleException(String.format("Page size must be between 1 and %d", maxPageSize));
+        }
+        return requested;
+    }
+
+    private static List<SortOrder> sorts(GridSchema<?> schema, List<String> requested) {
+        List<String> expressions = requested == null || requested.isEmpty() ? schema.defaultSort() : requested;
+        if (expressions.size() > MAX_SORTS) {
+            throw new BusinessRuleException(String.format("At most %d sort fields are allowed", MAX_SORTS));
+        }
+
+        List<SortOrder> sorts = new ArrayList<>();
+        boolean hasId = false;
+        for (String expression : expressions) {
+            String[] parts = expression.split(",", 2);
+            GridSchema.Field field = schema.fields().get(parts[0].trim());
+            if (field == null || !field.sortable()) {
+                throw new BusinessRuleException(String.format("Cannot sort by '%s'", parts[0].trim()));
+            }
+            boolean descending = parts.length > 1 && parts[1].trim().equalsIgnoreCase("desc");
+            if (parts.length > 1 && !descending && !parts[1].trim().equalsIgnoreCase("asc")) {
+                throw new BusinessRuleException(String.format("Invalid sort direction '%s'", parts[1].trim()));
+            }
+            sorts.add(new SortOrder(field, descending));
+            hasId |= field.name().equals("id");
+        }
+        if (!hasId) {
+            boolean descending = !sorts.isEmpty() && sorts.get(sorts.size() - 1).descending();
+            sorts.add(new SortOrder(schema.fields().get("id"), descending));
+        }
+        return sorts;
+    }
+
+    private static Map<String, From<?, ?>> fetchJoins(GridSchema<?> schema, Root<?> root) {
+        Map<String, From<?, ?>> aliases = new HashMap<>();
+        for (GridSchema.Fetch fetch : schema.fetches()) {
+            String[] parts = fetch.path().split("\\.", 2);
+            From<?, ?> parent = parts.length > 1 ? aliases.get(parts[0]) : root;
+            String attribute = parts.length > 1 ? parts[1] : parts[0];
+            // Hibernate's fetches are also joins, so later paths can navigate them
+            aliases.put(fetch.alias(), (From<?, ?>) parent.fetch(attribute, JoinType.INNER));
+        }
+        return aliases;
+    }
+
+    private static Path<?> path(Root<?> root, Map<String, From<?, ?>> aliases, String path) {
+        String[] parts = path.split("\\.");
+        Path<?> current = root;
+        int start = 0;
+        if (parts.length > 1 && aliases.containsKey(parts[0])) {
+            current = aliases.get(parts[0]);
+            start = 1;
+        }
+        for (int i = start; i < parts.length; i++) {
+            current = current.get(parts[i]);
+        }
+        return current;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate filter(CriteriaBuilder cb, GridSchema<?> schema, Root<?> root,
+                                    Map<String, From<?, ?>> aliases, String expression) {
+        String[] parts = expression.split(":", 3);
+        if (parts.length < 3) {
+            throw new BusinessRuleException(String.format(
+                    "Invalid filter '%s'; expected field:operator:value", expression));
+        }
+        GridSchema.Field field = schema.fields().get(parts[0]);
+        if (field == null) {
+            throw new BusinessRuleException(String.format("Cannot filter by '%s'", parts[0]));
+        }
+        GridOperator operator;
+        try {
+            operator = GridOperator.valueOf(parts[1].toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessRuleException(String.format("Unknown filter operator '%s'", parts[1]));
+        }
+
+        Expression path = path(root, aliases, field.path());
+        String raw = parts[2];
+        return switch (operator) {
+            case EQ -> cb.equal(path, parse(field, raw));
+            case NE -> cb.notEqual(path, parse(field, raw));
+            case LT -> cb.lessThan(path, (Comparable) parse(field, raw));
+            case LTE -> cb.lessThanOrEqualTo(path, (Comparable) parse(field, raw));
+            case GT -> cb.greaterThan(path, (Comparable) parse(field, raw));
+            case GTE -> cb.greaterThanOrEqualTo(path, (Comparable) parse(field, raw));
+            case LIKE -> {
+                if (field.type() != String.class) {
+                    throw new BusinessRuleException(String.format("'like' only applies to text fields, not '%s'", field.name()));
+                }
+                yield cb.like(cb.lower(path), containsPattern(raw), '\\');
+            }
+            case IN -> {
+                String[] values = raw.split("\\|");
+                if (values.length > MAX_IN_VALUES) {
+                    throw new BusinessRuleException(String.format("'in' accepts at most %d values", MAX_IN_VALUES));
+                }
+                CriteriaBuilder.In in = cb.in(path);
+                for (String value : values) {
+                    in.value(parse(field, value));
+                }
+                yield in;
+            }
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate search(CriteriaBuilder cb, GridSchema<?> schema, Root<?> root,
+                                    Map<String, From<?, ?>> aliases, String term) {
+        List<Predicate> any = new ArrayList<>();
+        String pattern = containsPattern(term);
+        for (String name : schema.searchFields()) {
+            Expression path = path(root, aliases, schema.fields().get(name).path());
+            any.add(cb.like(cb.lower(path), pattern, '\\'));
+        }
+        if (term.chars().allMatch(Character::isDigit) && term.length() < 19) {
+            any.add(cb.equal(root.get("id"), Long.valueOf(term)));
+        }
+        return cb.or(any.toArray(Predicate[]::new));
+    }
+
+    /**
+     * Rows strictly after the cursor in sort order:
+     * {@code (s0 > v0) OR (s0 = v0 AND s1 > v1) OR ...}, with {@code <} for descending fields.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate keyset(CriteriaBuilder cb, List<SortOrder> sorts,
+                                    List<Expression<?>> expressions, List<Object> values) {
+        List<Predicate> any = new ArrayList<>();
+        for (int i = 0; i < sorts.size(); i++) {
+            List<Predicate> all = new ArrayList<>();
+            for (int j = 0; j < i; j++) {
+                all.add(cb.equal(expressions.get(j), values.get(j)));
+            }
+            Expression expression = expressions.get(i);
+            Comparable value = (Comparable) values.get(i);
+            all.add(sorts.get(i).descending() ? cb.lessThan(expression, value) : cb.greaterThan(expression, value));
+            any.add(cb.and(all.toArray(Predicate[]::new)));
+        }
+        return cb.or(any.toArray(Predicate[]::new));
+    }
+
+    private static String containsPattern(String term) {
+        String escaped = term.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object parse(GridSchema.Field field, String raw) {
+        Class<?> type = field.type();
+        try {
+            if (type == String.class) {
+                return raw;
+            }
+            if (type == Long.class) {
+                return Long.valueOf(raw);
+            }
+            if (type == Integer.class) {
+                return Integer.valueOf(raw);
+            }
+            if (type == BigDecimal.class) {
+                return new BigDecimal(raw);
+            }
+            if (type == Boolean.class) {
+                if (!raw.equalsIgnoreCase("true") && !raw.equalsIgnoreCase("false")) {
+                    throw new IllegalArgumentException(raw);
+                }
+                return Boolean.valueOf(raw);
+            }
+            if (type == LocalDateTime.class) {
+                return raw.length() == 10 ? LocalDate.parse(raw).atStartOfDay() : LocalDateTime.parse(raw);
+            }
+            if (type.isEnum()) {
+                return Enum.valueOf((Class) type, raw.toUpperCase(Locale.ROOT));
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessRuleException(String.format("Invalid value '%s' for '%s'", raw, field.name()));
+        }
+        throw new IllegalStateException("Unsupported grid field type " + type.getName());
+    }
+
+    private static String encodeCursor(List<SortOrder> sorts, Tuple lastRow) {
+        StringBuilder cursor = new StringBuilder(encode(signature(sorts)));
+        for (int i = 0; i < sorts.size(); i++) {
+            Object value = lastRow.get(i + 1);
+            cursor.append('.').append(encode(value instanceof BigDecimal decimal
+                    ? decimal.toPlainString()
+                    : value instanceof Enum<?> constant ? constant.name() : String.valueOf(value)));
+        }
+        return cursor.toString();
+    }
+
+    private static List<Object> decodeCursor(List<SortOrder> sorts, String cursor) {
+        String[] parts = cursor.split("\\.");
+        try {
+            if (parts.length != sorts.size() + 1 || !decode(parts[0]).equals(signature(sorts))) {
+                throw new BusinessRuleException("Cursor does not match the requested sort");
+            }
+            List<Object> values = new ArrayList<>();
+            for (int i = 0; i < sorts.size(); i++) {
+                values.add(parse(sorts.get(i).field(), decode(parts[i + 1])));
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw new BusinessRuleException("Invalid cursor");
+        }
+    }
+
+    private static String signature(List<SortOrder> sorts) {
+        StringBuilder signature = new StringBuilder();
+        for (SortOrder sort : sorts) {
+            signature.append(sort.field().name()).append(sort.descending() ? ",desc;" : ",asc;");
+        }
+        return signature.toString();
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String value) {
+        return new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+
+    private record SortOrder(GridSchema.Field field, boolean descending) {
+    }
+}
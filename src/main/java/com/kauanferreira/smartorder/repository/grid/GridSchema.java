@@ -0,0 +1,117 @@
+package com.kauanferreira.smartorder.repository.grid;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Declares what an admin grid may filter, sort and search on for one entity.
+ *
+ * <p>Only the declared fields are accepted from the client, so a grid query
+ * can never reach an unindexed or sensitive column by accident. Field paths
+ * are dot-separated attribute names; the first segment may be the alias of a
+ * declared fetch join, e.g. {@code user.name} after {@code fetch("user", "user")}.
+ * Sortable fields must be non-null columns so keyset cursors stay well defined.</p>
+ *
+ * @param type         the root entity
+ * @param fetches      to-one associations fetched with the rows, in join order
+ * @param fields       the accepted fields by client-facing name
+ * @param searchFields the text fields matched by the free-text search
+ * @param defaultSort  the sort applied when the client sends none
+ * @param <T>          the root entity type
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public record GridSchema<T>(
+        Class<T> type,
+        List<Fetch> fetches,
+        Map<String, Field> fields,
+        List<String> searchFields,
+        List<String> defaultSort
+) {
+
+    /**
+     * A fetch join.
+     *
+     * @param alias the alias used by field paths
+     * @param path  the association path, relative to the root or to another alias
+     */
+    public record Fetch(String alias, String path) {
+    }
+
+    /**
+     * A filterable (and optionally sortable) field.
+     *
+     * @param name     the client-facing name
+     * @param path     the attribute path
+     * @param type     the Java type of the attribute
+     * @param sortable whether the field can be sorted on
+     */
+    public record Field(String name, String path, Class<?> type, boolean sortable) {
+    }
+
+    /**
+     * Starts a schema for the given entity.
+     *
+     * @param type the root entity
+     * @param <T>  the root entity type
+     * @return a new builder
+     */
+    public static <T> Builder<T> of(Class<T> type) {
+        return new Builder<>(type);
+    }
+
+    /**
+     * Fluent builder for {@link GridSchema}.
+     *
+     * @param <T> the root entity type
+     */
+    public static final class Builder<T> {
+
+        private final Class<T> type;
+        private final List<Fetch> fetches = new ArrayList<>();
+        private final Map<String, Field> fields = new LinkedHashMap<>();
+        private final List<String> searchFields = new ArrayList<>();
+        private final List<String> defaultSort = new ArrayList<>();
+
+        private Builder(Class<T> type) {
+            this.type = type;
+        }
+
+        public Builder<T> fetch(String alias, String path) {
+            fetches.add(new Fetch(alias, path));
+            return this;
+        }
+
+        public Builder<T> filter(String name, String path, Class<?> fieldType) {
+            fields.put(name, new Field(name, path, fieldType, false));
+            return this;
+        }
+
+        public Builder<T> sortable(String name, String path, Class<?> fieldType) {
+            fields.put(name, new Field(name, path, fieldType, true));
+            return this;
+        }
+
+        public Builder<T> search(String... names) {
+            searchFields.addAll(List.of(names));
+            return this;
+        }
+
+        public Builder<T> defaultSort(String... expressions) {
+            defaultSort.addAll(List.of(expressions));
+            return this;
+        }
+
+        public GridSchema<T> build() {
+            if (!fields.containsKey("id") || !fields.get("id").sortable()) {
+                throw new IllegalStateException("Grid schema for " + type.getSimpleName() + " needs a sortable id");
+            }
+            return new GridSchema<>(type, List.copyOf(fetches), Map.copyOf(fields),
+                    List.copyOf(searchFields), List.copyOf(defaultSort));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.kauanferreira.smartorder.services.cache;
+
+import com.kauanferreira.smartorder.config.ClusterProperties;
+import com.kauanferreira.smartorder.repository.FavoriteRepository;
+import com.kauanferreira.smartorder.services.event.FavoriteChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * In-memory, per-user set of favorited product ids.
+ *
+ * <p>Answers "which of these products has the user favorited?" — used to fill
+ * the hearts on product grids — without loading {@code tb_favorite} rows and
+ * their products once a user's entry is warm. Storage, loading and eviction
+ * are those of {@link PerUserProductIdCache}, with the limits:</p>
+ *
+ * <ul>
+ *   <li>{@code smartorder.cache.favorites.max-users} — number of cached users</li>
+ *   <li>{@code smartorder.cache.favorites.max-product-ids} — total ids across all users</li>
+ * </ul>
+ *
+ * <p>Kept in sync by {@link FavoriteChangedEvent}, applied only after the
+ * transaction commits.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ * @see PurchasedProductCache
+ */
+@Component
+public class FavoriteProductCache extends PerUserProductIdCache {
+
+    private final FavoriteRepository favoriteRepository;
+
+    /**
+     * @param maxUsers      maximum number of users kept in memory. Defaults to 10,000.
+     * @param maxProductIds maximum number of product ids kept across all users (8 bytes each).
+     *                      Defaults to 500,000 (~4 MB).
+     */
+    public FavoriteProductCache(FavoriteRepository favoriteRepository, ClusterProperties clusterProperties,
+                                @Value("${smartorder.cache.favorites.max-users:10000}") int maxUsers,
+                                @Value("${smartorder.cache.favorites.max-product-ids:500000}") long maxProductIds) {
+        super(clusterProperties, maxUsers, maxProductIds);
+        this.favoriteRepository = favoriteRepository;
+    }
+
+    /**
+     * Checks whether the user has favorited the product.
+     *
+     * @param userId    the id of the user
+     * @param productId the id of the product
+     * @return true if the product is in the user's favorites
+     */
+    public boolean isFavorited(Long userId, Long productId) {
+        return contains(userId, productId);
+    }
+
+    /**
+     * Filters the given product ids down to the ones the user has favorited.
+     *
+     * @param userId     the id of the user
+     * @param productIds candidate product ids (e.g. the products on a grid page)
+     * @return the favorited subset, in the order given, without duplicates
+     */
+    public List<Long> filterFavorited(Long userId, Collection<Long> productIds) {
+        return filter(userId, productIds);
+    }
+
+    /**
+     * Returns every product id the user has favorited.
+     *
+     * @param userId the id of the user
+     * @return the favorited product ids, ascending
+     */
+    public List<Long> allFavorited(Long userId) {
+        return Arrays.stream(productIds(userId)).boxed().toList();
+    }
+
+    @Override
+    protected List<Long> loadProductIds(Long userId) {
+        return favoriteRepository.findProductIdsByUserId(userId);
+    }
+
+    /**
+     * Adds or removes the product in the user's entry, if it is warm.
+     */
+    @TransactionalEventListener
+    public void onFavoriteChanged(FavoriteChangedEvent event) {
+        update(event.userId(), productIds -> event.favorited()
+                ? insert(productIds, event.productId())
+                : delete(productIds, event.productId()));
+    }
+}
@@ -0,0 +1,239 @@
+package com.kauanferreira.smartorder.services.cache;
+
+import com.kauanferreira.smartorder.config.ClusterProperties;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory, per-user set of product ids, kept current by the events of a subclass.
+ *
+ * <p>Each user is stored as a sorted {@code long[]} (8 bytes per product,
+ * lookups by binary search). Entries are loaded lazily on first access with
+ * {@link #loadProductIds(Long)} and evicted least-recently-used when either
+ * limit is exceeded: the number of cached users, or the total number of ids
+ * across all users.</p>
+ *
+ * <p>Subclasses apply their committed events with {@link #update} (change a
+ * warm entry in place) or {@link #invalidate} (drop it to be reloaded). A
+ * load that races with either is discarded instead of cached, since it may
+ * have read the database before the change committed.</p>
+ *
+ * <p>The events only reach the node that handled the change, so with
+ * {@link ClusterProperties#isMultiNode() several nodes} nothing is cached
+ * and every call reads the ids.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ * @see PurchasedProductCache
+ * @see FavoriteProductCache
+ */
+public abstract class PerUserProductIdCache {
+
+    private final ClusterProperties clusterProperties;
+    private final int maxUsers;
+    private final long maxProductIds;
+
+    /** Access-ordered, so iteration starts at the least recently used user. */
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long storedProductIds;
+
+    /**
+     * @param clusterProperties whether other nodes serve the same users
+     * @param maxUsers          maximum number of users kept in memory
+     * @param maxProductIds     maximum number of product ids kept across all users
+     */
+    protected PerUserProductIdCache(ClusterProperties clusterProperties, int maxUsers, long maxProductIds) {
+        this.clusterProperties = clusterProperties;
+        this.maxUsers = maxUsers;
+        this.maxProductIds = maxProductIds;
+    }
+
+    /**
+     * Reads the product ids of a user from the database, in any order.
+     *
+     * @param userId the id of the user
+     * @return the product ids; duplicates are allowed
+     */
+    protected abstract List<Long> loadProductIds(Long userId);
+
+    /**
+     * Checks whether the product is in the user's set.
+     *
+     * @param userId    the id of the user
+     * @param productId the id of the product
+     * @return true if the set contains the product
+     */
+    protected boolean contains(Long userId, Long productId) {
+        return productId != null && Arrays.binarySearch(productIds(userId), productId) >= 0;
+    }
+
+    /**
+     * Filters the given product ids down to the ones in the user's set.
+     *
+     * @param userId     the id of the user
+     * @param productIds candidate product ids
+     * @return the contained subset, in the order given, without duplicates
+     */
+    protected List<Long> filter(Long userId, Collection<Long> productIds) {
+        long[] contained = productIds(userId);
+        return productIds.stream()
+                .filter(id -> id != null && Arrays.binarySearch(contained, id) >= 0)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Returns the sorted product ids of a user, loading them on a miss.
+     *
+     * @param userId the id of the user
+     * @return the product ids, ascending and without duplicates; must not be modified
+     */
+    protected long[] productIds(Long userId) {
+        if (clusterProperties.isMultiNode()) {
+            return load(userId);
+        }
+        Entry loading;
+        synchronized (this) {
+            Entry entry = entries.get(userId);
+            if (entry != null && entry.productIds != null) {
+                return entry.productIds;
+            }
+            if (entry == null) {
+                entry = new Entry();
+                entries.put(userId, entry);
+            }
+            loading = entry;
+        }
+
+        long[] loaded = load(userId);
+
+        synchronized (this) {
+            if (entries.get(userId) == loading && loading.productIds == null) {
+                loading.productIds = loaded;
+                storedProductIds += loaded.length;
+                evictIfNeeded();
+            }
+        }
+        return loaded;
+    }
+
+    private long[] load(Long userId) {
+        return loadProductIds(userId).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    /**
+     * Applies a committed change to the user's entry, if it is warm. An entry
+     * whose load is still in flight is dropped instead, so the load is not cached.
+     *
+     * @param userId the id of the user
+     * @param change returns the new sorted ids from the current ones
+     */
+    protected synchronized void update(Long userId, UnaryOperator<long[]> change) {
+        Entry entry = entries.get(userId);
+        if (entry == null) {
+            return;
+        }
+        if (entry.productIds == null) {
+            invalidate(userId);
+            return;
+        }
+        long[] updated = change.apply(entry.productIds);
+        storedProductIds += updated.length - entry.productIds.length;
+        entry.productIds = updated;
+        evictIfNeeded();
+    }
+
+    /**
+     * Drops the user's entry so the next access reloads it.
+     *
+     * @param userId the id of the user
+     */
+    protected synchronized void invalidate(Long userId) {
+        Entry removed = entries.remove(userId);
+        if (removed != null && removed.productIds != null) {
+            storedProductIds -= removed.productIds.length;
+        }
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maxUsers || storedProductIds > maxProductIds) && eldest.hasNext()) {
+            Entry entry = eldest.next().getValue();
+            if (entry.productIds != null) {
+                storedProductIds -= entry.productIds.length;
+            }
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Union of two sorted, duplicate-free arrays.
+     */
+    protected static long[] union(long[] current, long[] added) {
+        if (added.length == 0) {
+            return current;
+        }
+        long[] result = new long[current.length + added.length];
+        int i = 0, j = 0, n = 0;
+        while (i < current.length || j < added.length) {
+            long next;
+            if (j == added.length || (i < current.length && current[i] < added[j])) {
+                next = current[i++];
+            } else if (i == current.length || added[j] < current[i]) {
+                next = added[j++];
+            } else {
+                next = current[i++];
+                j++;
+            }
+            result[n++] = next;
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Copy of a sorted array with one more id, or the array itself if it has it already.
+     */
+    protected static long[] insert(long[] ids, long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index >= 0) {
+            return ids;
+        }
+        int at = -index - 1;
+        long[] result = new long[ids.length + 1];
+        System.arraycopy(ids, 0, result, 0, at);
+        result[at] = id;
+        System.arraycopy(ids, at, result, at + 1, ids.length - at);
+        return result;
+    }
+
+    /**
+     * Copy of a sorted array without an id, or the array itself if it does not have it.
+     */
+    protected static long[] delete(long[] ids, long id) {
+        int at = Arrays.binarySearch(ids, id);
+        if (at < 0) {
+            return ids;
+        }
+        long[] result = new long[ids.length - 1];
+        System.arraycopy(ids, 0, result, 0, at);
+        System.arraycopy(ids, at + 1, result, at, ids.length - at - 1);
+        return result;
+    }
+
+    /**
+     * A cached user. {@code productIds} stays null while the first load is in flight.
+     */
+    private static final class Entry {
+        private long[] productIds;
+    }
+}
@@ -0,0 +1,154 @@
+package com.kauanferreira.smartorder.services.cache;
+
+import com.kauanferreira.smartorder.entity.Product;
+import com.kauanferreira.smartorder.exception.ResourceNotFoundException;
+import com.kauanferreira.smartorder.repository.ProductRepository;
+import com.kauanferreira.smartorder.services.event.OrderPlacedEvent;
+import com.kauanferreira.smartorder.services.event.OrderStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Short-lived, in-memory copies of products (with their category) for hot
+ * paths that only read them, such as cart validation and cart rendering.
+ *
+ * <p>Snapshots are detached entities and must be treated as read-only. They
+ * expire after {@code smartorder.cache.product-snapshots.ttl-ms}, and at most
+ * {@code smartorder.cache.product-snapshots.max-products} are kept, evicted
+ * least-recently-used.</p>
+ *
+ * <p>Stock changes made by checkout drop the affected products; a
+ * cancellation (which restores stock of products the event does not list)
+ * drops everything. Other edits are picked up when the snapshot expires, so
+ * the stock seen here may lag by up to the TTL. Checkout always re-validates
+ * stock against the database.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductSnapshotCache {
+
+    private final ProductRepository productRepository;
+
+    /**
+     * Maximum number of products kept in memory. Defaults to 5,000.
+     */
+    @Value("${smartorder.cache.product-snapshots.max-products:5000}")
+    private int maxProducts;
+
+    /**
+     * How long a snapshot is served before it is reloaded. Defaults to 30 seconds.
+     */
+    @Value("${smartorder.cache.product-snapshots.ttl-ms:30000}")
+    private long ttlMs;
+
+    /** Access-ordered, so iteration starts at the least recently used product. */
+    private final LinkedHashMap<Long, Snapshot> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Bumped on every invalidation, so loads that raced with one are not cached. */
+    private long generation;
+
+    /**
+     * Returns a product, loading it on a miss.
+     *
+     * @param productId the product id
+     * @return the product, with its category initialized
+     * @throws ResourceNotFoundException if the product does not exist
+     */
+    public Product get(Long productId) {
+        Product product = getAll(List.of(productId)).get(productId);
+        if (product == null) {
+            throw new ResourceNotFoundException(String.format("Product with ID %d not found", productId));
+        }
+        return product;
+    }
+
+    /**
+     * Returns the products with the given ids, loading all misses in one query.
+     *
+     * @param productIds the product ids
+     * @return the existing products by id; ids of deleted products are absent
+     */
+    public Map<Long, Product> getAll(Collection<Long> productIds) {
+        long now = System.currentTimeMillis();
+        Map<Long, Product> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        long loadGeneration;
+        synchronized (this) {
+            for (Long id : productIds) {
+                Snapshot snapshot = entries.get(id);
+                if (snapshot != null && now - snapshot.loadedAt < ttlMs) {
+                    found.put(id, snapshot.product);
+                } else {
+                    missing.add(id);
+                }
+            }
+            loadGeneration = generation;
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        List<Product> loaded = productRepository.findWithCategoryByIdIn(missing);
+        synchronized (this) {
+            for (Product product : loaded) {
+                found.put(product.getId(), product);
+                if (generation == loadGeneration) {
+                    entries.put(product.getId(), new Snapshot(product, now));
+                }
+            }
+            evictIfNeeded();
+        }
+        return found;
+    }
+
+    /**
+     * Drops the products whose stock was just decreased by a checkout.
+     */
+    @TransactionalEventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        synchronized (this) {
+            for (OrderPlacedEvent.Line line : event.lines()) {
+                entries.remove(line.productId());
+            }
+            generation++;
+        }
+    }
+
+    /**
+     * Drops every snapshot when an order is cancelled or restored, since its
+     * stock moves back or out again.
+     */
+    @TransactionalEventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (event.crossesCancellation()) {
+            synchronized (this) {
+                entries.clear();
+                generation++;
+            }
+        }
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Snapshot> eldest = entries.values().iterator();
+        while (entries.size() > maxProducts && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    private record Snapshot(Product product, long loadedAt) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.kauanferreira.smartorder.services.cache;
+
+import com.kauanferreira.smartorder.config.ClusterProperties;
+import com.kauanferreira.smartorder.repository.OrderRepository;
+import com.kauanferreira.smartorder.services.event.OrderPlacedEvent;
+import com.kauanferreira.smartorder.services.event.OrderStatusChangedEvent;
+import com.kauanferreira.smartorder.services.event.PurchaseHistoryChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * In-memory, per-user set of purchased product ids.
+ *
+ * <p>Answers "has this user bought product X?" — used to gate reviews and to
+ * render "purchased" badges — without querying {@code tb_order} /
+ * {@code tb_order_item} once a user's entry is warm. Storage, loading and
+ * eviction are those of {@link PerUserProductIdCache}, with the limits:</p>
+ *
+ * <ul>
+ *   <li>{@code smartorder.cache.purchased-products.max-users} — number of cached users</li>
+ *   <li>{@code smartorder.cache.purchased-products.max-product-ids} — total ids across all users</li>
+ * </ul>
+ *
+ * <p>Kept in sync by order events, applied only after the transaction commits:
+ * checkout merges the new product ids into a warm entry; cancellations,
+ * un-cancellations and administrative edits drop the entry so it is reloaded.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+@Component
+public class PurchasedProductCache extends PerUserProductIdCache {
+
+    private final OrderRepository orderRepository;
+
+    /**
+     * @param maxUsers      maximum number of users kept in memory. Defaults to 10,000.
+     * @param maxProductIds maximum number of product ids kept across all users (8 bytes each).
+     *                      Defaults to 500,000 (~4 MB).
+     */
+    public PurchasedProductCache(OrderRepository orderRepository, ClusterProperties clusterProperties,
+                                 @Value("${smartorder.cache.purchased-products.max-users:10000}") int maxUsers,
+                                 @Value("${smartorder.cache.purchased-products.max-product-ids:500000}") long maxProductIds) {
+        super(clusterProperties, maxUsers, maxProductIds);
+        this.orderRepository = orderRepository;
+    }
+
+    /**
+     * Checks whether the user bought the product in any non-cancelled order.
+     *
+     * @param userId    the id of the user
+     * @param productId the id of the product
+     * @return true if the product is in the user's purchase history
+     */
+    public boolean hasPurchased(Long userId, Long productId) {
+        return contains(userId, productId);
+    }
+
+    /**
+     * Filters the given product ids down to the ones the user has purchased.
+     *
+     * @param userId     the id of the user
+     * @param productIds candidate product ids (e.g. the products on a listing page)
+     * @return the purchased subset, in the order given, without duplicates
+     */
+    public List<Long> filterPurchased(Long userId, Collection<Long> productIds) {
+        return filter(userId, productIds);
+    }
+
+    @Override
+    protected List<Long> loadProductIds(Long userId) {
+        return orderRepository.findPurchasedProductIds(userId);
+    }
+
+    /**
+     * Merges the products of a new order into the user's entry, if it is warm.
+     */
+    @TransactionalEventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        long[] added = event.lines().stream()
+                .mapToLong(OrderPlacedEvent.Line::productId)
+                .sorted()
+                .distinct()
+                .toArray();
+        update(event.userId(), productIds -> union(productIds, added));
+    }
+
+    /**
+     * Drops the user's entry when an order is cancelled or restored, since the
+     * product may or may not still be covered by another order.
+     */
+    @TransactionalEventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (event.crossesCancellation()) {
+            invalidate(event.userId());
+        }
+    }
+
+    /**
+     * Drops the user's entry after an administrative change to their orders.
+     */
+    @TransactionalEventListener
+    public void onPurchaseHistoryChanged(PurchaseHistoryChangedEvent event) {
+        invalidate(event.userId());
+    }
+}
@@ -0,0 +1,122 @@
+package com.kauanferreira.smartorder.services.cache;
+
+import com.kauanferreira.smartorder.dto.mapper.CategoryMapper;
+import com.kauanferreira.smartorder.dto.response.CategoryResponse;
+import com.kauanferreira.smartorder.dto.response.PageResponse;
+import com.kauanferreira.smartorder.dto.response.ProductResponse;
+import com.kauanferreira.smartorder.services.interfaces.CategoryService;
+import com.kauanferreira.smartorder.services.interfaces.ProductService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Short-lived, in-memory copy of the parts of the storefront home page that
+ * are the same for every visitor: the categories, the three carousels and
+ * the first page of the product grid.
+ *
+ * <p>One copy is shared by all users and rebuilt at most once per
+ * {@code smartorder.cache.store-catalog.ttl-ms}. Once it has expired, one
+ * request rebuilds it while the others keep getting the expired copy, so
+ * only the very first load makes anyone wait. The carousels are random
+ * picks, so every visitor sees the same pick until the copy expires.</p>
+ *
+ * <p>Nothing drops the copy early: stock moved by checkouts and
+ * cancellations, like any other edit, shows up when it expires. Dropping
+ * it on every order would keep a busy store rebuilding it on almost every
+ * request.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreCatalogCache {
+
+    private final CategoryService categoryService;
+    private final ProductService productService;
+
+    /**
+     * How long the copy is served before it is rebuilt. Defaults to 15 seconds.
+     */
+    @Value("${smartorder.cache.store-catalog.ttl-ms:15000}")
+    private long ttlMs;
+
+    /**
+     * Size of the first product grid page. Defaults to 12, the grid's page size.
+     */
+    @Value("${smartorder.cache.store-catalog.page-size:12}")
+    private int pageSize;
+
+    private volatile Entry current;
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    /**
+     * The anonymous part of the storefront home page.
+     *
+     * @param categories the categories of the navbar
+     * @param featured   the featured carousel
+     * @param deals      the deals carousel
+     * @param lowStock   the low-stock carousel
+     * @param products   the first page of the product grid
+     */
+    public record Catalog(List<CategoryResponse> categories, List<ProductResponse> featured,
+                          List<ProductResponse> deals, List<ProductResponse> lowStock,
+                          PageResponse<ProductResponse> products) {
+    }
+
+    /**
+     * Returns the shared copy, rebuilding it when it has expired. While
+     * another request is rebuilding it, the expired copy is returned.
+     *
+     * @return the anonymous part of the home page
+     */
+    public Catalog get() {
+        Entry entry = current;
+        if (entry != null && entry.isFresh(ttlMs)) {
+            return entry.catalog;
+        }
+        if (entry != null && !loadLock.tryLock()) {
+            return entry.catalog;
+        }
+        if (entry == null) {
+            loadLock.lock();
+        }
+        try {
+            entry = current;
+            if (entry != null && entry.isFresh(ttlMs)) {
+                return entry.catalog;
+            }
+            Catalog catalog = load();
+            current = new Entry(catalog, System.currentTimeMillis());
+            return catalog;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private Catalog load() {
+        List<CategoryResponse> categories = categoryService.findAll()
+                .stream()
+                .map(CategoryMapper::toResponse)
+                .toList();
+        return new Catalog(
+                categories,
+                productService.findFeaturedRandomWithRating(),
+                productService.findDealsRandomWithRating(),
+                productService.findLowStockRandomWithRating(),
+                PageResponse.of(productService.findAllWithRating(PageRequest.of(0, pageSize), false)));
+    }
+
+    private record Entry(Catalog catalog, long loadedAt) {
+
+        boolean isFresh(long ttlMs) {
+            return System.currentTimeMillis() - loadedAt < ttlMs;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.kauanferreira.smartorder.services.cache;
+
+import com.kauanferreira.smartorder.entity.User;
+import com.kauanferreira.smartorder.exception.ResourceNotFoundException;
+import com.kauanferreira.smartorder.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Short-lived, in-memory copies of users for hot paths that only need to
+ * know that a user exists and how to address them, such as chat delivery.
+ *
+ * <p>Snapshots are detached entities and must be treated as read-only; only
+ * their own columns (id, name, email, role) may be read. They expire after
+ * {@code smartorder.cache.user-snapshots.ttl-ms}, so a renamed or deleted
+ * user is noticed within the TTL, and at most
+ * {@code smartorder.cache.user-snapshots.max-users} are kept, evicted
+ * least-recently-used.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+@Component
+@RequiredArgsConstructor
+public class UserSnapshotCache {
+
+    private final UserRepository userRepository;
+
+    /**
+     * Maximum number of users kept in memory. Defaults to 10,000.
+     */
+    @Value("${smartorder.cache.user-snapshots.max-users:10000}")
+    private int maxUsers;
+
+    /**
+     * How long a snapshot is served before it is reloaded. Defaults to 60 seconds.
+     */
+    @Value("${smartorder.cache.user-snapshots.ttl-ms:60000}")
+    private long ttlMs;
+
+    /** Access-ordered, so iteration starts at the least recently used user. */
+    private final LinkedHashMap<Long, Snapshot> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Returns a user, loading it on a miss.
+     *
+     * @param userId the user id
+     * @return the user
+     * @throws ResourceNotFoundException if the user does not exist
+     */
+    public User get(Long userId) {
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            Snapshot snapshot = entries.get(userId);
+            if (snapshot != null && now - snapshot.loadedAt < ttlMs) {
+                return snapshot.user;
+            }
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        String.format("User with ID %d not found", userId)));
+        synchronized (this) {
+            entries.put(userId, new Snapshot(user, now));
+            evictIfNeeded();
+        }
+        return user;
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Snapshot> eldest = entries.values().iterator();
+        while (entries.size() > maxUsers && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    private record Snapshot(User user, long loadedAt) {
+    }
+}
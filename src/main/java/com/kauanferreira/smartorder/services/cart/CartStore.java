@@ -0,0 +1,666 @@
+package com.kauanferreira.smartorder.services.cart;
+
+import com.kauanferreira.smartorder.config.ClusterProperties;
+import com.kauanferreira.smartorder.exception.ResourceNotFoundException;
+import com.kauanferreira.smartorder.repository.CartStoreRepository;
+import com.kauanferreira.smartorder.repository.CartStoreRepository.CartRow;
+import com.kauanferreira.smartorder.services.event.OrderPlacedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * In-memory, write-behind store of the active shopping carts.
+ *
+ * <p>A cart is read from {@code tb_cart_item} the first time it is touched;
+ * after that, reads and changes are served from memory and the changed rows
+ * are written back in one batch every {@code smartorder.cart.flush-ms}, when
+ * the user checks out and on shutdown. New items take their id from a block
+ * reserved ahead of time from the table's sequence, so an id returned to the
+ * client stays valid after the flush.</p>
+ *
+ * <p>At most {@code smartorder.cart.max-users} carts are kept, evicted
+ * least-recently-used. A cart with unsaved changes is never evicted; it
+ * becomes evictable after the next flush.</p>
+ *
+ * <p>A cart held in one node's memory would miss the changes made through
+ * another, so with {@link ClusterProperties#isMultiNode() several nodes} the
+ * store keeps no state between calls: every call reads the cart, and a
+ * change is written before the call returns.</p>
+ *
+ * <p>Carts are keyed by user id, which callers take from the authenticated
+ * principal; an email is never mapped to a cart, so a changed or reused
+ * email cannot reach another user's cart.</p>
+ *
+ * <p>Each cart has its own lock, so users never wait on each other. The store
+ * lock only guards the maps and is never held while waiting for a cart.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CartStore {
+
+    private final CartStoreRepository cartStoreRepository;
+    private final ClusterProperties clusterProperties;
+
+    /**
+     * Maximum number of carts kept in memory. Defaults to 10,000.
+     */
+    @Value("${smartorder.cart.max-users:10000}")
+    private int maxUsers;
+
+    /**
+     * Number of ids reserved from the sequence at a time. Defaults to 100.
+     */
+    @Value("${smartorder.cart.id-block-size:100}")
+    private int idBlockSize;
+
+    /** Access-ordered, so iteration starts at the least recently used cart. */
+    private final LinkedHashMap<Long, Cart> carts = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Serializes flushes, so an older write never lands after a newer one. */
+    private final Object writeLock = new Object();
+
+    private final Object idLock = new Object();
+    private long[] reservedIds = new long[0];
+    private int nextReservedId;
+
+    /**
+     * An item of a cart.
+     *
+     * @param id        the cart item id
+     * @param productId the product
+     * @param quantity  the quantity
+     * @param addedAt   when the product was first added
+     */
+    public record Item(long id, long productId, int quantity, LocalDateTime addedAt) {
+    }
+
+    /**
+     * Validates the quantity a change would leave for a product; throws to reject it.
+     */
+    @FunctionalInterface
+    public interface QuantityCheck {
+        void check(long productId, int quantity);
+    }
+
+    /**
+     * One change of {@link #apply}.
+     */
+    public sealed interface Operation permits Add, SetQuantity, Remove {
+    }
+
+    /**
+     * Adds a quantity of a product, merging it into the existing item.
+     *
+     * @param productId the product
+     * @param quantity  the quantity to add
+     */
+    public record Add(long productId, int quantity) implements Operation {
+    }
+
+    /**
+     * Sets the quantity of an item.
+     *
+     * @param itemId   the cart item id
+     * @param quantity the new quantity
+     */
+    public record SetQuantity(long itemId, int quantity) implements Operation {
+    }
+
+    /**
+     * Removes an item.
+     *
+     * @param itemId the cart item id
+     */
+    public record Remove(long itemId) implements Operation {
+    }
+
+    /**
+     * Returns the items of a cart, oldest first.
+     *
+     * @param userId the owner of the cart
+     * @return the items
+     */
+    public List<Item> items(long userId) {
+        return withCart(userId, cart -> cart.lines.values().stream().map(Line::toItem).toList());
+    }
+
+    /**
+     * Returns the number of units in a cart.
+     *
+     * @param userId the owner of the cart
+     * @return the sum of the item quantities
+     */
+    public int itemCount(long userId) {
+        return withCart(userId, cart -> cart.lines.values().stream().mapToInt(line -> line.quantity).sum());
+    }
+
+    /**
+     * Adds a quantity of a product, merging it into the existing item if the
+     * product is already in the cart.
+     *
+     * @param userId    the owner of the cart
+     * @param productId the product
+     * @param quantity  the quantity to add
+     * @param check     validates the resulting quantity
+     * @return the new or updated item
+     */
+    public Item add(long userId, long productId, int quantity, QuantityCheck check) {
+        return withCart(userId, cart -> {
+            Line line = cart.lines.get(productId);
+            int total = (line != null ? line.quantity : 0) + quantity;
+            check.check(productId, total);
+            if (line == null) {
+                line = new Line(nextId(), productId, LocalDateTime.now());
+                cart.lines.put(productId, line);
+            }
+            line.quantity = total;
+            cart.markDirty(line);
+            return line.toItem();
+        });
+    }
+
+    /**
+     * Sets the quantity of an item.
+     *
+     * @param userId   the owner of the cart
+     * @param itemId   the cart item id
+     * @param quantity the new quantity
+     * @param check    validates the new quantity
+     * @return the updated item
+     * @throws ResourceNotFoundException if the item is not in this user's cart
+     */
+    public Item setQuantity(long userId, long itemId, int quantity, QuantityCheck check) {
+        return withCart(userId, cart -> {
+            Line line = cart.find(itemId);
+            check.check(line.productId, quantity);
+            line.quantity = quantity;
+            cart.markDirty(line);
+            return line.toItem();
+        });
+    }
+
+    /**
+     * Removes an item.
+     *
+     * @param userId the owner of the cart
+     * @param itemId the cart item id
+     * @throws ResourceNotFoundException if the item is not in this user's cart
+     */
+    public void remove(long userId, long itemId) {
+        withCart(userId, cart -> {
+            cart.remove(cart.find(itemId));
+            return null;
+        });
+    }
+
+    /**
+     * Applies several changes to a cart atomically.
+     *
+     * <p>The operations are first played in order against the current
+     * quantities; every resulting quantity is then checked once, and only if
+     * all checks pass is the cart changed. An item removed earlier in the
+     * batch cannot be updated or removed again.</p>
+     *
+     * @param userId     the owner of the cart
+     * @param operations the changes, in order
+     * @param check      validates each resulting quantity
+     * @return the items after the changes, oldest first
+     * @throws ResourceNotFoundException if an operation references an item not in this user's cart
+     */
+    public List<Item> apply(long userId, List<Operation> operations, QuantityCheck check) {
+        return withCart(userId, cart -> {
+            Map<Long, Integer> planned = new LinkedHashMap<>();
+            for (Operation operation : operations) {
+                switch (operation) {
+                    case Add add -> planned.put(add.productId(),
+                            plannedQuantity(cart, planned, add.productId()) + add.quantity());
+                    case SetQuantity set -> planned.put(plannedProductId(cart, planned, set.itemId()), set.quantity());
+                    case Remove remove -> planned.put(plannedProductId(cart, planned, remove.itemId()), 0);
+                }
+            }
+            planned.forEach((productId, quantity) -> {
+                if (quantity > 0) {
+                    check.check(productId, quantity);
+                }
+            });
+
+            planned.forEach((productId, quantity) -> {
+                Line line = cart.lines.get(productId);
+                if (quantity == 0) {
+                    if (line != null) {
+                        cart.remove(line);
+                    }
+                    return;
+                }
+                if (line == null) {
+                    line = new Line(nextId(), productId, LocalDateTime.now());
+                    cart.lines.put(productId, line);
+                } else if (line.quantity == quantity) {
+                    return;
+                }
+                line.quantity = quantity;
+                cart.markDirty(line);
+            });
+            return cart.lines.values().stream().map(Line::toItem).toList();
+        });
+    }
+
+    private static int plannedQuantity(Cart cart, Map<Long, Integer> planned, long productId) {
+        Integer quantity = planned.get(productId);
+        if (quantity != null) {
+            return quantity;
+        }
+        Line line = cart.lines.get(productId);
+        return line != null ? line.quantity : 0;
+    }
+
+    private static long plannedProductId(Cart cart, Map<Long, Integer> planned, long itemId) {
+        long productId = cart.find(itemId).productId;
+        if (Integer.valueOf(0).equals(planned.get(productId))) {
+            throw new ResourceNotFoundException(String.format("Cart item with ID %d not found", itemId));
+        }
+        return productId;
+    }
+
+    /**
+     * Removes the items of the given products, if present.
+     *
+     * @param userId     the owner of the cart
+     * @param productIds the products to remove
+     */
+    public void removeProducts(long userId, Collection<Long> productIds) {
+        withCart(userId, cart -> {
+            for (Long productId : productIds) {
+                Line line = cart.lines.get(productId);
+                if (line != null) {
+                    cart.remove(line);
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Removes every item of a cart.
+     *
+     * @param userId the owner of the cart
+     */
+    public void clear(long userId) {
+        withCart(userId, cart -> {
+            for (Line line : List.copyOf(cart.lines.values())) {
+                cart.remove(line);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Writes the pending changes of every cart in one batch.
+     */
+    @Scheduled(fixedDelayString = "${smartorder.cart.flush-ms:2000}",
+            initialDelayString = "${smartorder.cart.flush-ms:2000}")
+    public void flush() {
+        List<Cart> dirty;
+        synchronized (this) {
+            dirty = carts.values().stream().filter(cart -> cart.dirty).toList();
+        }
+        write(dirty);
+        synchronized (this) {
+            evictIfNeeded(null);
+        }
+    }
+
+    /**
+     * Writes the pending changes of one cart, if it is in memory.
+     *
+     * @param userId the owner of the cart
+     */
+    public void flush(long userId) {
+        Cart cart;
+        synchronized (this) {
+            cart = carts.get(userId);
+        }
+        if (cart != null && cart.dirty) {
+            write(List.of(cart));
+        }
+    }
+
+    /**
+     * Persists the buyer's cart once a checkout commits, so the stored cart
+     * matches what the user saw when ordering.
+     */
+    @TransactionalEventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        flush(event.userId());
+    }
+
+    /**
+     * Writes the remaining changes before the application stops.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * Runs an action on a loaded cart while holding its lock, retrying if the
+     * cart is evicted between the lookup and the lock. With several nodes the
+     * cart is read before and written after every action.
+     */
+    private <T> T withCart(long userId, Function<Cart, T> action) {
+        while (true) {
+            Cart cart;
+            synchronized (this) {
+                cart = carts.get(userId);
+                if (cart == null) {
+                    cart = new Cart(userId);
+                    carts.put(userId, cart);
+                    evictIfNeeded(cart);
+                }
+            }
+            cart.lock.lock();
+            try {
+                if (cart.evicted) {
+                    continue;
+                }
+                boolean writeThrough = clusterProperties.isMultiNode();
+                if (cart.lines == null || writeThrough) {
+                    cart.load(cartStoreRepository.findByUserId(userId));
+                }
+                T result = action.apply(cart);
+                if (writeThrough) {
+                    writeThrough(cart);
+                }
+                return result;
+            } finally {
+                cart.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Drains the pending changes of the given carts and writes them in one
+     * batch. On failure the batch is retried one cart at a time, and a cart
+     * that fails on a constraint is retried one item at a time: only the
+     * items that still fail (e.g. their product was deleted) are dropped,
+     * the rest of the cart is kept. Other failures put the changes back for
+     * the next flush.
+     */
+    private void write(List<Cart> dirty) {
+        synchronized (writeLock) {
+            List<Pending> pending = new ArrayList<>();
+            for (Cart cart : dirty) {
+                Pending drained = cart.drain();
+                if (drained != null) {
+                    pending.add(drained);
+                }
+            }
+            try {
+                writeBatch(pending);
+            } finally {
+                pending.forEach(p -> p.cart.writing = false);
+            }
+        }
+    }
+
+    private void writeBatch(List<Pending> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            cartStoreRepository.write(
+                    pending.stream().flatMap(p -> p.deletedIds.stream()).toList(),
+                    pending.stream().flatMap(p -> p.rows.stream()).toList());
+        } catch (DataAccessException e) {
+            log.warn("Failed to flush {} cart(s) in one batch, retrying one by one: {}", pending.size(), e.getMessage());
+            for (Pending p : pending) {
+                try {
+                    cartStoreRepository.write(p.deletedIds, p.rows);
+                } catch (DataIntegrityViolationException cartFailure) {
+                    writeEach(p);
+                } catch (DataAccessException cartFailure) {
+                    p.cart.restore(p);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the changes of a cart at once, failing the caller's change if
+     * the write fails. Called with the cart's lock held.
+     */
+    private void writeThrough(Cart cart) {
+        Pending pending = cart.drain();
+        if (pending == null) {
+            return;
+        }
+        try {
+            cartStoreRepository.write(pending.deletedIds, pending.rows);
+        } finally {
+            cart.writing = false;
+        }
+    }
+
+    /**
+     * Writes the changes of one cart an item at a time, dropping from the
+     * cart only the items that violate a constraint.
+     */
+    private void writeEach(Pending p) {
+        if (!p.deletedIds.isEmpty()) {
+            try {
+                cartStoreRepository.write(p.deletedIds, List.of());
+            } catch (DataAccessException e) {
+                p.cart.restore(p);
+                return;
+            }
+        }
+        List<CartRow> retry = new ArrayList<>();
+        for (CartRow row : p.rows) {
+            try {
+                cartStoreRepository.write(List.of(), List.of(row));
+            } catch (DataIntegrityViolationException itemFailure) {
+                log.warn("Dropping product {} from the cart of user {}: {}",
+                        row.productId(), p.cart.userId, itemFailure.getMessage());
+                p.cart.drop(row);
+            } catch (DataAccessException itemFailure) {
+                retry.add(row);
+            }
+        }
+        if (!retry.isEmpty()) {
+            p.cart.restore(new Pending(p.cart, List.of(), retry));
+        }
+    }
+
+    /**
+     * Evicts least-recently-used carts that have no unsaved changes and are
+     * not in use. Must be called while holding the store lock.
+     *
+     * <p>{@code inserted}, the cart just added for the caller, is never
+     * evicted: when every other cart is dirty or busy the store stays above
+     * {@code maxUsers} until the next flush instead of evicting the caller's
+     * cart and making it retry.</p>
+     */
+    private void evictIfNeeded(Cart inserted) {
+        Iterator<Cart> eldest = carts.values().iterator();
+        while (carts.size() > maxUsers && eldest.hasNext()) {
+            Cart cart = eldest.next();
+            if (cart == inserted || !cart.lock.tryLock()) {
+                continue;
+            }
+            try {
+                if (!cart.dirty && !cart.writing) {
+                    cart.evicted = true;
+                    eldest.remove();
+                }
+            } finally {
+                cart.lock.unlock();
+            }
+        }
+    }
+
+    private long nextId() {
+        synchronized (idLock) {
+            if (nextReservedId == reservedIds.length) {
+                reservedIds = cartStoreRepository.nextIds(idBlockSize);
+                nextReservedId = 0;
+            }
+            return reservedIds[nextReservedId++];
+        }
+    }
+
+    /**
+     * Changes drained from one cart for a flush.
+     */
+    private record Pending(Cart cart, List<Long> deletedIds, List<CartRow> rows) {
+    }
+
+    /**
+     * A cached cart. {@code lines} stays null until the first load.
+     */
+    private static final class Cart {
+
+        private final long userId;
+        private final ReentrantLock lock = new ReentrantLock();
+        private Map<Long, Line> lines;
+        private final Set<Long> deletedIds = new HashSet<>();
+        private volatile boolean dirty;
+        private volatile boolean evicted;
+        /** Set while drained changes are being written; such a cart is not evicted. */
+        private volatile boolean writing;
+
+        private Cart(long userId) {
+            this.userId = userId;
+        }
+
+        private void load(List<CartRow> rows) {
+            lines = new LinkedHashMap<>();
+            for (CartRow row : rows) {
+                Line line = new Line(row.id(), row.productId(), row.addedAt());
+                line.quantity = row.quantity();
+                lines.put(row.productId(), line);
+            }
+        }
+
+        private Line find(long itemId) {
+            for (Line line : lines.values()) {
+                if (line.id == itemId) {
+                    return line;
+                }
+            }
+            throw new ResourceNotFoundException(String.format("Cart item with ID %d not found", itemId));
+        }
+
+        private void markDirty(Line line) {
+            line.dirty = true;
+            dirty = true;
+        }
+
+        private void remove(Line line) {
+            lines.remove(line.productId);
+            deletedIds.add(line.id);
+            dirty = true;
+        }
+
+        private Pending drain() {
+            lock.lock();
+            try {
+                if (!dirty || evicted) {
+                    return null;
+                }
+                List<CartRow> rows = new ArrayList<>();
+                for (Line line : lines.values()) {
+                    if (line.dirty) {
+                        rows.add(new CartRow(line.id, userId, line.productId, line.quantity, line.addedAt));
+                        line.dirty = false;
+                    }
+                }
+                List<Long> deleted = List.copyOf(deletedIds);
+                deletedIds.clear();
+                dirty = false;
+                writing = true;
+                return new Pending(this, deleted, rows);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Removes the item a row was drained from, unless it has been
+         * replaced since; the delete is written with the next flush in case
+         * the row was stored earlier.
+         */
+        private void drop(CartRow row) {
+            lock.lock();
+            try {
+                Line line = evicted ? null : lines.get(row.productId());
+                if (line != null && line.id == row.id()) {
+                    remove(line);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void restore(Pending pending) {
+            lock.lock();
+            try {
+                if (evicted) {
+                    return;
+                }
+                deletedIds.addAll(pending.deletedIds);
+                for (CartRow row : pending.rows) {
+                    Line line = lines.get(row.productId());
+                    if (line != null && line.id == row.id()) {
+                        line.dirty = true;
+                    }
+                }
+                dirty = true;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static final class Line {
+
+        private final long id;
+        private final long productId;
+        private final LocalDateTime addedAt;
+        private int quantity;
+        private boolean dirty;
+
+        private Line(long id, long productId, LocalDateTime addedAt) {
+            this.id = id;
+            this.productId = productId;
+            this.addedAt = addedAt;
+        }
+
+        private Item toItem() {
+            return new Item(id, productId, quantity, addedAt);
+        }
+    }
+}
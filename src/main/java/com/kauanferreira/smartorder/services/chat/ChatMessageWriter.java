@@ -0,0 +1,403 @@
+package com.kauanferreira.smartorder.services.chat;
+
+import com.kauanferreira.smartorder.entity.ChatMessage;
+import com.kauanferreira.smartorder.exception.BusinessRuleException;
+import com.kauanferreira.smartorder.repository.ChatMessageWriteRepository;
+import com.kauanferreira.smartorder.repository.ChatMessageWriteRepository.MessageRow;
+import com.kauanferreira.smartorder.services.event.ChatUnreadChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind persistence for chat messages.
+ *
+ * <p>A sent message gets its id from a block reserved ahead of time from the
+ * table's sequence and is queued; the sender's thread returns at once and
+ * the message is delivered before it is stored. A single writer thread
+ * drains the queue and writes a batch when {@code smartorder.chat.writer.batch-size}
+ * messages are waiting or {@code smartorder.chat.writer.flush-ms} after the
+ * first one arrived, with multi-row inserts and one inbox upsert per
+ * conversation. Receivers' unread counters move once a batch commits.</p>
+ *
+ * <p>The queue holds at most {@code smartorder.chat.writer.queue-capacity}
+ * messages. When the database falls behind and the queue is full, senders
+ * wait up to {@code smartorder.chat.writer.offer-timeout-ms} for room and
+ * are then refused, so memory stays bounded and slow storage slows chat
+ * down instead of losing it.</p>
+ *
+ * <p>A batch that fails is retried one message at a time: messages that
+ * violate a constraint (a participant or product deleted since the send was
+ * validated) are dropped and logged, the others are retried every
+ * {@code smartorder.chat.writer.retry-ms}. On shutdown new messages are
+ * refused and everything queued is written before the application stops.
+ * A crash loses at most the queued messages, which were already delivered.</p>
+ *
+ * <p>Ids are reserved per instance, so with several instances ids follow
+ * send order only within each instance. A message may also reach its
+ * receiver a few milliseconds before it can be read from the history.
+ * Marking a conversation as read first waits for its queued messages with
+ * {@link #awaitWritten}, so a message delivered before the read is not
+ * stored as unread after it.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageWriter {
+
+    private final ChatMessageWriteRepository chatMessageWriteRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Longest time a message waits for others to share its batch. Defaults to 20 milliseconds.
+     */
+    @Value("${smartorder.chat.writer.flush-ms:20}")
+    private long flushMs;
+
+    /**
+     * Maximum number of messages per batch. Defaults to 500.
+     */
+    @Value("${smartorder.chat.writer.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Maximum number of messages waiting to be written. Defaults to 10,000.
+     */
+    @Value("${smartorder.chat.writer.queue-capacity:10000}")
+    private int queueCapacity;
+
+    /**
+     * How long a sender waits for room in a full queue. Defaults to 1 second.
+     */
+    @Value("${smartorder.chat.writer.offer-timeout-ms:1000}")
+    private long offerTimeoutMs;
+
+    /**
+     * Delay before a failed batch is retried. Defaults to 1 second.
+     */
+    @Value("${smartorder.chat.writer.retry-ms:1000}")
+    private long retryMs;
+
+    /**
+     * Number of ids reserved from the sequence at a time. Defaults to 100.
+     */
+    @Value("${smartorder.chat.writer.id-block-size:100}")
+    private int idBlockSize;
+
+    /**
+     * How long marking a conversation as read waits for its queued messages. Defaults to 1 second.
+     */
+    @Value("${smartorder.chat.writer.read-wait-ms:1000}")
+    private long readWaitMs;
+
+    private BlockingQueue<Pending> queue;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    /** Messages being gathered into the next batch, owned by the writer thread until it stops. */
+    private List<Pending> batch = new ArrayList<>();
+
+    /** Messages of a failed batch, owned by the writer thread until it stops. */
+    private List<Pending> retry = List.of();
+
+    /** Queued messages not yet written or dropped, per sender, receiver and product; also the wait monitor. */
+    private final Map<List<Long>, Integer> unwritten = new HashMap<>();
+
+    private final Object idLock = new Object();
+    private long[] reservedIds = new long[0];
+    private int nextReservedId;
+
+    /**
+     * Starts the writer thread.
+     */
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writerThread = Thread.ofPlatform().name("chat-writer").daemon(true).start(this::run);
+    }
+
+    /**
+     * Assigns the message its id and send time and queues it to be written.
+     *
+     * <p>The message must carry its sender, receiver and product, and the
+     * receiver must carry their email, which their unread count is pushed to.</p>
+     *
+     * @param message the validated message
+     * @return the same message, with its id and send time set
+     * @throws BusinessRuleException if the queue stays full or the application is stopping
+     */
+    public ChatMessage enqueue(ChatMessage message) {
+        if (!running) {
+            throw new BusinessRuleException("Chat is not accepting messages, please try again");
+        }
+        message.setId(nextId());
+        message.setSentAt(LocalDateTime.now());
+        message.setIsRead(false);
+
+        Pending pending = new Pending(new MessageRow(message.getId(), message.getSender().getId(),
+                message.getReceiver().getId(), message.getProduct().getId(), message.getMessage(),
+                message.getSentAt()), message.getReceiver().getEmail());
+        track(pending);
+        boolean queued = false;
+        try {
+            queued = queue.offer(pending, offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (!queued) {
+                settle(List.of(pending));
+            }
+        }
+        if (!queued) {
+            throw new BusinessRuleException("Chat is busy, please try again");
+        }
+        return message;
+    }
+
+    /**
+     * Waits until every queued message from {@code senderId} to
+     * {@code receiverId} about the product has been written or dropped.
+     *
+     * <p>Must be called before taking any lock the writer needs, such as the
+     * conversation's inbox rows. Gives up after {@code smartorder.chat.writer.read-wait-ms},
+     * for instance while the database is down and the messages are being retried.
+     * Only the messages queued on this instance are waited for.</p>
+     *
+     * @param senderId   the sender of the messages
+     * @param receiverId the receiver of the messages
+     * @param productId  the product the conversation is about
+     * @return {@code true} if none of the messages is still waiting to be written
+     */
+    public boolean awaitWritten(long senderId, long receiverId, long productId) {
+        List<Long> key = List.of(senderId, receiverId, productId);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(readWaitMs);
+        synchronized (unwritten) {
+            while (unwritten.containsKey(key)) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(unwritten, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of messages waiting to be written.
+     *
+     * @return the queue length
+     */
+    public int backlog() {
+        return queue.size();
+    }
+
+    /**
+     * Stops accepting messages and writes everything still queued.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        writerThread.interrupt();
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<Pending> remaining = new ArrayList<>(retry);
+        remaining.addAll(batch);
+        retry = List.of();
+        batch = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            List<Pending> lost = write(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+            if (!lost.isEmpty()) {
+                log.error("Lost {} chat message(s) on shutdown: the database is unavailable", lost.size());
+                settle(lost);
+            }
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (!retry.isEmpty()) {
+                    Thread.sleep(retryMs);
+                    retry = write(retry);
+                    continue;
+                }
+                fillBatch();
+                if (!batch.isEmpty()) {
+                    retry = write(batch);
+                    batch = new ArrayList<>();
+                }
+            } catch (InterruptedException e) {
+                break;
+            } catch (RuntimeException e) {
+                log.error("Chat writer failed, retrying its {} message(s)", retry.size() + batch.size(), e);
+                List<Pending> failed = new ArrayList<>(retry);
+                failed.addAll(batch);
+                retry = failed;
+                batch = new ArrayList<>();
+            }
+        }
+    }
+
+    /**
+     * Waits for a first message, then gathers others until the batch is
+     * full or {@code flush-ms} has passed. Messages are gathered straight
+     * into {@link #batch}, so the ones taken from the queue before an
+     * interrupt are still written by {@link #shutdown()}.
+     */
+    private void fillBatch() throws InterruptedException {
+        Pending first = queue.poll(flushMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushMs);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * Writes a batch, retrying one message at a time if it fails.
+     *
+     * <p>Any failure other than a constraint violation, including the
+     * transaction failing to start while the database is down, keeps the
+     * message for a later retry.</p>
+     *
+     * @return the messages to retry later
+     */
+    private List<Pending> write(List<Pending> batch) {
+        try {
+            chatMessageWriteRepository.write(batch.stream().map(Pending::row).toList());
+        } catch (RuntimeException e) {
+            log.warn("Failed to write {} chat message(s) in one batch, retrying one by one: {}",
+                    batch.size(), e.getMessage());
+            return writeEach(batch);
+        }
+        publishUnread(batch);
+        settle(batch);
+        return List.of();
+    }
+
+    private List<Pending> writeEach(List<Pending> batch) {
+        List<Pending> written = new ArrayList<>();
+        List<Pending> dropped = new ArrayList<>();
+        List<Pending> retry = new ArrayList<>();
+        for (Pending pending : batch) {
+            try {
+                chatMessageWriteRepository.write(List.of(pending.row()));
+                written.add(pending);
+            } catch (DataIntegrityViolationException messageFailure) {
+                log.warn("Dropping chat message {}: {}", pending.row().id(), messageFailure.getMessage());
+                dropped.add(pending);
+            } catch (RuntimeException messageFailure) {
+                retry.add(pending);
+            }
+        }
+        publishUnread(written);
+        settle(written);
+        settle(dropped);
+        return retry;
+    }
+
+    /**
+     * Moves the receivers' unread counters for messages already committed.
+     *
+     * <p>A failure here, such as a {@code MessageDeliveryException} while
+     * pushing the new count, only leaves that counter stale until it is
+     * reloaded; it must not fail the batch, which would write and count the
+     * messages again, nor stop the writer thread.</p>
+     */
+    private void publishUnread(List<Pending> written) {
+        Map<Long, Pending> receivers = new HashMap<>();
+        Map<Long, Integer> received = new HashMap<>();
+        for (Pending pending : written) {
+            receivers.putIfAbsent(pending.row().receiverId(), pending);
+            received.merge(pending.row().receiverId(), 1, Integer::sum);
+        }
+        received.forEach((receiverId, count) -> {
+            try {
+                eventPublisher.publishEvent(
+                        new ChatUnreadChangedEvent(receiverId, receivers.get(receiverId).receiverEmail(), count));
+            } catch (RuntimeException e) {
+                log.warn("Failed to update the unread count of user {}: {}", receiverId, e.getMessage());
+            }
+        });
+    }
+
+    private void track(Pending pending) {
+        synchronized (unwritten) {
+            unwritten.merge(pending.conversation(), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Stops tracking messages that were written or given up on, and wakes
+     * the callers of {@link #awaitWritten} once a conversation has none left.
+     */
+    private void settle(List<Pending> done) {
+        if (done.isEmpty()) {
+            return;
+        }
+        synchronized (unwritten) {
+            for (Pending pending : done) {
+                unwritten.computeIfPresent(pending.conversation(), (key, count) -> count > 1 ? count - 1 : null);
+            }
+            unwritten.notifyAll();
+        }
+    }
+
+    private long nextId() {
+        synchronized (idLock) {
+            if (nextReservedId == reservedIds.length) {
+                reservedIds = chatMessageWriteRepository.nextIds(idBlockSize);
+                nextReservedId = 0;
+            }
+            return reservedIds[nextReservedId++];
+        }
+    }
+
+    private record Pending(MessageRow row, String receiverEmail) {
+
+        private List<Long> conversation() {
+            return List.of(row.senderId(), row.receiverId(), row.productId());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.kauanferreira.smartorder.services.chat;
+
+import com.kauanferreira.smartorder.config.ClusterProperties;
+import com.kauanferreira.smartorder.dto.response.ChatUnreadResponse;
+import com.kauanferreira.smartorder.repository.ChatConversationRepository;
+import com.kauanferreira.smartorder.services.event.ChatUnreadChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * In-memory unread chat message counters, one per user.
+ *
+ * <p>A user's counter is seeded from the inbox table the first time it is
+ * read, then kept current by the {@link ChatUnreadChangedEvent}s of every
+ * committed send and mark-as-read, so polling and badge updates do not
+ * touch the database. Each change is pushed to the user's live sessions on
+ * {@code /user/queue/chat/unread} as a {@link ChatUnreadResponse}.</p>
+ *
+ * <p>Changes for users whose counter is not in memory are not pushed,
+ * since that would cost a read; a client reads the count once when it
+ * connects, which seeds the counter. At most
+ * {@code smartorder.chat.unread.max-users} counters are kept, evicted
+ * least-recently-used.</p>
+ *
+ * <p>Each node only hears the changes made on itself, so with
+ * {@link ClusterProperties#isMultiNode() several nodes} no counter is kept:
+ * counts are read from the inbox table and every change pushes the count
+ * read after it committed.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatUnreadCounter {
+
+    private static final int STRIPES = 16;
+
+    /**
+     * User destination of the pushed counts; clients subscribe to {@code /user/queue/chat/unread}.
+     */
+    public static final String UNREAD_DESTINATION = "/queue/chat/unread";
+
+    private final ChatConversationRepository chatConversationRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ClusterProperties clusterProperties;
+
+    /**
+     * Maximum number of counters kept in memory. Defaults to 10,000.
+     */
+    @Value("${smartorder.chat.unread.max-users:10000}")
+    private int maxUsers;
+
+    /** Access-ordered, so iteration starts at the least recently used user. */
+    private final LinkedHashMap<Long, Integer> counts = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Bumped when a change arrives for a user without a counter, so a seed
+     * that read the database before that change committed is not kept.
+     * Striped by user id so busy users do not keep others from being seeded.
+     */
+    private final long[] generations = new long[STRIPES];
+
+    /**
+     * Returns a user's number of unread messages, seeding the counter on a miss.
+     *
+     * @param userId the user id
+     * @return the number of unread messages
+     */
+    public int get(long userId) {
+        if (clusterProperties.isMultiNode()) {
+            return Math.toIntExact(chatConversationRepository.sumUnread(userId));
+        }
+        long loadGeneration;
+        synchronized (this) {
+            Integer count = counts.get(userId);
+            if (count != null) {
+                return count;
+            }
+            loadGeneration = generations[stripe(userId)];
+        }
+
+        int loaded = Math.toIntExact(chatConversationRepository.sumUnread(userId));
+        synchronized (this) {
+            Integer count = counts.get(userId);
+            if (count != null) {
+                return count;
+            }
+            if (generations[stripe(userId)] == loadGeneration) {
+                counts.put(userId, loaded);
+                evictIfNeeded();
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Applies a committed change to the user's counter and pushes the new count.
+     * Changes published outside a transaction, such as those of
+     * {@link ChatMessageWriter} after a batch commits, apply at once.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUnreadChanged(ChatUnreadChangedEvent event) {
+        int updated;
+        if (clusterProperties.isMultiNode()) {
+            updated = Math.toIntExact(chatConversationRepository.sumUnread(event.userId()));
+            messagingTemplate.convertAndSendToUser(event.email(), UNREAD_DESTINATION, new ChatUnreadResponse(updated));
+            return;
+        }
+        synchronized (this) {
+            Integer count = counts.get(event.userId());
+            if (count == null) {
+                generations[stripe(event.userId())]++;
+                return;
+            }
+            updated = Math.max(0, count + event.delta());
+            counts.put(event.userId(), updated);
+        }
+        messagingTemplate.convertAndSendToUser(event.email(), UNREAD_DESTINATION, new ChatUnreadResponse(updated));
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Integer> eldest = counts.values().iterator();
+        while (counts.size() > maxUsers && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    private static int stripe(long userId) {
+        return Long.hashCode(userId) & (STRIPES - 1);
+    }
+}
@@ -0,0 +1,14 @@
+package com.kauanferreira.smartorder.services.event;
+
+/**
+ * Published when a user's number of unread chat messages changes.
+ *
+ * @param userId the user whose unread messages changed
+ * @param email  the user's email, the name their STOMP sessions are registered under
+ * @param delta  {@code +1} for a message received, minus the number of messages marked as read
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+public record ChatUnreadChangedEvent(Long userId, String email, int delta) {
+}
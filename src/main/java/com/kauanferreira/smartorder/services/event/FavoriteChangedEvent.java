@@ -0,0 +1,14 @@
+package com.kauanferreira.smartorder.services.event;
+
+/**
+ * Published when a user adds a product to or removes it from their favorites.
+ *
+ * @param userId    the user whose favorites changed
+ * @param productId the product added or removed
+ * @param favorited true if the product was added, false if it was removed
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+public record FavoriteChangedEvent(Long userId, Long productId, boolean favorited) {
+}
@@ -0,0 +1,56 @@
+package com.kauanferreira.smartorder.services.event;
+
+import com.kauanferreira.smartorder.entity.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Published when a customer places a new order through checkout.
+ *
+ * <p>Carries a detached snapshot of the order so listeners never touch
+ * lazy associations. Listeners bound with
+ * {@code @TransactionalEventListener} only see it once the order commits.</p>
+ *
+ * @param orderId     the id of the new order
+ * @param userId      the customer who placed the order
+ * @param orderDate   when the order was placed
+ * @param totalAmount the order total
+ * @param lines       one entry per order item
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+public record OrderPlacedEvent(
+        Long orderId,
+        Long userId,
+        LocalDateTime orderDate,
+        BigDecimal totalAmount,
+        List<Line> lines
+) {
+
+    /**
+     * Snapshot of a single order item.
+     *
+     * @param productId the purchased product
+     * @param quantity  units purchased
+     * @param subtotal  line total (quantity * unit price)
+     */
+    public record Line(Long productId, Integer quantity, BigDecimal subtotal) {
+    }
+
+    /**
+     * Builds the event from a persisted order and its items.
+     *
+     * @param order the order that was just placed
+     * @return the event snapshot
+     */
+    public static OrderPlacedEvent from(Order order) {
+        List<Line> lines = order.getItems().stream()
+                .map(item -> new Line(item.getProduct().getId(), item.getQuantity(), item.getSubtotal()))
+                .toList();
+        return new OrderPlacedEvent(order.getId(), order.getUser().getId(),
+                order.getOrderDate(), order.getTotalAmount(), lines);
+    }
+}
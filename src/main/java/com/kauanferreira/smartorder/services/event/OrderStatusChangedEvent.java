@@ -0,0 +1,51 @@
+package com.kauanferreira.smartorder.services.event;
+
+import com.kauanferreira.smartorder.entity.Order;
+import com.kauanferreira.smartorder.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Published when an existing order moves from one status to another.
+ *
+ * @param orderId        the id of the order
+ * @param userId         the customer who owns the order
+ * @param orderDate      when the order was placed
+ * @param totalAmount    the order total
+ * @param previousStatus the status before the change
+ * @param newStatus      the status after the change
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+public record OrderStatusChangedEvent(
+        Long orderId,
+        Long userId,
+        LocalDateTime orderDate,
+        BigDecimal totalAmount,
+        OrderStatus previousStatus,
+        OrderStatus newStatus
+) {
+
+    /**
+     * Builds the event from an order that already holds its new status.
+     *
+     * @param order          the updated order
+     * @param previousStatus the status before the change
+     * @return the event snapshot
+     */
+    public static OrderStatusChangedEvent from(Order order, OrderStatus previousStatus) {
+        return new OrderStatusChangedEvent(order.getId(), order.getUser().getId(), order.getOrderDate(),
+                order.getTotalAmount(), previousStatus, order.getStatus());
+    }
+
+    /**
+     * Tells whether the change moved the order into or out of {@link OrderStatus#CANCELLED}.
+     *
+     * @return true if exactly one side of the transition is CANCELLED
+     */
+    public boolean crossesCancellation() {
+        return (previousStatus == OrderStatus.CANCELLED) != (newStatus == OrderStatus.CANCELLED);
+    }
+}
@@ -0,0 +1,17 @@
+package com.kauanferreira.smartorder.services.event;
+
+/**
+ * Published when a user's purchase history changes in a way that is not a
+ * regular checkout or status transition — an order deleted, or an order item
+ * added, edited or removed by an administrator.
+ *
+ * <p>Listeners should drop anything they derived from the user's orders
+ * and rebuild it on demand.</p>
+ *
+ * @param userId the customer whose orders changed
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+public record PurchaseHistoryChangedEvent(Long userId) {
+}
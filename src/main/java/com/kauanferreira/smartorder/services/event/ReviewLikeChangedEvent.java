@@ -0,0 +1,13 @@
+package com.kauanferreira.smartorder.services.event;
+
+/**
+ * Published when a like on a review is stored or removed.
+ *
+ * @param reviewId the review liked or unliked
+ * @param delta    {@code +1} for a like, {@code -1} for an unlike
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+public record ReviewLikeChangedEvent(Long reviewId, int delta) {
+}
@@ -6,9 +6,11 @@ import com.kauanferreira.smartorder.exception.ResourceNotFoundException;
 import com.kauanferreira.smartorder.repository.AddressRepository;
 import com.kauanferreira.smartorder.services.interfaces.AddressService;
 import com.kauanferreira.smartorder.services.interfaces.UserService;
+import com.kauanferreira.smartorder.services.pagination.Slices;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -64,8 +66,8 @@ public class AddressServiceImpl implements AddressService {
     /** {@inheritDoc} */
     @Override
     @Transactional(readOnly = true)
-    public List<Address> findAll() {
-        return addressRepository.findAll();
+    public Slice<Address> findAll(Pageable pageable, boolean withTotal) {
+        return Slices.withTotal(addressRepository.findAllBy(pageable), withTotal, addressRepository::count);
     }
 
     /** {@inheritDoc} */
@@ -90,22 +92,25 @@ public class AddressServiceImpl implements AddressService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Address> findByCity(String city) {
-        return addressRepository.findByCityIgnoreCase(city);
+    public Slice<Address> findByCity(String city, Pageable pageable, boolean withTotal) {
+        return Slices.withTotal(addressRepository.findByCityIgnoreCase(city, pageable), withTotal,
+                () -> addressRepository.countByCityIgnoreCase(city));
     }
 
     /** {@inheritDoc} */
     @Override
     @Transactional(readOnly = true)
-    public List<Address> findByState(String state) {
-        return addressRepository.findByStateIgnoreCase(state);
+    public Slice<Address> findByState(String state, Pageable pageable, boolean withTotal) {
+        return Slices.withTotal(addressRepository.findByStateIgnoreCase(state, pageable), withTotal,
+                () -> addressRepository.countByStateIgnoreCase(state));
     }
 
     /** {@inheritDoc} */
     @Override
     @Transactional(readOnly = true)
-    public List<Address> findByZipCode(String zipCode) {
-        return addressRepository.findByZipCode(zipCode);
+    public Slice<Address> findByZipCode(String zipCode, Pageable pageable, boolean withTotal) {
+        return Slices.withTotal(addressRepository.findByZipCode(zipCode, pageable), withTotal,
+                () -> addressRepository.countByZipCode(zipCode));
     }
 
     /** {@inheritDoc} */
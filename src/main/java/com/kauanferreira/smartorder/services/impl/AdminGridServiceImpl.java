@@ -0,0 +1,188 @@
+package com.kauanferreira.smartorder.services.impl;
+
+import com.kauanferreira.smartorder.dto.mapper.AddressMapper;
+import com.kauanferreira.smartorder.dto.mapper.OrderItemMapper;
+import com.kauanferreira.smartorder.dto.mapper.ProductMapper;
+import com.kauanferreira.smartorder.dto.mapper.UserMapper;
+import com.kauanferreira.smartorder.dto.request.GridQueryRequest;
+import com.kauanferreira.smartorder.dto.response.AddressResponse;
+import com.kauanferreira.smartorder.dto.response.GridPageResponse;
+import com.kauanferreira.smartorder.dto.response.OrderItemResponse;
+import com.kauanferreira.smartorder.dto.response.OrderResponse;
+import com.kauanferreira.smartorder.dto.response.ProductResponse;
+import com.kauanferreira.smartorder.dto.response.UserResponse;
+import com.kauanferreira.smartorder.entity.Address;
+import com.kauanferreira.smartorder.entity.Order;
+import com.kauanferreira.smartorder.entity.OrderItem;
+import com.kauanferreira.smartorder.entity.Product;
+import com.kauanferreira.smartorder.entity.User;
+import com.kauanferreira.smartorder.enums.OrderStatus;
+import com.kauanferreira.smartorder.enums.Role;
+import com.kauanferreira.smartorder.repository.OrderItemRepository;
+import com.kauanferreira.smartorder.repository.grid.GridQueryExecutor;
+import com.kauanferreira.smartorder.repository.grid.GridSchema;
+import com.kauanferreira.smartorder.services.interfaces.AdminGridService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of {@link AdminGridService}.
+ *
+ * <p>Each grid is a {@link GridSchema} listing the fields the client may use,
+ * mostly indexed columns, and the to-one associations fetched with the rows.
+ * Orders load the items of the whole page with one extra query instead of
+ * one query per order.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see AdminGridService
+ * @see GridQueryExecutor
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AdminGridServiceImpl implements AdminGridService {
+
+    private static final GridSchema<User> USERS = GridSchema.of(User.class)
+            .sortable("id", "id", Long.class)
+            .sortable("name", "name", String.class)
+            .sortable("email", "email", String.class)
+            .sortable("role", "role", Role.class)
+            .sortable("createdAt", "createdAt", LocalDateTime.class)
+            .filter("phone", "phone", String.class)
+            .search("name", "email", "phone")
+            .defaultSort("id,desc")
+            .build();
+
+    private static final GridSchema<Order> ORDERS = GridSchema.of(Order.class)
+            .fetch("user", "user")
+            .fetch("address", "address")
+            .fetch("addressUser", "address.user")
+            .sortable("id", "id", Long.class)
+            .sortable("orderDate", "orderDate", LocalDateTime.class)
+            .sortable("status", "status", OrderStatus.class)
+            .sortable("totalAmount", "totalAmount", BigDecimal.class)
+            .filter("userId", "user.id", Long.class)
+            .filter("customer", "user.name", String.class)
+            .filter("street", "address.street", String.class)
+            .search("customer", "street")
+            .defaultSort("orderDate,desc")
+            .build();
+
+    private static final GridSchema<Address> ADDRESSES = GridSchema.of(Address.class)
+            .fetch("user", "user")
+            .sortable("id", "id", Long.class)
+            .sortable("city", "city", String.class)
+            .sortable("state", "state", String.class)
+            .sortable("zipCode", "zipCode", String.class)
+            .filter("street", "street", String.class)
+            .filter("country", "country", String.class)
+            .filter("userId", "user.id", Long.class)
+            .filter("customer", "user.name", String.class)
+            .search("street", "city", "state", "zipCode", "country", "customer")
+            .defaultSort("id,desc")
+            .build();
+
+    private static final GridSchema<OrderItem> ORDER_ITEMS = GridSchema.of(OrderItem.class)
+            .fetch("product", "product")
+            .fetch("category", "product.category")
+            .sortable("id", "id", Long.class)
+            .sortable("orderId", "order.id", Long.class)
+            .sortable("quantity", "quantity", Integer.class)
+            .sortable("subtotal", "subtotal", BigDecimal.class)
+            .filter("productId", "product.id", Long.class)
+            .filter("product", "product.name", String.class)
+            .search("product")
+            .defaultSort("id,desc")
+            .build();
+
+    private static final GridSchema<Product> PRODUCTS = GridSchema.of(Product.class)
+            .fetch("category", "category")
+            .sortable("id", "id", Long.class)
+            .sortable("name", "name", String.class)
+            .sortable("price", "price", BigDecimal.class)
+            .sortable("stockQuantity", "stockQuantity", Integer.class)
+            .filter("active", "active", Boolean.class)
+            .filter("featured", "featured", Boolean.class)
+            .filter("categoryId", "category.id", Long.class)
+            .filter("category", "category.name", String.class)
+            .search("name", "category")
+            .defaultSort("id,desc")
+            .build();
+
+    private final GridQueryExecutor gridQueryExecutor;
+    private final OrderItemRepository orderItemRepository;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GridPageResponse<UserResponse> findUsers(GridQueryRequest request) {
+        return gridQueryExecutor.find(USERS, request, users -> users.stream().map(UserMapper::toResponse).toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GridPageResponse<OrderResponse> findOrders(GridQueryRequest request) {
+        return gridQueryExecutor.find(ORDERS, request, this::toOrderResponses);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GridPageResponse<AddressResponse> findAddresses(GridQueryRequest request) {
+        return gridQueryExecutor.find(ADDRESSES, request,
+                addresses -> addresses.stream().map(AddressMapper::toResponse).toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GridPageResponse<OrderItemResponse> findOrderItems(GridQueryRequest request) {
+        return gridQueryExecutor.find(ORDER_ITEMS, request,
+                items -> items.stream().map(OrderItemMapper::toResponse).toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GridPageResponse<ProductResponse> findProducts(GridQueryRequest request) {
+        return gridQueryExecutor.find(PRODUCTS, request,
+                products -> products.stream().map(ProductMapper::toResponse).toList());
+    }
+
+    private List<OrderResponse> toOrderResponses(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<OrderItemResponse>> itemsByOrder = orderItemRepository
+                .findByOrderIdIn(orders.stream().map(Order::getId).toList())
+                .stream()
+                .map(OrderItemMapper::toResponse)
+                .collect(Collectors.groupingBy(OrderItemResponse::orderId));
+
+        return orders.stream()
+                .map(order -> new OrderResponse(
+                        order.getId(),
+                        order.getOrderDate(),
+                        order.getStatus(),
+                        order.getTotalAmount(),
+                        UserMapper.toResponse(order.getUser()),
+                        AddressMapper.toResponse(order.getAddress()),
+                        itemsByOrder.getOrDefault(order.getId(), List.of())))
+                .toList();
+    }
+}
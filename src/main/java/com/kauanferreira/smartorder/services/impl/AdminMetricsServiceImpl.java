@@ -0,0 +1,125 @@
+package com.kauanferreira.smartorder.services.impl;
+
+import com.kauanferreira.smartorder.dto.projection.OrderStatusTotalsProjection;
+import com.kauanferreira.smartorder.dto.response.AdminMetricsResponse;
+import com.kauanferreira.smartorder.enums.OrderStatus;
+import com.kauanferreira.smartorder.repository.OrderRepository;
+import com.kauanferreira.smartorder.repository.ProductRepository;
+import com.kauanferreira.smartorder.repository.UserRepository;
+import com.kauanferreira.smartorder.services.interfaces.AdminMetricsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of {@link AdminMetricsService}.
+ *
+ * <p>Every figure comes from an aggregate query (one GROUP BY for revenue and
+ * status counts, two {@code COUNT(*)} and one limited projection), so the cost
+ * does not grow with the number of orders loaded into memory.</p>
+ *
+ * <p>The result is cached for {@code smartorder.admin.metrics.ttl-seconds}.
+ * Refreshes are single-flight: one caller recomputes while the others keep
+ * receiving the previous snapshot; only the very first call waits.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see AdminMetricsService
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminMetricsServiceImpl implements AdminMetricsService {
+
+    private final OrderRepository orderRepository;
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    @Value("${smartorder.admin.metrics.ttl-seconds:5}")
+    private long ttlSeconds;
+
+    @Value("${smartorder.admin.metrics.recent-orders:5}")
+    private int recentOrders;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AdminMetricsResponse getMetrics() {
+        Snapshot current = snapshot;
+        if (current != null && !current.isExpired()) {
+            return current.metrics();
+        }
+
+        if (current != null) {
+            // Someone else is already refreshing: serve the previous figures
+            if (!refreshLock.tryLock()) {
+                return current.metrics();
+            }
+        } else {
+            refreshLock.lock();
+        }
+
+        try {
+            current = snapshot;
+            if (current == null || current.isExpired()) {
+                current = new Snapshot(computeMetrics(), System.nanoTime() + ttlSeconds * 1_000_000_000L);
+                snapshot = current;
+            }
+            return current.metrics();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Runs the aggregate queries and assembles the response.
+     */
+    private AdminMetricsResponse computeMetrics() {
+        Map<OrderStatus, Long> byStatus = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+
+        long totalOrders = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+        for (OrderStatusTotalsProjection row : orderRepository.sumTotalsByStatus()) {
+            byStatus.put(row.status(), row.orderCount());
+            totalOrders += row.orderCount();
+            if (row.status() != OrderStatus.CANCELLED) {
+                revenue = revenue.add(row.revenue());
+            }
+        }
+
+        return new AdminMetricsResponse(
+                revenue,
+                totalOrders,
+                Collections.unmodifiableMap(byStatus),
+                userRepository.count(),
+                productRepository.count(),
+                orderRepository.findRecentOrders(PageRequest.of(0, recentOrders)),
+                LocalDateTime.now()
+        );
+    }
+
+    /**
+     * Cached metrics and the {@link System#nanoTime()} at which they expire.
+     */
+    private record Snapshot(AdminMetricsResponse metrics, long expiresAtNanos) {
+
+        private boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos >= 0;
+        }
+    }
+}
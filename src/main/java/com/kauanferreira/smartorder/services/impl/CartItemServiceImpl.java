@@ -1,52 +1,138 @@
 package com.kauanferreira.smartorder.services.impl;
 
+import com.kauanferreira.smartorder.dto.mapper.ProductMapper;
+import com.kauanferreira.smartorder.dto.request.CartOperationRequest;
+import com.kauanferreira.smartorder.dto.response.CartSummaryLineResponse;
+import com.kauanferreira.smartorder.dto.response.CartSummaryResponse;
 import com.kauanferreira.smartorder.entity.CartItem;
 import com.kauanferreira.smartorder.entity.Product;
 import com.kauanferreira.smartorder.entity.User;
+import com.kauanferreira.smartorder.enums.CartStockStatus;
+import com.kauanferreira.smartorder.exception.BusinessRuleException;
 import com.kauanferreira.smartorder.exception.InsufficientStockException;
 import com.kauanferreira.smartorder.exception.ResourceNotFoundException;
-import com.kauanferreira.smartorder.repository.CartItemRepository;
-import com.kauanferreira.smartorder.repository.UserRepository;
+import com.kauanferreira.smartorder.services.cache.ProductSnapshotCache;
+import com.kauanferreira.smartorder.services.cart.CartStore;
 import com.kauanferreira.smartorder.services.interfaces.CartItemService;
-import com.kauanferreira.smartorder.services.interfaces.ProductService;
-import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Implementation of {@link CartItemService}.
  *
  * <p>Handles business logic for shopping cart management,
- * including duplicate detection, ownership validation,
- * and integration with user and product services.</p>
+ * including duplicate detection, ownership validation
+ * and stock validation.</p>
+ *
+ * <p>Carts live in the {@link CartStore} and products are read from the
+ * {@link ProductSnapshotCache}, so once a user's cart is warm a cart
+ * operation does not touch the database; the store writes the changes
+ * back in batches.</p>
  *
  * @author Kauan Santos Ferreira
  * @version 1.0
  * @since 2026
  * @see CartItemService
- * @see CartItemRepository
+ * @see CartStore
  */
 @Service
 @RequiredArgsConstructor
 public class CartItemServiceImpl implements CartItemService {
 
-    private final CartItemRepository cartItemRepository;
-    private final UserRepository userRepository;
-    private final ProductService productService;
-    private final EntityManager entityManager;
+    /** At or below this many units left, a line is flagged {@link CartStockStatus#LOW_STOCK}. */
+    private static final int LOW_STOCK_THRESHOLD = 5;
+
+    private final CartStore cartStore;
+    private final ProductSnapshotCache productSnapshotCache;
 
     /**
      * {@inheritDoc}
+     *
+     * <p>Items whose product has been deleted are dropped from the cart.</p>
      */
     @Override
-    @Transactional(readOnly = true)
-    public List<CartItem> getCart(String email) {
-        User user = findUserByEmail(email);
-        return cartItemRepository.findByUserId(user.getId());
+    public List<CartItem> getCart(Long userId) {
+        return loadCart(userId);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Computed in one pass over the cart with the cached product prices,
+     * using the same discount rule as {@link ProductMapper}.</p>
+     */
+    @Override
+    public CartSummaryResponse getSummary(Long userId) {
+        return summarize(loadCart(userId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Every product involved is read in one query (or from the snapshot
+     * cache), each resulting quantity is validated once, and the changes are
+     * applied to the in-memory cart under a single lock, to be written back
+     * in the store's next batch.</p>
+     *
+     * <p>The products are read ahead without the cart lock, so another
+     * request may change the cart before the lock is taken; products the
+     * read-ahead missed are loaded by the check and before the summary.</p>
+     *
+     * @throws BusinessRuleException         if an operation lacks a field its type requires
+     * @throws ResourceNotFoundException     if a product or cart item does not exist
+     * @throws InsufficientStockException    if a resulting quantity exceeds available stock
+     */
+    @Override
+    public CartSummaryResponse applyOperations(Long userId, List<CartOperationRequest> operations) {
+        List<CartStore.Operation> changes = operations.stream().map(this::toOperation).toList();
+
+        Set<Long> productIds = new HashSet<>();
+        cartStore.items(userId).forEach(item -> productIds.add(item.productId()));
+        changes.forEach(change -> {
+            if (change instanceof CartStore.Add add) {
+                productIds.add(add.productId());
+            }
+        });
+        Map<Long, Product> products = new HashMap<>(productSnapshotCache.getAll(productIds));
+
+        List<CartStore.Item> items = cartStore.apply(userId, changes, (productId, quantity) ->
+                validateStockAvailability(products.computeIfAbsent(productId, productSnapshotCache::get), quantity));
+
+        List<Long> missing = items.stream()
+                .map(CartStore.Item::productId)
+                .filter(productId -> !products.containsKey(productId))
+                .distinct()
+                .toList();
+        if (!missing.isEmpty()) {
+            products.putAll(productSnapshotCache.getAll(missing));
+        }
+
+        List<CartItem> cart = new ArrayList<>(items.size());
+        for (CartStore.Item item : items) {
+            Product product = products.get(item.productId());
+            if (product != null) {
+                cart.add(toCartItem(userId, item, product));
+            }
+        }
+        return summarize(cart);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Answered from the in-memory cart.</p>
+     */
+    @Override
+    public int countItems(Long userId) {
+        return cartStore.itemCount(userId);
     }
 
     /**
@@ -62,33 +148,12 @@ public class CartItemServiceImpl implements CartItemService {
      * @throws InsufficientStockException    if the requested quantity exceeds available stock
      */
     @Override
-    @Transactional
-    public CartItem addToCart(String email, CartItem cartItem) {
-        User user = findUserByEmail(email);
-        Product product = productService.findById(cartItem.getProduct().getId());
-
-        Optional<CartItem> existing = cartItemRepository
-                .findByUserIdAndProductId(user.getId(), product.getId());
+    public CartItem addToCart(Long userId, CartItem cartItem) {
+        Product product = productSnapshotCache.get(cartItem.getProduct().getId());
 
-        int currentQuantity = existing.map(CartItem::getQuantity).orElse(0);
-        int totalRequested = currentQuantity + cartItem.getQuantity();
-
-        validateStockAvailability(product, totalRequested);
-
-        if (existing.isPresent()) {
-            CartItem existingItem = existing.get();
-            existingItem.setQuantity(totalRequested);
-            CartItem saved = cartItemRepository.save(existingItem);
-            return cartItemRepository.findByUserIdAndProductId(user.getId(), saved.getProduct().getId())
-                    .orElse(saved);
-        }
-
-        cartItem.setUser(user);
-        CartItem saved = cartItemRepository.save(cartItem);
-        entityManager.flush();
-        entityManager.clear();
-        return cartItemRepository.findByUserIdAndProductId(user.getId(), saved.getProduct().getId())
-                .orElse(saved);
+        CartStore.Item item = cartStore.add(userId, product.getId(), cartItem.getQuantity(),
+                (productId, total) -> validateStockAvailability(product, total));
+        return toCartItem(userId, item, product);
     }
 
     /**
@@ -102,15 +167,10 @@ public class CartItemServiceImpl implements CartItemService {
      * @throws InsufficientStockException    if the requested quantity exceeds available stock
      */
     @Override
-    @Transactional
-    public CartItem updateQuantity(String email, Long cartItemId, Integer quantity) {
-        User user = findUserByEmail(email);
-        CartItem cartItem = findCartItemByIdAndUser(cartItemId, user.getId());
-
-        validateStockAvailability(cartItem.getProduct(), quantity);
-
-        cartItem.setQuantity(quantity);
-        return cartItemRepository.save(cartItem);
+    public CartItem updateQuantity(Long userId, Long cartItemId, Integer quantity) {
+        CartStore.Item item = cartStore.setQuantity(userId, cartItemId, quantity,
+                (productId, total) -> validateStockAvailability(productSnapshotCache.get(productId), total));
+        return toCartItem(userId, item, productSnapshotCache.get(item.productId()));
     }
 
     /**
@@ -120,21 +180,16 @@ public class CartItemServiceImpl implements CartItemService {
      *                                   or does not belong to the authenticated user
      */
     @Override
-    @Transactional
-    public void removeItem(String email, Long cartItemId) {
-        User user = findUserByEmail(email);
-        CartItem cartItem = findCartItemByIdAndUser(cartItemId, user.getId());
-        cartItemRepository.delete(cartItem);
+    public void removeItem(Long userId, Long cartItemId) {
+        cartStore.remove(userId, cartItemId);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    @Transactional
-    public void clearCart(String email) {
-        User user = findUserByEmail(email);
-        cartItemRepository.deleteByUserId(user.getId());
+    public void clearCart(Long userId) {
+        cartStore.clear(userId);
     }
 
     /**
@@ -160,37 +215,123 @@ public class CartItemServiceImpl implements CartItemService {
     }
 
     /**
-     * Finds a user by email or throws an exception.
+     * Reads a cart and attaches the product snapshots, dropping items
+     * whose product has been deleted.
      *
-     * @param email the user's email
-     * @return the found user
-     * @throws ResourceNotFoundException if no user is found with the given email
+     * @param userId the owner of the cart
+     * @return the cart items, oldest first
      */
-    private User findUserByEmail(String email) {
-        return userRepository.findByEmailIgnoreCase(email)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        String.format("User with email '%s' not found", email)));
+    private List<CartItem> loadCart(long userId) {
+        List<CartStore.Item> items = cartStore.items(userId);
+        Map<Long, Product> products = productSnapshotCache.getAll(
+                items.stream().map(CartStore.Item::productId).distinct().toList());
+
+        List<CartItem> cart = new ArrayList<>(items.size());
+        List<Long> deletedProducts = new ArrayList<>();
+        for (CartStore.Item item : items) {
+            Product product = products.get(item.productId());
+            if (product == null) {
+                deletedProducts.add(item.productId());
+            } else {
+                cart.add(toCartItem(userId, item, product));
+            }
+        }
+        if (!deletedProducts.isEmpty()) {
+            cartStore.removeProducts(userId, deletedProducts);
+        }
+        return cart;
     }
 
     /**
-     * Finds a cart item by ID and validates that it belongs to the given user.
+     * Prices cart items in one pass.
      *
-     * @param cartItemId the cart item ID
-     * @param userId     the user ID
-     * @return the found cart item
-     * @throws ResourceNotFoundException if the cart item is not found
-     *                                   or does not belong to the user
+     * @param cart the cart items with their product snapshots
+     * @return the cart summary
+     */
+    private CartSummaryResponse summarize(List<CartItem> cart) {
+        List<CartSummaryLineResponse> lines = new ArrayList<>(cart.size());
+        int itemCount = 0;
+        BigDecimal subtotal = BigDecimal.ZERO;
+        BigDecimal discount = BigDecimal.ZERO;
+        boolean hasStockIssues = false;
+        for (CartItem item : cart) {
+            Product product = item.getProduct();
+            BigDecimal quantity = BigDecimal.valueOf(item.getQuantity());
+            BigDecimal finalPrice = ProductMapper.calculateFinalPrice(product);
+            BigDecimal lineTotal = finalPrice.multiply(quantity);
+            BigDecimal lineSavings = product.getPrice().subtract(finalPrice).multiply(quantity);
+            CartStockStatus stockStatus = stockStatus(product, item.getQuantity());
+
+            lines.add(new CartSummaryLineResponse(item.getId(), product.getId(), product.getName(),
+                    product.getImageUrl(), product.getCategory().getName(), product.getPrice(),
+                    product.getDiscountPercent(), finalPrice, item.getQuantity(), lineTotal, lineSavings,
+                    product.getStockQuantity(), stockStatus));
+
+            itemCount += item.getQuantity();
+            subtotal = subtotal.add(product.getPrice().multiply(quantity));
+            discount = discount.add(lineSavings);
+            hasStockIssues |= stockStatus != CartStockStatus.IN_STOCK && stockStatus != CartStockStatus.LOW_STOCK;
+        }
+        return new CartSummaryResponse(lines, itemCount, subtotal, discount, subtotal.subtract(discount),
+                hasStockIssues);
+    }
+
+    /**
+     * Converts a requested operation, checking the fields its type requires.
+     *
+     * @param request the requested operation
+     * @return the cart store operation
+     * @throws BusinessRuleException if a required field is missing
+     */
+    private CartStore.Operation toOperation(CartOperationRequest request) {
+        return switch (request.type()) {
+            case ADD -> new CartStore.Add(require(request.productId(), "productId", request),
+                    require(request.quantity(), "quantity", request));
+            case UPDATE -> new CartStore.SetQuantity(require(request.cartItemId(), "cartItemId", request),
+                    require(request.quantity(), "quantity", request));
+            case REMOVE -> new CartStore.Remove(require(request.cartItemId(), "cartItemId", request));
+        };
+    }
+
+    private static <T> T require(T value, String field, CartOperationRequest request) {
+        if (value == null) {
+            throw new BusinessRuleException(String.format("%s operation requires %s", request.type(), field));
+        }
+        return value;
+    }
+
+    /**
+     * Classifies whether a cart quantity can be bought.
+     *
+     * @param product  the product snapshot
+     * @param quantity the quantity in the cart
+     * @return the stock status of the line
      */
-    private CartItem findCartItemByIdAndUser(Long cartItemId, Long userId) {
-        CartItem cartItem = cartItemRepository.findById(cartItemId)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        String.format("Cart item with ID %d not found", cartItemId)));
-
-        if (!cartItem.getUser().getId().equals(userId)) {
-            throw new ResourceNotFoundException(
-                    String.format("Cart item with ID %d not found", cartItemId));
+    private CartStockStatus stockStatus(Product product, int quantity) {
+        int stock = product.getStockQuantity() != null ? product.getStockQuantity() : 0;
+        if (!Boolean.TRUE.equals(product.getActive())) {
+            return CartStockStatus.UNAVAILABLE;
+        }
+        if (stock <= 0) {
+            return CartStockStatus.OUT_OF_STOCK;
+        }
+        if (quantity > stock) {
+            return CartStockStatus.INSUFFICIENT_STOCK;
         }
+        return stock <= LOW_STOCK_THRESHOLD ? CartStockStatus.LOW_STOCK : CartStockStatus.IN_STOCK;
+    }
 
-        return cartItem;
+    /**
+     * Builds a detached cart item for the response from a stored item.
+     *
+     * @param userId  the owner of the cart
+     * @param item    the stored item
+     * @param product the product snapshot
+     * @return the cart item
+     */
+    private CartItem toCartItem(long userId, CartStore.Item item, Product product) {
+        User user = new User();
+        user.setId(userId);
+        return new CartItem(item.id(), user, product, item.quantity(), item.addedAt());
     }
-}
\ No newline at end of file
+}
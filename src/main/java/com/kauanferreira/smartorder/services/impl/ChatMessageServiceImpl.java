@@ -1,13 +1,27 @@
 package com.kauanferreira.smartorder.services.impl;
 
+import com.kauanferreira.smartorder.entity.ChatConversation;
 import com.kauanferreira.smartorder.entity.ChatMessage;
+import com.kauanferreira.smartorder.entity.Product;
 import com.kauanferreira.smartorder.entity.User;
+import com.kauanferreira.smartorder.exception.BusinessRuleException;
 import com.kauanferreira.smartorder.exception.ResourceNotFoundException;
+import com.kauanferreira.smartorder.repository.ChatConversationRepository;
 import com.kauanferreira.smartorder.repository.ChatMessageRepository;
 import com.kauanferreira.smartorder.repository.UserRepository;
+import com.kauanferreira.smartorder.services.cache.ProductSnapshotCache;
+import com.kauanferreira.smartorder.services.cache.UserSnapshotCache;
+import com.kauanferreira.smartorder.services.chat.ChatMessageWriter;
+import com.kauanferreira.smartorder.services.chat.ChatUnreadCounter;
+import com.kauanferreira.smartorder.services.event.ChatUnreadChangedEvent;
 import com.kauanferreira.smartorder.services.interfaces.ChatMessageService;
-import com.kauanferreira.smartorder.services.interfaces.ProductService;
+import com.kauanferreira.smartorder.services.pagination.Slices;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,38 +45,82 @@ import java.util.List;
 public class ChatMessageServiceImpl implements ChatMessageService {
 
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatConversationRepository chatConversationRepository;
     private final UserRepository userRepository;
-    private final ProductService productService;
+    private final UserSnapshotCache userSnapshotCache;
+    private final ProductSnapshotCache productSnapshotCache;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatUnreadCounter chatUnreadCounter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${spring.data.web.pageable.default-page-size:20}")
+    private int defaultSize;
+
+    @Value("${spring.data.web.pageable.max-page-size:100}")
+    private int maxSize;
 
     /**
      * {@inheritDoc}
      *
+     * <p>The receiver and product are validated against
+     * {@link UserSnapshotCache} and {@link ProductSnapshotCache} and set on
+     * the message, so it can be mapped to a response without reading
+     * anything back. The message is then handed to {@link ChatMessageWriter},
+     * which assigns its id and writes it, with both participants' inbox rows,
+     * in a later batch; the receiver's in-memory counter follows once that
+     * batch commits. Once the caches are warm, sending only touches the
+     * database to reserve the next block of ids. Sending has no effect on the read status of the sender's
+     * side of the conversation.</p>
+     *
      * @throws ResourceNotFoundException if the receiver or product does not exist
+     * @throws BusinessRuleException     if the receiver is the sender, or the writer's queue stays full
      */
     @Override
-    @Transactional
-    public ChatMessage send(String email, ChatMessage chatMessage) {
-        User sender = findUserByEmail(email);
-        findUserById(chatMessage.getReceiver().getId());
-        productService.findById(chatMessage.getProduct().getId());
+    public ChatMessage send(User sender, ChatMessage chatMessage) {
+        if (sender.getId().equals(chatMessage.getReceiver().getId())) {
+            throw new BusinessRuleException("You cannot send a message to yourself");
+        }
+        User receiver = userSnapshotCache.get(chatMessage.getReceiver().getId());
+        Product product = productSnapshotCache.get(chatMessage.getProduct().getId());
 
         chatMessage.setSender(sender);
-        chatMessage.setIsRead(false);
-        return chatMessageRepository.save(chatMessage);
+        chatMessage.setReceiver(receiver);
+        chatMessage.setProduct(product);
+        return chatMessageWriter.enqueue(chatMessage);
     }
 
     /**
      * {@inheritDoc}
      *
-     * <p>Also marks all unread messages from the other user as read,
-     * since opening the conversation implies the user has seen them.</p>
+     * <p>Loading the latest messages or syncing newer ones also marks all
+     * unread messages from the other user as read, since the user is looking
+     * at the end of the conversation; loading older pages does not. Older
+     * pages come from the repository newest first and are reversed so that
+     * their rows read oldest to newest.</p>
+     *
+     * @throws BusinessRuleException if both {@code beforeId} and {@code afterId} are given
      */
     @Override
     @Transactional
-    public List<ChatMessage> getConversation(String email, Long otherUserId, Long productId) {
+    public Slice<ChatMessage> getConversation(String email, Long otherUserId, Long productId,
+                                              Long beforeId, Long afterId, Integer size) {
+        if (beforeId != null && afterId != null) {
+            throw new BusinessRuleException("Use either beforeId or afterId, not both");
+        }
         User user = findUserByEmail(email);
-        chatMessageRepository.markConversationAsRead(otherUserId, user.getId(), productId);
-        return chatMessageRepository.findConversation(user.getId(), otherUserId, productId);
+        long lowUserId = Math.min(user.getId(), otherUserId);
+        long highUserId = Math.max(user.getId(), otherUserId);
+        Pageable limit = PageRequest.of(0, size == null ? defaultSize : Math.clamp(size, 1, maxSize));
+
+        if (beforeId == null) {
+            markConversationAsRead(user, otherUserId, productId);
+        }
+        if (afterId != null) {
+            return chatMessageRepository.findConversationAfter(lowUserId, highUserId, productId, afterId, limit);
+        }
+        Slice<ChatMessage> newestFirst = chatMessageRepository.findConversationBefore(lowUserId, highUserId,
+                productId, beforeId == null ? Long.MAX_VALUE : beforeId, limit);
+        return Slices.mapContent(newestFirst, List::reversed);
     }
 
     /**
@@ -70,9 +128,9 @@ public class ChatMessageServiceImpl implements ChatMessageService {
      */
     @Override
     @Transactional(readOnly = true)
-    public List<ChatMessage> getMyConversations(String email) {
+    public Slice<ChatConversation> getMyConversations(String email, Pageable pageable) {
         User user = findUserByEmail(email);
-        return chatMessageRepository.findUserConversations(user.getId());
+        return chatConversationRepository.findInbox(user.getId(), pageable);
     }
 
     /**
@@ -82,17 +140,41 @@ public class ChatMessageServiceImpl implements ChatMessageService {
     @Transactional
     public void markAsRead(String email, Long senderId, Long productId) {
         User user = findUserByEmail(email);
-        chatMessageRepository.markConversationAsRead(senderId, user.getId(), productId);
+        markConversationAsRead(user, senderId, productId);
     }
 
     /**
      * {@inheritDoc}
+     *
+     * <p>Served from {@link ChatUnreadCounter}; only the first read of a user
+     * reaches the database.</p>
      */
     @Override
-    @Transactional(readOnly = true)
-    public Integer countUnread(String email) {
-        User user = findUserByEmail(email);
-        return chatMessageRepository.countUnreadMessages(user.getId());
+    public Integer countUnread(Long userId) {
+        return chatUnreadCounter.get(userId);
+    }
+
+    /**
+     * Resets the user's unread count for a conversation, then marks its
+     * messages as read. Messages from the other user still queued in
+     * {@link ChatMessageWriter} are waited for first, so one delivered before
+     * the read is not stored as unread after it; this happens before the
+     * inbox row is locked, which the writer needs. The inbox row is updated
+     * next so that a message sent concurrently waits for its lock and is
+     * counted after the reset. The user's in-memory counter drops by the
+     * number of messages marked.
+     *
+     * @param user        the user who read the conversation
+     * @param otherUserId the ID of the other participant
+     * @param productId   the ID of the product
+     */
+    private void markConversationAsRead(User user, Long otherUserId, Long productId) {
+        chatMessageWriter.awaitWritten(otherUserId, user.getId(), productId);
+        chatConversationRepository.markAsRead(user.getId(), otherUserId, productId);
+        int read = chatMessageRepository.markConversationAsRead(otherUserId, user.getId(), productId);
+        if (read > 0) {
+            eventPublisher.publishEvent(new ChatUnreadChangedEvent(user.getId(), user.getEmail(), -read));
+        }
     }
 
     /**
@@ -107,17 +189,4 @@ public class ChatMessageServiceImpl implements ChatMessageService {
                 .orElseThrow(() -> new ResourceNotFoundException(
                         String.format("User with email '%s' not found", email)));
     }
-
-    /**
-     * Finds a user by ID or throws an exception.
-     *
-     * @param id the user's ID
-     * @return the found user
-     * @throws ResourceNotFoundException if no user is found with the given ID
-     */
-    private User findUserById(Long id) {
-        return userRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        String.format("User with ID %d not found", id)));
-    }
-}
\ No newline at end of file
+}
\ No newline at end of file
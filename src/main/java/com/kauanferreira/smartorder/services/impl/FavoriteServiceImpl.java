@@ -3,13 +3,16 @@ package com.kauanferreira.smartorder.services.impl;
 import com.kauanferreira.smartorder.entity.Favorite;
 import com.kauanferreira.smartorder.entity.Product;
 import com.kauanferreira.smartorder.entity.User;
+import com.kauanferreira.smartorder.exception.BusinessRuleException;
 import com.kauanferreira.smartorder.exception.ResourceNotFoundException;
 import com.kauanferreira.smartorder.repository.FavoriteRepository;
 import com.kauanferreira.smartorder.repository.UserRepository;
+import com.kauanferreira.smartorder.services.cache.FavoriteProductCache;
+import com.kauanferreira.smartorder.services.event.FavoriteChangedEvent;
 import com.kauanferreira.smartorder.services.interfaces.FavoriteService;
 import com.kauanferreira.smartorder.services.interfaces.ProductService;
-import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,10 +35,13 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class FavoriteServiceImpl implements FavoriteService {
 
+    private static final int MAX_FAVORITED_LOOKUP = 200;
+
     private final FavoriteRepository favoriteRepository;
     private final UserRepository userRepository;
     private final ProductService productService;
-    private final EntityManager entityManager;
+    private final FavoriteProductCache favoriteProductCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * {@inheritDoc}
@@ -59,7 +65,7 @@ public class FavoriteServiceImpl implements FavoriteService {
     @Transactional
     public Favorite addFavorite(String email, Long productId) {
         User user = findUserByEmail(email);
-        productService.findById(productId);
+        Product product = productService.findById(productId);
 
         Optional<Favorite> existing = favoriteRepository
                 .findByUserIdAndProductId(user.getId(), productId);
@@ -70,15 +76,11 @@ public class FavoriteServiceImpl implements FavoriteService {
 
         Favorite favorite = new Favorite();
         favorite.setUser(user);
-
-        Product product = new Product();
-        product.setId(productId);
         favorite.setProduct(product);
 
         Favorite saved = favoriteRepository.save(favorite);
-        entityManager.flush();
-        entityManager.clear();
-        return favoriteRepository.findById(saved.getId()).orElse(saved);
+        eventPublisher.publishEvent(new FavoriteChangedEvent(user.getId(), productId, true));
+        return saved;
     }
 
     /**
@@ -90,20 +92,48 @@ public class FavoriteServiceImpl implements FavoriteService {
     @Transactional
     public void removeFavorite(String email, Long productId) {
         User user = findUserByEmail(email);
-        favoriteRepository.findByUserIdAndProductId(user.getId(), productId)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        String.format("Product with ID %d is not in your favorites", productId)));
-        favoriteRepository.deleteByUserIdAndProductId(user.getId(), productId);
+        if (favoriteRepository.deleteByUserIdAndProductId(user.getId(), productId) == 0) {
+            throw new ResourceNotFoundException(
+                    String.format("Product with ID %d is not in your favorites", productId));
+        }
+        eventPublisher.publishEvent(new FavoriteChangedEvent(user.getId(), productId, false));
     }
 
     /**
      * {@inheritDoc}
+     *
+     * <p>Answered from {@link FavoriteProductCache}; only the first call for a
+     * user (or the first after eviction) reaches the database.</p>
      */
     @Override
-    @Transactional(readOnly = true)
-    public boolean isFavorited(String email, Long productId) {
-        User user = findUserByEmail(email);
-        return favoriteRepository.findByUserIdAndProductId(user.getId(), productId).isPresent();
+    public boolean isFavorited(Long userId, Long productId) {
+        return favoriteProductCache.isFavorited(userId, productId);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Answered from {@link FavoriteProductCache}.</p>
+     */
+    @Override
+    public List<Long> getFavoriteProductIds(Long userId) {
+        return favoriteProductCache.allFavorited(userId);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Answered from {@link FavoriteProductCache}.</p>
+     *
+     * @throws BusinessRuleException if more than {@value #MAX_FAVORITED_LOOKUP} ids are requested
+     */
+    @Override
+    public List<Long> findFavoritedProductIds(Long userId, List<Long> productIds) {
+        if (productIds.size() > MAX_FAVORITED_LOOKUP) {
+            throw new BusinessRuleException(String.format(
+                    "At most %d product ids can be checked at once", MAX_FAVORITED_LOOKUP));
+        }
+        return favoriteProductCache.filterFavorited(userId, productIds);
     }
 
     /**
@@ -1,14 +1,19 @@
 package com.kauanferreira.smartorder.services.impl;
 
 import com.kauanferreira.smartorder.entity.OrderItem;
+import com.kauanferreira.smartorder.entity.Product;
 import com.kauanferreira.smartorder.exception.ResourceNotFoundException;
 import com.kauanferreira.smartorder.repository.OrderItemRepository;
+import com.kauanferreira.smartorder.services.event.PurchaseHistoryChangedEvent;
 import com.kauanferreira.smartorder.services.interfaces.OrderItemService;
 import com.kauanferreira.smartorder.services.interfaces.OrderService;
 import com.kauanferreira.smartorder.services.interfaces.ProductService;
+import com.kauanferreira.smartorder.services.pagination.Slices;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,7 +24,9 @@ import java.util.List;
  * and query methods for managing order items.
  *
  * <p>Validates order and product existence through {@link OrderService}
- * and {@link ProductService} before creating or updating order items.</p>
+ * and {@link ProductService} before creating or updating order items.
+ * Every change publishes a {@link PurchaseHistoryChangedEvent} for the
+ * order's owner.</p>
  *
  * @author Kauan Santos Ferreira
  * @version 1.0
@@ -36,6 +43,7 @@ public class OrderItemServiceImpl implements OrderItemService {
     private final OrderItemRepository orderItemRepository;
     private final ProductService productService;
     private final OrderService orderService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * {@inheritDoc}
@@ -49,7 +57,9 @@ public class OrderItemServiceImpl implements OrderItemService {
         var product = productService.findById(orderItem.getProduct().getId());
         orderItem.setOrder(order);
         orderItem.setProduct(product);
-        return orderItemRepository.save(orderItem);
+        OrderItem saved = orderItemRepository.save(orderItem);
+        eventPublisher.publishEvent(new PurchaseHistoryChangedEvent(order.getUser().getId()));
+        return saved;
     }
 
     /**
@@ -68,8 +78,8 @@ public class OrderItemServiceImpl implements OrderItemService {
     /** {@inheritDoc} */
     @Override
     @Transactional(readOnly = true)
-    public List<OrderItem> findAll() {
-        return orderItemRepository.findAll();
+    public Slice<OrderItem> findAll(Pageable pageable, boolean withTotal) {
+        return Slices.withTotal(orderItemRepository.findAllBy(pageable), withTotal, orderItemRepository::count);
     }
 
     /** {@inheritDoc} */
@@ -98,9 +108,10 @@ public class OrderItemServiceImpl implements OrderItemService {
      */
     @Override
     @Transactional(readOnly = true)
-    public List<OrderItem> findByProductId(Long productId) {
+    public Slice<OrderItem> findByProductId(Long productId, Pageable pageable, boolean withTotal) {
         productService.findById(productId);
-        return orderItemRepository.findByProductId(productId);
+        return Slices.withTotal(orderItemRepository.findByProductId(productId, pageable), withTotal,
+                () -> orderItemRepository.countByProductId(productId));
     }
 
     /** {@inheritDoc} */
@@ -123,13 +134,15 @@ public class OrderItemServiceImpl implements OrderItemService {
     @Transactional
     public OrderItem update(Long id, OrderItem orderItem) {
         OrderItem existing = findById(id);
-        productService.findById(orderItem.getProduct().getId());
+        Product product = productService.findById(orderItem.getProduct().getId());
 
         existing.setQuantity(orderItem.getQuantity());
         existing.setPrice(orderItem.getPrice());
         existing.setSubtotal(orderItem.getSubtotal());
-        existing.setProduct(orderItem.getProduct());
-        return  orderItemRepository.save(existing);
+        existing.setProduct(product);
+        OrderItem saved = orderItemRepository.save(existing);
+        eventPublisher.publishEvent(new PurchaseHistoryChangedEvent(existing.getOrder().getUser().getId()));
+        return saved;
     }
 
     /**
@@ -142,5 +155,6 @@ public class OrderItemServiceImpl implements OrderItemService {
     public void delete(Long id) {
         OrderItem existing = findById(id);
         orderItemRepository.delete(existing);
+        eventPublisher.publishEvent(new PurchaseHistoryChangedEvent(existing.getOrder().getUser().getId()));
     }
 }
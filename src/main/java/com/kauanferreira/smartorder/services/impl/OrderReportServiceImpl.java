@@ -0,0 +1,204 @@
+package com.kauanferreira.smartorder.services.impl;
+
+import com.kauanferreira.smartorder.enums.OrderStatus;
+import com.kauanferreira.smartorder.exception.BusinessRuleException;
+import com.kauanferreira.smartorder.services.interfaces.OrderReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Implementation of {@link OrderReportService}.
+ *
+ * <p>Reads orders joined with their items through plain JDBC instead of JPA:
+ * the statement is forward-only and read-only with a fixed fetch size, and it
+ * runs inside a read-only transaction so the PostgreSQL driver uses a server-side
+ * cursor rather than loading the whole result. Every row is written to the output
+ * as soon as it is read, reusing one {@link StringBuilder} and one fixed-size char buffer,
+ * so heap usage stays constant no matter how many rows the report has.</p>
+ *
+ * <p>Rows are read from {@code vw_order_history} / {@code vw_order_item_history},
+ * so months already moved to the archive tables are exported too. The join
+ * repeats {@code order_date} and the date filter reaches both the hot and the
+ * archived partitions, so every month outside the range is pruned.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see OrderReportService
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderReportServiceImpl implements OrderReportService {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final String HEADER =
+            "order_id,order_date,status,order_total,user_id,user_email," +
+            "item_id,product_id,product_name,quantity,unit_price,subtotal\n";
+
+    private static final String SELECT_ORDER_ROWS = """
+            SELECT o.id, o.order_date, o.status, o.total_amount, o.user_id, u.email,
+                   oi.id, oi.product_id, p.name, oi.quantity, oi.price, oi.subtotal
+            FROM vw_order_history o
+            JOIN vw_order_item_history oi ON oi.order_id = o.id AND oi.order_date = o.order_date
+            JOIN tb_user u ON u.id = o.user_id
+            JOIN tb_product p ON p.id = oi.product_id
+            WHERE o.order_date >= ? AND o.order_date < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${smartorder.reports.export.max-range-days:366}")
+    private long maxRangeDays;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BusinessRuleException("Report start date must not be after the end date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > maxRangeDays) {
+            throw new BusinessRuleException(String.format(
+                    "Report range cannot exceed %d days", maxRangeDays));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws BusinessRuleException if the date range is invalid
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long writeOrdersCsv(LocalDate from, LocalDate to, OrderStatus status, OutputStream out) throws IOException {
+        validateRange(from, to);
+
+        String sql = SELECT_ORDER_ROWS
+                + (status != null ? "AND o.status = ?\n" : "")
+                + "ORDER BY o.order_date, o.id, oi.id";
+
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        CsvRowWriter rows = new CsvRowWriter(writer);
+        writer.write(HEADER);
+
+        try {
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(sql,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(FETCH_SIZE);
+                ps.setTimestamp(1, Timestamp.valueOf(from.atStartOfDay()));
+                ps.setTimestamp(2, Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+                if (status != null) {
+                    ps.setString(3, status.name());
+                }
+                return ps;
+            }, rows::write);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        rows.flush();
+        return rows.count;
+    }
+
+    /**
+     * Turns result set rows into CSV lines through a single reusable buffer.
+     * Numeric and date columns are copied as the driver's text representation;
+     * only free-text columns are escaped.
+     */
+    private static final class CsvRowWriter {
+
+        private final Writer writer;
+        private final StringBuilder line = new StringBuilder(256);
+        private final char[] chunk = new char[WRITE_BUFFER_SIZE];
+        private int used;
+        private long count;
+
+        private CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        private void write(ResultSet rs) throws SQLException {
+            line.setLength(0);
+            line.append(rs.getString(1)).append(',')
+                    .append(rs.getString(2)).append(',')
+                    .append(rs.getString(3)).append(',')
+                    .append(rs.getString(4)).append(',')
+                    .append(rs.getString(5)).append(',');
+            appendEscaped(rs.getString(6));
+            line.append(',')
+                    .append(rs.getString(7)).append(',')
+                    .append(rs.getString(8)).append(',');
+            appendEscaped(rs.getString(9));
+            line.append(',')
+                    .append(rs.getString(10)).append(',')
+                    .append(rs.getString(11)).append(',')
+                    .append(rs.getString(12)).append('\n');
+
+            try {
+                if (used + line.length() > chunk.length) {
+                    drain();
+                }
+                if (line.length() > chunk.length) {
+                    writer.append(line);
+                } else {
+                    line.getChars(0, line.length(), chunk, used);
+                    used += line.length();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            count++;
+        }
+
+        private void appendEscaped(String value) {
+            if (value == null) {
+                return;
+            }
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                line.append(value);
+                return;
+            }
+            line.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    line.append('"');
+                }
+                line.append(c);
+            }
+            line.append('"');
+        }
+
+        private void drain() throws IOException {
+            writer.write(chunk, 0, used);
+            used = 0;
+        }
+
+        private void flush() throws IOException {
+            drain();
+            writer.flush();
+        }
+    }
+}
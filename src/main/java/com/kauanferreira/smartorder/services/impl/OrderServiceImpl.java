@@ -3,16 +3,24 @@ package com.kauanferreira.smartorder.services.impl;
 import com.kauanferreira.smartorder.dto.request.CheckoutRequest;
 import com.kauanferreira.smartorder.entity.*;
 import com.kauanferreira.smartorder.enums.OrderStatus;
+import com.kauanferreira.smartorder.exception.BusinessRuleException;
 import com.kauanferreira.smartorder.exception.ResourceNotFoundException;
+import com.kauanferreira.smartorder.repository.OrderHistoryRepository;
 import com.kauanferreira.smartorder.repository.OrderRepository;
-import com.kauanferreira.smartorder.repository.UserRepository;
+import com.kauanferreira.smartorder.services.cache.PurchasedProductCache;
+import com.kauanferreira.smartorder.services.event.OrderPlacedEvent;
+import com.kauanferreira.smartorder.services.event.OrderStatusChangedEvent;
+import com.kauanferreira.smartorder.services.event.PurchaseHistoryChangedEvent;
 import com.kauanferreira.smartorder.services.interfaces.AddressService;
 import com.kauanferreira.smartorder.services.interfaces.OrderService;
 import com.kauanferreira.smartorder.services.interfaces.ProductService;
 import com.kauanferreira.smartorder.services.interfaces.UserService;
+import com.kauanferreira.smartorder.services.pagination.Slices;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,11 +34,21 @@ import java.util.List;
  * <p>Validates user and address existence through {@link UserService}
  * and {@link AddressService} before creating or updating orders.</p>
  *
+ * <p>A customer's order history (an order by id, the orders of a user and
+ * their counts) is read through {@link OrderHistoryRepository}, so orders in
+ * archived months stay visible. Admin listings and every write only see the
+ * hot months through {@link OrderRepository}.</p>
+ *
+ * <p>Publishes {@link OrderPlacedEvent}, {@link OrderStatusChangedEvent} and
+ * {@link PurchaseHistoryChangedEvent} so caches and metrics derived from orders
+ * can update themselves once the transaction commits.</p>
+ *
  * @author Kauan Santos Ferreira
  * @version 1.0
  * @since 2026
  * @see OrderService
  * @see OrderRepository
+ * @see OrderHistoryRepository
  * @see UserService
  * @see AddressService
  */
@@ -38,11 +56,16 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
 
+    /** Maximum number of product ids accepted by a single purchased-products lookup. */
+    private static final int MAX_PURCHASED_LOOKUP = 200;
+
     private final OrderRepository orderRepository;
+    private final OrderHistoryRepository orderHistoryRepository;
     private final AddressService addressService;
     private final UserService userService;
-    private final UserRepository userRepository;
     private final ProductService productService;
+    private final PurchasedProductCache purchasedProductCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * {@inheritDoc}
@@ -72,18 +95,34 @@ public class OrderServiceImpl implements OrderService {
         );
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ResourceNotFoundException if no order is found with the given id
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Order findInHistoryById(Long id) {
+        return orderHistoryRepository.findById(id).orElseThrow(
+                () -> new ResourceNotFoundException(String.format("Order with id %d not found", id))
+        );
+    }
+
     /** {@inheritDoc} */
     @Override
     @Transactional(readOnly = true)
-    public List<Order> findAll() {
-        return orderRepository.findAll();
+    public Slice<Order> findAll(Pageable pageable, boolean withTotal) {
+        Slice<Order> orders = withItems(orderRepository.findAllBy(pageable));
+        return Slices.withTotal(orders, withTotal, orderRepository::count);
     }
 
     /** {@inheritDoc} */
     @Override
     @Transactional(readOnly = true)
     public Page<Order> findAll(Pageable pageable) {
-        return orderRepository.findAll(pageable);
+        Page<Order> orders = orderRepository.findAll(pageable);
+        withItems(orders);
+        return orders;
     }
 
     /**
@@ -93,17 +132,18 @@ public class OrderServiceImpl implements OrderService {
      */
     @Override
     @Transactional(readOnly = true)
-    public List<Order> findByUserId(Long userId) {
+    public Slice<Order> findByUserId(Long userId, Pageable pageable, boolean withTotal) {
         userService.findById(userId);
-        return orderRepository.findByUserIdOrderByOrderDateDesc(userId);
+        Slice<Order> orders = orderHistoryRepository.findByUserId(userId, pageable);
+        return Slices.withTotal(orders, withTotal, () -> orderHistoryRepository.countByUserId(userId));
     }
 
     /** {@inheritDoc} */
-
     @Override
     @Transactional(readOnly = true)
-    public List<Order> findByStatus(OrderStatus status) {
-        return orderRepository.findByStatus(status);
+    public Slice<Order> findByStatus(OrderStatus status, Pageable pageable, boolean withTotal) {
+        Slice<Order> orders = withItems(orderRepository.findByStatus(status, pageable));
+        return Slices.withTotal(orders, withTotal, () -> orderRepository.countByStatus(status));
     }
 
     /**
@@ -113,24 +153,39 @@ public class OrderServiceImpl implements OrderService {
      */
     @Override
     @Transactional(readOnly = true)
-    public List<Order> findByUserIdAndStatus(Long userId, OrderStatus status) {
+    public Slice<Order> findByUserIdAndStatus(Long userId, OrderStatus status, Pageable pageable, boolean withTotal) {
         userService.findById(userId);
-        return orderRepository.findByUserIdAndStatus(userId, status);
+        Slice<Order> orders = orderHistoryRepository.findByUserIdAndStatus(userId, status, pageable);
+        return Slices.withTotal(orders, withTotal,
+                () -> orderHistoryRepository.countByUserIdAndStatus(userId, status));
     }
 
     /** {@inheritDoc} */
     @Override
     @Transactional(readOnly = true)
-    public List<Order> findByAddressId(Long addressId) {
-        return orderRepository.findByAddressId(addressId);
+    public Slice<Order> findByAddressId(Long addressId, Pageable pageable, boolean withTotal) {
+        Slice<Order> orders = withItems(orderRepository.findByAddressId(addressId, pageable));
+        return Slices.withTotal(orders, withTotal, () -> orderRepository.countByAddressId(addressId));
     }
 
     /** {@inheritDoc} */
     @Override
     @Transactional(readOnly = true)
-    public List<Order> findByAuthenticatedUser(String email) {
+    public Slice<Order> findByAuthenticatedUser(String email, Pageable pageable, boolean withTotal) {
         User user = userService.findByEmail(email);
-        return orderRepository.findByUserIdOrderByOrderDateDesc(user.getId());
+        Slice<Order> orders = orderHistoryRepository.findByUserId(user.getId(), pageable);
+        return Slices.withTotal(orders, withTotal, () -> orderHistoryRepository.countByUserId(user.getId()));
+    }
+
+    /**
+     * Initializes the items of a page of orders with one extra query, so the
+     * page query itself never fetch-joins a collection.
+     */
+    private Slice<Order> withItems(Slice<Order> orders) {
+        if (orders.hasContent()) {
+            orderRepository.findWithItemsByIdIn(orders.map(Order::getId).getContent());
+        }
+        return orders;
     }
 
     /**
@@ -161,8 +216,7 @@ public class OrderServiceImpl implements OrderService {
         }
         Address address = userAddresses.get(0);
 
-        Product product = productService.findById(request.productId());
-        productService.decreaseStock(product.getId(), request.quantity());
+        Product product = productService.decreaseStock(request.productId(), request.quantity());
 
         BigDecimal unitPrice = calculateUnitPrice(product);
         BigDecimal subtotal = unitPrice.multiply(BigDecimal.valueOf(request.quantity()));
@@ -182,7 +236,9 @@ public class OrderServiceImpl implements OrderService {
 
         order.getItems().add(item);
 
-        return orderRepository.save(order);
+        Order saved = orderRepository.save(order);
+        eventPublisher.publishEvent(OrderPlacedEvent.from(saved));
+        return saved;
     }
 
     /**
@@ -211,7 +267,7 @@ public class OrderServiceImpl implements OrderService {
     @Override
     @Transactional(readOnly = true)
     public long countByUserId(Long userId) {
-        return orderRepository.countByUserId(userId);
+        return orderHistoryRepository.countByUserId(userId);
     }
 
     /** {@inheritDoc} */
@@ -241,7 +297,11 @@ public class OrderServiceImpl implements OrderService {
         }
 
         existing.setStatus(status);
-        return orderRepository.save(existing);
+        Order saved = orderRepository.save(existing);
+        if (previousStatus != status) {
+            eventPublisher.publishEvent(OrderStatusChangedEvent.from(saved, previousStatus));
+        }
+        return saved;
     }
 
     /**
@@ -270,25 +330,43 @@ public class OrderServiceImpl implements OrderService {
     public Order update(Long id, Order order) {
         Order existing = findById(id);
         var address = addressService.findById(order.getAddress().getId());
+        OrderStatus previousStatus = existing.getStatus();
 
         existing.setStatus(order.getStatus());
         existing.setTotalAmount(order.getTotalAmount());
         existing.setAddress(address);
-        return orderRepository.save(existing);
+        Order saved = orderRepository.save(existing);
+        if (previousStatus != saved.getStatus()) {
+            eventPublisher.publishEvent(OrderStatusChangedEvent.from(saved, previousStatus));
+        }
+        return saved;
     }
 
     /**
      * {@inheritDoc}
      *
-     * @throws ResourceNotFoundException if the user does not exist
+     * <p>Answered from {@link PurchasedProductCache}; only the first call for a
+     * user (or the first after eviction) reaches the database.</p>
      */
     @Override
-    public boolean hasUserPurchasedProduct(String email, Long productId) {
-        User user = userRepository.findByEmailIgnoreCase(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return orderRepository.existsByUserIdAndProductIdAndStatusNot(
-                user.getId(), productId, OrderStatus.CANCELLED
-        );
+    public boolean hasUserPurchasedProduct(Long userId, Long productId) {
+        return purchasedProductCache.hasPurchased(userId, productId);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Answered from {@link PurchasedProductCache}.</p>
+     *
+     * @throws BusinessRuleException if more than {@value #MAX_PURCHASED_LOOKUP} ids are requested
+     */
+    @Override
+    public List<Long> findPurchasedProductIds(Long userId, List<Long> productIds) {
+        if (productIds.size() > MAX_PURCHASED_LOOKUP) {
+            throw new BusinessRuleException(String.format(
+                    "At most %d product ids can be checked at once", MAX_PURCHASED_LOOKUP));
+        }
+        return purchasedProductCache.filterPurchased(userId, productIds);
     }
 
     /**
@@ -301,5 +379,6 @@ public class OrderServiceImpl implements OrderService {
     public void delete(Long id) {
         Order order = findById(id);
         orderRepository.delete(order);
+        eventPublisher.publishEvent(new PurchaseHistoryChangedEvent(order.getUser().getId()));
     }
 }
@@ -0,0 +1,107 @@
+package com.kauanferreira.smartorder.services.impl;
+
+import com.kauanferreira.smartorder.dto.response.ProductResponse;
+import com.kauanferreira.smartorder.enums.ProductRanking;
+import com.kauanferreira.smartorder.exception.BusinessRuleException;
+import com.kauanferreira.smartorder.services.interfaces.ProductRankingService;
+import com.kauanferreira.smartorder.services.interfaces.ProductService;
+import com.kauanferreira.smartorder.services.ranking.HeavyHitterSketch;
+import com.kauanferreira.smartorder.services.ranking.ProductRankingRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of {@link ProductRankingService}.
+ *
+ * <p>Every {@code smartorder.ranking.refresh-ms} the top product ids of each
+ * ranking are read from {@link ProductRankingRegistry} and turned into
+ * storefront-ready {@link ProductResponse} lists with one product query and
+ * one rating query. Requests only slice those immutable lists, so they cost
+ * no database access regardless of traffic.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see ProductRankingService
+ * @see ProductRankingRegistry
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductRankingServiceImpl implements ProductRankingService {
+
+    private final ProductRankingRegistry productRankingRegistry;
+    private final ProductService productService;
+
+    /**
+     * Maximum number of products kept per ranking and returned per request.
+     * Defaults to 50.
+     */
+    @Value("${smartorder.ranking.max-limit:50}")
+    private int maxLimit;
+
+    private final Map<ProductRanking, List<ProductResponse>> materialized = new EnumMap<>(ProductRanking.class);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ProductResponse> findTop(ProductRanking ranking, int limit) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new BusinessRuleException(String.format("Limit must be between 1 and %d", maxLimit));
+        }
+        List<ProductResponse> products;
+        synchronized (materialized) {
+            products = materialized.getOrDefault(ranking, List.of());
+        }
+        return products.size() > limit ? products.subList(0, limit) : products;
+    }
+
+    /**
+     * Rebuilds the rankings from recent orders and materializes them once the
+     * application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            productRankingRegistry.rebuild();
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild product rankings: {}", e.getMessage());
+        }
+        refresh();
+    }
+
+    /**
+     * Re-reads the top products of every ranking and replaces the served lists.
+     * Fetches extra ids so inactive products can be dropped without leaving gaps.
+     */
+    @Scheduled(fixedDelayString = "${smartorder.ranking.refresh-ms:30000}",
+            initialDelayString = "${smartorder.ranking.refresh-ms:30000}")
+    public void refresh() {
+        for (ProductRanking ranking : ProductRanking.values()) {
+            try {
+                List<Long> ids = productRankingRegistry.top(ranking, maxLimit * 2)
+                        .stream()
+                        .map(HeavyHitterSketch.Counter::productId)
+                        .toList();
+                List<ProductResponse> products = productService.findActiveByIdsWithRating(ids);
+                List<ProductResponse> top = List.copyOf(products.size() > maxLimit
+                        ? products.subList(0, maxLimit) : products);
+                synchronized (materialized) {
+                    materialized.put(ranking, top);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to refresh the {} ranking, serving the previous list: {}", ranking, e.getMessage());
+            }
+        }
+    }
+}
@@ -11,10 +11,13 @@ import com.kauanferreira.smartorder.repository.ProductRepository;
 import com.kauanferreira.smartorder.repository.ReviewRepository;
 import com.kauanferreira.smartorder.services.interfaces.CategoryService;
 import com.kauanferreira.smartorder.services.interfaces.ProductService;
+import com.kauanferreira.smartorder.services.pagination.Slices;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,7 +25,9 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 /**
@@ -192,38 +197,47 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    public List<ProductResponse> findOrderedByNameWithRating() {
-        return enrichWithRating(productRepository.findAllByOrderByNameAsc());
+    public Slice<ProductResponse> findOrderedByNameWithRating(Pageable pageable, boolean withTotal) {
+        Pageable byName = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("name", "id"));
+        return enrichWithRating(productRepository.findAllBy(byName), withTotal, productRepository::count);
     }
 
     @Override
-    public List<ProductResponse> findOrderedByPriceWithRating() {
-        return enrichWithRating(productRepository.findAllByOrderByPriceAsc());
+    public Slice<ProductResponse> findOrderedByPriceWithRating(Pageable pageable, boolean withTotal) {
+        Pageable byPrice = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("price", "id"));
+        return enrichWithRating(productRepository.findAllBy(byPrice), withTotal, productRepository::count);
     }
 
     @Override
-    public List<ProductResponse> findActiveWithRating(Boolean active) {
-        return enrichWithRating(productRepository.findByActive(active));
+    public Slice<ProductResponse> findActiveWithRating(Boolean active, Pageable pageable, boolean withTotal) {
+        return enrichWithRating(productRepository.findByActive(active, pageable), withTotal,
+                () -> productRepository.countByActive(active));
     }
 
     @Override
-    public List<ProductResponse> findActiveByCategoryWithRating(Long categoryId, Boolean active) {
-        return enrichWithRating(productRepository.findByCategoryIdAndActive(categoryId, active));
+    public Slice<ProductResponse> findActiveByCategoryWithRating(Long categoryId, Boolean active,
+                                                                Pageable pageable, boolean withTotal) {
+        return enrichWithRating(productRepository.findByCategoryIdAndActive(categoryId, active, pageable), withTotal,
+                () -> productRepository.countByCategoryIdAndActive(categoryId, active));
     }
 
     @Override
-    public List<ProductResponse> findByNameWithRating(String name) {
-        return enrichWithRating(productRepository.findByNameContainingIgnoreCase(name));
+    public Slice<ProductResponse> findByNameWithRating(String name, Pageable pageable, boolean withTotal) {
+        return enrichWithRating(productRepository.findByNameContainingIgnoreCase(name, pageable), withTotal,
+                () -> productRepository.countByNameContainingIgnoreCase(name));
     }
 
     @Override
-    public List<ProductResponse> findByCategoryWithRating(Long categoryId) {
-        return enrichWithRating(productRepository.findByCategoryId(categoryId));
+    public Slice<ProductResponse> findByCategoryWithRating(Long categoryId, Pageable pageable, boolean withTotal) {
+        return enrichWithRating(productRepository.findByCategoryId(categoryId, pageable), withTotal,
+                () -> productRepository.countByCategoryId(categoryId));
     }
 
     @Override
-    public List<ProductResponse> findByPriceRangeWithRating(BigDecimal min, BigDecimal max) {
-        return enrichWithRating(productRepository.findByPriceBetween(min, max));
+    public Slice<ProductResponse> findByPriceRangeWithRating(BigDecimal min, BigDecimal max,
+                                                            Pageable pageable, boolean withTotal) {
+        return enrichWithRating(productRepository.findByPriceBetween(min, max, pageable), withTotal,
+                () -> productRepository.countByPriceBetween(min, max));
     }
 
     @Override
@@ -242,8 +256,24 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    public List<ProductResponse> findAllWithRating() {
-        return enrichWithRating(productRepository.findAll());
+    public Slice<ProductResponse> findAllWithRating(Pageable pageable, boolean withTotal) {
+        return enrichWithRating(productRepository.findAllBy(pageable), withTotal, productRepository::count);
+    }
+
+    @Override
+    public List<ProductResponse> findActiveByIdsWithRating(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Product> products = productRepository.findActiveByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        return enrichWithRating(ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .toList());
     }
 
     @Override
@@ -316,6 +346,10 @@ public class ProductServiceImpl implements ProductService {
         return productRepository.save(product);
     }
 
+    private Slice<ProductResponse> enrichWithRating(Slice<Product> slice, boolean withTotal, LongSupplier count) {
+        return Slices.withTotal(Slices.mapContent(slice, this::enrichWithRating), withTotal, count);
+    }
+
     private List<ProductResponse> enrichWithRating(List<Product> products) {
         if (products.isEmpty()) {
             return List.of();
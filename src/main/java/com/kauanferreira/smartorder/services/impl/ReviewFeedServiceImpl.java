@@ -0,0 +1,116 @@
+package com.kauanferreira.smartorder.services.impl;
+
+import com.kauanferreira.smartorder.dto.response.GridPageResponse;
+import com.kauanferreira.smartorder.dto.response.ReviewFeedItemResponse;
+import com.kauanferreira.smartorder.enums.ReviewSort;
+import com.kauanferreira.smartorder.exception.BusinessRuleException;
+import com.kauanferreira.smartorder.exception.ResourceNotFoundException;
+import com.kauanferreira.smartorder.repository.ProductRepository;
+import com.kauanferreira.smartorder.repository.ReviewFeedRepository;
+import com.kauanferreira.smartorder.repository.ReviewFeedRepository.FeedRow;
+import com.kauanferreira.smartorder.repository.ReviewFeedRepository.Position;
+import com.kauanferreira.smartorder.repository.ReviewLikeRepository;
+import com.kauanferreira.smartorder.services.interfaces.ReviewFeedService;
+import com.kauanferreira.smartorder.services.like.ReviewLikeCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Implementation of {@link ReviewFeedService}.
+ *
+ * <p>The helpful order ranks reviews by the lower bound of the Wilson score
+ * interval of their likes. Reviews only receive positive votes, and with no
+ * negative votes that bound grows with the like count alone, so the feed
+ * keys on the stored like count directly: the order is the same and the
+ * cursor stays an exact integer. Displayed counts include the likes not yet
+ * flushed by {@link ReviewLikeCounter}.</p>
+ *
+ * <p>The cursor is the sort and the position of the last row, Base64-encoded;
+ * a cursor produced under one sort is rejected under another.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see ReviewFeedService
+ * @see ReviewFeedRepository
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReviewFeedServiceImpl implements ReviewFeedService {
+
+    private final ReviewFeedRepository reviewFeedRepository;
+    private final ReviewLikeRepository reviewLikeRepository;
+    private final ProductRepository productRepository;
+    private final ReviewLikeCounter reviewLikeCounter;
+
+    @Value("${spring.data.web.pageable.default-page-size:20}")
+    private int defaultSize;
+
+    @Value("${spring.data.web.pageable.max-page-size:100}")
+    private int maxSize;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ResourceNotFoundException if the product does not exist
+     * @throws BusinessRuleException     if the cursor is malformed or belongs to another sort
+     */
+    @Override
+    public GridPageResponse<ReviewFeedItemResponse> getFeed(Long productId, ReviewSort sort, Integer size,
+                                                            String cursor, Long viewerId) {
+        int pageSize = size == null ? defaultSize : Math.clamp(size, 1, maxSize);
+        Position after = cursor == null ? null : decodeCursor(sort, cursor);
+
+        List<FeedRow> rows = reviewFeedRepository.findPage(productId, sort, after, pageSize + 1);
+        if (rows.isEmpty() && after == null && !productRepository.existsById(productId)) {
+            throw new ResourceNotFoundException(String.format("Product with ID %d not found", productId));
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        Set<Long> liked = viewerId == null || rows.isEmpty()
+                ? Set.of()
+                : new HashSet<>(reviewLikeRepository.findLikedReviewIds(viewerId,
+                        rows.stream().map(FeedRow::id).toList()));
+
+        List<ReviewFeedItemResponse> content = rows.stream()
+                .map(row -> new ReviewFeedItemResponse(row.id(), row.userId(), row.userName(), row.rating(),
+                        row.comment(), row.createdAt(), row.likeCount() + reviewLikeCounter.pending(row.id()),
+                        liked.contains(row.id())))
+                .toList();
+        String nextCursor = hasNext ? encodeCursor(sort, Position.of(sort, rows.get(rows.size() - 1))) : null;
+
+        return new GridPageResponse<>(content, pageSize, null, hasNext, nextCursor);
+    }
+
+    private static String encodeCursor(ReviewSort sort, Position position) {
+        String value = sort.name() + "|" + position.key() + "|" + position.createdAt() + "|" + position.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Position decodeCursor(ReviewSort sort, String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 4 || !parts[0].equals(sort.name())) {
+                throw new BusinessRuleException("Cursor does not match the requested sort");
+            }
+            return new Position(Integer.parseInt(parts[1]), LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessRuleException("Invalid cursor");
+        }
+    }
+}
@@ -1,14 +1,15 @@
 package com.kauanferreira.smartorder.services.impl;
 
 import com.kauanferreira.smartorder.entity.Review;
-import com.kauanferreira.smartorder.entity.ReviewLike;
-import com.kauanferreira.smartorder.entity.User;
 import com.kauanferreira.smartorder.exception.ResourceNotFoundException;
 import com.kauanferreira.smartorder.repository.ReviewLikeRepository;
 import com.kauanferreira.smartorder.repository.ReviewRepository;
-import com.kauanferreira.smartorder.repository.UserRepository;
+import com.kauanferreira.smartorder.services.event.ReviewLikeChangedEvent;
 import com.kauanferreira.smartorder.services.interfaces.ReviewLikeService;
+import com.kauanferreira.smartorder.services.like.ReviewLikeCounter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,14 +18,18 @@ import java.util.List;
 /**
  * Implementation of {@link ReviewLikeService}.
  *
- * <p>Handles business logic for review like management,
- * including duplicate prevention and review existence validation.</p>
+ * <p>Liking and unliking are a single INSERT or DELETE on
+ * {@code tb_review_like}, which stays the source of truth. They never touch
+ * the review row: the change is published and summed into
+ * {@code tb_review.like_count} by {@link ReviewLikeCounter}, and like counts
+ * are read from that column plus the deltas not yet flushed.</p>
  *
  * @author Kauan Santos Ferreira
  * @version 1.0
  * @since 2026
  * @see ReviewLikeService
  * @see ReviewLikeRepository
+ * @see ReviewLikeCounter
  */
 @Service
 @RequiredArgsConstructor
@@ -32,7 +37,8 @@ public class ReviewLikeServiceImpl implements ReviewLikeService {
 
     private final ReviewLikeRepository reviewLikeRepository;
     private final ReviewRepository reviewRepository;
-    private final UserRepository userRepository;
+    private final ReviewLikeCounter reviewLikeCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * {@inheritDoc}
@@ -44,18 +50,16 @@ public class ReviewLikeServiceImpl implements ReviewLikeService {
      */
     @Override
     @Transactional
-    public void like(String email, Long reviewId) {
-        User user = findUserByEmail(email);
-        Review review = findReviewById(reviewId);
-
-        if (reviewLikeRepository.findByUserIdAndReviewId(user.getId(), reviewId).isPresent()) {
-            return;
+    public void like(Long userId, Long reviewId) {
+        int inserted;
+        try {
+            inserted = reviewLikeRepository.insertIfAbsent(userId, reviewId);
+        } catch (DataIntegrityViolationException e) {
+            throw new ResourceNotFoundException(String.format("Review with ID %d not found", reviewId));
+        }
+        if (inserted > 0) {
+            eventPublisher.publishEvent(new ReviewLikeChangedEvent(reviewId, 1));
         }
-
-        ReviewLike reviewLike = new ReviewLike();
-        reviewLike.setUser(user);
-        reviewLike.setReview(review);
-        reviewLikeRepository.save(reviewLike);
     }
 
     /**
@@ -66,15 +70,12 @@ public class ReviewLikeServiceImpl implements ReviewLikeService {
      */
     @Override
     @Transactional
-    public void unlike(String email, Long reviewId) {
-        User user = findUserByEmail(email);
-        findReviewById(reviewId);
-
-        reviewLikeRepository.findByUserIdAndReviewId(user.getId(), reviewId)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        String.format("You have not liked review with ID %d", reviewId)));
-
-        reviewLikeRepository.deleteByUserIdAndReviewId(user.getId(), reviewId);
+    public void unlike(Long userId, Long reviewId) {
+        if (reviewLikeRepository.deleteByUserIdAndReviewId(userId, reviewId) == 0) {
+            throw new ResourceNotFoundException(
+                    String.format("You have not liked review with ID %d", reviewId));
+        }
+        eventPublisher.publishEvent(new ReviewLikeChangedEvent(reviewId, -1));
     }
 
     /**
@@ -82,9 +83,8 @@ public class ReviewLikeServiceImpl implements ReviewLikeService {
      */
     @Override
     @Transactional(readOnly = true)
-    public boolean isLiked(String email, Long reviewId) {
-        User user = findUserByEmail(email);
-        return reviewLikeRepository.findByUserIdAndReviewId(user.getId(), reviewId).isPresent();
+    public boolean isLiked(Long userId, Long reviewId) {
+        return reviewLikeRepository.existsByUserIdAndReviewId(userId, reviewId);
     }
 
     /**
@@ -92,41 +92,29 @@ public class ReviewLikeServiceImpl implements ReviewLikeService {
      */
     @Override
     @Transactional(readOnly = true)
-    public Integer countLikes(Long reviewId) {
-        return reviewLikeRepository.countByReviewId(reviewId);
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public List<Long> getLikedReviewIds(String email) {
-        User user = userRepository.findByEmailIgnoreCase(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return reviewLikeRepository.findLikedReviewIdsByUserId(user.getId());
+    public List<Long> getLikedReviewIds(Long userId) {
+        return reviewLikeRepository.findLikedReviewIdsByUserId(userId);
     }
 
     /**
-     * Finds a user by email or throws an exception.
+     * {@inheritDoc}
      *
-     * @param email the user's email
-     * @return the found user
-     * @throws ResourceNotFoundException if no user is found with the given email
+     * @throws ResourceNotFoundException if the review does not exist
      */
-    private User findUserByEmail(String email) {
-        return userRepository.findByEmailIgnoreCase(email)
+    @Override
+    @Transactional(readOnly = true)
+    public Integer countLikes(Long reviewId) {
+        int stored = reviewRepository.findLikeCountById(reviewId)
                 .orElseThrow(() -> new ResourceNotFoundException(
-                        String.format("User with email '%s' not found", email)));
+                        String.format("Review with ID %d not found", reviewId)));
+        return stored + reviewLikeCounter.pending(reviewId);
     }
 
     /**
-     * Finds a review by ID or throws an exception.
-     *
-     * @param reviewId the review ID
-     * @return the found review
-     * @throws ResourceNotFoundException if no review is found with the given ID
+     * {@inheritDoc}
      */
-    private Review findReviewById(Long reviewId) {
-        return reviewRepository.findById(reviewId)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        String.format("Review with ID %d not found", reviewId)));
+    @Override
+    public int countLikes(Review review) {
+        return review.getLikeCount() + reviewLikeCounter.pending(review.getId());
     }
-}
\ No newline at end of file
+}
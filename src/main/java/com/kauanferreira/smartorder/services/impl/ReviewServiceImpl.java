@@ -1,5 +1,6 @@
 package com.kauanferreira.smartorder.services.impl;
 
+import com.kauanferreira.smartorder.entity.Product;
 import com.kauanferreira.smartorder.entity.Review;
 import com.kauanferreira.smartorder.entity.User;
 import com.kauanferreira.smartorder.exception.DuplicateResourceException;
@@ -8,13 +9,13 @@ import com.kauanferreira.smartorder.repository.ReviewRepository;
 import com.kauanferreira.smartorder.repository.UserRepository;
 import com.kauanferreira.smartorder.services.interfaces.ProductService;
 import com.kauanferreira.smartorder.services.interfaces.ReviewService;
-import jakarta.persistence.EntityManager;
+import com.kauanferreira.smartorder.services.pagination.Slices;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 /**
  * Implementation of {@link ReviewService}.
  *
@@ -35,7 +36,6 @@ public class ReviewServiceImpl implements ReviewService {
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final ProductService productService;
-    private final EntityManager entityManager;
 
     /**
      * {@inheritDoc}
@@ -44,9 +44,10 @@ public class ReviewServiceImpl implements ReviewService {
      */
     @Override
     @Transactional(readOnly = true)
-    public List<Review> getByProduct(Long productId) {
+    public Slice<Review> getByProduct(Long productId, Pageable pageable, boolean withTotal) {
         productService.findById(productId);
-        return reviewRepository.findByProductId(productId);
+        return Slices.withTotal(reviewRepository.findByProductId(productId, pageable), withTotal,
+                () -> reviewRepository.countByProductId(productId));
     }
 
     /**
@@ -54,9 +55,10 @@ public class ReviewServiceImpl implements ReviewService {
      */
     @Override
     @Transactional(readOnly = true)
-    public List<Review> getMyReviews(String email) {
+    public Slice<Review> getMyReviews(String email, Pageable pageable, boolean withTotal) {
         User user = findUserByEmail(email);
-        return reviewRepository.findByUserId(user.getId());
+        return Slices.withTotal(reviewRepository.findByUserId(user.getId(), pageable), withTotal,
+                () -> reviewRepository.countByUserId(user.getId()));
     }
 
     /**
@@ -69,20 +71,16 @@ public class ReviewServiceImpl implements ReviewService {
     @Transactional
     public Review create(String email, Review review) {
         User user = findUserByEmail(email);
-        productService.findById(review.getProduct().getId());
+        Product product = productService.findById(review.getProduct().getId());
 
-        reviewRepository.findByUserIdAndProductId(user.getId(), review.getProduct().getId())
-                .ifPresent(existing -> {
-                    throw new DuplicateResourceException(
-                            String.format("You have already reviewed product with ID %d", review.getProduct().getId()));
-                });
+        if (reviewRepository.existsByUserIdAndProductId(user.getId(), product.getId())) {
+            throw new DuplicateResourceException(
+                    String.format("You have already reviewed product with ID %d", product.getId()));
+        }
 
         review.setUser(user);
-        Review saved = reviewRepository.save(review);
-        entityManager.flush();
-        entityManager.clear();
-        return reviewRepository.findByIdWithRelations(saved.getId())
-                .orElse(saved);
+        review.setProduct(product);
+        return reviewRepository.save(review);
     }
 
     /**
@@ -0,0 +1,150 @@
+package com.kauanferreira.smartorder.services.impl;
+
+import com.kauanferreira.smartorder.dto.response.TimeseriesPointResponse;
+import com.kauanferreira.smartorder.enums.RollupDimension;
+import com.kauanferreira.smartorder.enums.RollupGranularity;
+import com.kauanferreira.smartorder.exception.BusinessRuleException;
+import com.kauanferreira.smartorder.exception.DatabaseOperationException;
+import com.kauanferreira.smartorder.repository.SalesRollupRepository;
+import com.kauanferreira.smartorder.services.interfaces.SalesRollupService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Implementation of {@link SalesRollupService}.
+ *
+ * <p>Chart reads touch only the rollup tables through their primary key
+ * {@code (dimension, dimension_id, bucket_start)}, so the cost depends on
+ * the number of buckets requested, not on the number of orders.</p>
+ *
+ * <p>The rebuild splits the range into days and runs each day in its own
+ * transaction (delete the day's rows, re-aggregate from the orders) on a
+ * small fixed pool of {@code smartorder.rollups.backfill.parallelism}
+ * threads. Days are disjoint, so chunks never conflict, and re-running a
+ * day always produces the same rows.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see SalesRollupService
+ * @see SalesRollupRepository
+ */
+@Slf4j
+@Service
+public class SalesRollupServiceImpl implements SalesRollupService {
+
+    private static final int MAX_BUCKETS = 2000;
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService backfillExecutor;
+    private final int maxRangeDays;
+
+    public SalesRollupServiceImpl(SalesRollupRepository salesRollupRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${smartorder.rollups.backfill.parallelism:4}") int parallelism,
+                                  @Value("${smartorder.rollups.backfill.max-range-days:366}") int maxRangeDays) {
+        this.salesRollupRepository = salesRollupRepository;
+        this.maxRangeDays = maxRangeDays;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.backfillExecutor = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("rollup-backfill-", 1).daemon(true).factory());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<TimeseriesPointResponse> findTimeseries(RollupGranularity granularity, RollupDimension dimension,
+                                                        Long dimensionId, LocalDateTime from, LocalDateTime to) {
+        long id = 0;
+        if (dimension != RollupDimension.TOTAL) {
+            if (dimensionId == null) {
+                throw new BusinessRuleException(String.format("An id is required for the %s dimension", dimension));
+            }
+            id = dimensionId;
+        }
+
+        ChronoUnit unit = granularity == RollupGranularity.HOUR ? ChronoUnit.HOURS : ChronoUnit.DAYS;
+        LocalDateTime start = from.truncatedTo(unit);
+        if (!start.isBefore(to)) {
+            throw new BusinessRuleException("Timeseries start must be before the end");
+        }
+        if (unit.between(start, to) > MAX_BUCKETS) {
+            throw new BusinessRuleException(String.format(
+                    "Timeseries cannot exceed %d %s buckets", MAX_BUCKETS, granularity.name().toLowerCase()));
+        }
+
+        Map<LocalDateTime, TimeseriesPointResponse> stored = new HashMap<>();
+        for (TimeseriesPointResponse point : salesRollupRepository.findSeries(granularity, dimension, id, start, to)) {
+            stored.put(point.bucketStart(), point);
+        }
+
+        List<TimeseriesPointResponse> series = new ArrayList<>();
+        for (LocalDateTime bucket = start; bucket.isBefore(to); bucket = bucket.plus(1, unit)) {
+            TimeseriesPointResponse point = stored.get(bucket);
+            series.add(point != null ? point : new TimeseriesPointResponse(bucket, 0, 0, BigDecimal.ZERO));
+        }
+        return series;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws DatabaseOperationException if rebuilding any day fails
+     */
+    @Override
+    public int rebuild(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BusinessRuleException("Rebuild start date must not be after the end date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new BusinessRuleException(String.format("Rebuild range cannot exceed %d days", maxRangeDays));
+        }
+
+        long startedAt = System.nanoTime();
+        List<CompletableFuture<Void>> days = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            LocalDateTime dayStart = day.atStartOfDay();
+            days.add(CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status ->
+                    salesRollupRepository.rebuildRange(dayStart, dayStart.plusDays(1))), backfillExecutor));
+        }
+
+        try {
+            CompletableFuture.allOf(days.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            throw new DatabaseOperationException(String.format(
+                    "Failed to rebuild sales rollups from %s to %s: %s", from, to, e.getCause().getMessage()));
+        }
+
+        log.info("Rebuilt sales rollups for {} day(s) from {} to {} in {} ms",
+                days.size(), from, to, Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        return days.size();
+    }
+
+    /**
+     * Stops the backfill pool on shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        backfillExecutor.shutdown();
+    }
+}
@@ -0,0 +1,117 @@
+package com.kauanferreira.smartorder.services.impl;
+
+import com.kauanferreira.smartorder.dto.response.GridPageResponse;
+import com.kauanferreira.smartorder.dto.response.ProductResponse;
+import com.kauanferreira.smartorder.dto.response.ProductViewResponse;
+import com.kauanferreira.smartorder.dto.response.ReviewFeedItemResponse;
+import com.kauanferreira.smartorder.dto.response.StoreBootstrapResponse;
+import com.kauanferreira.smartorder.enums.ReviewSort;
+import com.kauanferreira.smartorder.exception.ResourceNotFoundException;
+import com.kauanferreira.smartorder.services.cache.StoreCatalogCache;
+import com.kauanferreira.smartorder.services.cache.StoreCatalogCache.Catalog;
+import com.kauanferreira.smartorder.services.interfaces.CartItemService;
+import com.kauanferreira.smartorder.services.interfaces.FavoriteService;
+import com.kauanferreira.smartorder.services.interfaces.OrderService;
+import com.kauanferreira.smartorder.services.interfaces.ProductService;
+import com.kauanferreira.smartorder.services.interfaces.ReviewFeedService;
+import com.kauanferreira.smartorder.services.interfaces.StoreViewService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Implementation of {@link StoreViewService}.
+ *
+ * <p>The reads of a page do not depend on each other, so each one runs on
+ * its own virtual thread, in its own read-only transaction, and the page
+ * takes as long as the slowest read instead of their sum. The executor is
+ * closed before returning, which waits for every read, so no task outlives
+ * the request. The first failing read, in declaration order, is rethrown
+ * as-is so the usual error responses apply.</p>
+ *
+ * <p>Parts that are the same for every visitor come from shared caches
+ * such as {@link StoreCatalogCache}, so only the viewer's own reads reach
+ * the database on every request.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see StoreViewService
+ */
+@Service
+@RequiredArgsConstructor
+public class StoreViewServiceImpl implements StoreViewService {
+
+    private final ProductService productService;
+    private final FavoriteService favoriteService;
+    private final OrderService orderService;
+    private final ReviewFeedService reviewFeedService;
+    private final CartItemService cartItemService;
+    private final StoreCatalogCache storeCatalogCache;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ResourceNotFoundException if the product does not exist
+     */
+    @Override
+    public ProductViewResponse getProductView(Long productId, Long userId, ReviewSort reviewSort, Integer reviewSize) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<ProductResponse> product = executor.submit(() -> productService.findByIdWithRating(productId));
+            Future<Boolean> favorited = userId == null
+                    ? CompletableFuture.completedFuture(false)
+                    : executor.submit(() -> favoriteService.isFavorited(userId, productId));
+            Future<Boolean> purchased = userId == null
+                    ? CompletableFuture.completedFuture(false)
+                    : executor.submit(() -> orderService.hasUserPurchasedProduct(userId, productId));
+            Future<GridPageResponse<ReviewFeedItemResponse>> reviews = executor.submit(
+                    () -> reviewFeedService.getFeed(productId, reviewSort, reviewSize, null, userId));
+
+            return new ProductViewResponse(join(product), join(favorited), join(purchased), join(reviews));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StoreBootstrapResponse getBootstrap(Long userId) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Catalog> catalog = executor.submit(storeCatalogCache::get);
+            Future<Integer> cartCount = userId == null
+                    ? CompletableFuture.completedFuture(0)
+                    : executor.submit(() -> cartItemService.countItems(userId));
+            Future<List<Long>> favoriteIds = userId == null
+                    ? CompletableFuture.completedFuture(List.of())
+                    : executor.submit(() -> favoriteService.getFavoriteProductIds(userId));
+
+            Catalog shared = join(catalog);
+            return new StoreBootstrapResponse(shared.categories(), shared.featured(), shared.deals(),
+                    shared.lowStock(), shared.products(), join(cartCount), join(favoriteIds));
+        }
+    }
+
+    /**
+     * Waits for one read and returns its result, rethrowing its exception
+     * unwrapped.
+     */
+    private static <T> T join(Future<T> read) {
+        try {
+            return read.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while composing the page", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
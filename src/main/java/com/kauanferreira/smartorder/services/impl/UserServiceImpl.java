@@ -6,15 +6,15 @@ import com.kauanferreira.smartorder.exception.DuplicateResourceException;
 import com.kauanferreira.smartorder.exception.ResourceNotFoundException;
 import com.kauanferreira.smartorder.repository.UserRepository;
 import com.kauanferreira.smartorder.services.interfaces.UserService;
+import com.kauanferreira.smartorder.services.pagination.Slices;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 /**
  * Implementation of {@link UserService}.
  *
@@ -81,8 +81,8 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     @Transactional(readOnly = true)
-    public List<User> findAll() {
-        return userRepository.findAll();
+    public Slice<User> findAll(Pageable pageable, boolean withTotal) {
+        return Slices.withTotal(userRepository.findAllBy(pageable), withTotal, userRepository::count);
     }
 
     /**
@@ -99,8 +99,8 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     @Transactional(readOnly = true)
-    public List<User> findAllOrderByNameAsc() {
-        return userRepository.findAllByOrderByNameAsc();
+    public Slice<User> findAllOrderByNameAsc(Pageable pageable, boolean withTotal) {
+        return Slices.withTotal(userRepository.findAllByOrderByNameAsc(pageable), withTotal, userRepository::count);
     }
 
     /**
@@ -108,8 +108,9 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     @Transactional(readOnly = true)
-    public List<User> searchByName(String name) {
-        return userRepository.findByNameContainingIgnoreCase(name);
+    public Slice<User> searchByName(String name, Pageable pageable, boolean withTotal) {
+        return Slices.withTotal(userRepository.findByNameContainingIgnoreCase(name, pageable), withTotal,
+                () -> userRepository.countByNameContainingIgnoreCase(name));
     }
 
     /**
@@ -117,8 +118,9 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     @Transactional(readOnly = true)
-    public List<User> findByRole(Role role) {
-        return userRepository.findByRole(role);
+    public Slice<User> findByRole(Role role, Pageable pageable, boolean withTotal) {
+        return Slices.withTotal(userRepository.findByRole(role, pageable), withTotal,
+                () -> userRepository.countByRole(role));
     }
 
     /**
@@ -3,6 +3,7 @@ package com.kauanferreira.smartorder.services.interfaces;
 import com.kauanferreira.smartorder.entity.Address;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -33,11 +34,13 @@ public interface AddressService {
     Address findById(Long id);
 
     /**
-     * Retrieves all addresses.
+     * Retrieves one slice of all addresses.
      *
-     * @return list of all addresses, or empty list if none exist
+     * @param pageable  pagination parameters
+     * @param withTotal whether to run the count query for the total
+     * @return a slice of addresses, or a {@link Page} when {@code withTotal} is set
      */
-    List<Address> findAll();
+    Slice<Address> findAll(Pageable pageable, boolean withTotal);
 
     /**
      * Retrieves all addresses with pagination support.
@@ -56,28 +59,34 @@ public interface AddressService {
     List<Address> findByUserId(Long userId);
 
     /**
-     * Retrieves all addresses in a specific city.
+     * Retrieves one slice of the addresses in a specific city.
      *
-     * @param city the city name (case-insensitive)
-     * @return list of matching addresses, or empty list if none match
+     * @param city      the city name (case-insensitive)
+     * @param pageable  pagination parameters
+     * @param withTotal whether to run the count query for the total
+     * @return a slice of matching addresses
      */
-    List<Address> findByCity(String city);
+    Slice<Address> findByCity(String city, Pageable pageable, boolean withTotal);
 
     /**
-     * Retrieves all addresses in a specific state.
+     * Retrieves one slice of the addresses in a specific state.
      *
-     * @param state the state name (case-insensitive)
-     * @return list of matching addresses, or empty list if none match
+     * @param state     the state name (case-insensitive)
+     * @param pageable  pagination parameters
+     * @param withTotal whether to run the count query for the total
+     * @return a slice of matching addresses
      */
-    List<Address> findByState(String state);
+    Slice<Address> findByState(String state, Pageable pageable, boolean withTotal);
 
     /**
-     * Retrieves all addresses with a specific zip code.
+     * Retrieves one slice of the addresses with a specific zip code.
      *
-     * @param zipCode the zip code
-     * @return list of matching addresses, or empty list if none match
+     * @param zipCode   the zip code
+     * @param pageable  pagination parameters
+     * @param withTotal whether to run the count query for the total
+     * @return a slice of matching addresses
      */
-    List<Address> findByZipCode(String zipCode);
+    Slice<Address> findByZipCode(String zipCode, Pageable pageable, boolean withTotal);
 
     /**
      * Counts the total number of addresses for a specific user.
@@ -0,0 +1,66 @@
+package com.kauanferreira.smartorder.services.interfaces;
+
+import com.kauanferreira.smartorder.dto.request.GridQueryRequest;
+import com.kauanferreira.smartorder.dto.response.AddressResponse;
+import com.kauanferreira.smartorder.dto.response.GridPageResponse;
+import com.kauanferreira.smartorder.dto.response.OrderItemResponse;
+import com.kauanferreira.smartorder.dto.response.OrderResponse;
+import com.kauanferreira.smartorder.dto.response.ProductResponse;
+import com.kauanferreira.smartorder.dto.response.UserResponse;
+
+/**
+ * Service interface for the server-side admin grids.
+ *
+ * <p>Every method returns one bounded page filtered, sorted and paginated
+ * in the database; see {@link GridQueryRequest} for the query syntax.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public interface AdminGridService {
+
+    /**
+     * Filterable/sortable: id, name, email, role, createdAt. Searches name, email and phone.
+     *
+     * @param request the grid query
+     * @return one page of users
+     */
+    GridPageResponse<UserResponse> findUsers(GridQueryRequest request);
+
+    /**
+     * Filterable/sortable: id, orderDate, status, totalAmount; filterable: userId, customer.
+     * Searches customer name and street.
+     *
+     * @param request the grid query
+     * @return one page of orders with their user, address and items
+     */
+    GridPageResponse<OrderResponse> findOrders(GridQueryRequest request);
+
+    /**
+     * Filterable/sortable: id, city, state, zipCode; filterable: country, userId, customer.
+     * Searches street, city, state, zip code, country and customer name.
+     *
+     * @param request the grid query
+     * @return one page of addresses with their user
+     */
+    GridPageResponse<AddressResponse> findAddresses(GridQueryRequest request);
+
+    /**
+     * Filterable/sortable: id, orderId, quantity, subtotal; filterable: productId, product.
+     * Searches product name.
+     *
+     * @param request the grid query
+     * @return one page of order items with their product
+     */
+    GridPageResponse<OrderItemResponse> findOrderItems(GridQueryRequest request);
+
+    /**
+     * Filterable/sortable: id, name, price, stockQuantity; filterable: active, featured, categoryId.
+     * Searches name and category name.
+     *
+     * @param request the grid query
+     * @return one page of products with their category
+     */
+    GridPageResponse<ProductResponse> findProducts(GridQueryRequest request);
+}
@@ -0,0 +1,24 @@
+package com.kauanferreira.smartorder.services.interfaces;
+
+import com.kauanferreira.smartorder.dto.response.AdminMetricsResponse;
+
+/**
+ * Service interface for the aggregated metrics shown on the admin dashboard.
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public interface AdminMetricsService {
+
+    /**
+     * Returns revenue, order counts by status, user and product counts and
+     * the latest orders.
+     *
+     * <p>Figures may be a few seconds old; they are cached for a short time
+     * so concurrent dashboards share one computation.</p>
+     *
+     * @return the current dashboard metrics
+     */
+    AdminMetricsResponse getMetrics();
+}
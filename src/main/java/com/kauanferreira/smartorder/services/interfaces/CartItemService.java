@@ -1,5 +1,7 @@
 package com.kauanferreira.smartorder.services.interfaces;
 
+import com.kauanferreira.smartorder.dto.request.CartOperationRequest;
+import com.kauanferreira.smartorder.dto.response.CartSummaryResponse;
 import com.kauanferreira.smartorder.entity.CartItem;
 
 import java.util.List;
@@ -8,8 +10,9 @@ import java.util.List;
  * Service interface for managing {@link CartItem} operations.
  *
  * <p>Defines the contract for shopping cart business logic.
- * All methods receive the authenticated user's email to ensure
- * users can only access and modify their own cart.</p>
+ * All methods receive the authenticated user's id, taken from the
+ * security principal, to ensure users can only access and modify
+ * their own cart.</p>
  *
  * @author Kauan Santos Ferreira
  * @version 1.0
@@ -20,43 +23,70 @@ public interface CartItemService {
     /**
      * Retrieves all cart items for the authenticated user.
      *
-     * @param email the email of the authenticated user
+     * @param userId the ID of the authenticated user
      * @return a list of cart items belonging to the user
      */
-    List<CartItem> getCart(String email);
+    List<CartItem> getCart(Long userId);
+
+    /**
+     * Prices the user's cart: line totals, discount savings, grand total,
+     * item count and per-line stock status.
+     *
+     * @param userId the ID of the authenticated user
+     * @return the cart summary
+     */
+    CartSummaryResponse getSummary(Long userId);
+
+    /**
+     * Counts the units in the user's cart.
+     *
+     * @param userId the ID of the authenticated user
+     * @return the sum of the item quantities
+     */
+    int countItems(Long userId);
 
     /**
      * Adds a product to the user's cart.
      * If the product is already in the cart, updates the quantity instead.
      *
-     * @param email   the email of the authenticated user
+     * @param userId   the ID of the authenticated user
      * @param cartItem the cart item containing product reference and quantity
      * @return the created or updated cart item
      */
-    CartItem addToCart(String email, CartItem cartItem);
+    CartItem addToCart(Long userId, CartItem cartItem);
+
+    /**
+     * Applies several add, update and remove operations to the user's cart
+     * at once. Either every operation is applied or none is.
+     *
+     * @param userId     the ID of the authenticated user
+     * @param operations the changes, in order
+     * @return the cart summary after the changes
+     */
+    CartSummaryResponse applyOperations(Long userId, List<CartOperationRequest> operations);
 
     /**
      * Updates the quantity of an existing cart item.
      *
-     * @param email      the email of the authenticated user
+     * @param userId     the ID of the authenticated user
      * @param cartItemId the ID of the cart item to update
      * @param quantity   the new quantity
      * @return the updated cart item
      */
-    CartItem updateQuantity(String email, Long cartItemId, Integer quantity);
+    CartItem updateQuantity(Long userId, Long cartItemId, Integer quantity);
 
     /**
      * Removes a single item from the user's cart.
      *
-     * @param email      the email of the authenticated user
+     * @param userId     the ID of the authenticated user
      * @param cartItemId the ID of the cart item to remove
      */
-    void removeItem(String email, Long cartItemId);
+    void removeItem(Long userId, Long cartItemId);
 
     /**
      * Removes all items from the user's cart.
      *
-     * @param email the email of the authenticated user
+     * @param userId the ID of the authenticated user
      */
-    void clearCart(String email);
+    void clearCart(Long userId);
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package com.kauanferreira.smartorder.services.interfaces;
 
+import com.kauanferreira.smartorder.entity.ChatConversation;
 import com.kauanferreira.smartorder.entity.ChatMessage;
-
-import java.util.List;
+import com.kauanferreira.smartorder.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Service interface for managing {@link ChatMessage} operations.
@@ -18,33 +20,46 @@ import java.util.List;
 public interface ChatMessageService {
 
     /**
-     * Sends a new chat message.
+     * Sends a new chat message. The message is ready to be delivered when
+     * this returns and is stored shortly after.
      *
-     * @param email       the email of the authenticated sender
+     * @param sender      the authenticated sender
      * @param chatMessage the message entity containing receiver, product, and content
-     * @return the saved message with generated ID and timestamp
+     * @return the message with its ID and timestamp assigned, and its sender,
+     *         receiver and product loaded
      */
-    ChatMessage send(String email, ChatMessage chatMessage);
+    ChatMessage send(User sender, ChatMessage chatMessage);
 
     /**
-     * Retrieves the message history between the authenticated user
-     * and another user about a specific product.
+     * Retrieves one slice of the message history between the authenticated
+     * user and another user about a specific product, keyed on message ids.
+     *
+     * <p>Without {@code beforeId} and {@code afterId} the latest messages are
+     * returned. With {@code beforeId} the slice holds the messages right
+     * before it, and {@code hasNext} tells whether older ones exist. With
+     * {@code afterId} it holds the messages right after it, for incremental
+     * sync, and {@code hasNext} tells whether more newer ones exist.</p>
      *
      * @param email       the email of the authenticated user
      * @param otherUserId the ID of the other user in the conversation
      * @param productId   the ID of the product the conversation is about
-     * @return a list of messages in chronological order
+     * @param beforeId    return messages older than this id, or {@code null}
+     * @param afterId     return messages newer than this id, or {@code null}
+     * @param size        the maximum number of messages, or {@code null} for the default
+     * @return a slice of messages in chronological order
      */
-    List<ChatMessage> getConversation(String email, Long otherUserId, Long productId);
+    Slice<ChatMessage> getConversation(String email, Long otherUserId, Long productId,
+                                       Long beforeId, Long afterId, Integer size);
 
     /**
-     * Retrieves all conversations for the authenticated user.
-     * Returns the most recent message from each unique conversation.
+     * Retrieves one slice of the inbox of the authenticated user: each
+     * conversation with its last message and the user's unread count.
      *
-     * @param email the email of the authenticated user
-     * @return a list of the latest message from each conversation
+     * @param email    the email of the authenticated user
+     * @param pageable pagination parameters
+     * @return a slice of the user's conversations, most recent first
      */
-    List<ChatMessage> getMyConversations(String email);
+    Slice<ChatConversation> getMyConversations(String email, Pageable pageable);
 
     /**
      * Marks all unread messages in a conversation as read.
@@ -58,8 +73,8 @@ public interface ChatMessageService {
     /**
      * Counts unread messages for the authenticated user.
      *
-     * @param email the email of the authenticated user
+     * @param userId the ID of the authenticated user
      * @return the number of unread messages
      */
-    Integer countUnread(String email);
+    Integer countUnread(Long userId);
 }
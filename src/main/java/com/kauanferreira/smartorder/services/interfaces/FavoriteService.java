@@ -46,9 +46,26 @@ public interface FavoriteService {
     /**
      * Checks if a product is favorited by the authenticated user.
      *
-     * @param email     the email of the authenticated user
+     * @param userId    the ID of the authenticated user
      * @param productId the ID of the product to check
      * @return true if the product is favorited, false otherwise
      */
-    boolean isFavorited(String email, Long productId);
+    boolean isFavorited(Long userId, Long productId);
+
+    /**
+     * Returns the IDs of every product the user has favorited.
+     *
+     * @param userId the ID of the authenticated user
+     * @return the favorited product IDs, ascending
+     */
+    List<Long> getFavoriteProductIds(Long userId);
+
+    /**
+     * Returns which of the given products the user has favorited.
+     *
+     * @param userId     the ID of the authenticated user
+     * @param productIds the product IDs to check (e.g. the products on a grid page)
+     * @return the favorited subset of {@code productIds}, in the order given
+     */
+    List<Long> findFavoritedProductIds(Long userId, List<Long> productIds);
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.kauanferreira.smartorder.services.interfaces;
 import com.kauanferreira.smartorder.entity.OrderItem;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -35,11 +36,13 @@ public interface OrderItemService {
     OrderItem findById(Long id);
 
     /**
-     * Retrieves all order items.
+     * Retrieves one page of all order items.
      *
-     * @return list of all order items, or empty list if none exist
+     * @param pageable  the page to fetch
+     * @param withTotal whether to also count all order items
+     * @return a slice of order items, a {@link Page} when {@code withTotal} is set
      */
-    List<OrderItem> findAll();
+    Slice<OrderItem> findAll(Pageable pageable, boolean withTotal);
 
     /**
      * Retrieves all order items with pagination support.
@@ -58,12 +61,14 @@ public interface OrderItemService {
     List<OrderItem> findByOrderId(Long orderId);
 
     /**
-     * Retrieves all order items referencing a specific product.
+     * Retrieves one page of the order items referencing a specific product.
      *
      * @param productId the product id
-     * @return list of items for the given product, or empty list if none exist
+     * @param pageable  the page to fetch
+     * @param withTotal whether to also count the matching items
+     * @return a slice of items for the given product
      */
-    List<OrderItem> findByProductId(Long productId);
+    Slice<OrderItem> findByProductId(Long productId, Pageable pageable, boolean withTotal);
 
     /**
      * Counts the total number of items in a specific order.
@@ -0,0 +1,42 @@
+package com.kauanferreira.smartorder.services.interfaces;
+
+import com.kauanferreira.smartorder.enums.OrderStatus;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+/**
+ * Service interface for exporting order reports.
+ *
+ * <p>Reports are written row by row to an output stream instead of being
+ * built in memory, so their size is not bounded by the heap.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public interface OrderReportService {
+
+    /**
+     * Validates a report date range before any output is written.
+     *
+     * @param from the first day of the report (inclusive)
+     * @param to   the last day of the report (inclusive)
+     * @throws com.kauanferreira.smartorder.exception.BusinessRuleException if the range is invalid or too wide
+     */
+    void validateRange(LocalDate from, LocalDate to);
+
+    /**
+     * Writes one CSV row per order item for orders placed between {@code from}
+     * and {@code to} (both inclusive), optionally restricted to one status.
+     *
+     * @param from   the first day of the report (inclusive)
+     * @param to     the last day of the report (inclusive)
+     * @param status the status to filter by, or {@code null} for all statuses
+     * @param out    the stream the CSV is written to; it is flushed but not closed
+     * @return the number of data rows written
+     * @throws IOException if writing to {@code out} fails
+     */
+    long writeOrdersCsv(LocalDate from, LocalDate to, OrderStatus status, OutputStream out) throws IOException;
+}
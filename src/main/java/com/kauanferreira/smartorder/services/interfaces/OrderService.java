@@ -6,6 +6,7 @@ import com.kauanferreira.smartorder.enums.OrderStatus;
 import org.aspectj.weaver.ast.Or;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -31,7 +32,10 @@ public interface OrderService {
 
 
     /**
-     * Finds an order by its unique identifier.
+     * Finds an order by its unique identifier, for updating it.
+     *
+     * <p>Only orders in the hot months are found: archived orders are closed
+     * and never change. Use {@link #findInHistoryById(Long)} to read one.</p>
      *
      * @param id the order id
      * @return the found order
@@ -40,11 +44,24 @@ public interface OrderService {
     Order findById(Long id);
 
     /**
-     * Retrieves all orders.
+     * Finds an order by its unique identifier, including orders in archived months.
+     *
+     * <p>The returned order is detached and for reading only.</p>
      *
-     * @return list of all orders, or empty list if none exist
+     * @param id the order id
+     * @return the found order with its user, address and items
+     * @throws jakarta.persistence.EntityNotFoundException if no order is found with the given id
      */
-    List<Order> findAll();
+    Order findInHistoryById(Long id);
+
+    /**
+     * Retrieves one page of all orders.
+     *
+     * @param pageable  the page to fetch
+     * @param withTotal whether to also count all orders
+     * @return a slice of orders, a {@link Page} when {@code withTotal} is set
+     */
+    Slice<Order> findAll(Pageable pageable, boolean withTotal);
 
     /**
      * Retrieves all orders with pagination support.
@@ -55,45 +72,58 @@ public interface OrderService {
     Page<Order> findAll(Pageable pageable);
 
     /**
-     * Retrieves all orders belonging to a specific user, ordered by date descending.
+     * Retrieves one page of the orders belonging to a specific user, ordered by date descending.
+     * Orders in archived months are included.
      *
-     * @param userId the user id
-     * @return list of orders for the given user, or empty list if none exist
+     * @param userId    the user id
+     * @param pageable  the page to fetch
+     * @param withTotal whether to also count the matching orders
+     * @return a slice of orders for the given user
      */
-    List<Order> findByUserId(Long userId);
+    Slice<Order> findByUserId(Long userId, Pageable pageable, boolean withTotal);
 
     /**
-     * Retrieves all orders with a specific status.
+     * Retrieves one page of the orders with a specific status.
      *
-     * @param status the order status
-     * @return list of matching orders, or empty list if none match
+     * @param status    the order status
+     * @param pageable  the page to fetch
+     * @param withTotal whether to also count the matching orders
+     * @return a slice of matching orders
      */
-    List<Order> findByStatus(OrderStatus status);
+    Slice<Order> findByStatus(OrderStatus status, Pageable pageable, boolean withTotal);
 
     /**
-     * Retrieves all orders belonging to a specific user with a specific status.
+     * Retrieves one page of the orders belonging to a specific user with a specific status.
+     * Orders in archived months are included.
      *
-     * @param userId the user id
-     * @param status the order status
-     * @return list of matching orders, or empty list if none match
+     * @param userId    the user id
+     * @param status    the order status
+     * @param pageable  the page to fetch
+     * @param withTotal whether to also count the matching orders
+     * @return a slice of matching orders
      */
-    List<Order> findByUserIdAndStatus(Long userId, OrderStatus status);
+    Slice<Order> findByUserIdAndStatus(Long userId, OrderStatus status, Pageable pageable, boolean withTotal);
 
     /**
-     * Retrieves all orders associated with a specific address.
+     * Retrieves one page of the orders associated with a specific address.
      *
      * @param addressId the address id
-     * @return list of matching orders, or empty list if none match
+     * @param pageable  the page to fetch
+     * @param withTotal whether to also count the matching orders
+     * @return a slice of matching orders
      */
-    List<Order> findByAddressId(Long addressId);
+    Slice<Order> findByAddressId(Long addressId, Pageable pageable, boolean withTotal);
 
     /**
-     * Retrieves all orders belonging to the user identified by the given email.
+     * Retrieves one page of the orders belonging to the user identified by the given email.
+     * Orders in archived months are included.
      *
-     * @param email the authenticated user's email (from JWT)
-     * @return the list of orders sorted by date descending
+     * @param email     the authenticated user's email (from JWT)
+     * @param pageable  the page to fetch
+     * @param withTotal whether to also count the user's orders
+     * @return a slice of orders sorted by date descending
      */
-    List<Order> findByAuthenticatedUser(String email);
+    Slice<Order> findByAuthenticatedUser(String email, Pageable pageable, boolean withTotal);
 
     /**
      * Processes a customer checkout for a single product ("Buy now" flow).
@@ -114,7 +144,7 @@ public interface OrderService {
 
 
     /**
-     * Counts the total number of orders for a specific user.
+     * Counts the total number of orders for a specific user, archived months included.
      *
      * @param userId the user id
      * @return the order count for the given user
@@ -150,8 +180,22 @@ public interface OrderService {
     /**
      * Returns true if the user has at least one OrderItem referencing the given
      * product across orders that are not in CANCELLED status.
+     *
+     * @param userId    the id of the user
+     * @param productId the id of the product
+     * @return true if the user has purchased the product
+     */
+    boolean hasUserPurchasedProduct(Long userId, Long productId);
+
+    /**
+     * Returns which of the given products the user has purchased in orders
+     * that are not in CANCELLED status. Used to render "purchased" badges on listings.
+     *
+     * @param userId     the id of the user
+     * @param productIds the candidate product ids
+     * @return the purchased subset of {@code productIds}
      */
-    boolean hasUserPurchasedProduct(String email, Long productId);
+    List<Long> findPurchasedProductIds(Long userId, List<Long> productIds);
 
     /**
      * Deletes an order by its id.
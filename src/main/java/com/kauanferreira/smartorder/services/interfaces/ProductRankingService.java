@@ -0,0 +1,27 @@
+package com.kauanferreira.smartorder.services.interfaces;
+
+import com.kauanferreira.smartorder.dto.response.ProductResponse;
+import com.kauanferreira.smartorder.enums.ProductRanking;
+
+import java.util.List;
+
+/**
+ * Service interface for the storefront product rankings.
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public interface ProductRankingService {
+
+    /**
+     * Returns the top active products of a ranking, best first. Served from
+     * memory; never queries the database.
+     *
+     * @param ranking the ranking (best sellers or trending)
+     * @param limit   the maximum number of products
+     * @return the ranked products enriched with rating data
+     * @throws com.kauanferreira.smartorder.exception.BusinessRuleException if the limit is out of range
+     */
+    List<ProductResponse> findTop(ProductRanking ranking, int limit);
+}
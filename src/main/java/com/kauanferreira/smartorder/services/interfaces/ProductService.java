@@ -4,6 +4,7 @@ import com.kauanferreira.smartorder.dto.response.ProductResponse;
 import com.kauanferreira.smartorder.entity.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -183,60 +184,78 @@ public interface ProductService {
     List<Product> findLowStockRandom();
 
     /**
-     * Returns all active products ordered by name (A-Z) enriched with rating data.
+     * Returns one slice of the products ordered by name (A-Z) enriched with rating data.
+     * Any sort on {@code pageable} is replaced by the name order.
      *
-     * @return list of ProductResponse with rating attached
+     * @param pageable  pagination parameters
+     * @param withTotal whether to run the count query for the total
+     * @return slice of ProductResponse with rating attached
      */
-    List<ProductResponse> findOrderedByNameWithRating();
+    Slice<ProductResponse> findOrderedByNameWithRating(Pageable pageable, boolean withTotal);
 
     /**
-     * Returns all active products ordered by price (ascending) enriched with rating data.
+     * Returns one slice of the products ordered by price (ascending) enriched with rating data.
+     * Any sort on {@code pageable} is replaced by the price order.
      *
-     * @return list of ProductResponse with rating attached
+     * @param pageable  pagination parameters
+     * @param withTotal whether to run the count query for the total
+     * @return slice of ProductResponse with rating attached
      */
-    List<ProductResponse> findOrderedByPriceWithRating();
+    Slice<ProductResponse> findOrderedByPriceWithRating(Pageable pageable, boolean withTotal);
 
     /**
-     * Returns products filtered by active status enriched with rating data.
+     * Returns one slice of the products filtered by active status enriched with rating data.
      *
-     * @param active the active status to filter by
-     * @return list of ProductResponse with rating attached
+     * @param active    the active status to filter by
+     * @param pageable  pagination parameters
+     * @param withTotal whether to run the count query for the total
+     * @return slice of ProductResponse with rating attached
      */
-    List<ProductResponse> findActiveWithRating(Boolean active);
+    Slice<ProductResponse> findActiveWithRating(Boolean active, Pageable pageable, boolean withTotal);
 
     /**
-     * Returns products of a given category filtered by active status, enriched with rating data.
+     * Returns one slice of the products of a given category filtered by active status, enriched with rating data.
      *
      * @param categoryId the category to filter by
      * @param active     the active status to filter by
-     * @return list of ProductResponse with rating attached
+     * @param pageable   pagination parameters
+     * @param withTotal  whether to run the count query for the total
+     * @return slice of ProductResponse with rating attached
      */
-    List<ProductResponse> findActiveByCategoryWithRating(Long categoryId, Boolean active);
+    Slice<ProductResponse> findActiveByCategoryWithRating(Long categoryId, Boolean active,
+                                                         Pageable pageable, boolean withTotal);
 
     /**
-     * Searches products by name (case-insensitive ILIKE) enriched with rating data.
+     * Searches one slice of the products by name (case-insensitive ILIKE) enriched with rating data.
      *
-     * @param name the search term
-     * @return list of ProductResponse with rating attached
+     * @param name      the search term
+     * @param pageable  pagination parameters
+     * @param withTotal whether to run the count query for the total
+     * @return slice of ProductResponse with rating attached
      */
-    List<ProductResponse> findByNameWithRating(String name);
+    Slice<ProductResponse> findByNameWithRating(String name, Pageable pageable, boolean withTotal);
 
     /**
-     * Returns products of a given category enriched with rating data.
+     * Returns one slice of the products of a given category enriched with rating data.
      *
      * @param categoryId the category to filter by
-     * @return list of ProductResponse with rating attached
+     * @param pageable   pagination parameters
+     * @param withTotal  whether to run the count query for the total
+     * @return slice of ProductResponse with rating attached
      */
-    List<ProductResponse> findByCategoryWithRating(Long categoryId);
+    Slice<ProductResponse> findByCategoryWithRating(Long categoryId, Pageable pageable, boolean withTotal);
 
     /**
-     * Returns products within a price range enriched with rating data.
+     * Returns one slice of the products within a price range enriched with rating data.
      *
-     * @param min minimum price (inclusive)
-     * @param max maximum price (inclusive)
-     * @return list of ProductResponse with rating attached
+     * @param min       minimum price (inclusive)
+     * @param max       maximum price (inclusive)
+     * @param pageable  pagination parameters
+     * @param withTotal whether to run the count query for the total
+     * @return slice of ProductResponse with rating attached
      */
-    List<ProductResponse> findByPriceRangeWithRating(BigDecimal min, BigDecimal max);
+    Slice<ProductResponse> findByPriceRangeWithRating(BigDecimal min, BigDecimal max,
+                                                     Pageable pageable, boolean withTotal);
 
     /**
      * Returns up to 5 random featured products enriched with rating data.
@@ -259,7 +278,23 @@ public interface ProductService {
      */
     List<ProductResponse> findLowStockRandomWithRating();
 
-    List<ProductResponse> findAllWithRating();
+    /**
+     * Returns one slice of all products enriched with rating data.
+     *
+     * @param pageable  pagination parameters
+     * @param withTotal whether to run the count query for the total
+     * @return slice of ProductResponse with rating attached
+     */
+    Slice<ProductResponse> findAllWithRating(Pageable pageable, boolean withTotal);
+
+    /**
+     * Returns the active products among the given IDs enriched with rating data,
+     * in the order of the IDs. Inactive and missing products are skipped.
+     *
+     * @param ids the product IDs, in the desired order
+     * @return list of ProductResponse with rating attached
+     */
+    List<ProductResponse> findActiveByIdsWithRating(List<Long> ids);
 
     /**
      * Decreases the stock quantity of a product by the given amount.
@@ -0,0 +1,32 @@
+package com.kauanferreira.smartorder.services.interfaces;
+
+import com.kauanferreira.smartorder.dto.response.GridPageResponse;
+import com.kauanferreira.smartorder.dto.response.ReviewFeedItemResponse;
+import com.kauanferreira.smartorder.enums.ReviewSort;
+
+/**
+ * Service interface for the keyset-paginated review feed of a product page.
+ *
+ * <p>Each page is read with its like counts in one query, plus at most one
+ * query for the viewer's likes on that page, so loading a page costs the
+ * same for a product with ten reviews or ten thousand.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public interface ReviewFeedService {
+
+    /**
+     * Retrieves one page of a product's reviews.
+     *
+     * @param productId the ID of the product
+     * @param sort      the feed order
+     * @param size      the page size, or {@code null} for the default
+     * @param cursor    the {@code nextCursor} of the previous page, or {@code null} for the first page
+     * @param viewerId  the ID of the authenticated user, or {@code null} for anonymous visitors
+     * @return one page of reviews with the cursor of the next one
+     */
+    GridPageResponse<ReviewFeedItemResponse> getFeed(Long productId, ReviewSort sort, Integer size,
+                                                     String cursor, Long viewerId);
+}
@@ -1,13 +1,15 @@
 package com.kauanferreira.smartorder.services.interfaces;
 
+import com.kauanferreira.smartorder.entity.Review;
+
 import java.util.List;
 
 /**
  * Service interface for managing {@link com.kauanferreira.smartorder.entity.ReviewLike} operations.
  *
  * <p>Defines the contract for review like business logic.
- * All methods receive the authenticated user's email to ensure
- * proper ownership tracking.</p>
+ * Methods that act on behalf of a user receive the authenticated
+ * user's ID, taken from the JWT principal.</p>
  *
  * @author Kauan Santos Ferreira
  * @version 1.0
@@ -18,35 +20,35 @@ public interface ReviewLikeService {
     /**
      * Likes a review. If already liked, the operation is ignored.
      *
-     * @param email    the email of the authenticated user
+     * @param userId   the ID of the authenticated user
      * @param reviewId the ID of the review to like
      */
-    void like(String email, Long reviewId);
+    void like(Long userId, Long reviewId);
 
     /**
      * Unlikes a review.
      *
-     * @param email    the email of the authenticated user
+     * @param userId   the ID of the authenticated user
      * @param reviewId the ID of the review to unlike
      */
-    void unlike(String email, Long reviewId);
+    void unlike(Long userId, Long reviewId);
 
     /**
      * Checks if a review is liked by the authenticated user.
      *
-     * @param email    the email of the authenticated user
+     * @param userId   the ID of the authenticated user
      * @param reviewId the ID of the review to check
      * @return true if the review is liked, false otherwise
      */
-    boolean isLiked(String email, Long reviewId);
+    boolean isLiked(Long userId, Long reviewId);
 
     /**
      * Returns the IDs of all reviews the given user has liked.
      *
-     * @param email the authenticated user's email (from JWT)
+     * @param userId the ID of the authenticated user
      * @return list of review IDs liked by the user
      */
-    List<Long> getLikedReviewIds(String email);
+    List<Long> getLikedReviewIds(Long userId);
 
     /**
      * Counts the total number of likes for a review.
@@ -55,4 +57,13 @@ public interface ReviewLikeService {
      * @return the number of likes
      */
     Integer countLikes(Long reviewId);
-}
\ No newline at end of file
+
+    /**
+     * Counts the total number of likes for an already loaded review,
+     * without querying the database.
+     *
+     * @param review the review
+     * @return the number of likes
+     */
+    int countLikes(Review review);
+}
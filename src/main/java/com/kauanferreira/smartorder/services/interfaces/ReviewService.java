@@ -1,8 +1,8 @@
 package com.kauanferreira.smartorder.services.interfaces;
 
 import com.kauanferreira.smartorder.entity.Review;
-
-import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Service interface for managing {@link Review} operations.
@@ -18,21 +18,25 @@ import java.util.List;
 public interface ReviewService {
 
     /**
-     * Retrieves all reviews for a specific product.
+     * Retrieves one slice of the reviews for a specific product.
      * This is a public operation that does not require authentication.
      *
      * @param productId the ID of the product
-     * @return a list of reviews for the product
+     * @param pageable  pagination parameters
+     * @param withTotal whether to run the count query for the total
+     * @return a slice of reviews for the product
      */
-    List<Review> getByProduct(Long productId);
+    Slice<Review> getByProduct(Long productId, Pageable pageable, boolean withTotal);
 
     /**
-     * Retrieves all reviews written by the authenticated user.
+     * Retrieves one slice of the reviews written by the authenticated user.
      *
-     * @param email the email of the authenticated user
-     * @return a list of reviews by the user
+     * @param email     the email of the authenticated user
+     * @param pageable  pagination parameters
+     * @param withTotal whether to run the count query for the total
+     * @return a slice of reviews by the user
      */
-    List<Review> getMyReviews(String email);
+    Slice<Review> getMyReviews(String email, Pageable pageable, boolean withTotal);
 
     /**
      * Creates a new review for a product.
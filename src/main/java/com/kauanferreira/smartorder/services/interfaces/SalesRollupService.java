@@ -0,0 +1,48 @@
+package com.kauanferreira.smartorder.services.interfaces;
+
+import com.kauanferreira.smartorder.dto.response.TimeseriesPointResponse;
+import com.kauanferreira.smartorder.enums.RollupDimension;
+import com.kauanferreira.smartorder.enums.RollupGranularity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service interface for the hourly/daily sales rollups.
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public interface SalesRollupService {
+
+    /**
+     * Returns one point per bucket between {@code from} and {@code to}, read
+     * only from the rollup tables. Buckets without sales are returned as zeros.
+     *
+     * @param granularity hourly or daily buckets
+     * @param dimension   what the series is aggregated by
+     * @param dimensionId the category or product id; ignored for TOTAL
+     * @param from        the start of the range (inclusive, truncated to the bucket)
+     * @param to          the end of the range (exclusive)
+     * @return the series, oldest bucket first
+     * @throws com.kauanferreira.smartorder.exception.BusinessRuleException if the range is invalid,
+     *         too many buckets are requested, or the dimension id is missing
+     */
+    List<TimeseriesPointResponse> findTimeseries(RollupGranularity granularity, RollupDimension dimension,
+                                                 Long dimensionId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Recomputes the rollups of every day from {@code from} to {@code to}
+     * (both inclusive) from the order history, archived months included.
+     * Days are rebuilt in parallel, each in its own transaction, and running
+     * it again gives the same result.
+     *
+     * @param from the first day to rebuild
+     * @param to   the last day to rebuild
+     * @return the number of days rebuilt
+     * @throws com.kauanferreira.smartorder.exception.BusinessRuleException if the range is invalid
+     */
+    int rebuild(LocalDate from, LocalDate to);
+}
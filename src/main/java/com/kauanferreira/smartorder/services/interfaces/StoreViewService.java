@@ -0,0 +1,40 @@
+package com.kauanferreira.smartorder.services.interfaces;
+
+import com.kauanferreira.smartorder.dto.response.ProductViewResponse;
+import com.kauanferreira.smartorder.dto.response.StoreBootstrapResponse;
+import com.kauanferreira.smartorder.enums.ReviewSort;
+
+/**
+ * Service interface for the composed storefront page responses.
+ *
+ * <p>Each method gathers the independent reads a page needs in one call, so
+ * the browser makes a single request and the user is resolved once.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+public interface StoreViewService {
+
+    /**
+     * Builds the product page: the product, the viewer's favorite and
+     * purchase status, and the first page of reviews.
+     *
+     * @param productId  the ID of the product
+     * @param userId     the ID of the authenticated user, or {@code null} for anonymous visitors
+     * @param reviewSort the order of the review feed
+     * @param reviewSize the size of the first review page, or {@code null} for the default
+     * @return the composed product page
+     */
+    ProductViewResponse getProductView(Long productId, Long userId, ReviewSort reviewSort, Integer reviewSize);
+
+    /**
+     * Builds the first load of the storefront home page: the shared catalog
+     * (categories, carousels and first product page) and the viewer's cart
+     * count and favorite product ids.
+     *
+     * @param userId the ID of the authenticated user, or {@code null} for anonymous visitors
+     * @return the composed home page
+     */
+    StoreBootstrapResponse getBootstrap(Long userId);
+}
@@ -4,8 +4,7 @@ import com.kauanferreira.smartorder.entity.User;
 import com.kauanferreira.smartorder.enums.Role;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-
-import java.util.List;
+import org.springframework.data.domain.Slice;
 
 /**
  * Service interface for managing {@link User} operations.
@@ -44,11 +43,13 @@ public interface UserService {
     User findByEmail(String email);
 
     /**
-     * Retrieves all users.
+     * Retrieves one page of all users.
      *
-     * @return a list of all users
+     * @param pageable  the page to fetch
+     * @param withTotal whether to also count all users
+     * @return a slice of users, a {@link Page} when {@code withTotal} is set
      */
-    List<User> findAll();
+    Slice<User> findAll(Pageable pageable, boolean withTotal);
 
     /**
      * Retrieves all users with pagination.
@@ -59,27 +60,33 @@ public interface UserService {
     Page<User> findAll(Pageable pageable);
 
     /**
-     * Retrieves all users ordered by name ascending.
+     * Retrieves one page of the users ordered by name ascending.
      *
-     * @return a list of users sorted alphabetically
+     * @param pageable  the page to fetch
+     * @param withTotal whether to also count all users
+     * @return a slice of users sorted alphabetically
      */
-    List<User> findAllOrderByNameAsc();
+    Slice<User> findAllOrderByNameAsc(Pageable pageable, boolean withTotal);
 
     /**
-     * Searches users by partial name match, ignoring case.
+     * Searches one page of users by partial name match, ignoring case.
      *
-     * @param name the partial name to search for
-     * @return a list of matching users
+     * @param name      the partial name to search for
+     * @param pageable  the page to fetch
+     * @param withTotal whether to also count the matching users
+     * @return a slice of matching users
      */
-    List<User> searchByName(String name);
+    Slice<User> searchByName(String name, Pageable pageable, boolean withTotal);
 
     /**
-     * Finds all users with a specific role.
+     * Finds one page of the users with a specific role.
      *
-     * @param role the role to filter by
-     * @return a list of users with the given role
+     * @param role      the role to filter by
+     * @param pageable  the page to fetch
+     * @param withTotal whether to also count the matching users
+     * @return a slice of users with the given role
      */
-    List<User> findByRole(Role role);
+    Slice<User> findByRole(Role role, Pageable pageable, boolean withTotal);
 
     /**
      * Updates an existing user's profile information.
@@ -0,0 +1,179 @@
+package com.kauanferreira.smartorder.services.like;
+
+import com.kauanferreira.smartorder.repository.ReviewLikeCountRepository;
+import com.kauanferreira.smartorder.services.event.ReviewLikeChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Write-behind accumulator for {@code tb_review.like_count}.
+ *
+ * <p>Every committed like or unlike adds {@code +1} or {@code -1} to an
+ * in-memory delta; every {@code smartorder.review-likes.flush-ms} the deltas
+ * are summed per review and written with one {@code UPDATE} per review, so a
+ * burst of likes on one review costs a single row update instead of one row
+ * lock per click. Deltas live in {@value #STRIPES} independently locked
+ * stripes, so concurrent likes on different reviews rarely contend.</p>
+ *
+ * <p>The unique {@code tb_review_like} row remains the source of truth.
+ * Deltas that are lost (a crash between commit and flush) or applied twice
+ * are repaired by the reconciliation job on
+ * {@code smartorder.review-likes.reconcile-cron}.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewLikeCounter {
+
+    private static final int STRIPES = 16;
+
+    private final ReviewLikeCountRepository reviewLikeCountRepository;
+
+    private final Stripe[] stripes = newStripes();
+
+    /** Serializes flushes and reconciliation. */
+    private final Object writeLock = new Object();
+
+    /**
+     * Returns the likes recorded for a review since the last flush, to be
+     * added to its stored {@code like_count}.
+     *
+     * @param reviewId the review id
+     * @return the pending delta, possibly negative
+     */
+    public int pending(long reviewId) {
+        Stripe stripe = stripe(reviewId);
+        synchronized (stripe) {
+            return stripe.deltas.getOrDefault(reviewId, 0);
+        }
+    }
+
+    /**
+     * Records a like or unlike once its transaction commits.
+     */
+    @TransactionalEventListener
+    public void onReviewLikeChanged(ReviewLikeChangedEvent event) {
+        add(event.reviewId(), event.delta());
+    }
+
+    /**
+     * Writes the summed deltas of every review in one batch. On failure the
+     * deltas are put back and retried on the next flush.
+     */
+    @Scheduled(fixedDelayString = "${smartorder.review-likes.flush-ms:1000}",
+            initialDelayString = "${smartorder.review-likes.flush-ms:1000}")
+    public void flush() {
+        synchronized (writeLock) {
+            Map<Long, Integer> deltas = drain();
+            if (deltas.isEmpty()) {
+                return;
+            }
+            try {
+                reviewLikeCountRepository.addDeltas(deltas);
+            } catch (DataAccessException e) {
+                log.warn("Failed to flush like counts of {} review(s), retrying later: {}",
+                        deltas.size(), e.getMessage());
+                deltas.forEach(this::add);
+            }
+        }
+    }
+
+    /**
+     * Recounts every review's likes from {@code tb_review_like} and repairs
+     * the counts that drifted.
+     *
+     * <p>Every pending delta belongs to a like that has already committed,
+     * so the recount includes it. The deltas pending when the recount starts
+     * are captured under the stripe locks and subtracted from the pending
+     * deltas once it commits; flushing them as well would count those likes
+     * twice. Likes recorded during the recount stay pending. A like
+     * committed in the instant between the capture and the recount's
+     * snapshot is still counted twice, until the next reconciliation.</p>
+     */
+    @Scheduled(cron = "${smartorder.review-likes.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        synchronized (writeLock) {
+            Map<Long, Integer> counted = snapshot();
+            int corrected = reviewLikeCountRepository.reconcile();
+            counted.forEach((reviewId, delta) -> add(reviewId, -delta));
+            if (corrected > 0) {
+                log.info("Corrected the like count of {} review(s)", corrected);
+            }
+        }
+    }
+
+    /**
+     * Writes the remaining deltas before the application stops.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void add(long reviewId, int delta) {
+        Stripe stripe = stripe(reviewId);
+        synchronized (stripe) {
+            stripe.deltas.merge(reviewId, delta, (current, added) -> current + added == 0 ? null : current + added);
+        }
+    }
+
+    private Map<Long, Integer> drain() {
+        Map<Long, Integer> deltas = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                if (!stripe.deltas.isEmpty()) {
+                    deltas.putAll(stripe.deltas);
+                    stripe.deltas = new HashMap<>();
+                }
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * Copies the pending deltas of every stripe at one instant, holding all
+     * stripe locks at once.
+     */
+    private Map<Long, Integer> snapshot() {
+        Map<Long, Integer> deltas = new HashMap<>();
+        copyFrom(0, deltas);
+        return deltas;
+    }
+
+    private void copyFrom(int index, Map<Long, Integer> deltas) {
+        if (index == STRIPES) {
+            return;
+        }
+        synchronized (stripes[index]) {
+            deltas.putAll(stripes[index].deltas);
+            copyFrom(index + 1, deltas);
+        }
+    }
+
+    private Stripe stripe(long reviewId) {
+        return stripes[Long.hashCode(reviewId) & (STRIPES - 1)];
+    }
+
+    private static Stripe[] newStripes() {
+        Stripe[] stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        return stripes;
+    }
+
+    private static final class Stripe {
+        private Map<Long, Integer> deltas = new HashMap<>();
+    }
+}
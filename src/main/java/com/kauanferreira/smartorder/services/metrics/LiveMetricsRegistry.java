@@ -0,0 +1,228 @@
+package com.kauanferreira.smartorder.services.metrics;
+
+import com.kauanferreira.smartorder.config.WebSocketConfig;
+import com.kauanferreira.smartorder.dto.projection.OrderStatusTotalsProjection;
+import com.kauanferreira.smartorder.dto.response.LiveMetricsMessage;
+import com.kauanferreira.smartorder.enums.OrderStatus;
+import com.kauanferreira.smartorder.repository.CartItemRepository;
+import com.kauanferreira.smartorder.repository.OrderRepository;
+import com.kauanferreira.smartorder.services.event.OrderPlacedEvent;
+import com.kauanferreira.smartorder.services.event.OrderStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory registry of live business counters for the admin dashboard.
+ *
+ * <p>Counters are {@link LongAdder}s (striped, contention-free under
+ * concurrent checkouts). Revenue is kept in cents so it can be added without
+ * {@link BigDecimal} arithmetic on the hot path.</p>
+ *
+ * <ul>
+ *   <li><b>Seeded</b> from the aggregate queries when the application starts.</li>
+ *   <li><b>Updated</b> from {@link OrderPlacedEvent} and {@link OrderStatusChangedEvent}
+ *       once the publishing transaction commits (checkout, status updates and the
+ *       demo status scheduler).</li>
+ *   <li><b>Reconciled</b> against SQL every {@code smartorder.metrics.live.reconcile-ms},
+ *       which also corrects administrative edits that publish no event and
+ *       refreshes the active-cart gauge.</li>
+ *   <li><b>Broadcast</b> to {@code /local/admin/metrics} at most once every
+ *       {@code smartorder.metrics.live.broadcast-ms}, and only when something changed,
+ *       so bursts of checkouts collapse into one message.</li>
+ * </ul>
+ *
+ * <p>Order and revenue totals cover the hot order tables only. When
+ * {@code OrderPartitionMaintenanceJob} moves a closed month to
+ * {@code tb_order_archive}, its orders drop out of the totals at the next
+ * reconciliation: the dashboard shows the retention window, not all-time
+ * figures.</p>
+ *
+ * <p>The counters only see the events of this instance, so with several
+ * nodes they hold this node's view: the totals of the last reconciliation
+ * plus the changes made through this node since, and the checkouts it
+ * handled. The snapshots therefore go to a node-local destination
+ * ({@link WebSocketConfig#LOCAL_PREFIX}), which the relay never forwards: a
+ * dashboard shows the counters of the node it is connected to, instead of
+ * alternating between the snapshots of every node.</p>
+ *
+ * <p>Open dashboards only receive broadcasts, so they add no database load.
+ * Revenue and order volumes are for admins only: a subscription to the
+ * topic from a session without the ADMIN role is refused.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveMetricsRegistry {
+
+    /**
+     * Prefix of the admin-only topics. Only ADMIN sessions may subscribe
+     * to a destination under it, which the STOMP inbound interceptor enforces.
+     */
+    public static final String ADMIN_TOPIC_PREFIX = WebSocketConfig.LOCAL_PREFIX + "/admin";
+
+    /** STOMP destination that receives the coalesced snapshots. */
+    public static final String DESTINATION = ADMIN_TOPIC_PREFIX + "/metrics";
+
+    private final OrderRepository orderRepository;
+    private final CartItemRepository cartItemRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final LongAdder revenueCents = new LongAdder();
+    private final Map<OrderStatus, LongAdder> ordersByStatus = newStatusCounters();
+    private final AtomicLong activeCarts = new AtomicLong();
+    private final SlidingMinuteCounter checkouts = new SlidingMinuteCounter();
+
+    /** Bumped on every change; compared with the last broadcast to skip idle ticks. */
+    private final LongAdder changes = new LongAdder();
+    private long lastBroadcastChanges = -1;
+    private long lastBroadcastCheckouts = -1;
+
+    /**
+     * Seeds the counters from the database once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    /**
+     * Counts a new checkout: one more PENDING order and its total as revenue.
+     */
+    @TransactionalEventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        ordersByStatus.get(OrderStatus.PENDING).increment();
+        revenueCents.add(toCents(event.totalAmount()));
+        checkouts.increment();
+        changes.increment();
+    }
+
+    /**
+     * Moves an order between status counters. Revenue is removed when the
+     * order is cancelled and added back if it leaves CANCELLED.
+     */
+    @TransactionalEventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        ordersByStatus.get(event.previousStatus()).decrement();
+        ordersByStatus.get(event.newStatus()).increment();
+        if (event.crossesCancellation()) {
+            long cents = toCents(event.totalAmount());
+            revenueCents.add(event.newStatus() == OrderStatus.CANCELLED ? -cents : cents);
+        }
+        changes.increment();
+    }
+
+    /**
+     * Re-reads every counter from SQL and applies the difference.
+     *
+     * <p>The counters are set to the SQL snapshot, so this is not exact under
+     * concurrent events: one committed after the aggregate query has read the
+     * orders but before the counter is compared is erased, and stays missing
+     * until the next reconciliation counts it. Applying a delta instead of
+     * resetting only narrows that window to the compare-and-add of each
+     * counter.</p>
+     */
+    @Scheduled(fixedDelayString = "${smartorder.metrics.live.reconcile-ms:300000}",
+            initialDelayString = "${smartorder.metrics.live.reconcile-ms:300000}")
+    public void reconcile() {
+        Map<OrderStatus, Long> counted = new EnumMap<>(OrderStatus.class);
+        long cents = 0;
+        for (OrderStatusTotalsProjection row : orderRepository.sumTotalsByStatus()) {
+            counted.put(row.status(), row.orderCount());
+            if (row.status() != OrderStatus.CANCELLED) {
+                cents += toCents(row.revenue());
+            }
+        }
+
+        boolean drifted = false;
+        for (OrderStatus status : OrderStatus.values()) {
+            LongAdder counter = ordersByStatus.get(status);
+            long delta = counted.getOrDefault(status, 0L) - counter.sum();
+            if (delta != 0) {
+                counter.add(delta);
+                drifted = true;
+            }
+        }
+        long revenueDelta = cents - revenueCents.sum();
+        if (revenueDelta != 0) {
+            revenueCents.add(revenueDelta);
+            drifted = true;
+        }
+        long carts = cartItemRepository.countActiveCarts();
+        if (activeCarts.getAndSet(carts) != carts) {
+            drifted = true;
+        }
+
+        if (drifted) {
+            changes.increment();
+            log.debug("Live metrics reconciled against the database");
+        }
+    }
+
+    /**
+     * Sends the current snapshot to {@link #DESTINATION} if anything changed
+     * since the previous broadcast.
+     */
+    @Scheduled(fixedRateString = "${smartorder.metrics.live.broadcast-ms:1000}")
+    public void broadcast() {
+        long changeCount = changes.sum();
+        long recentCheckouts = checkouts.sum();
+        if (changeCount == lastBroadcastChanges && recentCheckouts == lastBroadcastCheckouts) {
+            return;
+        }
+        lastBroadcastChanges = changeCount;
+        lastBroadcastCheckouts = recentCheckouts;
+        messagingTemplate.convertAndSend(DESTINATION, snapshot());
+    }
+
+    /**
+     * Builds a point-in-time view of every counter.
+     *
+     * @return the current live metrics
+     */
+    public LiveMetricsMessage snapshot() {
+        Map<OrderStatus, Long> byStatus = new EnumMap<>(OrderStatus.class);
+        long total = 0;
+        for (Map.Entry<OrderStatus, LongAdder> entry : ordersByStatus.entrySet()) {
+            long count = entry.getValue().sum();
+            byStatus.put(entry.getKey(), count);
+            total += count;
+        }
+        return new LiveMetricsMessage(
+                BigDecimal.valueOf(revenueCents.sum(), 2),
+                total,
+                Collections.unmodifiableMap(byStatus),
+                checkouts.sum(),
+                activeCarts.get(),
+                LocalDateTime.now()
+        );
+    }
+
+    private static Map<OrderStatus, LongAdder> newStatusCounters() {
+        Map<OrderStatus, LongAdder> counters = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            counters.put(status, new LongAdder());
+        }
+        return counters;
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount == null ? 0 : amount.movePointRight(2).longValue();
+    }
+}
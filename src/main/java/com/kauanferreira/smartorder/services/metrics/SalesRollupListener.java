@@ -0,0 +1,59 @@
+package com.kauanferreira.smartorder.services.metrics;
+
+import com.kauanferreira.smartorder.enums.OrderStatus;
+import com.kauanferreira.smartorder.repository.SalesRollupRepository;
+import com.kauanferreira.smartorder.services.event.OrderPlacedEvent;
+import com.kauanferreira.smartorder.services.event.OrderStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keeps the sales rollups up to date as orders are placed and cancelled.
+ *
+ * <p>Runs after the order transaction commits and each update uses a
+ * transaction of its own, so a rollup failure never rolls back a checkout.
+ * A missed update is only logged: the nightly backfill recomputes the
+ * previous day from the orders and corrects it, together with administrative
+ * item edits that publish no order event.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalesRollupListener {
+
+    private final SalesRollupRepository salesRollupRepository;
+
+    /**
+     * Adds a new order to its hourly and daily buckets.
+     */
+    @TransactionalEventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        apply(event.orderId(), event.orderDate(), 1);
+    }
+
+    /**
+     * Removes an order from the rollups when it is cancelled and adds it
+     * back if it leaves CANCELLED. Other transitions do not change sales.
+     */
+    @TransactionalEventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (event.crossesCancellation()) {
+            apply(event.orderId(), event.orderDate(), event.newStatus() == OrderStatus.CANCELLED ? -1 : 1);
+        }
+    }
+
+    private void apply(Long orderId, LocalDateTime orderDate, int sign) {
+        try {
+            salesRollupRepository.applyOrder(orderId, orderDate, sign);
+        } catch (RuntimeException e) {
+            log.warn("Failed to update sales rollups for order {}: {}", orderId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.kauanferreira.smartorder.services.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Events over the last 60 seconds, kept in a ring of one-second slots.
+ *
+ * <p>A slot is reset lazily the first time it is reused for a new second, and
+ * {@link #sum()} skips slots last written more than a minute ago, so the
+ * counter needs no background task.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+public class SlidingMinuteCounter {
+
+    private static final int SLOTS = 60;
+
+    private final LongSupplier clockMillis;
+    private final AtomicLongArray seconds = new AtomicLongArray(SLOTS);
+    private final LongAdder[] counts = new LongAdder[SLOTS];
+
+    /**
+     * Creates a counter driven by the system clock.
+     */
+    public SlidingMinuteCounter() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * Creates a counter driven by the given clock.
+     *
+     * @param clockMillis current time in epoch milliseconds
+     */
+    public SlidingMinuteCounter(LongSupplier clockMillis) {
+        this.clockMillis = clockMillis;
+        for (int i = 0; i < SLOTS; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Counts one event in the current second.
+     */
+    public void increment() {
+        long now = clockMillis.getAsLong() / 1000;
+        int slot = (int) (now % SLOTS);
+        long slotSecond = seconds.get(slot);
+        if (slotSecond != now && seconds.compareAndSet(slot, slotSecond, now)) {
+            counts[slot].reset();
+        }
+        counts[slot].increment();
+    }
+
+    /**
+     * Sums the events of the last 60 seconds, the current one included.
+     *
+     * @return the number of events in the window
+     */
+    public long sum() {
+        long now = clockMillis.getAsLong() / 1000;
+        long total = 0;
+        for (int i = 0; i < SLOTS; i++) {
+            if (now - seconds.get(i) < SLOTS) {
+                total += counts[i].sum();
+            }
+        }
+        return total;
+    }
+}
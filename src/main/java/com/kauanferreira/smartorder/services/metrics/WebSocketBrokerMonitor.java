@@ -0,0 +1,104 @@
+package com.kauanferreira.smartorder.services.metrics;
+
+import com.kauanferreira.smartorder.dto.response.WebSocketBrokerStatsResponse;
+import com.kauanferreira.smartorder.services.chat.ChatMessageWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.broker.BrokerAvailabilityEvent;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tracks the availability of the STOMP broker and exposes its counters.
+ *
+ * <p>In relay mode the broker is available while the relay's shared system
+ * connection to the external broker is up; when it drops, messages sent by
+ * this instance are rejected until the relay reconnects; the in-memory broker
+ * that serves the node-local destinations alongside the relay is not
+ * tracked. Every transition is
+ * logged and counted, and {@link #snapshot()} combines it with the session,
+ * frame, relay and executor counters Spring keeps in
+ * {@link WebSocketMessageBrokerStats} and the backlog of the
+ * {@link ChatMessageWriter}.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebSocketBrokerMonitor {
+
+    private final WebSocketMessageBrokerStats brokerStats;
+    private final ChatMessageWriter chatMessageWriter;
+
+    @Value("${smartorder.websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    private volatile boolean available;
+    private volatile LocalDateTime lastChangeAt;
+    private volatile long outages;
+
+    /**
+     * Records a change of broker availability.
+     */
+    @EventListener
+    public synchronized void onBrokerAvailability(BrokerAvailabilityEvent event) {
+        if ("relay".equalsIgnoreCase(brokerMode) && !(event.getSource() instanceof StompBrokerRelayMessageHandler)) {
+            return;
+        }
+        if (event.isBrokerAvailable() == available) {
+            return;
+        }
+        available = event.isBrokerAvailable();
+        lastChangeAt = LocalDateTime.now();
+        if (available) {
+            log.info("STOMP broker ({}) is available", brokerMode);
+        } else {
+            outages++;
+            log.warn("STOMP broker ({}) is unavailable; outgoing messages are rejected until it reconnects", brokerMode);
+        }
+    }
+
+    /**
+     * Returns whether the broker currently accepts messages.
+     *
+     * @return {@code true} if the broker is available
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Returns the current state and counters of the broker.
+     *
+     * @return the broker stats
+     */
+    public WebSocketBrokerStatsResponse snapshot() {
+        SubProtocolWebSocketHandler.Stats sessions = brokerStats.getWebSocketSessionStats();
+        StompSubProtocolHandler.Stats stomp = brokerStats.getStompSubProtocolStats();
+        // Null in simple mode, where no relay is registered
+        StompBrokerRelayMessageHandler.Stats relay = brokerStats.getStompBrokerRelayStats();
+        return new WebSocketBrokerStatsResponse(
+                "relay".equalsIgnoreCase(brokerMode) ? "relay" : "simple",
+                available,
+                lastChangeAt,
+                outages,
+                sessions != null ? sessions.getTotalSessions() : 0,
+                stomp != null ? stomp.getTotalConnect() : 0,
+                stomp != null ? stomp.getTotalConnected() : 0,
+                stomp != null ? stomp.getTotalDisconnect() : 0,
+                relay != null ? relay.getTotalHandlers() : null,
+                relay != null ? relay.getTotalConnected() : null,
+                brokerStats.getClientInboundExecutorStatsInfo(),
+                brokerStats.getClientOutboundExecutorStatsInfo(),
+                chatMessageWriter.backlog());
+    }
+}
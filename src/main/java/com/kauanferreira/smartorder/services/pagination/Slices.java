@@ -0,0 +1,57 @@
+package com.kauanferreira.smartorder.services.pagination;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Helpers for the bounded list queries of the service layer.
+ *
+ * <p>Repositories return {@link Slice}s, which fetch one row more than the
+ * page size instead of running a count query. When a client opts into the
+ * total, {@link #withTotal} upgrades the slice to a
+ * {@link org.springframework.data.domain.Page}, skipping the count whenever
+ * the total already follows from the slice (for example a first page that
+ * is not full).</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+public final class Slices {
+
+    private Slices() {
+    }
+
+    /**
+     * Adds the total number of rows to a slice when requested.
+     *
+     * @param slice     the slice returned by the repository
+     * @param withTotal whether the client asked for the total
+     * @param count     runs the count query
+     * @param <T>       the row type
+     * @return a {@link org.springframework.data.domain.Page} when {@code withTotal}, otherwise {@code slice}
+     */
+    public static <T> Slice<T> withTotal(Slice<T> slice, boolean withTotal, LongSupplier count) {
+        if (!withTotal) {
+            return slice;
+        }
+        return PageableExecutionUtils.getPage(slice.getContent(), slice.getPageable(), count);
+    }
+
+    /**
+     * Converts the content of a slice in one batch, keeping its pagination.
+     *
+     * @param slice  the source slice
+     * @param mapper converts the whole content list at once
+     * @param <T>    the source row type
+     * @param <R>    the target row type
+     * @return a slice with the converted content
+     */
+    public static <T, R> Slice<R> mapContent(Slice<T> slice, Function<List<T>, List<R>> mapper) {
+        return new SliceImpl<>(mapper.apply(slice.getContent()), slice.getPageable(), slice.hasNext());
+    }
+}
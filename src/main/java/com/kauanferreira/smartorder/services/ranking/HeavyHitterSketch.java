@@ -0,0 +1,217 @@
+package com.kauanferreira.smartorder.services.ranking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fixed-memory top-k summary of weighted product counts.
+ *
+ * <p>Combines two classic streaming structures:</p>
+ *
+ * <ul>
+ *   <li><b>Space-Saving</b> — at most {@code capacity} monitored products kept
+ *       in a min-heap by count. An unmonitored product replaces the current
+ *       minimum, so the heavy hitters are never lost.</li>
+ *   <li><b>Count-Min sketch</b> — {@code DEPTH} rows of {@code width} counters
+ *       holding an over-estimate of every product's count. When a product
+ *       enters the summary it inherits the smaller of the evicted minimum and
+ *       its own sketch estimate, which is a tighter bound than Space-Saving
+ *       alone.</li>
+ * </ul>
+ *
+ * <p>Each reported count is an upper bound of the true count, and
+ * {@code count - error} a lower bound. Updates cost O(DEPTH + log capacity);
+ * memory is fixed at construction. Weights may be negative (cancellations):
+ * they are subtracted from the sketch and from the product's counter if it is
+ * monitored.</p>
+ *
+ * <p>Not thread-safe; callers synchronize.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+public class HeavyHitterSketch {
+
+    private static final int DEPTH = 4;
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+
+    private final int capacity;
+    private final int width;
+    private final double[][] sketch;
+
+    /** Min-heap by count over the monitored products. */
+    private final long[] heapIds;
+    private final double[] heapCounts;
+    private final double[] heapErrors;
+    private final Map<Long, Integer> positions;
+    private int size;
+
+    /**
+     * Creates an empty sketch.
+     *
+     * @param capacity number of monitored products (the k of top-k)
+     * @param width    counters per Count-Min row
+     */
+    public HeavyHitterSketch(int capacity, int width) {
+        this.capacity = capacity;
+        this.width = width;
+        this.sketch = new double[DEPTH][width];
+        this.heapIds = new long[capacity];
+        this.heapCounts = new double[capacity];
+        this.heapErrors = new double[capacity];
+        this.positions = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * Adds {@code weight} to the product's count.
+     *
+     * @param productId the product
+     * @param weight    the amount to add; negative to remove
+     */
+    public void add(long productId, double weight) {
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int column = column(productId, row);
+            estimate = Math.min(estimate, sketch[row][column]);
+            sketch[row][column] += weight;
+        }
+
+        Integer position = positions.get(productId);
+        if (position != null) {
+            heapCounts[position] = Math.max(0, heapCounts[position] + weight);
+            heapErrors[position] = Math.min(heapErrors[position], heapCounts[position]);
+            if (weight > 0) {
+                siftDown(position);
+            } else {
+                siftUp(position);
+            }
+        } else if (weight > 0) {
+            if (size < capacity) {
+                heapIds[size] = productId;
+                heapCounts[size] = weight;
+                heapErrors[size] = 0;
+                positions.put(productId, size);
+                siftUp(size++);
+            } else {
+                double prior = Math.max(0, Math.min(heapCounts[0], estimate));
+                if (prior + weight > heapCounts[0]) {
+                    positions.remove(heapIds[0]);
+                    heapIds[0] = productId;
+                    heapCounts[0] = prior + weight;
+                    heapErrors[0] = prior;
+                    positions.put(productId, 0);
+                    siftDown(0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Multiplies every count by {@code factor}. Used to move the decay landmark.
+     *
+     * @param factor the scaling factor
+     */
+    public void scale(double factor) {
+        for (double[] row : sketch) {
+            for (int i = 0; i < width; i++) {
+                row[i] *= factor;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            heapCounts[i] *= factor;
+            heapErrors[i] *= factor;
+        }
+    }
+
+    /**
+     * Returns the {@code limit} products with the highest counts, highest first.
+     *
+     * @param limit the maximum number of products
+     * @return the top products with their count and error bound
+     */
+    public List<Counter> top(int limit) {
+        List<Counter> counters = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (heapCounts[i] > 0) {
+                counters.add(new Counter(heapIds[i], heapCounts[i], heapErrors[i]));
+            }
+        }
+        counters.sort(Comparator.comparingDouble(Counter::count).reversed());
+        return counters.size() > limit ? counters.subList(0, limit) : counters;
+    }
+
+    /**
+     * Removes every product and resets the sketch.
+     */
+    public void clear() {
+        for (double[] row : sketch) {
+            Arrays.fill(row, 0);
+        }
+        positions.clear();
+        size = 0;
+    }
+
+    private int column(long productId, int row) {
+        long h = (productId ^ SEEDS[row]) * 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return (int) Math.floorMod(h, (long) width);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heapCounts[parent] <= heapCounts[i]) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left + 1 < size && heapCounts[left + 1] < heapCounts[left] ? left + 1 : left;
+            if (heapCounts[i] <= heapCounts[smallest]) {
+                return;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long id = heapIds[a];
+        heapIds[a] = heapIds[b];
+        heapIds[b] = id;
+        double count = heapCounts[a];
+        heapCounts[a] = heapCounts[b];
+        heapCounts[b] = count;
+        double error = heapErrors[a];
+        heapErrors[a] = heapErrors[b];
+        heapErrors[b] = error;
+        positions.put(heapIds[a], a);
+        positions.put(heapIds[b], b);
+    }
+
+    /**
+     * A monitored product.
+     *
+     * @param productId the product
+     * @param count     the (upper-bound) count
+     * @param error     the maximum over-estimation included in {@code count}
+     */
+    public record Counter(long productId, double count, double error) {
+    }
+}
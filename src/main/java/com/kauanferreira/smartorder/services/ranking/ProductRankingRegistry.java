@@ -0,0 +1,249 @@
+package com.kauanferreira.smartorder.services.ranking;
+
+import com.kauanferreira.smartorder.config.ClusterProperties;
+import com.kauanferreira.smartorder.enums.OrderStatus;
+import com.kauanferreira.smartorder.enums.ProductRanking;
+import com.kauanferreira.smartorder.repository.ProductRankingRepository;
+import com.kauanferreira.smartorder.services.event.OrderPlacedEvent;
+import com.kauanferreira.smartorder.services.event.OrderStatusChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming best-seller and trending rankings.
+ *
+ * <p>Each {@link ProductRanking} is a {@link HeavyHitterSketch} of units sold
+ * with exponential time decay (half-lives
+ * {@code smartorder.ranking.best-sellers.half-life-hours} and
+ * {@code smartorder.ranking.trending.half-life-hours}). Decay uses a fixed
+ * landmark ("forward decay"): a sale at time {@code t} adds
+ * {@code units * 2^((t - landmark) / halfLife)}, so older counters never need
+ * to be touched. Reported scores are scaled back to "decayed units now", and
+ * the landmark is moved forward before the weights grow too large.</p>
+ *
+ * <ul>
+ *   <li><b>Rebuilt</b> on startup from the last {@code smartorder.ranking.rebuild-days}
+ *       days of order items.</li>
+ *   <li><b>Updated</b> from checkout and cancellation events once the order
+ *       transaction commits. A cancellation subtracts the order's items with the
+ *       weight of its original order date, so it removes exactly what was added.</li>
+ *   <li><b>Snapshotted</b> to {@code tb_product_ranking} every
+ *       {@code smartorder.ranking.snapshot-ms}.</li>
+ * </ul>
+ *
+ * <p>Events only reach the node that handled the order, so with
+ * {@link ClusterProperties#isMultiNode() several nodes} they are ignored and
+ * the rankings are instead rebuilt from the order tables every
+ * {@code smartorder.ranking.multi-node-rebuild-ms}. Every node then ranks
+ * the same sales, and a snapshot written by any of them is the same.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+@Slf4j
+@Component
+public class ProductRankingRegistry {
+
+    /** Rescale once weights exceed 2^40 to stay far away from double overflow. */
+    private static final double MAX_EXPONENT = 40;
+
+    private final ProductRankingRepository productRankingRepository;
+    private final ClusterProperties clusterProperties;
+    private final int capacity;
+    private final int width;
+    private final double bestSellersHalfLife;
+    private final double trendingHalfLife;
+
+    /** Replaced as a whole by {@link #rebuild()}, so readers never see a half-replayed ranking. */
+    private volatile Map<ProductRanking, DecayedSketch> sketches;
+
+    /** The sketches being replayed, which also receive the events that arrive meanwhile. */
+    private volatile Map<ProductRanking, DecayedSketch> rebuilding;
+
+    @Value("${smartorder.ranking.rebuild-days:30}")
+    private int rebuildDays;
+
+    public ProductRankingRegistry(ProductRankingRepository productRankingRepository,
+                                  ClusterProperties clusterProperties,
+                                  @Value("${smartorder.ranking.capacity:256}") int capacity,
+                                  @Value("${smartorder.ranking.sketch-width:2048}") int width,
+                                  @Value("${smartorder.ranking.best-sellers.half-life-hours:168}") double bestSellersHalfLife,
+                                  @Value("${smartorder.ranking.trending.half-life-hours:6}") double trendingHalfLife) {
+        this.productRankingRepository = productRankingRepository;
+        this.clusterProperties = clusterProperties;
+        this.capacity = capacity;
+        this.width = width;
+        this.bestSellersHalfLife = bestSellersHalfLife;
+        this.trendingHalfLife = trendingHalfLife;
+        this.sketches = newSketches();
+    }
+
+    /**
+     * Replays the recent order items into new sketches and then serves them.
+     */
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        Map<ProductRanking, DecayedSketch> rebuilt = newSketches();
+        rebuilding = rebuilt;
+        try {
+            productRankingRepository.forEachHourlySale(LocalDateTime.now().minusDays(rebuildDays),
+                    (productId, hour, units) -> record(rebuilt, productId, hour, units));
+            sketches = rebuilt;
+        } finally {
+            rebuilding = null;
+        }
+        log.info("Rebuilt product rankings from the last {} days in {} ms",
+                rebuildDays, Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+    }
+
+    /**
+     * Rebuilds the rankings when several nodes take orders, since this node
+     * only hears about its own.
+     */
+    @Scheduled(fixedDelayString = "${smartorder.ranking.multi-node-rebuild-ms:300000}",
+            initialDelayString = "${smartorder.ranking.multi-node-rebuild-ms:300000}")
+    public void rebuildIfMultiNode() {
+        if (!clusterProperties.isMultiNode()) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Failed to rebuild product rankings, serving the previous ones: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Adds the items of a new order.
+     */
+    @TransactionalEventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        if (clusterProperties.isMultiNode()) {
+            return;
+        }
+        for (OrderPlacedEvent.Line line : event.lines()) {
+            recordEvent(line.productId(), event.orderDate(), line.quantity());
+        }
+    }
+
+    /**
+     * Removes an order's items when it is cancelled and adds them back if it
+     * leaves CANCELLED. Reads the items of that one order.
+     */
+    @TransactionalEventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (!event.crossesCancellation() || clusterProperties.isMultiNode()) {
+            return;
+        }
+        int sign = event.newStatus() == OrderStatus.CANCELLED ? -1 : 1;
+        productRankingRepository.forEachOrderLine(event.orderId(), event.orderDate(),
+                (productId, orderDate, units) -> recordEvent(productId, orderDate, sign * units));
+    }
+
+    /**
+     * Returns the top products of a ranking with their current decayed scores.
+     *
+     * @param ranking the ranking
+     * @param limit   the maximum number of products
+     * @return the top products, best first
+     */
+    public List<HeavyHitterSketch.Counter> top(ProductRanking ranking, int limit) {
+        return sketches.get(ranking).top(limit, LocalDateTime.now());
+    }
+
+    /**
+     * Persists the current top products of every ranking.
+     */
+    @Scheduled(fixedDelayString = "${smartorder.ranking.snapshot-ms:300000}",
+            initialDelayString = "${smartorder.ranking.snapshot-ms:300000}")
+    public void snapshot() {
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<ProductRanking, DecayedSketch> entry : sketches.entrySet()) {
+            try {
+                productRankingRepository.replaceSnapshot(entry.getKey(), entry.getValue().top(Integer.MAX_VALUE, now), now);
+            } catch (RuntimeException e) {
+                log.warn("Failed to snapshot the {} ranking: {}", entry.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    private Map<ProductRanking, DecayedSketch> newSketches() {
+        LocalDateTime landmark = LocalDateTime.now();
+        Map<ProductRanking, DecayedSketch> created = new EnumMap<>(ProductRanking.class);
+        created.put(ProductRanking.BEST_SELLERS,
+                new DecayedSketch(new HeavyHitterSketch(capacity, width), bestSellersHalfLife, landmark));
+        created.put(ProductRanking.TRENDING,
+                new DecayedSketch(new HeavyHitterSketch(capacity, width), trendingHalfLife, landmark));
+        return created;
+    }
+
+    private void recordEvent(long productId, LocalDateTime at, long units) {
+        // Read in this order: once the rebuilt sketches are served, they must not count it twice
+        Map<ProductRanking, DecayedSketch> replaying = rebuilding;
+        Map<ProductRanking, DecayedSketch> current = sketches;
+        record(current, productId, at, units);
+        if (replaying != null && replaying != current) {
+            record(replaying, productId, at, units);
+        }
+    }
+
+    private static void record(Map<ProductRanking, DecayedSketch> into, long productId, LocalDateTime at, long units) {
+        for (DecayedSketch sketch : into.values()) {
+            sketch.add(productId, at, units);
+        }
+    }
+
+    /**
+     * A sketch plus its decay landmark, guarded by its own monitor.
+     */
+    private static final class DecayedSketch {
+
+        private final HeavyHitterSketch sketch;
+        private final double halfLifeSeconds;
+        private LocalDateTime landmark;
+
+        private DecayedSketch(HeavyHitterSketch sketch, double halfLifeHours, LocalDateTime landmark) {
+            this.sketch = sketch;
+            this.halfLifeSeconds = halfLifeHours * 3600;
+            this.landmark = landmark;
+        }
+
+        private synchronized void add(long productId, LocalDateTime at, long units) {
+            double exponent = exponent(at);
+            if (exponent > MAX_EXPONENT) {
+                moveLandmark(at);
+                exponent = 0;
+            }
+            sketch.add(productId, units * Math.pow(2, exponent));
+        }
+
+        private synchronized List<HeavyHitterSketch.Counter> top(int limit, LocalDateTime now) {
+            double factor = Math.pow(2, -exponent(now));
+            List<HeavyHitterSketch.Counter> scaled = new ArrayList<>();
+            for (HeavyHitterSketch.Counter counter : sketch.top(limit)) {
+                scaled.add(new HeavyHitterSketch.Counter(counter.productId(),
+                        counter.count() * factor, counter.error() * factor));
+            }
+            return scaled;
+        }
+
+        private void moveLandmark(LocalDateTime to) {
+            sketch.scale(Math.pow(2, -exponent(to)));
+            landmark = to;
+        }
+
+        private double exponent(LocalDateTime at) {
+            return Duration.between(landmark, at).toMillis() / 1000.0 / halfLifeSeconds;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.kauanferreira.smartorder.services.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled job that maintains the monthly partitions of {@code tb_order}
+ * and {@code tb_order_item}.
+ *
+ * <p>Two responsibilities, both delegated to PL/pgSQL functions created by
+ * the {@code V25} migration:</p>
+ *
+ * <ul>
+ *   <li>Pre-create partitions for the current month and the next
+ *       {@code smartorder.orders.partitions.months-ahead} months, so inserts
+ *       never hit a missing range (there is no default partition).</li>
+ *   <li>Move closed months older than
+ *       {@code smartorder.orders.partitions.retention-months} into
+ *       {@code tb_order_archive} / {@code tb_order_item_archive}. Months that
+ *       still hold open orders are skipped until they are finished.</li>
+ * </ul>
+ *
+ * <p>Archiving detaches whole partitions — no rows are copied or deleted —
+ * so hot queries and indexes only cover recent data. A customer's orders,
+ * purchase history, CSV exports and sales rollup rebuilds read the
+ * {@code vw_order_history} / {@code vw_order_item_history} views and still
+ * see archived months; admin order listings, order updates and the live
+ * dashboard totals only see the hot tables.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderPartitionMaintenanceJob {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Number of future months that must always have partitions.
+     * Defaults to 3.
+     */
+    @Value("${smartorder.orders.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    /**
+     * Number of months kept in the hot tables before archiving.
+     * Defaults to 12.
+     */
+    @Value("${smartorder.orders.partitions.retention-months:12}")
+    private int retentionMonths;
+
+    /**
+     * Makes sure upcoming partitions exist as soon as the application starts,
+     * covering deployments that stayed down across a month boundary.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        createUpcomingPartitions();
+    }
+
+    /**
+     * Creates any missing monthly partitions ahead of time.
+     * Runs daily; the underlying function is idempotent.
+     */
+    @Scheduled(cron = "${smartorder.orders.partitions.create-cron:0 0 1 * * *}")
+    public void createUpcomingPartitions() {
+        Integer created = jdbcTemplate.queryForObject(
+                "SELECT smartorder_create_order_partitions(?)", Integer.class, monthsAhead);
+        if (created != null && created > 0) {
+            log.info("Created {} monthly order partition(s)", created);
+        }
+    }
+
+    /**
+     * Archives closed monthly partitions past the retention window.
+     * Runs once a day during low traffic.
+     */
+    @Scheduled(cron = "${smartorder.orders.partitions.archive-cron:0 30 3 * * *}")
+    public void archiveOldPartitions() {
+        Integer archived = jdbcTemplate.queryForObject(
+                "SELECT smartorder_archive_order_partitions(?)", Integer.class, retentionMonths);
+        if (archived != null && archived > 0) {
+            log.info("Archived {} monthly order partition(s) older than {} months", archived, retentionMonths);
+        }
+    }
+}
@@ -3,9 +3,11 @@ package com.kauanferreira.smartorder.services.scheduler;
 import com.kauanferreira.smartorder.entity.Order;
 import com.kauanferreira.smartorder.enums.OrderStatus;
 import com.kauanferreira.smartorder.repository.OrderRepository;
+import com.kauanferreira.smartorder.services.event.OrderStatusChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,7 +30,12 @@ import java.util.List;
  * the customer must confirm delivery explicitly from the "My Orders" page.</p>
  *
  * <p>The tick interval is configured via {@code smartorder.demo.order-tick-seconds}
- * in {@code application.yml}.</p>
+ * in {@code application.yml}. Each poll only looks back
+ * {@code smartorder.orders.open-order-lookback-days} days, so PostgreSQL scans
+ * the most recent monthly partitions of {@code tb_order} instead of all of them.</p>
+ *
+ * <p>Every transition publishes an {@link OrderStatusChangedEvent}, like a manual
+ * status update does, so live metrics follow the demo lifecycle.</p>
  *
  * @author Kauan Santos Ferreira
  * @since 2026
@@ -39,6 +46,7 @@ import java.util.List;
 public class OrderStatusScheduler {
 
     private final OrderRepository orderRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Configurable tick interval (in seconds) between status transitions.
@@ -47,6 +55,13 @@ public class OrderStatusScheduler {
     @Value("${smartorder.demo.order-tick-seconds:5}")
     private long tickSeconds;
 
+    /**
+     * How far back (in days) the scheduler looks for open orders.
+     * Bounds the query on the partition key. Defaults to 31 days.
+     */
+    @Value("${smartorder.orders.open-order-lookback-days:31}")
+    private long lookbackDays;
+
     /**
      * Polls every second for orders eligible to advance.
      *
@@ -67,11 +82,13 @@ public class OrderStatusScheduler {
      */
     private void advancePending() {
         LocalDateTime cutoff = LocalDateTime.now().minusSeconds(tickSeconds);
-        List<Order> due = orderRepository.findByStatusAndOrderDateBefore(OrderStatus.PENDING, cutoff);
+        List<Order> due = orderRepository.findByStatusAndOrderDateBetween(
+                OrderStatus.PENDING, lookbackStart(), cutoff);
 
         for (Order order : due) {
             order.setStatus(OrderStatus.CONFIRMED);
             orderRepository.save(order);
+            eventPublisher.publishEvent(OrderStatusChangedEvent.from(order, OrderStatus.PENDING));
             log.info("Order {} advanced PENDING -> CONFIRMED", order.getId());
         }
     }
@@ -82,12 +99,23 @@ public class OrderStatusScheduler {
      */
     private void advanceConfirmed() {
         LocalDateTime cutoff = LocalDateTime.now().minusSeconds(tickSeconds * 2);
-        List<Order> due = orderRepository.findByStatusAndOrderDateBefore(OrderStatus.CONFIRMED, cutoff);
+        List<Order> due = orderRepository.findByStatusAndOrderDateBetween(
+                OrderStatus.CONFIRMED, lookbackStart(), cutoff);
 
         for (Order order : due) {
             order.setStatus(OrderStatus.SHIPPED);
             orderRepository.save(order);
+            eventPublisher.publishEvent(OrderStatusChangedEvent.from(order, OrderStatus.CONFIRMED));
             log.info("Order {} advanced CONFIRMED -> SHIPPED", order.getId());
         }
     }
+
+    /**
+     * Returns the oldest order date the scheduler still considers.
+     *
+     * @return now minus the configured lookback window
+     */
+    private LocalDateTime lookbackStart() {
+        return LocalDateTime.now().minusDays(lookbackDays);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.kauanferreira.smartorder.services.scheduler;
+
+import com.kauanferreira.smartorder.services.interfaces.SalesRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Scheduled job that recomputes the recent sales rollups from the orders.
+ *
+ * <p>The rollups are maintained incrementally from order events; this job
+ * rebuilds the last {@code smartorder.rollups.backfill.days} closed days
+ * every night so that any drift (a missed event, an administrative item
+ * edit) is corrected by the next morning.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalesRollupBackfillJob {
+
+    private final SalesRollupService salesRollupService;
+
+    /**
+     * Number of closed days rebuilt every night.
+     * Defaults to 2.
+     */
+    @Value("${smartorder.rollups.backfill.days:2}")
+    private int days;
+
+    /**
+     * Rebuilds the previous {@link #days} days.
+     */
+    @Scheduled(cron = "${smartorder.rollups.backfill.cron:0 15 2 * * *}")
+    public void rebuildRecentDays() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        try {
+            salesRollupService.rebuild(yesterday.minusDays(days - 1L), yesterday);
+        } catch (RuntimeException e) {
+            log.error("Nightly sales rollup backfill failed: {}", e.getMessage());
+        }
+    }
+}
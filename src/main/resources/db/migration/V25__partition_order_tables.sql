@@ -0,0 +1,217 @@
+-- ========================
+-- PARTITIONING: tb_order / tb_order_item
+-- ========================
+-- Converts both tables to declarative RANGE partitioning by order_date,
+-- one partition per calendar month. tb_order_item carries a copy of its
+-- parent's order_date so both rows land in the same month and the
+-- foreign key can reference the partitioned primary key (id, order_date).
+
+-- Keep the existing id sequences alive while the old tables are dropped
+ALTER SEQUENCE tb_order_id_seq OWNED BY NONE;
+ALTER SEQUENCE tb_order_item_id_seq OWNED BY NONE;
+
+ALTER TABLE tb_order_item RENAME TO tb_order_item_legacy;
+ALTER TABLE tb_order RENAME TO tb_order_legacy;
+
+DROP INDEX idx_order_user_id;
+DROP INDEX idx_order_status;
+DROP INDEX idx_order_address_id;
+DROP INDEX idx_order_date;
+DROP INDEX idx_order_user_status;
+DROP INDEX idx_order_item_order_id;
+DROP INDEX idx_order_item_product_id;
+
+-- ========================
+-- TABLE: tb_order (partitioned)
+-- ========================
+CREATE TABLE tb_order (
+    id BIGINT NOT NULL DEFAULT nextval('tb_order_id_seq'),
+    order_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    total_amount DECIMAL(12, 2) NOT NULL DEFAULT 0.00,
+    user_id BIGINT NOT NULL,
+    address_id BIGINT NOT NULL,
+
+    CONSTRAINT pk_order
+        PRIMARY KEY (id, order_date),
+
+    CONSTRAINT fk_order_user
+        FOREIGN KEY (user_id)
+            REFERENCES tb_user(id)
+            ON DELETE RESTRICT,
+
+    CONSTRAINT fk_order_address
+        FOREIGN KEY (address_id)
+            REFERENCES tb_address(id)
+            ON DELETE RESTRICT
+) PARTITION BY RANGE (order_date);
+
+-- ========================
+-- TABLE: tb_order_item (partitioned)
+-- ========================
+CREATE TABLE tb_order_item (
+    id BIGINT NOT NULL DEFAULT nextval('tb_order_item_id_seq'),
+    quantity INTEGER NOT NULL,
+    price DECIMAL(10, 2) NOT NULL,
+    subtotal DECIMAL(12, 2) NOT NULL,
+    order_id BIGINT NOT NULL,
+    order_date TIMESTAMP NOT NULL,
+    product_id BIGINT NOT NULL,
+
+    CONSTRAINT pk_order_item
+        PRIMARY KEY (id, order_date),
+
+    CONSTRAINT fk_order_item_order
+        FOREIGN KEY (order_id, order_date)
+            REFERENCES tb_order(id, order_date)
+            ON DELETE CASCADE,
+
+    CONSTRAINT fk_order_item_product
+        FOREIGN KEY (product_id)
+            REFERENCES tb_product(id)
+            ON DELETE RESTRICT
+) PARTITION BY RANGE (order_date);
+
+ALTER SEQUENCE tb_order_id_seq OWNED BY tb_order.id;
+ALTER SEQUENCE tb_order_item_id_seq OWNED BY tb_order_item.id;
+
+-- ========================
+-- ARCHIVE: closed months detached from the hot tables
+-- ========================
+-- Partitions are moved here as-is (no data copy) once every order in them
+-- is DELIVERED or CANCELLED. Only the primary key is kept on archived
+-- partitions, so they cost no index maintenance or autovacuum work.
+CREATE TABLE tb_order_archive (LIKE tb_order INCLUDING DEFAULTS) PARTITION BY RANGE (order_date);
+CREATE TABLE tb_order_item_archive (LIKE tb_order_item INCLUDING DEFAULTS) PARTITION BY RANGE (order_date);
+
+-- ========================
+-- FUNCTIONS: partition maintenance
+-- ========================
+
+-- Creates the monthly partition pair containing the given date.
+-- Returns 1 when the partitions were created, 0 when they already existed
+-- (either attached to the hot tables or already archived).
+CREATE OR REPLACE FUNCTION smartorder_ensure_order_partition(month_of DATE)
+RETURNS INTEGER AS $$
+DECLARE
+    from_date DATE := date_trunc('month', month_of)::DATE;
+    to_date DATE := (date_trunc('month', month_of) + INTERVAL '1 month')::DATE;
+    suffix TEXT := to_char(date_trunc('month', month_of), '"y"YYYY"m"MM');
+BEGIN
+    IF to_regclass('tb_order_' || suffix) IS NOT NULL THEN
+        RETURN 0;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I PARTITION OF tb_order FOR VALUES FROM (%L) TO (%L)',
+                   'tb_order_' || suffix, from_date, to_date);
+    EXECUTE format('CREATE TABLE %I PARTITION OF tb_order_item FOR VALUES FROM (%L) TO (%L)',
+                   'tb_order_item_' || suffix, from_date, to_date);
+    RETURN 1;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Makes sure partitions exist from the current month up to months_ahead
+-- months in the future. Returns how many monthly pairs were created.
+CREATE OR REPLACE FUNCTION smartorder_create_order_partitions(months_ahead INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    current_month DATE := date_trunc('month', CURRENT_DATE)::DATE;
+    created INTEGER := 0;
+    i INTEGER;
+BEGIN
+    FOR i IN 0..months_ahead LOOP
+        created := created + smartorder_ensure_order_partition((current_month + make_interval(months => i))::DATE);
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Moves monthly partitions older than retention_months into the archive
+-- tables. A month is skipped while it still holds any open order
+-- (PENDING, CONFIRMED or SHIPPED). Returns how many months were archived.
+CREATE OR REPLACE FUNCTION smartorder_archive_order_partitions(retention_months INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    cutoff TIMESTAMP := date_trunc('month', CURRENT_DATE) - make_interval(months => retention_months);
+    part RECORD;
+    idx RECORD;
+    fk RECORD;
+    item_part TEXT;
+    open_orders BIGINT;
+    archived INTEGER := 0;
+BEGIN
+    FOR part IN
+        SELECT c.relname AS name,
+               bounds[1]::TIMESTAMP AS lower_bound,
+               bounds[2]::TIMESTAMP AS upper_bound
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        CROSS JOIN LATERAL regexp_match(pg_get_expr(c.relpartbound, c.oid),
+                                        'FROM \(''([^'']+)''\) TO \(''([^'']+)''\)') AS bounds
+        WHERE i.inhparent = 'tb_order'::regclass
+        ORDER BY 2
+    LOOP
+        CONTINUE WHEN part.upper_bound > cutoff;
+
+        EXECUTE format('SELECT COUNT(*) FROM %I WHERE status NOT IN (''DELIVERED'', ''CANCELLED'')', part.name)
+            INTO open_orders;
+        CONTINUE WHEN open_orders > 0;
+
+        item_part := 'tb_order_item_' || substring(part.name FROM 'y[0-9]{4}m[0-9]{2}$');
+
+        -- Items first: the detached table keeps a standalone copy of the
+        -- foreign key to tb_order, which would block detaching the orders
+        EXECUTE format('ALTER TABLE tb_order_item DETACH PARTITION %I', item_part);
+        FOR fk IN
+            SELECT conname FROM pg_constraint
+            WHERE conrelid = item_part::regclass
+              AND contype = 'f'
+              AND confrelid = 'tb_order'::regclass
+        LOOP
+            EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', item_part, fk.conname);
+        END LOOP;
+
+        EXECUTE format('ALTER TABLE tb_order DETACH PARTITION %I', part.name);
+
+        -- Keep only the primary key on archived data
+        FOR idx IN
+            SELECT i.indexrelid::regclass::TEXT AS name
+            FROM pg_index i
+            WHERE i.indrelid IN (part.name::regclass, item_part::regclass)
+              AND NOT i.indisprimary
+        LOOP
+            EXECUTE format('DROP INDEX %s', idx.name);
+        END LOOP;
+
+        EXECUTE format('ALTER TABLE tb_order_archive ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                       part.name, part.lower_bound, part.upper_bound);
+        EXECUTE format('ALTER TABLE tb_order_item_archive ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                       item_part, part.lower_bound, part.upper_bound);
+
+        archived := archived + 1;
+    END LOOP;
+    RETURN archived;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ========================
+-- DATA: move existing rows into the partitioned tables
+-- ========================
+SELECT smartorder_ensure_order_partition(month_of::DATE)
+FROM generate_series(
+        date_trunc('month', COALESCE((SELECT MIN(order_date) FROM tb_order_legacy), CURRENT_DATE)),
+        date_trunc('month', CURRENT_DATE) + INTERVAL '3 months',
+        INTERVAL '1 month'
+     ) AS month_of;
+
+INSERT INTO tb_order (id, order_date, status, total_amount, user_id, address_id)
+SELECT id, order_date, status, total_amount, user_id, address_id
+FROM tb_order_legacy;
+
+INSERT INTO tb_order_item (id, quantity, price, subtotal, order_id, order_date, product_id)
+SELECT oi.id, oi.quantity, oi.price, oi.subtotal, oi.order_id, o.order_date, oi.product_id
+FROM tb_order_item_legacy oi
+JOIN tb_order_legacy o ON o.id = oi.order_id;
+
+DROP TABLE tb_order_item_legacy;
+DROP TABLE tb_order_legacy;
@@ -0,0 +1,31 @@
+-- ========================
+-- INDEXES: tb_order / tb_order_item (partitioned)
+-- ========================
+-- Declared on the parent tables, so PostgreSQL creates a matching local
+-- index on every monthly partition (including the ones created later).
+
+-- Speeds up finding all orders for a user
+CREATE INDEX idx_order_user_id ON tb_order (user_id);
+
+-- Speeds up filtering orders by status
+CREATE INDEX idx_order_status ON tb_order (status);
+
+-- Speeds up finding orders by address
+CREATE INDEX idx_order_address_id ON tb_order (address_id);
+
+-- Speeds up sorting and filtering orders by date
+CREATE INDEX idx_order_date ON tb_order (order_date DESC);
+
+-- Composite: user's orders by status (e.g., "my pending orders")
+CREATE INDEX idx_order_user_status ON tb_order (user_id, status);
+
+-- Partial: only open orders, polled by the status scheduler.
+-- Stays small because DELIVERED/CANCELLED rows are never indexed.
+CREATE INDEX idx_order_open_status_date ON tb_order (status, order_date)
+    WHERE status IN ('PENDING', 'CONFIRMED', 'SHIPPED');
+
+-- Speeds up finding all items in an order
+CREATE INDEX idx_order_item_order_id ON tb_order_item (order_id);
+
+-- Speeds up finding which orders contain a specific product
+CREATE INDEX idx_order_item_product_id ON tb_order_item (product_id);
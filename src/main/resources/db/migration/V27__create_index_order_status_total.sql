@@ -0,0 +1,8 @@
+-- ========================
+-- INDEXES: tb_order (dashboard aggregates)
+-- ========================
+
+-- Covering: counts and revenue per status for the admin dashboard.
+-- total_amount is stored in the index, so the GROUP BY status query
+-- is answered by an index-only scan without touching the table.
+CREATE INDEX idx_order_status_total ON tb_order (status) INCLUDE (total_amount);
@@ -0,0 +1,20 @@
+-- ========================
+-- TABLE: tb_product_ranking
+-- ========================
+-- Periodic snapshot of the in-memory best-seller and trending rankings.
+-- Written by the application only; the storefront reads the rankings from
+-- memory. Each snapshot replaces the previous rows of its ranking.
+--
+-- score: decayed units sold at captured_at (upper bound)
+-- error: maximum over-estimation included in score
+CREATE TABLE tb_product_ranking (
+    ranking VARCHAR(20) NOT NULL,
+    position INT NOT NULL,
+    product_id BIGINT NOT NULL,
+    score DOUBLE PRECISION NOT NULL,
+    error DOUBLE PRECISION NOT NULL,
+    captured_at TIMESTAMP NOT NULL,
+
+    CONSTRAINT pk_product_ranking
+        PRIMARY KEY (ranking, position)
+);
@@ -0,0 +1,16 @@
+-- ========================
+-- INDEXES: admin grid sort keys
+-- ========================
+-- Admin grids page with keyset predicates on (sort column, id), so each
+-- sortable column gets an index ending with the id tie-breaker. Columns
+-- already covered: ids (PK), tb_user.email (unique), tb_user.role,
+-- tb_order.order_date / status, tb_product.price, tb_address.zip_code.
+CREATE INDEX idx_user_name_id ON tb_user (name, id);
+CREATE INDEX idx_user_created_at_id ON tb_user (created_at, id);
+CREATE INDEX idx_order_total_amount_id ON tb_order (total_amount, id);
+CREATE INDEX idx_address_city_id ON tb_address (city, id);
+CREATE INDEX idx_address_state_id ON tb_address (state, id);
+CREATE INDEX idx_product_name_id ON tb_product (name, id);
+CREATE INDEX idx_product_stock_quantity_id ON tb_product (stock_quantity, id);
+CREATE INDEX idx_order_item_quantity_id ON tb_order_item (quantity, id);
+CREATE INDEX idx_order_item_subtotal_id ON tb_order_item (subtotal, id);
@@ -0,0 +1,9 @@
+-- ========================
+-- INDEXES: review feed
+-- ========================
+-- The product review feed pages with keyset predicates on
+-- (sort column, created_at, id) within one product, read backwards for
+-- the descending feed orders. Like counts are covered by
+-- idx_review_like_review_id.
+CREATE INDEX idx_review_product_created_at_id ON tb_review (product_id, created_at, id);
+CREATE INDEX idx_review_product_rating_created_at_id ON tb_review (product_id, rating, created_at, id);
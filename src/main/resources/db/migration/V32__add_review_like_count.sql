@@ -0,0 +1,15 @@
+-- ========================
+-- COLUMN: tb_review.like_count
+-- ========================
+-- Denormalized number of likes, maintained by summed deltas flushed from
+-- memory. tb_review_like stays the source of truth; a scheduled job
+-- repairs any drift.
+ALTER TABLE tb_review ADD COLUMN like_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE tb_review r
+SET like_count = l.like_count
+FROM (SELECT review_id, COUNT(*) AS like_count FROM tb_review_like GROUP BY review_id) l
+WHERE l.review_id = r.id;
+
+-- Keyset index for the "most helpful" review feed
+CREATE INDEX idx_review_product_like_count_created_at_id ON tb_review (product_id, like_count, created_at, id);
@@ -0,0 +1,15 @@
+-- ========================
+-- INDEXES: chat history
+-- ========================
+-- A conversation is every message between two users about one product, in
+-- either direction. idx_chat_message_conversation leads with sender_id, so
+-- it serves only one side of the (a -> b OR b -> a) predicate. Matching on
+-- the ordered pair of user ids covers both directions with one index range,
+-- ending in id for the keyset pages (read backwards for the latest messages,
+-- forwards for incremental sync).
+CREATE INDEX idx_chat_message_pair ON tb_chat_message (
+    product_id,
+    LEAST(sender_id, receiver_id),
+    GREATEST(sender_id, receiver_id),
+    id
+);
@@ -0,0 +1,63 @@
+-- ========================
+-- TABLE: tb_chat_conversation
+-- ========================
+-- Denormalized chat inbox. Every conversation (two users and a product)
+-- has one row per participant holding the last message and that
+-- participant's unread count, so the inbox and the unread badge read one
+-- user's rows instead of grouping their whole message history. Rows are
+-- upserted in the same transaction as each message and their unread count
+-- is reset when the participant reads the conversation.
+CREATE TABLE tb_chat_conversation (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    other_user_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    last_message_id BIGINT NOT NULL,
+    last_message_preview VARCHAR(200) NOT NULL,
+    last_sender_id BIGINT NOT NULL,
+    last_message_at TIMESTAMP NOT NULL,
+    unread_count INTEGER NOT NULL DEFAULT 0,
+
+    CONSTRAINT uk_chat_conversation_participant
+        UNIQUE (user_id, other_user_id, product_id),
+
+    CONSTRAINT fk_chat_conversation_user
+        FOREIGN KEY (user_id)
+            REFERENCES tb_user (id)
+            ON DELETE CASCADE,
+
+    CONSTRAINT fk_chat_conversation_other_user
+        FOREIGN KEY (other_user_id)
+            REFERENCES tb_user (id)
+            ON DELETE CASCADE,
+
+    CONSTRAINT fk_chat_conversation_product
+        FOREIGN KEY (product_id)
+            REFERENCES tb_product (id)
+            ON DELETE CASCADE
+);
+
+-- Inbox of a user, most recent conversation first (read backwards)
+CREATE INDEX idx_chat_conversation_inbox ON tb_chat_conversation (user_id, last_message_at, id);
+
+-- Unread badge: only the conversations with unread messages
+CREATE INDEX idx_chat_conversation_unread ON tb_chat_conversation (user_id, unread_count) WHERE unread_count > 0;
+
+-- Backfill from the existing messages
+WITH sides AS (
+    SELECT id, sender_id AS user_id, receiver_id AS other_user_id, product_id, 0 AS unread
+    FROM tb_chat_message
+    UNION ALL
+    SELECT id, receiver_id, sender_id, product_id, CASE WHEN is_read THEN 0 ELSE 1 END
+    FROM tb_chat_message
+    WHERE receiver_id <> sender_id
+), latest AS (
+    SELECT user_id, other_user_id, product_id, MAX(id) AS last_message_id, SUM(unread) AS unread_count
+    FROM sides
+    GROUP BY user_id, other_user_id, product_id
+)
+INSERT INTO tb_chat_conversation (user_id, other_user_id, product_id, last_message_id, last_message_preview,
+                                  last_sender_id, last_message_at, unread_count)
+SELECT l.user_id, l.other_user_id, l.product_id, m.id, LEFT(m.message, 200), m.sender_id, m.sent_at, l.unread_count
+FROM latest l
+JOIN tb_chat_message m ON m.id = l.last_message_id;
@@ -0,0 +1,31 @@
+-- ========================
+-- VIEWS: order history including archived months
+-- ========================
+-- tb_order / tb_order_item only hold the months inside the retention window;
+-- older closed months are moved to tb_order_archive / tb_order_item_archive.
+-- These views put both back together for the queries that must see every
+-- order: purchase history, CSV exports and sales rollup rebuilds. Filters on
+-- order_date are pushed into both branches, so a date-bounded query still
+-- only scans the monthly partitions it needs.
+CREATE VIEW vw_order_history AS
+SELECT id, order_date, status, total_amount, user_id, address_id FROM tb_order
+UNION ALL
+SELECT id, order_date, status, total_amount, user_id, address_id FROM tb_order_archive;
+
+CREATE VIEW vw_order_item_history AS
+SELECT id, quantity, price, subtotal, order_id, order_date, product_id FROM tb_order_item
+UNION ALL
+SELECT id, quantity, price, subtotal, order_id, order_date, product_id FROM tb_order_item_archive;
+
+-- ========================
+-- INDEXES: archived months
+-- ========================
+-- Archived partitions keep only their primary key. Purchase history is looked
+-- up by user rather than by date, so it needs these two on every archived
+-- month; partitions attached later by the archival job get them on ATTACH.
+
+-- Speeds up finding all archived orders for a user
+CREATE INDEX idx_order_archive_user_id ON tb_order_archive (user_id);
+
+-- Speeds up finding the items of an archived order
+CREATE INDEX idx_order_item_archive_order ON tb_order_item_archive (order_id, order_date);
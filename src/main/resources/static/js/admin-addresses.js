@@ -68,23 +68,28 @@ function getHeaders() {
 
 // ==================== Load Addresses ====================
 
+var grid = AdminGrid.create({
+    endpoint: '/api/admin/grid/addresses',
+    sort: ['id,desc'],
+    headers: getHeaders,
+    onRows: function(rows) {
+        allAddresses = rows;
+        renderTable(allAddresses);
+    },
+    onError: function() {
+        document.getElementById('addressesTableBody').innerHTML =
+            '<tr><td colspan="9" style="text-align:center;padding:24px;color:var(--text-tertiary);">'+ I18n.get('addressesJs.failedLoad') +'</td></tr>';
+    }
+});
+
 function loadAddresses() {
-    fetch('/api/addresses', { headers: getHeaders() })
-        .then(function(r) { return r.json(); })
-        .then(function(data) {
-            allAddresses = Array.isArray(data) ? data : (data.content || []);
-            renderTable(allAddresses);
-        })
-        .catch(function() {
-            document.getElementById('addressesTableBody').innerHTML =
-                '<tr><td colspan="9" style="text-align:center;padding:24px;color:var(--text-tertiary);">'+ I18n.get('addressesJs.failedLoad') +'</td></tr>';
-        });
+    grid.reload();
 }
 
 // ==================== Load Users (for dropdown) ====================
 
 function loadUsers() {
-    fetch('/api/users', { headers: getHeaders() })
+    fetch('/api/users/ordered?size=100', { headers: getHeaders() })
         .then(function(r) { return r.json(); })
         .then(function(data) {
             allUsers = Array.isArray(data) ? data : (data.content || []);
@@ -152,20 +157,7 @@ function renderTable(addresses) {
 // ==================== Search ====================
 
 function searchAddresses(term) {
-    if (!term.trim()) {
-        renderTable(allAddresses);
-        return;
-    }
-    var lower = term.toLowerCase();
-    var filtered = allAddresses.filter(function(addr) {
-        return addr.street.toLowerCase().indexOf(lower) !== -1 ||
-               addr.city.toLowerCase().indexOf(lower) !== -1 ||
-               addr.state.toLowerCase().indexOf(lower) !== -1 ||
-               addr.zipCode.toLowerCase().indexOf(lower) !== -1 ||
-               addr.country.toLowerCase().indexOf(lower) !== -1 ||
-               (addr.user && addr.user.name && addr.user.name.toLowerCase().indexOf(lower) !== -1);
-    });
-    renderTable(filtered);
+    grid.search(term);
 }
 
 // ==================== Create Modal ====================
@@ -385,7 +377,8 @@ document.addEventListener('keydown', function(e) {
 // ==================== Language Change Callback ====================
 
 I18n.onLanguageChange(function () {
-   renderTable(allAddresses);
+    grid.relabel();
+    renderTable(allAddresses);
 });
 // ==================== Initialize ====================
 
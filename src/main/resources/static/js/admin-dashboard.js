@@ -97,73 +97,59 @@ function loadDashboard() {
     var token = AuthManager.getToken();
     var headers = { 'Authorization': 'Bearer ' + token, 'Content-Type': 'application/json' };
 
-    // Fetch orders count
-    fetch('/api/orders', { headers: headers })
-        .then(function(r) { return r.json(); })
-        .then(function(data) {
-            var orders = Array.isArray(data) ? data : (data.content || []);
-            document.getElementById('metricOrders').textContent = orders.length;
+    // All figures come pre-aggregated from the server in a single call
+    fetch('/api/admin/metrics', { headers: headers })
+        .then(function(r) {
+            if (!r.ok) throw new Error('HTTP ' + r.status);
+            return r.json();
         })
-        .catch(function() { document.getElementById('metricOrders').textContent = '0'; });
-
-    // Fetch users count
-    fetch('/api/users', { headers: headers })
-        .then(function(r) { return r.json(); })
-        .then(function(data) {
-            var users = Array.isArray(data) ? data : (data.content || []);
-            document.getElementById('metricUsers').textContent = users.length;
-        })
-        .catch(function() { document.getElementById('metricUsers').textContent = '0'; });
-
-    // Fetch orders count
-    fetch('/api/orders', { headers: headers })
-        .then(function(r) { return r.json(); })
-        .then(function(data) {
-            var orders = Array.isArray(data) ? data : (data.content || []);
-            document.getElementById('metricOrders').textContent = orders.length;
-        })
-        .catch(function() { document.getElementById('metricOrders').textContent = '0'; });
-
-    // Fetch products count
-    fetch('/api/products', { headers: headers })
-        .then(function(r) { return r.json(); })
-        .then(function(data) {
-            var products = Array.isArray(data) ? data : (data.content || []);
-            document.getElementById('metricProducts').textContent = products.length;
-        })
-        .catch(function() { document.getElementById('metricProducts').textContent = '0'; });
-
-    // Fetch recent orders for table
-    fetch('/api/orders?size=5&sort=id,desc', { headers: headers })
-        .then(function(r) { return r.json(); })
-        .then(function(data) {
-            lastOrders = Array.isArray(data) ? data : (data.content || []);
-            renderOrdersTable(lastOrders);
-            renderStatusBars(lastOrders);
+        .then(function(metrics) {
+            lastMetrics = metrics;
+            document.getElementById('metricOrders').textContent = metrics.totalOrders;
+            document.getElementById('metricUsers').textContent = metrics.totalUsers;
+            document.getElementById('metricProducts').textContent = metrics.totalProducts;
+            renderRevenue(metrics.totalRevenue);
+            renderOrdersTable(metrics.recentOrders);
+            renderStatusBars(metrics);
         })
         .catch(function() {
+            document.getElementById('metricOrders').textContent = '0';
+            document.getElementById('metricUsers').textContent = '0';
+            document.getElementById('metricProducts').textContent = '0';
+            document.getElementById('metricRevenue').textContent = 'R$ 0';
             document.getElementById('ordersTableBody').innerHTML = '<tr><td colspan="4" style="text-align:center;padding:24px;color:var(--text-tertiary);">'+ I18n.get('dashboardJs.failedOrders') +'</td></tr>';
+            document.getElementById('statusBars').innerHTML = '<p style="color:var(--text-tertiary);font-size:var(--text-sm);">'+ I18n.get('dashboardJs.failedStatus')+'</p>';
         });
+}
 
-    // Fetch revenue (sum of all orders totalAmount)
-    fetch('/api/orders?size=1000', { headers: headers })
-        .then(function(r) { return r.json(); })
-        .then(function(data) {
-            var orders = Array.isArray(data) ? data : (data.content || []);
-            var total = 0;
-            orders.forEach(function(order) {
-                if (order.totalAmount) {
-                    total += parseFloat(order.totalAmount);
-                }
-            });
-            if (total >= 1000) {
-                document.getElementById('metricRevenue').textContent = 'R$ ' + (total / 1000).toFixed(1) + 'k';
-            } else {
-                document.getElementById('metricRevenue').textContent = 'R$ ' + total.toFixed(2);
-            }
-        })
-        .catch(function() { document.getElementById('metricRevenue').textContent = 'R$ 0';
-        });
+// ==================== Live Updates (WebSocket) ====================
+
+/**
+ * Subscribes to the live counters pushed by the server. Once connected, the
+ * dashboard is kept up to date without polling the API.
+ */
+function subscribeLiveMetrics() {
+    var client = StompClient.connect({ 'Authorization': 'Bearer ' + AuthManager.getToken() });
+    client.subscribe('/local/admin/metrics', function(body) {
+        var live = JSON.parse(body);
+        document.getElementById('metricOrders').textContent = live.totalOrders;
+        renderRevenue(live.totalRevenue);
+        if (lastMetrics) {
+            lastMetrics.totalOrders = live.totalOrders;
+            lastMetrics.ordersByStatus = live.ordersByStatus;
+            lastMetrics.totalRevenue = live.totalRevenue;
+        }
+        renderStatusBars(live);
+    });
+}
+
+function renderRevenue(value) {
+    var total = parseFloat(value) || 0;
+    if (total >= 1000) {
+        document.getElementById('metricRevenue').textContent = 'R$ ' + (total / 1000).toFixed(1) + 'k';
+    } else {
+        document.getElementById('metricRevenue').textContent = 'R$ ' + total.toFixed(2);
+    }
 }
 
 // ==================== Render Orders Table ====================
@@ -171,7 +157,7 @@ function loadDashboard() {
 function renderOrdersTable(orders) {
     var tbody = document.getElementById('ordersTableBody');
 
-    if (orders.length === 0) {
+    if (!orders || orders.length === 0) {
         tbody.innerHTML = '<tr><td colspan="4" style="text-align:center;padding:24px;color:var(--text-tertiary);">'+ I18n.get('dashboardJs.noOrders') +'</td></tr>';
         return;
     }
@@ -181,7 +167,7 @@ function renderOrdersTable(orders) {
         var statusClass = getStatusClass(order.status);
         html += '<tr>'
             + '<td class="table__cell--primary">#' + order.id + '</td>'
-            + '<td>' + (order.user ? order.user.name : I18n.get('common.unknown')) + '</td>'
+            + '<td>' + (order.customerName || I18n.get('common.unknown')) + '</td>'
             + '<td>R$ ' + (order.totalAmount ? order.totalAmount.toFixed(2) : '0.00') + '</td>'
             + '<td><span class="badge ' + statusClass + '">' + formatStatus(order.status) + '</span></td>'
             + '</tr>';
@@ -191,49 +177,34 @@ function renderOrdersTable(orders) {
 
 // ==================== Render Status Bars ====================
 
-function renderStatusBars(orders) {
+function renderStatusBars(metrics) {
     var statusBarsEl = document.getElementById('statusBars');
-    var statusCount = {};
-    var total = 0;
+    if (!metrics) {
+        return;
+    }
 
-    // Count all orders by status (fetch all for accurate count)
-    var token = AuthManager.getToken();
-    var headers = { 'Authorization': 'Bearer ' + token, 'Content-Type': 'application/json' };
+    var statusCount = metrics.ordersByStatus || {};
+    var total = metrics.totalOrders || 0;
+    var statusOrder = ['DELIVERED', 'CONFIRMED', 'SHIPPED', 'PENDING', 'CANCELLED'];
+    var html = '';
 
-    fetch('/api/orders?size=1000', { headers: headers })
-        .then(function(r) { return r.json(); })
-        .then(function(data) {
-            var allOrders = Array.isArray(data) ? data : (data.content || []);
-            total = allOrders.length;
-
-            allOrders.forEach(function(order) {
-                statusCount[order.status] = (statusCount[order.status] || 0) + 1;
-            });
-
-            var statusOrder = ['DELIVERED', 'CONFIRMED', 'SHIPPED', 'PENDING', 'CANCELLED'];
-            var html = '';
-
-            statusOrder.forEach(function(status) {
-                var count = statusCount[status] || 0;
-                var percent = total > 0 ? Math.round((count / total) * 100) : 0;
-                var color = getStatusColor(status);
-
-                html += '<div class="status-bar">'
-                    + '<div class="status-bar__header">'
-                    + '<span class="status-bar__label">' + formatStatus(status) + '</span>'
-                    + '<span class="status-bar__value">' + count + '</span>'
-                    + '</div>'
-                    + '<div class="status-bar__track">'
-                    + '<div class="status-bar__fill" style="width:' + percent + '%;background-color:' + color + ';"></div>'
-                    + '</div>'
-                    + '</div>';
-            });
-
-            statusBarsEl.innerHTML = html;
-        })
-        .catch(function() {
-            statusBarsEl.innerHTML = '<p style="color:var(--text-tertiary);font-size:var(--text-sm);">'+ I18n.get('dashboardJs.failedStatus')+'</p>';
-        });
+    statusOrder.forEach(function(status) {
+        var count = statusCount[status] || 0;
+        var percent = total > 0 ? Math.round((count / total) * 100) : 0;
+        var color = getStatusColor(status);
+
+        html += '<div class="status-bar">'
+            + '<div class="status-bar__header">'
+            + '<span class="status-bar__label">' + formatStatus(status) + '</span>'
+            + '<span class="status-bar__value">' + count + '</span>'
+            + '</div>'
+            + '<div class="status-bar__track">'
+            + '<div class="status-bar__fill" style="width:' + percent + '%;background-color:' + color + ';"></div>'
+            + '</div>'
+            + '</div>';
+    });
+
+    statusBarsEl.innerHTML = html;
 }
 
 // ==================== Topbar Toast (Global) ====================
@@ -256,7 +227,7 @@ function showTopbarToast(message, type) {
 
 // ==================== State (add at the top, in the State section) ====================
 
-var lastOrders = [];
+var lastMetrics = null;
 
 // ==================== Language Change Callback ====================
 
@@ -266,10 +237,13 @@ I18n.onLanguageChange(function() {
         document.getElementById('welcomeText').textContent = I18n.get('dashboardJs.welcome') + ', ' + user.name.split(' ')[0];
     }
     // Re-render orders table and status bars with cached data
-    renderOrdersTable(lastOrders);
-    renderStatusBars(lastOrders);
+    if (lastMetrics) {
+        renderOrdersTable(lastMetrics.recentOrders);
+        renderStatusBars(lastMetrics);
+    }
 });
 
 // ==================== Initialize ====================
 
-loadDashboard();
\ No newline at end of file
+loadDashboard();
+subscribeLiveMetrics();
\ No newline at end of file
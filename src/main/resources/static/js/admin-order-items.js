@@ -70,23 +70,28 @@ function getHeaders() {
 
 // ==================== Load Items ====================
 
+var grid = AdminGrid.create({
+    endpoint: '/api/admin/grid/order-items',
+    sort: ['id,desc'],
+    headers: getHeaders,
+    onRows: function(rows) {
+        allItems = rows;
+        renderTable(allItems);
+    },
+    onError: function() {
+        document.getElementById('itemsTableBody').innerHTML =
+            '<tr><td colspan="7" style="text-align:center;padding:24px;color:var(--text-tertiary);">'+ I18n.get('orderItemsJs.failedLoad') +'</td></tr>';
+    }
+});
+
 function loadItems() {
-    fetch('/api/order-items', { headers: getHeaders() })
-        .then(function(r) { return r.json(); })
-        .then(function(data) {
-            allItems = Array.isArray(data) ? data : (data.content || []);
-            renderTable(allItems);
-        })
-        .catch(function() {
-            document.getElementById('itemsTableBody').innerHTML =
-                '<tr><td colspan="7" style="text-align:center;padding:24px;color:var(--text-tertiary);">'+ I18n.get('orderItemsJs.failedLoad') +'</td></tr>';
-        });
+    grid.reload();
 }
 
 // ==================== Load Orders & Products (for dropdowns) ====================
 
 function loadOrders() {
-    fetch('/api/orders', { headers: getHeaders() })
+    fetch('/api/orders?size=100&sort=orderDate,desc', { headers: getHeaders() })
         .then(function(r) { return r.json(); })
         .then(function(data) {
             allOrders = Array.isArray(data) ? data : (data.content || []);
@@ -95,7 +100,7 @@ function loadOrders() {
 }
 
 function loadProducts() {
-    fetch('/api/products', { headers: getHeaders() })
+    fetch('/api/products/ordered/name?size=100', { headers: getHeaders() })
         .then(function(r) { return r.json(); })
         .then(function(data) {
             allProducts = Array.isArray(data) ? data : (data.content || []);
@@ -198,16 +203,7 @@ function renderTable(items) {
 // ==================== Search ====================
 
 function searchItems(term) {
-    if (!term.trim()) {
-        renderTable(allItems);
-        return;
-    }
-    var lower = term.toLowerCase();
-    var filtered = allItems.filter(function(item) {
-        return String(item.id).indexOf(lower) !== -1 ||
-               (item.product && item.product.name && item.product.name.toLowerCase().indexOf(lower) !== -1);
-    });
-    renderTable(filtered);
+    grid.search(term);
 }
 
 // ==================== Create Modal ====================
@@ -406,7 +402,8 @@ document.addEventListener('keydown', function(e) {
 // ==================== Language Change Callback ====================
 
 I18n.onLanguageChange(function () {
-   renderTable(allOrderItems);
+    grid.relabel();
+    renderTable(allItems);
 });
 
 // ==================== Initialize ====================
@@ -69,23 +69,28 @@ function getHeaders() {
 
 // ==================== Load Orders ====================
 
+var grid = AdminGrid.create({
+    endpoint: '/api/admin/grid/orders',
+    sort: ['orderDate,desc'],
+    headers: getHeaders,
+    onRows: function(rows) {
+        allOrders = rows;
+        renderTable(allOrders);
+    },
+    onError: function() {
+        document.getElementById('ordersTableBody').innerHTML =
+            '<tr><td colspan="8" style="text-align:center;padding:24px;color:var(--text-tertiary);">'+ I18n.get('ordersJs.failedLoad') +'</td></tr>';
+    }
+});
+
 function loadOrders() {
-    fetch('/api/orders', { headers: getHeaders() })
-        .then(function(r) { return r.json(); })
-        .then(function(data) {
-            allOrders = Array.isArray(data) ? data : (data.content || []);
-            renderTable(allOrders);
-        })
-        .catch(function() {
-            document.getElementById('ordersTableBody').innerHTML =
-                '<tr><td colspan="8" style="text-align:center;padding:24px;color:var(--text-tertiary);">'+ I18n.get('ordersJs.failedLoad') +'</td></tr>';
-        });
+    grid.reload();
 }
 
 // ==================== Load Users (for dropdown) ====================
 
 function loadUsers() {
-    fetch('/api/users', { headers: getHeaders() })
+    fetch('/api/users/ordered?size=100', { headers: getHeaders() })
         .then(function(r) { return r.json(); })
         .then(function(data) {
             allUsers = Array.isArray(data) ? data : (data.content || []);
@@ -224,18 +229,7 @@ function formatDate(dateStr) {
 // ==================== Search ====================
 
 function searchOrders(term) {
-    if (!term.trim()) {
-        renderTable(allOrders);
-        return;
-    }
-    var lower = term.toLowerCase();
-    var filtered = allOrders.filter(function(ord) {
-        return String(ord.id).indexOf(lower) !== -1 ||
-               ord.status.toLowerCase().indexOf(lower) !== -1 ||
-               (ord.user && ord.user.name && ord.user.name.toLowerCase().indexOf(lower) !== -1) ||
-               (ord.address && ord.address.street && ord.address.street.toLowerCase().indexOf(lower) !== -1);
-    });
-    renderTable(filtered);
+    grid.search(term);
 }
 
 // ==================== Create Modal ====================
@@ -494,6 +488,7 @@ document.addEventListener('keydown', function(e) {
 // ==================== Language Change Callback ====================
 
 I18n.onLanguageChange(function() {
+    grid.relabel();
     renderTable(allOrders);
 });
 
@@ -69,17 +69,22 @@ function getHeaders() {
 
 // ==================== Load Products ====================
 
+var grid = AdminGrid.create({
+    endpoint: '/api/admin/grid/products',
+    sort: ['id,desc'],
+    headers: getHeaders,
+    onRows: function(rows) {
+        allProducts = rows;
+        renderTable(allProducts);
+    },
+    onError: function() {
+        document.getElementById('productsTableBody').innerHTML =
+            '<tr><td colspan="10" style="text-align:center;padding:24px;color:var(--text-tertiary);">'+ I18n.get('productsJs.failedProducts') +'</td></tr>';
+    }
+});
+
 function loadProducts() {
-    fetch('/api/products', { headers: getHeaders() })
-        .then(function(r) { return r.json(); })
-        .then(function(data) {
-            allProducts = Array.isArray(data) ? data : (data.content || []);
-            renderTable(allProducts);
-        })
-        .catch(function() {
-            document.getElementById('productsTableBody').innerHTML =
-                '<tr><td colspan="10" style="text-align:center;padding:24px;color:var(--text-tertiary);">'+ I18n.get('productsJs.failedProducts') +'</td></tr>';
-        });
+    grid.reload();
 }
 
 // ==================== Load Categories (for dropdown) ====================
@@ -174,17 +179,7 @@ function renderTable(products) {
 // ==================== Search ====================
 
 function searchProducts(term) {
-    if (!term.trim()) {
-        renderTable(allProducts);
-        return;
-    }
-    var lower = term.toLowerCase();
-    var filtered = allProducts.filter(function(prod) {
-        return prod.name.toLowerCase().indexOf(lower) !== -1 ||
-               (prod.description && prod.description.toLowerCase().indexOf(lower) !== -1) ||
-               (prod.category && prod.category.name && prod.category.name.toLowerCase().indexOf(lower) !== -1);
-    });
-    renderTable(filtered);
+    grid.search(term);
 }
 
 // ==================== Create Modal ====================
@@ -483,6 +478,7 @@ document.addEventListener('keydown', function(e) {
 // ==================== Language Change Callback ====================
 
 I18n.onLanguageChange(function () {
+    grid.relabel();
     renderTable(allProducts);
 });
 
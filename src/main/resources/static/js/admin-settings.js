@@ -66,6 +66,21 @@ function getHeaders() {
     };
 }
 
+/**
+ * Loads every row of a paginated list endpoint by following hasNext.
+ */
+function fetchAllPages(url, page, rows) {
+    page = page || 0;
+    rows = rows || [];
+    var sep = url.indexOf('?') === -1 ? '?' : '&';
+    return fetch(url + sep + 'size=100&page=' + page, { headers: getHeaders() })
+        .then(function(r) { return r.json(); })
+        .then(function(data) {
+            rows = rows.concat(Array.isArray(data) ? data : (data.content || []));
+            return data.hasNext ? fetchAllPages(url, page + 1, rows) : rows;
+        });
+}
+
 // ==================== Tabs ====================
 
 function switchTab(tabName, element) {
@@ -247,10 +262,8 @@ function confirmDangerAction() {
 }
 
 function deleteAllOrders() {
-    fetch('/api/orders', { headers: getHeaders() })
-        .then(function(r) { return r.json(); })
-        .then(function(data) {
-            var orders = Array.isArray(data) ? data : (data.content || []);
+    fetchAllPages('/api/orders')
+        .then(function(orders) {
             var deletes = orders.map(function(o) {
                 return fetch('/api/orders/' + o.id, {
                     method: 'DELETE',
@@ -271,13 +284,13 @@ function deleteAllOrders() {
 function resetTestData() {
     // Delete orders, then products, then categories (respecting FK order)
     Promise.all([
-        fetch('/api/orders', { headers: getHeaders() }).then(function(r) { return r.json(); }),
-        fetch('/api/products', { headers: getHeaders() }).then(function(r) { return r.json(); }),
+        fetchAllPages('/api/orders'),
+        fetchAllPages('/api/products'),
         fetch('/api/categories', { headers: getHeaders() }).then(function(r) { return r.json(); })
     ])
         .then(function(data) {
-            var orders = Array.isArray(data[0]) ? data[0] : (data[0].content || []);
-            var products = Array.isArray(data[1]) ? data[1] : (data[1].content || []);
+            var orders = data[0];
+            var products = data[1];
             var categories = Array.isArray(data[2]) ? data[2] : (data[2].content || []);
 
             // Delete orders first
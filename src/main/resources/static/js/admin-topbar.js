@@ -227,12 +227,13 @@ function performGlobalSearch(query) {
     var headers = { 'Authorization': 'Bearer ' + token, 'Content-Type': 'application/json' };
     var results = document.getElementById('globalSearchResults');
 
-    // Search in parallel
+    // Search in parallel; the grid endpoints filter on the server and return a few rows each
+    var q = '?q=' + encodeURIComponent(query) + '&size=10';
     Promise.all([
-        fetch('/api/products', { headers: headers }).then(function(r) { return r.json(); }).catch(function() { return []; }),
+        fetch('/api/admin/grid/products' + q, { headers: headers }).then(function(r) { return r.json(); }).catch(function() { return []; }),
         fetch('/api/categories', { headers: headers }).then(function(r) { return r.json(); }).catch(function() { return []; }),
-        fetch('/api/users', { headers: headers }).then(function(r) { return r.json(); }).catch(function() { return []; }),
-        fetch('/api/orders', { headers: headers }).then(function(r) { return r.json(); }).catch(function() { return []; })
+        fetch('/api/admin/grid/users' + q, { headers: headers }).then(function(r) { return r.json(); }).catch(function() { return []; }),
+        fetch('/api/admin/grid/orders' + q, { headers: headers }).then(function(r) { return r.json(); }).catch(function() { return []; })
     ]).then(function(data) {
         var products = (Array.isArray(data[0]) ? data[0] : (data[0].content || [])).filter(function(p) {
             return p.name && p.name.toLowerCase().includes(query);
@@ -70,17 +70,22 @@ function getHeaders() {
 
 // ==================== Load Users ====================
 
+var grid = AdminGrid.create({
+    endpoint: '/api/admin/grid/users',
+    sort: ['id,desc'],
+    headers: getHeaders,
+    onRows: function(rows) {
+        allUsers = rows;
+        renderTable(allUsers);
+    },
+    onError: function() {
+        document.getElementById('usersTableBody').innerHTML =
+            '<tr><td colspan="7" style="text-align:center;padding:24px;color:var(--text-tertiary);">'+ I18n.get('usersJs.failedUsers') +'</td></tr>';
+    }
+});
+
 function loadUsers() {
-    fetch('/api/users', { headers: getHeaders() })
-        .then(function(r) { return r.json(); })
-        .then(function(data) {
-            allUsers = Array.isArray(data) ? data : (data.content || []);
-            renderTable(allUsers);
-        })
-        .catch(function() {
-            document.getElementById('usersTableBody').innerHTML =
-                '<tr><td colspan="7" style="text-align:center;padding:24px;color:var(--text-tertiary);">'+ I18n.get('usersJs.failedUsers') +'</td></tr>';
-        });
+    grid.reload();
 }
 
 // ==================== Render Table ====================
@@ -147,18 +152,7 @@ function formatDate(dateStr) {
 // ==================== Search ====================
 
 function searchUsers(term) {
-    if (!term.trim()) {
-        renderTable(allUsers);
-        return;
-    }
-    var lower = term.toLowerCase();
-    var filtered = allUsers.filter(function(u) {
-        return u.name.toLowerCase().indexOf(lower) !== -1 ||
-               u.email.toLowerCase().indexOf(lower) !== -1 ||
-               (u.phone && u.phone.toLowerCase().indexOf(lower) !== -1) ||
-               u.role.toLowerCase().indexOf(lower) !== -1;
-    });
-    renderTable(filtered);
+    grid.search(term);
 }
 
 // ==================== Create Modal ====================
@@ -466,6 +460,7 @@ document.addEventListener('keydown', function(e) {
 // ==================== Language Change Callback ====================
 
 I18n.onLanguageChange(function() {
+    grid.relabel();
     renderTable(allUsers);
 });
 
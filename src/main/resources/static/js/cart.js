@@ -8,8 +8,11 @@
     const REMOVE_ANIMATION_MS = 200;
 
     // ===== State =====
-    let cartItems = [];
-    const pendingQtyUpdates = new Map(); // itemId -> { timeout, originalQty }
+    let cartItems = [];          // lines of /api/cart/summary
+    let cartSummary = null;      // server totals of the last summary
+    let summaryFresh = false;    // false while optimistic changes are not yet reflected
+    const pendingQtyUpdates = new Map(); // itemId -> originalQty, sent together in one PATCH
+    let qtyFlushTimer = null;
 
     // ===== DOM refs =====
     const loading = document.getElementById('cartLoading');
@@ -19,6 +22,8 @@
     const subtitleCount = document.querySelector('[data-cart-count]');
     const summarySubtotal = document.getElementById('summarySubtotal');
     const summaryTotal = document.getElementById('summaryTotal');
+    const summaryDiscountRow = document.getElementById('summaryDiscountRow');
+    const summaryDiscount = document.getElementById('summaryDiscount');
     const clearBtn = document.getElementById('cartClearBtn');
     const checkoutBtn = document.getElementById('cartCheckoutBtn');
 
@@ -45,7 +50,18 @@
     function loadCart() {
         showLoading();
 
-        fetch('/api/cart', {
+        fetchSummary()
+            .then((summary) => {
+                if (summary) applySummary(summary);
+            })
+            .catch((err) => {
+                console.error('[cart] Failed to load', err);
+                showToast(I18n.get('cartPageJs.loginRequired') || 'Could not load your cart', 'error');
+            });
+    }
+
+    function fetchSummary() {
+        return fetch('/api/cart/summary', {
             headers: { 'Authorization': 'Bearer ' + token }
         })
             .then((res) => {
@@ -55,18 +71,26 @@
                 }
                 if (!res.ok) throw new Error('HTTP ' + res.status);
                 return res.json();
-            })
-            .then((items) => {
-                if (!items) return;
-                cartItems = items;
-                renderAll();
-            })
-            .catch((err) => {
-                console.error('[cart] Failed to load', err);
-                showToast(I18n.get('cartPageJs.loginRequired') || 'Could not load your cart', 'error');
             });
     }
 
+    function applySummary(summary) {
+        cartItems = summary.lines;
+        cartSummary = summary;
+        summaryFresh = true;
+        renderAll();
+    }
+
+    /** Re-syncs prices, totals and stock status after a change, unless more changes are queued. */
+    function refreshSummary() {
+        if (pendingQtyUpdates.size > 0) return;
+        fetchSummary()
+            .then((summary) => {
+                if (summary && pendingQtyUpdates.size === 0) applySummary(summary);
+            })
+            .catch((err) => console.error('[cart] Failed to refresh summary', err));
+    }
+
     // ====================================================================
     //   STATE TRANSITIONS
     // ====================================================================
@@ -114,34 +138,39 @@
     }
 
     function buildItemHTML(item) {
-        const product = item.product;
-        const hasDiscount = product.discountPercent && product.discountPercent > 0;
-        const finalPrice = product.finalPrice ?? product.price;
+        const hasDiscount = item.discountPercent && item.discountPercent > 0;
+        const finalPrice = item.finalPrice ?? item.price;
         const subtotal = finalPrice * item.quantity;
-        const stock = product.stockQuantity || 0;
+        const stock = item.stockQuantity || 0;
 
         const priceBlock = hasDiscount
             ? `
                 ${formatPrice(finalPrice)}
-                <span class="cart-item__price-original">${formatPrice(product.price)}</span>
+                <span class="cart-item__price-original">${formatPrice(item.price)}</span>
             `
             : formatPrice(finalPrice);
 
-        const categoryBlock = product.category
-            ? `<span class="cart-item__category">${escapeHtml(product.category.name)}</span>`
+        const categoryBlock = item.categoryName
+            ? `<span class="cart-item__category">${escapeHtml(item.categoryName)}</span>`
+            : '';
+
+        const stockWarning = STOCK_WARNINGS[item.stockStatus];
+        const stockBlock = stockWarning
+            ? `<span class="cart-item__stock-warning">${escapeHtml(I18n.get(stockWarning[0]) || stockWarning[1])}</span>`
             : '';
 
         return `
-            <li class="cart-item" data-item-id="${item.id}" data-product-id="${product.id}">
+            <li class="cart-item" data-item-id="${item.id}" data-product-id="${item.productId}">
                 <div class="cart-item__product">
                     <img class="cart-item__image"
-                         src="${escapeHtml(product.imageUrl || '/img/product-placeholder.png')}"
-                         alt="${escapeHtml(product.name)}"
+                         src="${escapeHtml(item.imageUrl || '/img/product-placeholder.png')}"
+                         alt="${escapeHtml(item.productName)}"
                          data-action="navigate"
                          loading="lazy">
                     <div class="cart-item__info">
-                        <p class="cart-item__name" data-action="navigate">${escapeHtml(product.name)}</p>
+                        <p class="cart-item__name" data-action="navigate">${escapeHtml(item.productName)}</p>
                         ${categoryBlock}
+                        ${stockBlock}
                     </div>
                 </div>
 
@@ -183,9 +212,12 @@
     }
 
     function renderSummary() {
-        const subtotal = getCartSubtotal();
-        if (summarySubtotal) summarySubtotal.textContent = formatPrice(subtotal);
-        if (summaryTotal) summaryTotal.textContent = formatPrice(subtotal);
+        // Server totals when in sync; a local estimate while optimistic changes are in flight
+        const totals = summaryFresh && cartSummary ? cartSummary : estimateTotals();
+        if (summarySubtotal) summarySubtotal.textContent = formatPrice(totals.subtotal);
+        if (summaryDiscount) summaryDiscount.textContent = '−' + formatPrice(totals.discount);
+        if (summaryDiscountRow) summaryDiscountRow.hidden = !(totals.discount > 0);
+        if (summaryTotal) summaryTotal.textContent = formatPrice(totals.total);
     }
 
     function updateSubtitle(count) {
@@ -254,7 +286,7 @@
         const item = cartItems.find((i) => i.id === itemId);
         if (!item) return;
 
-        const stock = item.product.stockQuantity || 0;
+        const stock = item.stockQuantity || 0;
         const clampedQty = Math.max(1, Math.min(stock, newQty));
 
         if (clampedQty === item.quantity) {
@@ -265,51 +297,49 @@
         }
 
         // Save original quantity for rollback if backend rejects
-        const pending = pendingQtyUpdates.get(itemId);
-        const originalQty = pending ? pending.originalQty : item.quantity;
+        if (!pendingQtyUpdates.has(itemId)) pendingQtyUpdates.set(itemId, item.quantity);
 
         // Optimistic update — change local state immediately
         item.quantity = clampedQty;
+        summaryFresh = false;
         renderItems();
         renderSummary();
         updateSubtitle(getTotalQuantity());
 
-        // Debounce backend call
-        if (pending) clearTimeout(pending.timeout);
-
-        const timeout = setTimeout(() => {
-            commitQuantityChange(itemId, clampedQty, originalQty);
-            pendingQtyUpdates.delete(itemId);
-        }, QTY_DEBOUNCE_MS);
-
-        pendingQtyUpdates.set(itemId, { timeout, originalQty });
+        // Debounce backend call — every line changed within the window goes in one request
+        clearTimeout(qtyFlushTimer);
+        qtyFlushTimer = setTimeout(commitQuantityChanges, QTY_DEBOUNCE_MS);
     }
 
-    function commitQuantityChange(itemId, newQty, originalQty) {
-        const item = cartItems.find((i) => i.id === itemId);
-        if (!item) return;
+    function commitQuantityChanges() {
+        const originals = new Map(pendingQtyUpdates);
+        pendingQtyUpdates.clear();
 
-        fetch(`/api/cart/${itemId}`, {
-            method: 'PUT',
+        const operations = [];
+        originals.forEach((originalQty, itemId) => {
+            const item = cartItems.find((i) => i.id === itemId);
+            if (item) operations.push({ type: 'UPDATE', cartItemId: itemId, quantity: item.quantity });
+        });
+        if (operations.length === 0) return;
+
+        fetch('/api/cart', {
+            method: 'PATCH',
             headers: {
                 'Content-Type': 'application/json',
                 'Authorization': 'Bearer ' + token,
             },
-            body: JSON.stringify({ productId: item.product.id, quantity: newQty }),
+            body: JSON.stringify({ operations }),
         })
             .then((res) => res.json().then((body) => ({ status: res.status, body })))
             .then(({ status, body }) => {
                 if (status === 200) {
                     window.dispatchEvent(new CustomEvent('cart:updated'));
+                    if (pendingQtyUpdates.size === 0) applySummary(body);
                     return;
                 }
 
-                // Rollback on any error
-                const it = cartItems.find((i) => i.id === itemId);
-                if (it) it.quantity = originalQty;
-                renderItems();
-                renderSummary();
-                updateSubtitle(getTotalQuantity());
+                // Rollback on any error — the batch is all-or-nothing
+                rollbackQuantities(originals);
 
                 if (status === 409) {
                     showToast(I18n.get('cartPageJs.stockExceeded') || 'Not enough units in stock', 'error');
@@ -318,15 +348,21 @@
                 }
             })
             .catch(() => {
-                const it = cartItems.find((i) => i.id === itemId);
-                if (it) it.quantity = originalQty;
-                renderItems();
-                renderSummary();
-                updateSubtitle(getTotalQuantity());
+                rollbackQuantities(originals);
                 showToast(I18n.get('cartPageJs.quantityError') || 'Could not update quantity', 'error');
             });
     }
 
+    function rollbackQuantities(originals) {
+        originals.forEach((originalQty, itemId) => {
+            const it = cartItems.find((i) => i.id === itemId);
+            if (it) it.quantity = originalQty;
+        });
+        renderItems();
+        renderSummary();
+        updateSubtitle(getTotalQuantity());
+    }
+
     // ====================================================================
     //   REMOVE ITEM
     // ====================================================================
@@ -346,7 +382,9 @@
                 .then((res) => {
                     if (res.status === 204) {
                         cartItems = cartItems.filter((i) => i.id !== itemId);
+                        summaryFresh = false;
                         renderAll();
+                        refreshSummary();
                         showToast(I18n.get('cartPageJs.itemRemoved') || 'Item removed from cart', 'success');
                         window.dispatchEvent(new CustomEvent('cart:updated'));
                         return;
@@ -424,11 +462,10 @@
     //   HELPERS
     // ====================================================================
 
-    function getCartSubtotal() {
-        return cartItems.reduce((sum, item) => {
-            const price = item.product.finalPrice ?? item.product.price;
-            return sum + price * item.quantity;
-        }, 0);
+    function estimateTotals() {
+        const subtotal = cartItems.reduce((sum, item) => sum + item.price * item.quantity, 0);
+        const total = cartItems.reduce((sum, item) => sum + (item.finalPrice ?? item.price) * item.quantity, 0);
+        return { subtotal, discount: subtotal - total, total };
     }
 
     function getTotalQuantity() {
@@ -461,6 +498,14 @@
             .replace(/'/g, '&#39;');
     }
 
+    // ===== Stock warnings by line status: [i18n key, fallback] =====
+    const STOCK_WARNINGS = {
+        LOW_STOCK: ['cartPageJs.stockLow', 'Only a few left'],
+        INSUFFICIENT_STOCK: ['cartPageJs.stockExceeded', 'Not enough units in stock'],
+        OUT_OF_STOCK: ['cartPageJs.stockOut', 'Out of stock'],
+        UNAVAILABLE: ['cartPageJs.stockUnavailable', 'No longer available'],
+    };
+
     // ===== Inline SVG icons =====
     const TRASH_SVG = `<svg viewBox="0 0 24 24" fill="none" stroke="currentColor" stroke-width="2" stroke-linecap="round" stroke-linejoin="round"><polyline points="3 6 5 6 21 6"/><path d="M19 6l-2 14a2 2 0 0 1-2 2H9a2 2 0 0 1-2-2L5 6"/><path d="M10 11v6M14 11v6"/><path d="M9 6V4a2 2 0 0 1 2-2h2a2 2 0 0 1 2 2v2"/></svg>`;
 })();
\ No newline at end of file
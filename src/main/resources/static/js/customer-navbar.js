@@ -18,8 +18,12 @@
 
     document.addEventListener('DOMContentLoaded', function () {
         loadUserInfo();
-        loadCategories();
-        loadCartBadge();
+        if (window.StoreBootstrap) {
+            loadFromBootstrap();
+        } else {
+            loadCategories();
+            loadCartBadge();
+        }
         setupCategoriesDropdown();
         setupProfileDropdown();
         setupLanguageSelector();
@@ -57,6 +61,27 @@
         if (emailEl) emailEl.textContent = user.email || '';
     }
 
+    /* ==========================================================================
+       BOOTSTRAP (home page only, see store-bootstrap.js)
+       ========================================================================== */
+
+    function loadFromBootstrap() {
+        window.StoreBootstrap.then(function (data) {
+            if (!data) {
+                loadCategories();
+                loadCartBadge();
+                return;
+            }
+
+            renderCategories(data.categories);
+            if (AuthManager.getToken()) {
+                updateCartBadge(data.cartCount);
+            } else {
+                hideCartBadge();
+            }
+        });
+    }
+
     /* ==========================================================================
        CATEGORIES
        ========================================================================== */
@@ -116,18 +141,15 @@
             return;
         }
 
-        fetch(API_BASE + '/api/cart', {
+        fetch(API_BASE + '/api/cart/count', {
             headers: { 'Authorization': 'Bearer ' + token }
         })
             .then(function (res) {
                 if (!res.ok) throw new Error(I18n.get('storeNavbarJs.failedCart'));
                 return res.json();
             })
-            .then(function (items) {
-                var total = items.reduce(function (sum, item) {
-                    return sum + (item.quantity || 0);
-                }, 0);
-                updateCartBadge(total);
+            .then(function (data) {
+                updateCartBadge(data.count);
             })
             .catch(function () {
                 hideCartBadge();
@@ -744,6 +744,7 @@ I18n.register('en', {
         sortRecent: 'Most recent',
         sortLiked: 'Most liked',
         sortRating: 'Highest rated',
+        loadMore: 'Show more reviews',
         empty: 'Be the first to review this product',
         loginNotice: 'Please log in to leave a review.',
         loginLink: 'Log in',
@@ -792,6 +793,7 @@ I18n.register('en', {
         removeItem: 'Remove',
         summaryTitle: 'Order Summary',
         summarySubtotal: 'Subtotal',
+        summaryDiscount: 'Savings',
         summaryShipping: 'Shipping',
         summaryFree: 'Free',
         summaryTotal: 'Total',
@@ -810,6 +812,9 @@ I18n.register('en', {
         loginRequired: 'Please log in to view your cart',
         checkoutSoon: 'Checkout coming soon',
         stockExceeded: 'Not enough units in stock',
+        stockLow: 'Only a few left',
+        stockOut: 'Out of stock',
+        stockUnavailable: 'No longer available',
     },
 
     // ==================== Common ====================
@@ -849,6 +854,7 @@ I18n.register('en', {
         admin: 'Admin',
         customer: 'Customer',
         saveChanges: 'Save changes',
+        loadMore: 'Load more',
         connectionError: 'Connection error. Please try again.',
     }
 
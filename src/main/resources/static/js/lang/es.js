@@ -720,6 +720,7 @@ I18n.register('es', {
         sortRecent: 'Más recientes',
         sortLiked: 'Más gustados',
         sortRating: 'Mejor valorados',
+        loadMore: 'Ver más reseñas',
         empty: 'Sé el primero en calificar este producto',
         loginNotice: 'Por favor, inicie sesión para dejar una reseña.',
         loginLink: 'Iniciar sesión',
@@ -762,6 +763,7 @@ I18n.register('es', {
         removeItem: 'Eliminar',
         summaryTitle: 'Resumen del Pedido',
         summarySubtotal: 'Subtotal',
+        summaryDiscount: 'Ahorro',
         summaryShipping: 'Envío',
         summaryFree: 'Gratis',
         summaryTotal: 'Total',
@@ -780,6 +782,9 @@ I18n.register('es', {
         loginRequired: 'Por favor, inicia sesión para ver tu carrito',
         checkoutSoon: 'Finalización de compra próximamente',
         stockExceeded: 'No hay suficientes unidades en stock',
+        stockLow: 'Quedan pocas unidades',
+        stockOut: 'Agotado',
+        stockUnavailable: 'Ya no está disponible',
     },
 
     common: {
@@ -818,6 +823,7 @@ I18n.register('es', {
         admin: 'Admin',
         customer: 'Cliente',
         saveChanges: 'Guardar cambios',
+        loadMore: 'Cargar más',
         connectionError: 'Error de conexión. Por favor, inténtelo de nuevo.'
     }
 
@@ -720,6 +720,7 @@ I18n.register('fr', {
         sortRecent: 'Plus récents',
         sortLiked: 'Plus aimés',
         sortRating: 'Mieux notés',
+        loadMore: "Voir plus d'avis",
         empty: 'Soyez le premier à donner votre avis sur ce produit',
         loginNotice: 'Veuillez vous connecter pour laisser un avis.',
         loginLink: 'Se connecter',
@@ -762,6 +763,7 @@ I18n.register('fr', {
         removeItem: 'Supprimer',
         summaryTitle: 'Récapitulatif de la Commande',
         summarySubtotal: 'Sous-total',
+        summaryDiscount: 'Économies',
         summaryShipping: 'Livraison',
         summaryFree: 'Gratuit',
         summaryTotal: 'Total',
@@ -780,6 +782,9 @@ I18n.register('fr', {
         loginRequired: 'Veuillez vous connecter pour voir votre panier',
         checkoutSoon: 'Paiement bientôt disponible',
         stockExceeded: 'Pas assez d\'unités en stock',
+        stockLow: 'Plus que quelques unités',
+        stockOut: 'Rupture de stock',
+        stockUnavailable: 'N\'est plus disponible',
     },
 
     common: {
@@ -818,6 +823,7 @@ I18n.register('fr', {
         admin: 'Admin',
         customer: 'Client',
         saveChanges: 'Enregistrer les modifications',
+        loadMore: 'Charger plus',
         connectionError: 'Erreur de connexion. Veuillez réessayer.',
     }
 
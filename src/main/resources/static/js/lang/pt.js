@@ -720,6 +720,7 @@ I18n.register('pt', {
         sortRecent: 'Mais recentes',
         sortLiked: 'Mais curtidas',
         sortRating: 'Melhor avaliados',
+        loadMore: 'Ver mais avaliações',
         empty: 'Seja o primeiro a avaliar este produto',
         loginNotice: 'Por favor, faça login para deixar uma avaliação.',
         loginLink: 'Entrar',
@@ -762,6 +763,7 @@ I18n.register('pt', {
         removeItem: 'Remover',
         summaryTitle: 'Resumo do Pedido',
         summarySubtotal: 'Subtotal',
+        summaryDiscount: 'Economia',
         summaryShipping: 'Frete',
         summaryFree: 'Grátis',
         summaryTotal: 'Total',
@@ -780,6 +782,9 @@ I18n.register('pt', {
         loginRequired: 'Por favor, faça login para ver seu carrinho',
         checkoutSoon: 'Finalização de compra em breve',
         stockExceeded: 'Unidades insuficientes no estoque',
+        stockLow: 'Restam poucas unidades',
+        stockOut: 'Esgotado',
+        stockUnavailable: 'Não está mais disponível',
     },
 
     // ==================== Common ====================
@@ -819,6 +824,7 @@ I18n.register('pt', {
         admin: 'Administrador',
         customer: 'Cliente',
         saveChanges: 'Salvar alterações',
+        loadMore: 'Carregar mais',
         connectionError: 'Erro de conexão. Por favor, tente novamente.',
     }
 
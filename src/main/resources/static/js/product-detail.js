@@ -2,7 +2,7 @@
  * Product Detail Page
  *
  * Handles:
- * - Loading product data + populating UI
+ * - Loading the product page in one composed request + populating UI
  * - Image gallery with thumbs and Amazon-style hover-zoom
  * - Quantity selector with stock-aware bounds
  * - Favorite toggle (with anonymous user fallback)
@@ -23,6 +23,8 @@
     const LOCALE_MAP = { en: 'en-US', pt: 'pt-BR', es: 'es-ES', fr: 'fr-FR' };
     const CURRENCY_MAP = { en: 'USD', pt: 'BRL', es: 'EUR', fr: 'EUR' };
     const LOW_STOCK_THRESHOLD = 10;
+    const REVIEW_PAGE_SIZE = 10;
+    const FEED_SORTS = { recent: 'NEWEST', liked: 'HELPFUL', rating: 'RATING' };
 
     // ===== State =====
     const productId = Number(document.querySelector('meta[name="product-id"]')?.content);
@@ -34,6 +36,8 @@
     let reviews = [];
     let likedReviewIds = new Set();
     let currentSort = 'recent';
+    let reviewsCursor = null;
+    let reviewsHasNext = false;
 
     // ===== DOM refs =====
     const loading = document.getElementById('productDetailLoading');
@@ -50,10 +54,7 @@
 
     async function init() {
         try {
-            await loadProduct();
-            await loadFavoriteStatus();
-            await loadPurchaseStatus();
-            await loadReviews();
+            await loadView();
             renderAll();
             attachStaticEvents();
             setupLanguageReRender();
@@ -79,69 +80,68 @@
     //   DATA LOADING
     // ====================================================================
 
-    async function loadProduct() {
-        const res = await fetch(`/api/products/${productId}`);
+    // Loads the product, the favorite and purchase status and the first page
+    // of reviews in one request; the server reads them in parallel.
+    async function loadView() {
+        const params = new URLSearchParams({
+            reviewSort: FEED_SORTS[currentSort] || 'NEWEST',
+            reviewSize: REVIEW_PAGE_SIZE
+        });
+        const url = `/api/store/product/${productId}/view?${params}`;
+        const token = window.AuthManager && AuthManager.getToken();
+
+        let res = await fetch(url, token ? { headers: { 'Authorization': 'Bearer ' + token } } : {});
+        // Expired token - the page is public, so read it anonymously
+        if (res.status === 401 && token) res = await fetch(url);
         if (!res.ok) throw new Error('Product not found');
-        product = await res.json();
+
+        const view = await res.json();
+        product = view.product;
+        isFavorited = view.favorited;
+        canReview = view.purchased;
+
+        reviews = view.reviews.content;
+        likedReviewIds = new Set(reviews.filter(review => review.likedByViewer).map(review => review.id));
+        reviewsCursor = view.reviews.nextCursor;
+        reviewsHasNext = view.reviews.hasNext;
 
         // Single image for now; future: ProductImage entity gives multiple
         imageList = product.imageUrl ? [product.imageUrl] : ['/img/product-placeholder.png'];
     }
 
-    async function loadFavoriteStatus() {
-        const token = window.AuthManager && AuthManager.getToken();
-        if (!token) return;
-
-        try {
-            const res = await fetch(`/api/favorites/${productId}/check`, {
-                headers: { 'Authorization': 'Bearer ' + token }
-            });
-            if (res.ok) isFavorited = await res.json();
-        } catch (err) {
-            // Anonymous or expired token - silent fail
-        }
-    }
+    // Loads one page of the review feed in the current sort; append=false
+    // restarts from the first page. The feed flags the reviews the user liked.
+    async function loadReviews(append = false) {
+        const params = new URLSearchParams({
+            sort: FEED_SORTS[currentSort] || 'NEWEST',
+            size: REVIEW_PAGE_SIZE
+        });
+        if (append && reviewsCursor) params.set('cursor', reviewsCursor);
 
-    async function loadPurchaseStatus() {
+        const url = `/api/reviews/product/${productId}/feed?${params}`;
         const token = window.AuthManager && AuthManager.getToken();
-        if (!token) {
-            canReview = false;
-            return;
-        }
 
         try {
-            const res = await fetch(`/api/orders/has-purchased/${productId}`, {
-                headers: { 'Authorization': 'Bearer ' + token }
-            });
-            if (res.ok) canReview = await res.json();
-        } catch (err) {
-            canReview = false;
-        }
-    }
+            let res = await fetch(url, token ? { headers: { 'Authorization': 'Bearer ' + token } } : {});
+            // Expired token - the feed is public, so read it anonymously
+            if (res.status === 401 && token) res = await fetch(url);
+            if (!res.ok) throw new Error('HTTP ' + res.status);
 
-    async function loadReviews() {
-        try {
-            const res = await fetch(`/api/reviews/product/${productId}`);
-            if (res.ok) reviews = await res.json();
+            const page = await res.json();
+            if (!append) {
+                reviews = [];
+                likedReviewIds = new Set();
+            }
+            page.content.forEach(review => {
+                reviews.push(review);
+                if (review.likedByViewer) likedReviewIds.add(review.id);
+            });
+            reviewsCursor = page.nextCursor;
+            reviewsHasNext = page.hasNext;
         } catch (err) {
             console.warn('[product-detail] Failed to load reviews', err);
-            reviews = [];
-        }
-
-// Load liked review IDs if logged in
-        const token = window.AuthManager && AuthManager.getToken();
-        if (token) {
-            try {
-                const res = await fetch('/api/reviews/my-likes', {
-                    headers: { 'Authorization': 'Bearer ' + token }
-                });
-                if (res.ok) {
-                    const ids = await res.json();
-                    likedReviewIds = new Set(ids);
-                }
-            } catch {
-                // silent - either endpoint not implemented yet or anonymous
-            }
+            if (!append) reviews = [];
+            reviewsHasNext = false;
         }
     }
 
@@ -312,7 +312,7 @@
         const tabCount = document.getElementById('reviewsTabCount');
         const description = document.getElementById('productDescription');
 
-        if (tabCount) tabCount.textContent = reviews.length;
+        if (tabCount) tabCount.textContent = product.reviewCount ?? reviews.length;
         if (description) {
             description.textContent = product.description ||
                 I18n.get('productDetailJs.empty') || 'No description provided.';
@@ -321,7 +321,7 @@
 
     function renderReviewsHeader() {
         const totalEl = document.getElementById('reviewsCountTotal');
-        if (totalEl) totalEl.textContent = reviews.length;
+        if (totalEl) totalEl.textContent = product.reviewCount ?? reviews.length;
     }
 
     function renderReviewFormArea() {
@@ -384,9 +384,15 @@
     function renderReviewsList() {
         const list = document.getElementById('reviewsList');
         const empty = document.getElementById('reviewsEmpty');
+        const more = document.getElementById('reviewsMore');
 
         if (!list) return;
 
+        if (more) {
+            more.hidden = !reviewsHasNext;
+            more.disabled = false;
+        }
+
         if (reviews.length === 0) {
             list.innerHTML = '';
             if (empty) empty.hidden = false;
@@ -395,8 +401,7 @@
 
         if (empty) empty.hidden = true;
 
-        const sorted = sortReviews(reviews, currentSort);
-        list.innerHTML = sorted.map(review => renderReviewItem(review)).join('');
+        list.innerHTML = reviews.map(review => renderReviewItem(review)).join('');
 
         // Attach like handlers
         list.querySelectorAll('.review-item__like-btn').forEach(btn => {
@@ -406,7 +411,7 @@
 
     function renderReviewItem(review) {
         const isLiked = likedReviewIds.has(review.id);
-        const userName = review.user?.name || 'Anonymous';
+        const userName = review.userName || review.user?.name || 'Anonymous';
         const initials = getInitials(userName);
         const date = formatDate(review.createdAt);
         const likes = review.likesCount || 0;
@@ -434,19 +439,6 @@
     `;
     }
 
-    function sortReviews(list, sort) {
-        const copy = [...list];
-        switch (sort) {
-            case 'liked':
-                return copy.sort((a, b) => (b.likesCount || 0) - (a.likesCount || 0));
-            case 'rating':
-                return copy.sort((a, b) => (b.rating || 0) - (a.rating || 0));
-            case 'recent':
-            default:
-                return copy.sort((a, b) => new Date(b.createdAt) - new Date(a.createdAt));
-        }
-    }
-
     // ====================================================================
     //   EVENTS (static elements that don't get rebuilt)
     // ====================================================================
@@ -482,8 +474,19 @@
         // Reviews sort
         const sortSelect = document.getElementById('reviewsSort');
         if (sortSelect) {
-            sortSelect.addEventListener('change', () => {
+            sortSelect.addEventListener('change', async () => {
                 currentSort = sortSelect.value;
+                await loadReviews();
+                renderReviewsList();
+            });
+        }
+
+        // Reviews pagination
+        const moreBtn = document.getElementById('reviewsMore');
+        if (moreBtn) {
+            moreBtn.addEventListener('click', async () => {
+                moreBtn.disabled = true;
+                await loadReviews(true);
                 renderReviewsList();
             });
         }
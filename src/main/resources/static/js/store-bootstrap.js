@@ -0,0 +1,33 @@
+/**
+ * Store Bootstrap — requests everything the storefront home page needs on first
+ * load (categories, carousels, first product page, cart count and favorites)
+ * with a single call to /api/store/bootstrap.
+ *
+ * Exposes window.StoreBootstrap, a promise shared by the navbar, carousel and
+ * product grid. It resolves to the response, or to null when the call fails,
+ * in which case each script falls back to its own endpoints.
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ */
+(function () {
+    'use strict';
+
+    function load(token) {
+        var headers = token ? { 'Authorization': 'Bearer ' + token } : {};
+
+        return fetch('/api/store/bootstrap', { headers: headers })
+            .then(function (res) {
+                // Expired token: the anonymous bootstrap still renders the page
+                if (res.status === 401 && token) return load(null);
+                if (!res.ok) throw new Error('HTTP ' + res.status);
+                return res.json();
+            });
+    }
+
+    window.StoreBootstrap = load(window.AuthManager && AuthManager.getToken())
+        .catch(function () {
+            return null;
+        });
+})();
@@ -49,11 +49,13 @@
        ========================================================================== */
 
     function loadCarouselProducts() {
-        Promise.all([
-            fetchSafe('/api/products/featured'),
-            fetchSafe('/api/products/deals'),
-            fetchSafe('/api/products/low-stock')
-        ])
+        var sources = window.StoreBootstrap
+            ? window.StoreBootstrap.then(function (data) {
+                return data ? [data.featured, data.deals, data.lowStock] : fetchCarouselProducts();
+            })
+            : fetchCarouselProducts();
+
+        sources
             .then(function (results) {
                 var featured = results[0] || [];
                 var deals = results[1] || [];
@@ -77,6 +79,14 @@
             });
     }
 
+    function fetchCarouselProducts() {
+        return Promise.all([
+            fetchSafe('/api/products/featured'),
+            fetchSafe('/api/products/deals'),
+            fetchSafe('/api/products/low-stock')
+        ]);
+    }
+
     function fetchSafe(url) {
         return fetch(url)
             .then(function (res) {
@@ -3,6 +3,8 @@
  *
  * Loads paginated products and renders cards in an infinite scroll layout.
  * Fetches favorite product IDs once on init to mark active hearts.
+ * On the home page, the favorites and the first page come from the shared
+ * store bootstrap (see store-bootstrap.js) instead of their own requests.
  * Uses IntersectionObserver with a debounced loader to prevent backend hammering.
  */
 (function () {
@@ -16,7 +18,8 @@
 
     // ===== State =====
     let currentPage = 0;
-    let totalPages = Infinity;
+    let pageSize = PAGE_SIZE;
+    let hasMore = true;
     let isLoading = false;
     let lastLoadAt = 0;
     let favoriteIds = new Set();
@@ -34,8 +37,18 @@
     init();
 
     async function init() {
-        await loadFavoriteIds();
-        setupObserver();
+        const bootstrap = window.StoreBootstrap ? await window.StoreBootstrap : null;
+
+        if (bootstrap) {
+            favoriteIds = new Set(bootstrap.favoriteIds || []);
+            // Keep the bootstrap's page size so page 1 continues right after it
+            pageSize = bootstrap.products.size || PAGE_SIZE;
+            renderPage(bootstrap.products.content || [], bootstrap.products.hasNext);
+        } else {
+            await loadFavoriteIds();
+        }
+
+        if (hasMore) setupObserver();
 
         // Re-render cards when language changes (price formatting + i18n labels)
         if (window.I18n && typeof I18n.onLanguageChange === 'function') {
@@ -49,12 +62,11 @@
         if (!token) return;
 
         try {
-            const res = await fetch('/api/favorites', {
+            const res = await fetch('/api/favorites/ids', {
                 headers: { 'Authorization': 'Bearer ' + token }
             });
             if (!res.ok) return;
-            const list = await res.json();
-            favoriteIds = new Set(list.map(f => f.productId));
+            favoriteIds = new Set(await res.json());
         } catch (err) {
             console.warn('[products-grid] Failed to load favorites', err);
         }
@@ -78,7 +90,7 @@
     // ===== Debounced loader =====
     function requestLoad() {
         if (isLoading) return;
-        if (currentPage >= totalPages) return;
+        if (!hasMore) return;
 
         const now = Date.now();
         const elapsed = now - lastLoadAt;
@@ -97,26 +109,11 @@
         if (spinner) spinner.hidden = false;
 
         try {
-            const res = await fetch(`/api/products/paged?page=${currentPage}&size=${PAGE_SIZE}`);
+            const res = await fetch(`/api/products/paged?page=${currentPage}&size=${pageSize}`);
             if (!res.ok) throw new Error('HTTP ' + res.status);
 
             const page = await res.json();
-            const products = page.content || [];
-            totalPages = page.totalPages ?? 0;
-
-            if (currentPage === 0 && products.length === 0) {
-                renderEmptyState();
-                stopObserving();
-                return;
-            }
-
-            products.forEach(p => grid.appendChild(buildCard(p)));
-            currentPage++;
-
-            if (currentPage >= totalPages) {
-                stopObserving();
-                if (endMessage) endMessage.hidden = false;
-            }
+            renderPage(page.content || [], currentPage + 1 < (page.totalPages ?? 0));
         } catch (err) {
             console.error('[products-grid] Failed to load page', err);
             if (window.showToast) {
@@ -128,13 +125,29 @@
         }
     }
 
-    function stopObserving() {
-        if (observer && sentinel) {
-            observer.unobserve(sentinel);
-            sentinel.style.display = 'none';
+    function renderPage(products, more) {
+        if (currentPage === 0 && products.length === 0) {
+            hasMore = false;
+            renderEmptyState();
+            stopObserving();
+            return;
+        }
+
+        products.forEach(p => grid.appendChild(buildCard(p)));
+        currentPage++;
+        hasMore = more;
+
+        if (!hasMore) {
+            stopObserving();
+            if (endMessage) endMessage.hidden = false;
         }
     }
 
+    function stopObserving() {
+        if (observer) observer.unobserve(sentinel);
+        sentinel.style.display = 'none';
+    }
+
     function renderEmptyState() {
         const empty = document.createElement('div');
         empty.className = 'product-grid__empty';
@@ -0,0 +1,93 @@
+/**
+ * Admin Grid — server-side filtering, sorting and keyset pagination for the
+ * admin tables, backed by /api/admin/grid/*.
+ *
+ * Usage:
+ *   var grid = AdminGrid.create({
+ *       endpoint: '/api/admin/grid/orders',
+ *       headers: getHeaders,
+ *       onRows: function(rows) { allOrders = rows; renderTable(rows); },
+ *       onError: function() { ... }
+ *   });
+ *   grid.reload();          // first page (after create/update/delete too)
+ *   grid.search('maria');   // debounced server-side search
+ *
+ * Rows accumulate as the user clicks "Load more"; only one page is fetched
+ * per request, so the page cost does not grow with the table.
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+var AdminGrid = (function () {
+
+    var SEARCH_DELAY_MS = 300;
+
+    function create(options) {
+        var rows = [];
+        var cursor = null;
+        var term = '';
+        var requestId = 0;
+        var searchTimer = null;
+        var moreButton = createMoreButton();
+
+        function createMoreButton() {
+            var container = document.querySelector('.table-container');
+            var wrapper = document.createElement('div');
+            wrapper.style.cssText = 'display:none;justify-content:center;padding:16px;';
+            var button = document.createElement('button');
+            button.type = 'button';
+            button.className = 'btn btn-outline btn-sm';
+            button.textContent = I18n.get('common.loadMore');
+            button.onclick = function () { load(false); };
+            wrapper.appendChild(button);
+            if (container) container.parentNode.insertBefore(wrapper, container.nextSibling);
+            return { wrapper: wrapper, button: button };
+        }
+
+        function url(reset) {
+            var params = new URLSearchParams();
+            params.set('size', options.pageSize || 25);
+            (options.sort || []).forEach(function (s) { params.append('sort', s); });
+            (options.filters || []).forEach(function (f) { params.append('filter', f); });
+            if (term) params.set('q', term);
+            if (!reset && cursor) params.set('cursor', cursor);
+            return options.endpoint + '?' + params.toString();
+        }
+
+        function load(reset) {
+            var current = ++requestId;
+            moreButton.button.disabled = true;
+            fetch(url(reset), { headers: options.headers() })
+                .then(function (r) {
+                    if (!r.ok) throw new Error('HTTP ' + r.status);
+                    return r.json();
+                })
+                .then(function (page) {
+                    if (current !== requestId) return;
+                    rows = reset ? page.content : rows.concat(page.content);
+                    cursor = page.nextCursor;
+                    moreButton.wrapper.style.display = page.hasNext ? 'flex' : 'none';
+                    options.onRows(rows);
+                })
+                .catch(function () {
+                    if (current === requestId && options.onError) options.onError();
+                })
+                .finally(function () { moreButton.button.disabled = false; });
+        }
+
+        return {
+            reload: function () { load(true); },
+            search: function (value) {
+                clearTimeout(searchTimer);
+                searchTimer = setTimeout(function () {
+                    term = value.trim();
+                    load(true);
+                }, SEARCH_DELAY_MS);
+            },
+            rows: function () { return rows; },
+            relabel: function () { moreButton.button.textContent = I18n.get('common.loadMore'); }
+        };
+    }
+
+    return { create: create };
+})();
@@ -0,0 +1,119 @@
+/**
+ * Minimal STOMP 1.2 client over a native WebSocket.
+ * Connects to the SockJS endpoint's raw WebSocket transport (/ws/websocket),
+ * so no third-party STOMP/SockJS library is needed.
+ *
+ * Usage:
+ *   var client = StompClient.connect({ Authorization: 'Bearer ' + token });
+ *   client.subscribe('/local/admin/metrics', function(body) { ... });
+ *
+ * Subscriptions can be registered before the connection is up; they are sent
+ * on CONNECTED and again after every automatic reconnect (growing delay).
+ * The optional onConnected callback runs on each (re)connection.
+ *
+ * @author Kauan Santos Ferreira
+ * @since 2026
+ */
+var StompClient = (function () {
+
+    var NULL = '\u0000';
+
+    function endpoint() {
+        var scheme = window.location.protocol === 'https:' ? 'wss://' : 'ws://';
+        return scheme + window.location.host + '/ws/websocket';
+    }
+
+    function frame(command, headers, body) {
+        var out = command + '\n';
+        Object.keys(headers || {}).forEach(function (key) {
+            out += key + ':' + headers[key] + '\n';
+        });
+        return out + '\n' + (body || '') + NULL;
+    }
+
+    function parse(data) {
+        var headerEnd = data.indexOf('\n\n');
+        var lines = data.substring(0, headerEnd).split('\n');
+        var headers = {};
+        for (var i = 1; i < lines.length; i++) {
+            var sep = lines[i].indexOf(':');
+            if (sep > 0) {
+                headers[lines[i].substring(0, sep)] = lines[i].substring(sep + 1);
+            }
+        }
+        var body = data.substring(headerEnd + 2);
+        if (body.charAt(body.length - 1) === NULL) {
+            body = body.substring(0, body.length - 1);
+        }
+        return { command: lines[0], headers: headers, body: body };
+    }
+
+    function connect(connectHeaders, onConnected) {
+        var socket = null;
+        var subscriptions = {};
+        var nextId = 0;
+        var retryDelay = 1000;
+        var closed = false;
+        var connected = false;
+
+        function open() {
+            socket = new WebSocket(endpoint());
+
+            socket.onopen = function () {
+                var headers = Object.assign({ 'accept-version': '1.2', 'heart-beat': '0,0' }, connectHeaders || {});
+                socket.send(frame('CONNECT', headers));
+            };
+
+            socket.onmessage = function (event) {
+                event.data.split(NULL).forEach(function (raw) {
+                    raw = raw.replace(/^\n+/, '');
+                    if (!raw) return;
+                    var msg = parse(raw + NULL);
+                    if (msg.command === 'CONNECTED') {
+                        connected = true;
+                        retryDelay = 1000;
+                        Object.keys(subscriptions).forEach(function (id) {
+                            socket.send(frame('SUBSCRIBE', { id: id, destination: subscriptions[id].destination }));
+                        });
+                        if (onConnected) onConnected();
+                    } else if (msg.command === 'MESSAGE') {
+                        var sub = subscriptions[msg.headers.subscription];
+                        if (sub) sub.callback(msg.body, msg.headers);
+                    }
+                });
+            };
+
+            socket.onclose = function () {
+                connected = false;
+                if (closed) return;
+                setTimeout(open, retryDelay);
+                retryDelay = Math.min(retryDelay * 2, 30000);
+            };
+        }
+
+        open();
+
+        return {
+            subscribe: function (destination, callback) {
+                var id = 'sub-' + (nextId++);
+                subscriptions[id] = { destination: destination, callback: callback };
+                if (connected) {
+                    socket.send(frame('SUBSCRIBE', { id: id, destination: destination }));
+                }
+                return id;
+            },
+            send: function (destination, body, headers) {
+                if (connected) {
+                    var h = Object.assign({ destination: destination, 'content-type': 'application/json' }, headers || {});
+                    socket.send(frame('SEND', h, body));
+                }
+            },
+            disconnect: function () {
+                closed = true;
+                if (socket) socket.close();
+            }
+        };
+    }
+
+    return { connect: connect };
+})();
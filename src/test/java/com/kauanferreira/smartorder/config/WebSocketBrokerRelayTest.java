@@ -0,0 +1,196 @@
+package com.kauanferreira.smartorder.config;
+
+import com.kauanferreira.smartorder.dto.response.WebSocketBrokerStatsResponse;
+import com.kauanferreira.smartorder.services.metrics.LiveMetricsRegistry;
+import com.kauanferreira.smartorder.services.metrics.WebSocketBrokerMonitor;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.messaging.converter.SimpleMessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.ReactorNettyTcpStompClient;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the relay mode of {@link WebSocketConfig}.
+ *
+ * <p>Starts an embedded ActiveMQ Artemis broker with a STOMP acceptor, points
+ * the relay at it and checks that a message sent through the application's
+ * messaging template reaches a subscriber connected straight to the broker,
+ * as it would reach a client of another instance, while a node-local
+ * destination never leaves the instance.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see WebSocketConfig
+ * @see WebSocketBrokerMonitor
+ */
+@SpringBootTest
+public class WebSocketBrokerRelayTest {
+
+    private static EmbeddedActiveMQ broker;
+    private static int brokerPort;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private WebSocketBrokerMonitor webSocketBrokerMonitor;
+
+    @DynamicPropertySource
+    static void relayProperties(DynamicPropertyRegistry registry) throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            brokerPort = socket.getLocalPort();
+        }
+        broker = new EmbeddedActiveMQ();
+        broker.setConfiguration(new ConfigurationImpl()
+                .setPersistenceEnabled(false)
+                .setSecurityEnabled(false)
+                .addAcceptorConfiguration("stomp",
+                        "tcp://127.0.0.1:" + brokerPort + "?protocols=STOMP;multicastPrefix=/topic/"));
+        broker.start();
+
+        registry.add("smartorder.websocket.broker.mode", () -> "relay");
+        registry.add("smartorder.websocket.broker.relay.host", () -> "127.0.0.1");
+        registry.add("smartorder.websocket.broker.relay.port", () -> brokerPort);
+        registry.add("smartorder.websocket.broker.relay.io-threads", () -> 2);
+    }
+
+    @AfterAll
+    static void stopBroker() throws Exception {
+        if (broker != null) {
+            broker.stop();
+        }
+    }
+
+    @BeforeEach
+    void waitForBroker() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!webSocketBrokerMonitor.isAvailable() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should connect the relay's system session to the external broker")
+    void shouldReportRelayAvailable() {
+        // Act
+        WebSocketBrokerStatsResponse stats = webSocketBrokerMonitor.snapshot();
+
+        // Assert
+        assertThat(stats.mode()).isEqualTo("relay");
+        assertThat(stats.available()).isTrue();
+        assertThat(stats.relayConnected()).isPositive();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should deliver a message sent on this instance to a subscriber of the external broker")
+    void shouldFanOutThroughExternalBroker() throws Exception {
+        // Arrange
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+        ReactorNettyTcpStompClient client = new ReactorNettyTcpStompClient("127.0.0.1", brokerPort);
+        client.setMessageConverter(new SimpleMessageConverter());
+        client.setTaskScheduler(scheduler);
+
+        BlockingQueue<String> received = new ArrayBlockingQueue<>(1);
+        CountDownLatch subscribed = new CountDownLatch(1);
+        StompSession session = client.connectAsync(new StompSessionHandlerAdapter() {
+        }).get(10, TimeUnit.SECONDS);
+
+        try {
+            session.setAutoReceipt(true);
+            session.subscribe("/topic/chat/42", new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return byte[].class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    received.offer(new String((byte[]) payload, StandardCharsets.UTF_8));
+                }
+            }).addReceiptTask(subscribed::countDown);
+            assertThat(subscribed.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // Act
+            messagingTemplate.convertAndSend("/topic/chat/42", "hello from another node");
+
+            // Assert
+            assertThat(received.poll(10, TimeUnit.SECONDS)).isEqualTo("hello from another node");
+        } finally {
+            session.disconnect();
+            client.shutdown();
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should keep node-local destinations off the external broker")
+    void shouldNotRelayLocalDestinations() throws Exception {
+        // Arrange
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+        ReactorNettyTcpStompClient client = new ReactorNettyTcpStompClient("127.0.0.1", brokerPort);
+        client.setMessageConverter(new SimpleMessageConverter());
+        client.setTaskScheduler(scheduler);
+
+        BlockingQueue<String> received = new ArrayBlockingQueue<>(1);
+        CountDownLatch subscribed = new CountDownLatch(1);
+        StompSession session = client.connectAsync(new StompSessionHandlerAdapter() {
+        }).get(10, TimeUnit.SECONDS);
+
+        try {
+            session.setAutoReceipt(true);
+            session.subscribe(LiveMetricsRegistry.DESTINATION, new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return byte[].class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    received.offer(new String((byte[]) payload, StandardCharsets.UTF_8));
+                }
+            }).addReceiptTask(subscribed::countDown);
+            assertThat(subscribed.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // Act
+            messagingTemplate.convertAndSend(LiveMetricsRegistry.DESTINATION, "metrics of this node");
+
+            // Assert
+            assertThat(received.poll(2, TimeUnit.SECONDS)).isNull();
+            assertThat(webSocketBrokerMonitor.isAvailable()).isTrue();
+        } finally {
+            session.disconnect();
+            client.shutdown();
+            scheduler.shutdown();
+        }
+    }
+}
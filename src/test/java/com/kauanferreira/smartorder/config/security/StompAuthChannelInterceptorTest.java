@@ -0,0 +1,243 @@
+package com.kauanferreira.smartorder.config.security;
+
+import com.kauanferreira.smartorder.entity.User;
+import com.kauanferreira.smartorder.enums.Role;
+import com.kauanferreira.smartorder.services.metrics.LiveMetricsRegistry;
+import io.jsonwebtoken.MalformedJwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.security.Principal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link StompAuthChannelInterceptor}.
+ *
+ * <p>Uses Mockito to mock the token and user lookups, testing how CONNECT
+ * frames are authenticated and which sends and subscriptions are refused.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see StompAuthChannelInterceptor
+ */
+@ExtendWith(MockitoExtension.class)
+public class StompAuthChannelInterceptorTest {
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private MessageChannel channel;
+
+    @InjectMocks
+    private StompAuthChannelInterceptor interceptor;
+
+    private static Message<byte[]> frame(StompCommand command, String authHeader, String destination,
+                                         Principal user) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        if (authHeader != null) {
+            accessor.setNativeHeader("Authorization", authHeader);
+        }
+        accessor.setDestination(destination);
+        accessor.setUser(user);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static UsernamePasswordAuthenticationToken authenticated(Role role) {
+        User user = new User(1L, "Kauan", "kauan@email.com", "senha123", role, null, null, null);
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    }
+
+    // ========================
+    // CONNECT
+    // ========================
+
+    @Test
+    @Order(1)
+    @DisplayName("Should set the session user from a valid bearer token")
+    void shouldAuthenticateConnect() {
+        // Arrange
+        User user = new User(1L, "Kauan", "kauan@email.com", "senha123", Role.CUSTOMER, null, null, null);
+        when(jwtService.extractUsername("token")).thenReturn("kauan@email.com");
+        when(userDetailsService.loadUserByUsername("kauan@email.com")).thenReturn(user);
+        when(jwtService.isTokenValid("token", user)).thenReturn(true);
+
+        // Act
+        Message<?> result = interceptor.preSend(frame(StompCommand.CONNECT, "Bearer token", null, null), channel);
+
+        // Assert
+        Principal principal = MessageHeaderAccessor.getAccessor(result, StompHeaderAccessor.class).getUser();
+        assertThat(principal).isNotNull();
+        assertThat(principal.getName()).isEqualTo("kauan@email.com");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should reject a CONNECT without a bearer token")
+    void shouldRejectConnectWithoutToken() {
+        // Act & Assert
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.CONNECT, null, null, null), channel))
+                .isInstanceOf(BadCredentialsException.class);
+        verifyNoInteractions(jwtService, userDetailsService);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should reject a CONNECT with a malformed token")
+    void shouldRejectConnectWithMalformedToken() {
+        // Arrange
+        when(jwtService.extractUsername("garbage")).thenThrow(new MalformedJwtException("bad"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> interceptor.preSend(
+                frame(StompCommand.CONNECT, "Bearer garbage", null, null), channel))
+                .isInstanceOf(BadCredentialsException.class);
+    }
+
+    // ========================
+    // SUBSCRIBE
+    // ========================
+
+    @Test
+    @Order(4)
+    @DisplayName("Should allow subscribing to the user's own queue through the user prefix")
+    void shouldAllowUserQueueSubscription() {
+        // Arrange
+        Message<byte[]> subscribe = frame(StompCommand.SUBSCRIBE, null, "/user/queue/chat",
+                authenticated(Role.CUSTOMER));
+
+        // Act & Assert
+        assertThat(interceptor.preSend(subscribe, channel)).isSameAs(subscribe);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Should refuse direct subscriptions to another session's queue")
+    void shouldRejectDirectQueueSubscription() {
+        // Arrange
+        Message<byte[]> subscribe = frame(StompCommand.SUBSCRIBE, null, "/queue/chat-user1a2b3c",
+                authenticated(Role.CUSTOMER));
+
+        // Act & Assert
+        assertThatThrownBy(() -> interceptor.preSend(subscribe, channel))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Should restrict the admin topics to admins")
+    void shouldRestrictAdminTopics() {
+        // Arrange
+        Message<byte[]> customer = frame(StompCommand.SUBSCRIBE, null, "/local/admin/metrics",
+                authenticated(Role.CUSTOMER));
+        Message<byte[]> admin = frame(StompCommand.SUBSCRIBE, null, "/local/admin/metrics",
+                authenticated(Role.ADMIN));
+
+        // Act & Assert
+        assertThatThrownBy(() -> interceptor.preSend(customer, channel))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThat(interceptor.preSend(admin, channel)).isSameAs(admin);
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Should refuse subscriptions to destination patterns")
+    void shouldRejectPatternSubscriptions() {
+        // Arrange
+        Message<byte[]> everything = frame(StompCommand.SUBSCRIBE, null, "/topic/**", authenticated(Role.CUSTOMER));
+        Message<byte[]> oneLevel = frame(StompCommand.SUBSCRIBE, null, "/topic/*/metrics",
+                authenticated(Role.CUSTOMER));
+        Message<byte[]> variable = frame(StompCommand.SUBSCRIBE, null, "/topic/{name}/metrics",
+                authenticated(Role.CUSTOMER));
+
+        // Act & Assert
+        assertThatThrownBy(() -> interceptor.preSend(everything, channel))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> interceptor.preSend(oneLevel, channel))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> interceptor.preSend(variable, channel))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    // ========================
+    // SEND
+    // ========================
+
+    @Test
+    @Order(8)
+    @DisplayName("Should let clients send to the application destinations")
+    void shouldAllowSendToApplication() {
+        // Arrange
+        Message<byte[]> send = frame(StompCommand.SEND, null, "/app/chat.send", authenticated(Role.CUSTOMER));
+
+        // Act & Assert
+        assertThat(interceptor.preSend(send, channel)).isSameAs(send);
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Should refuse sends straight to broker and user destinations")
+    void shouldRejectSendToBroker() {
+        // Arrange
+        Message<byte[]> adminTopic = frame(StompCommand.SEND, null, "/local/admin/metrics",
+                authenticated(Role.CUSTOMER));
+        Message<byte[]> otherUser = frame(StompCommand.SEND, null, "/user/seller@email.com/queue/chat",
+                authenticated(Role.CUSTOMER));
+        Message<byte[]> queue = frame(StompCommand.SEND, null, "/queue/chat-user1a2b3c",
+                authenticated(Role.ADMIN));
+
+        // Act & Assert
+        assertThatThrownBy(() -> interceptor.preSend(adminTopic, channel))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> interceptor.preSend(otherUser, channel))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> interceptor.preSend(queue, channel))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    // ========================
+    // ADMIN METRICS
+    // ========================
+
+    @Test
+    @Order(10)
+    @DisplayName("Should keep sessions without the admin role off the live metrics")
+    void shouldRestrictLiveMetricsToAdmins() {
+        // Arrange
+        Message<byte[]> anonymous = frame(StompCommand.SUBSCRIBE, null, LiveMetricsRegistry.DESTINATION, null);
+        Message<byte[]> prefix = frame(StompCommand.SUBSCRIBE, null, LiveMetricsRegistry.ADMIN_TOPIC_PREFIX,
+                authenticated(Role.CUSTOMER));
+        Message<byte[]> admin = frame(StompCommand.SUBSCRIBE, null, LiveMetricsRegistry.DESTINATION,
+                authenticated(Role.ADMIN));
+
+        // Act & Assert
+        assertThatThrownBy(() -> interceptor.preSend(anonymous, channel))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> interceptor.preSend(prefix, channel))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThat(interceptor.preSend(admin, channel)).isSameAs(admin);
+    }
+}
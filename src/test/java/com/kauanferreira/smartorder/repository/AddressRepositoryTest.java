@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -134,7 +135,7 @@ public class AddressRepositoryTest {
         addressRepository.save(createAddress("Rua C", "300", null, "Salvador", "BA", "40000-000", user1));
 
         // Act
-        List<Address> results = addressRepository.findByCityIgnoreCase("aracaju");
+        List<Address> results = addressRepository.findByCityIgnoreCase("aracaju", PageRequest.of(0, 10)).getContent();
 
         // Assert
         assertThat(results).hasSize(2);
@@ -149,7 +150,7 @@ public class AddressRepositoryTest {
         addressRepository.save(createAddress("Rua B", "200", null, "Salvador", "BA", "40000-000", user2));
 
         // Act
-        List<Address> results = addressRepository.findByStateIgnoreCase("se");
+        List<Address> results = addressRepository.findByStateIgnoreCase("se", PageRequest.of(0, 10)).getContent();
 
         // Assert
         assertThat(results).hasSize(1);
@@ -165,7 +166,7 @@ public class AddressRepositoryTest {
         addressRepository.save(createAddress("Rua B", "200", null, "Aracaju", "SE", "49000-000", user2));
 
         // Act
-        List<Address> results = addressRepository.findByZipCode("49000-000");
+        List<Address> results = addressRepository.findByZipCode("49000-000", PageRequest.of(0, 10)).getContent();
 
         // Assert
         assertThat(results).hasSize(2);
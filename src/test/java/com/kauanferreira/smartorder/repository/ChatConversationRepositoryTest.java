@@ -0,0 +1,147 @@
+package com.kauanferreira.smartorder.repository;
+
+import com.kauanferreira.smartorder.entity.*;
+import com.kauanferreira.smartorder.enums.Role;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link ChatConversationRepository}.
+ *
+ * <p>Validates that the inbox rows of both participants follow each sent
+ * message and that unread counts add up and reset per participant.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see ChatConversationRepository
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ChatConversationRepositoryTest {
+
+    @Autowired
+    private ChatConversationRepository chatConversationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User buyer;
+    private User seller;
+    private Product phone;
+    private Product laptop;
+
+    @BeforeEach
+    void setUp() {
+        buyer = userRepository.save(new User(null, "Buyer", "inbox-buyer@email.com", "senha123",
+                Role.CUSTOMER, null, null, null));
+        seller = userRepository.save(new User(null, "Seller", "inbox-seller@email.com", "senha123",
+                Role.CUSTOMER, null, null, null));
+        Category category = categoryRepository.save(new Category(null, "Eletrônicos", "Produtos eletrônicos"));
+        phone = productRepository.save(new Product(null, "Smartphone", null, new BigDecimal("2999.99"), 50,
+                null, true, null, null, null, null, category));
+        laptop = productRepository.save(new Product(null, "Notebook", null, new BigDecimal("4999.99"), 10,
+                null, true, null, null, null, null, category));
+    }
+
+    /** Records a message the way the chat writer does, smaller user id first. */
+    private void send(User from, User to, Product product, long messageId, String text, LocalDateTime sentAt) {
+        boolean fromFirst = from.getId() < to.getId();
+        chatConversationRepository.upsertLastMessage(
+                fromFirst ? from.getId() : to.getId(), fromFirst ? to.getId() : from.getId(),
+                fromFirst ? 0 : 1, fromFirst ? 1 : 0,
+                product.getId(), messageId, text, from.getId(), sentAt);
+        entityManager.clear();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should keep the last message on both sides and count unread for the receiver")
+    void shouldUpsertBothParticipants() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+
+        // Act
+        send(buyer, seller, phone, 1L, "Is it available?", now);
+        send(buyer, seller, phone, 2L, "Hello?", now.plusSeconds(1));
+        send(seller, buyer, phone, 3L, "Yes!", now.plusSeconds(2));
+
+        // Assert
+        List<ChatConversation> buyerInbox = chatConversationRepository.findInbox(buyer.getId(), PageRequest.of(0, 10))
+                .getContent();
+        List<ChatConversation> sellerInbox = chatConversationRepository.findInbox(seller.getId(), PageRequest.of(0, 10))
+                .getContent();
+        assertThat(buyerInbox).singleElement().satisfies(c -> {
+            assertThat(c.getOtherUser().getName()).isEqualTo("Seller");
+            assertThat(c.getLastMessagePreview()).isEqualTo("Yes!");
+            assertThat(c.getLastSenderId()).isEqualTo(seller.getId());
+            assertThat(c.getUnreadCount()).isEqualTo(1);
+        });
+        assertThat(sellerInbox).singleElement().satisfies(c -> {
+            assertThat(c.getLastMessageId()).isEqualTo(3L);
+            assertThat(c.getUnreadCount()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should order the inbox by last message and sum unread across conversations")
+    void shouldListInboxAndSumUnread() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        send(seller, buyer, phone, 1L, "About the phone", now);
+        send(seller, buyer, laptop, 2L, "About the laptop", now.plusSeconds(1));
+        send(seller, buyer, phone, 3L, "Still there?", now.plusSeconds(2));
+
+        // Act
+        List<ChatConversation> inbox = chatConversationRepository.findInbox(buyer.getId(), PageRequest.of(0, 10))
+                .getContent();
+        long unread = chatConversationRepository.sumUnread(buyer.getId());
+
+        // Assert
+        assertThat(inbox).extracting(c -> c.getProduct().getName()).containsExactly("Smartphone", "Notebook");
+        assertThat(unread).isEqualTo(3);
+        assertThat(chatConversationRepository.sumUnread(seller.getId())).isZero();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should reset only the reader's unread count of one conversation")
+    void shouldMarkConversationAsRead() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        send(seller, buyer, phone, 1L, "About the phone", now);
+        send(seller, buyer, laptop, 2L, "About the laptop", now.plusSeconds(1));
+
+        // Act
+        int updated = chatConversationRepository.markAsRead(buyer.getId(), seller.getId(), phone.getId());
+        int again = chatConversationRepository.markAsRead(buyer.getId(), seller.getId(), phone.getId());
+
+        // Assert
+        assertThat(updated).isEqualTo(1);
+        assertThat(again).isZero();
+        assertThat(chatConversationRepository.sumUnread(buyer.getId())).isEqualTo(1);
+    }
+}
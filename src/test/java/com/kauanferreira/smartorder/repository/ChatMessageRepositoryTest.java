@@ -0,0 +1,136 @@
+package com.kauanferreira.smartorder.repository;
+
+import com.kauanferreira.smartorder.entity.*;
+import com.kauanferreira.smartorder.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link ChatMessageRepository}.
+ *
+ * <p>Walks a conversation backwards and forwards with the keyset queries to
+ * validate that both directions of the conversation are matched and that
+ * messages of other conversations are left out.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see ChatMessageRepository
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ChatMessageRepositoryTest {
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private User buyer;
+    private User seller;
+    private Product product;
+    private List<Long> conversationIds;
+
+    @BeforeEach
+    void setUp() {
+        buyer = userRepository.save(new User(null, "Buyer", "chat-buyer@email.com", "senha123",
+                Role.CUSTOMER, null, null, null));
+        seller = userRepository.save(new User(null, "Seller", "chat-seller@email.com", "senha123",
+                Role.CUSTOMER, null, null, null));
+        User other = userRepository.save(new User(null, "Other", "chat-other@email.com", "senha123",
+                Role.CUSTOMER, null, null, null));
+        Category category = categoryRepository.save(new Category(null, "Eletrônicos", "Produtos eletrônicos"));
+        product = productRepository.save(new Product(null, "Smartphone", null, new BigDecimal("2999.99"), 50,
+                null, true, null, null, null, null, category));
+
+        // 7 messages alternating direction, interleaved with another conversation of the buyer
+        conversationIds = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            boolean fromBuyer = i % 2 == 0;
+            conversationIds.add(chatMessageRepository.save(new ChatMessage(null, fromBuyer ? buyer : seller,
+                    fromBuyer ? seller : buyer, product, "Message " + i, null, false)).getId());
+            chatMessageRepository.save(new ChatMessage(null, buyer, other, product, "Elsewhere " + i, null, false));
+        }
+    }
+
+    private Slice<ChatMessage> before(long beforeId, int size) {
+        return chatMessageRepository.findConversationBefore(Math.min(buyer.getId(), seller.getId()),
+                Math.max(buyer.getId(), seller.getId()), product.getId(), beforeId, PageRequest.of(0, size));
+    }
+
+    private Slice<ChatMessage> after(long afterId, int size) {
+        return chatMessageRepository.findConversationAfter(Math.min(buyer.getId(), seller.getId()),
+                Math.max(buyer.getId(), seller.getId()), product.getId(), afterId, PageRequest.of(0, size));
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should return the latest messages of both directions, newest first")
+    void shouldFindLatestMessages() {
+        // Act
+        Slice<ChatMessage> latest = before(Long.MAX_VALUE, 3);
+
+        // Assert
+        assertThat(latest.getContent()).extracting(ChatMessage::getMessage)
+                .containsExactly("Message 6", "Message 5", "Message 4");
+        assertThat(latest.hasNext()).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should walk back through the whole conversation without other conversations")
+    void shouldWalkConversationBackwards() {
+        // Arrange
+        List<Long> seen = new ArrayList<>();
+        long beforeId = Long.MAX_VALUE;
+        Slice<ChatMessage> slice;
+
+        // Act
+        do {
+            slice = before(beforeId, 3);
+            slice.forEach(m -> seen.add(m.getId()));
+            if (slice.hasContent()) {
+                beforeId = slice.getContent().get(slice.getNumberOfElements() - 1).getId();
+            }
+        } while (slice.hasNext());
+
+        // Assert
+        assertThat(seen).containsExactlyElementsOf(conversationIds.reversed());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should return only the messages after a given id, oldest first")
+    void shouldSyncMessagesAfterId() {
+        // Act
+        Slice<ChatMessage> missed = after(conversationIds.get(3), 2);
+        Slice<ChatMessage> rest = after(missed.getContent().get(1).getId(), 2);
+
+        // Assert
+        assertThat(missed.getContent()).extracting(ChatMessage::getMessage)
+                .containsExactly("Message 4", "Message 5");
+        assertThat(missed.hasNext()).isTrue();
+        assertThat(rest.getContent()).extracting(ChatMessage::getMessage).containsExactly("Message 6");
+        assertThat(rest.hasNext()).isFalse();
+    }
+}
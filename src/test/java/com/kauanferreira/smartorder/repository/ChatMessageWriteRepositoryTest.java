@@ -0,0 +1,147 @@
+package com.kauanferreira.smartorder.repository;
+
+import com.kauanferreira.smartorder.entity.*;
+import com.kauanferreira.smartorder.enums.Role;
+import com.kauanferreira.smartorder.repository.ChatMessageWriteRepository.MessageRow;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link ChatMessageWriteRepository}.
+ *
+ * <p>Writes batches the way the chat writer does, with ids reserved from
+ * the sequence, and validates the stored messages and the inbox rows of
+ * every conversation the batch touched.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see ChatMessageWriteRepository
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ChatMessageWriteRepository.class)
+public class ChatMessageWriteRepositoryTest {
+
+    @Autowired
+    private ChatMessageWriteRepository chatMessageWriteRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ChatConversationRepository chatConversationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User buyer;
+    private User seller;
+    private Product phone;
+    private Product laptop;
+
+    @BeforeEach
+    void setUp() {
+        buyer = userRepository.save(new User(null, "Buyer", "writer-buyer@email.com", "senha123",
+                Role.CUSTOMER, null, null, null));
+        seller = userRepository.save(new User(null, "Seller", "writer-seller@email.com", "senha123",
+                Role.CUSTOMER, null, null, null));
+        Category category = categoryRepository.save(new Category(null, "Eletrônicos", "Produtos eletrônicos"));
+        phone = productRepository.save(new Product(null, "Smartphone", null, new BigDecimal("2999.99"), 50,
+                null, true, null, null, null, null, category));
+        laptop = productRepository.save(new Product(null, "Notebook", null, new BigDecimal("4999.99"), 10,
+                null, true, null, null, null, null, category));
+        entityManager.flush();
+    }
+
+    private List<MessageRow> batch() {
+        long[] ids = chatMessageWriteRepository.nextIds(5);
+        LocalDateTime now = LocalDateTime.now();
+        return List.of(
+                new MessageRow(ids[0], buyer.getId(), seller.getId(), phone.getId(), "Is it available?", now),
+                new MessageRow(ids[1], buyer.getId(), seller.getId(), phone.getId(), "Hello?", now),
+                new MessageRow(ids[2], seller.getId(), buyer.getId(), phone.getId(), "Yes!", now),
+                new MessageRow(ids[3], buyer.getId(), seller.getId(), laptop.getId(), "And the laptop?", now),
+                new MessageRow(ids[4], buyer.getId(), seller.getId(), phone.getId(), "x".repeat(300), now));
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should reserve distinct, increasing ids from the sequence")
+    void shouldReserveIds() {
+        // Act
+        long[] first = chatMessageWriteRepository.nextIds(3);
+        long[] second = chatMessageWriteRepository.nextIds(3);
+
+        // Assert
+        assertThat(first).hasSize(3).isSorted();
+        assertThat(second[0]).isGreaterThan(first[2]);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should insert the batch and record the last message and unread counts per conversation")
+    void shouldWriteBatchWithInboxRows() {
+        // Arrange
+        List<MessageRow> rows = batch();
+
+        // Act
+        chatMessageWriteRepository.write(rows);
+        entityManager.clear();
+
+        // Assert
+        assertThat(chatMessageRepository.findAllById(rows.stream().map(MessageRow::id).toList()))
+                .extracting(ChatMessage::getMessage)
+                .contains("Is it available?", "Yes!", "And the laptop?");
+        List<ChatConversation> sellerInbox = chatConversationRepository
+                .findInbox(seller.getId(), PageRequest.of(0, 10)).getContent();
+        assertThat(sellerInbox).hasSize(2);
+        assertThat(sellerInbox).filteredOn(c -> c.getProduct().getId().equals(phone.getId()))
+                .singleElement().satisfies(c -> {
+                    assertThat(c.getLastMessageId()).isEqualTo(rows.get(4).id());
+                    assertThat(c.getLastMessagePreview()).hasSize(200);
+                    assertThat(c.getUnreadCount()).isEqualTo(3);
+                });
+        assertThat(chatConversationRepository.sumUnread(seller.getId())).isEqualTo(4);
+        assertThat(chatConversationRepository.sumUnread(buyer.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should not insert a message twice when a batch is retried")
+    void shouldSkipStoredMessagesOnRetry() {
+        // Arrange
+        List<MessageRow> rows = batch();
+        chatMessageWriteRepository.write(rows);
+
+        // Act
+        chatMessageWriteRepository.write(rows);
+        entityManager.clear();
+
+        // Assert
+        assertThat(chatMessageRepository.findAllById(rows.stream().map(MessageRow::id).toList())).hasSize(5);
+    }
+}
@@ -0,0 +1,127 @@
+package com.kauanferreira.smartorder.repository;
+
+import com.kauanferreira.smartorder.dto.request.GridQueryRequest;
+import com.kauanferreira.smartorder.dto.response.GridPageResponse;
+import com.kauanferreira.smartorder.entity.User;
+import com.kauanferreira.smartorder.enums.Role;
+import com.kauanferreira.smartorder.exception.BusinessRuleException;
+import com.kauanferreira.smartorder.repository.grid.GridQueryExecutor;
+import com.kauanferreira.smartorder.repository.grid.GridSchema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for {@link GridQueryExecutor}.
+ *
+ * <p>Runs grid queries over users against the database to validate
+ * filtering, sorting and keyset pagination.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see GridQueryExecutor
+ * @see GridSchema
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(GridQueryExecutor.class)
+public class GridQueryExecutorTest {
+
+    private static final GridSchema<User> USERS = GridSchema.of(User.class)
+            .sortable("id", "id", Long.class)
+            .sortable("name", "name", String.class)
+            .sortable("role", "role", Role.class)
+            .search("name")
+            .defaultSort("id,asc")
+            .build();
+
+    @Autowired
+    private GridQueryExecutor gridQueryExecutor;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.deleteAll();
+        userRepository.save(new User(null, "Carla", "carla@email.com", "senha123", Role.CUSTOMER, null, null, null));
+        userRepository.save(new User(null, "Ana", "ana@email.com", "senha123", Role.ADMIN, null, null, null));
+        userRepository.save(new User(null, "Bruno", "bruno@email.com", "senha123", Role.CUSTOMER, null, null, null));
+        userRepository.save(new User(null, "Ana", "ana2@email.com", "senha123", Role.CUSTOMER, null, null, null));
+    }
+
+    private GridPageResponse<String> query(List<String> filter, List<String> sort, String q, Integer size, String cursor) {
+        return gridQueryExecutor.find(USERS, new GridQueryRequest(filter, sort, q, size, cursor, null),
+                users -> users.stream().map(User::getEmail).toList());
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should walk every page with the keyset cursor without repeating rows")
+    void shouldWalkAllPagesWithCursor() {
+        // Arrange
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+
+        // Act
+        do {
+            GridPageResponse<String> page = query(List.of(), List.of("name,asc"), null, 1, cursor);
+            seen.addAll(page.content());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // Assert
+        assertThat(seen).containsExactly("ana@email.com", "ana2@email.com", "bruno@email.com", "carla@email.com");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should combine filters and search")
+    void shouldFilterAndSearch() {
+        // Act
+        GridPageResponse<String> page = query(List.of("role:eq:customer"), List.of(), "an", 10, null);
+
+        // Assert
+        assertThat(page.content()).containsExactly("ana2@email.com");
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should reject unknown fields and oversized pages")
+    void shouldRejectInvalidQueries() {
+        // Act & Assert
+        assertThatThrownBy(() -> query(List.of("password:eq:x"), List.of(), null, 10, null))
+                .isInstanceOf(BusinessRuleException.class);
+        assertThatThrownBy(() -> query(List.of(), List.of("email,asc"), null, 10, null))
+                .isInstanceOf(BusinessRuleException.class);
+        assertThatThrownBy(() -> query(List.of(), List.of(), null, 1000, null))
+                .isInstanceOf(BusinessRuleException.class);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should reject a cursor issued for another sort")
+    void shouldRejectCursorForAnotherSort() {
+        // Arrange
+        String cursor = query(List.of(), List.of("name,asc"), null, 1, null).nextCursor();
+
+        // Act & Assert
+        assertThatThrownBy(() -> query(List.of(), List.of("role,desc"), null, 1, cursor))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("sort");
+    }
+}
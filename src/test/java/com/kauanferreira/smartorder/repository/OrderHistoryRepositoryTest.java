@@ -0,0 +1,285 @@
+package com.kauanferreira.smartorder.repository;
+
+import com.kauanferreira.smartorder.entity.*;
+import com.kauanferreira.smartorder.enums.OrderStatus;
+import com.kauanferreira.smartorder.enums.Role;
+import com.kauanferreira.smartorder.exception.BusinessRuleException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for {@link OrderHistoryRepository} and the partition
+ * maintenance functions of the {@code V25} migration.
+ *
+ * <p>Reads a customer's orders through {@code vw_order_history}, then creates
+ * monthly partitions in 2001, archives the closed one with
+ * {@code smartorder_archive_order_partitions} and checks that its order has
+ * left {@code tb_order} but is still found by id, listed and counted. The
+ * partition DDL runs in the test transaction and is rolled back with it.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see OrderHistoryRepository
+ * @see OrderRepository
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(OrderHistoryRepository.class)
+public class OrderHistoryRepositoryTest {
+
+    private static final LocalDateTime ARCHIVED_MONTH = LocalDateTime.of(2001, 1, 10, 12, 0);
+    private static final LocalDateTime OPEN_MONTH = LocalDateTime.of(2001, 2, 10, 12, 0);
+
+    @Autowired
+    private OrderHistoryRepository orderHistoryRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LocalDateTime monthStart;
+    private User user1;
+    private User user2;
+    private Address address1;
+    private Address address2;
+    private Product phone;
+
+    @BeforeEach
+    void setUp() {
+        // Current month: its partitions always exist
+        monthStart = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+
+        user1 = userRepository.save(new User(null, "Kauan", "history1@email.com", "senha123",
+                Role.CUSTOMER, null, null, null));
+        user2 = userRepository.save(new User(null, "Ana", "history2@email.com", "senha123",
+                Role.CUSTOMER, null, null, null));
+        address1 = addressRepository.save(new Address(null, "Rua A", "100", null, "Aracaju", "SE",
+                "49000-000", "Brasil", user1));
+        address2 = addressRepository.save(new Address(null, "Rua B", "200", null, "Salvador", "BA",
+                "40000-000", "Brasil", user2));
+
+        Category category = categoryRepository.save(new Category(null, "Histórico", "Histórico"));
+        phone = productRepository.save(new Product(null, "Smartphone", null, new BigDecimal("50.00"), 50,
+                null, true, null, null, null, null, category));
+    }
+
+    private Order saveOrder(LocalDateTime orderDate, OrderStatus status, String total, User user, Address address) {
+        Order order = new Order(null, orderDate, status, new BigDecimal(total), user, address, new ArrayList<>());
+        OrderItem item = new OrderItem(null, 1, new BigDecimal(total), new BigDecimal(total), order, phone, null);
+        order.getItems().add(item);
+        return orderRepository.saveAndFlush(order);
+    }
+
+    private Integer call(String function, Object argument) {
+        return jdbcTemplate.queryForObject("SELECT " + function + "(?)", Integer.class, argument);
+    }
+
+    private String parentOf(String partition) {
+        return jdbcTemplate.queryForObject(
+                "SELECT i.inhparent::regclass::TEXT FROM pg_inherits i WHERE i.inhrelid = ?::regclass",
+                String.class, partition);
+    }
+
+    // ========================
+    // HISTORY READS
+    // ========================
+
+    @Test
+    @org.junit.jupiter.api.Order(1)
+    @DisplayName("Should list a user's orders newest first with user, address and items loaded")
+    void shouldFindByUserIdNewestFirst() {
+        // Arrange
+        Order older = saveOrder(monthStart.plusHours(1), OrderStatus.DELIVERED, "100.00", user1, address1);
+        Order newer = saveOrder(monthStart.plusHours(2), OrderStatus.PENDING, "200.00", user1, address1);
+        saveOrder(monthStart.plusHours(3), OrderStatus.PENDING, "300.00", user2, address2);
+
+        // Act
+        List<Order> results = orderHistoryRepository.findByUserId(user1.getId(), PageRequest.of(0, 10)).getContent();
+
+        // Assert
+        assertThat(results).extracting(Order::getId).containsExactly(newer.getId(), older.getId());
+        Order first = results.getFirst();
+        assertThat(first.getUser().getEmail()).isEqualTo("history1@email.com");
+        assertThat(first.getAddress().getStreet()).isEqualTo("Rua A");
+        assertThat(first.getAddress().getUser().getId()).isEqualTo(user1.getId());
+        assertThat(first.getItems()).hasSize(1);
+        assertThat(first.getItems().getFirst().getOrder()).isSameAs(first);
+        assertThat(first.getItems().getFirst().getSubtotal()).isEqualByComparingTo("200.00");
+        assertThat(first.getItems().getFirst().getProduct().getCategory().getName()).isEqualTo("Histórico");
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(2)
+    @DisplayName("Should find orders by user ID and status")
+    void shouldFindByUserIdAndStatus() {
+        // Arrange
+        saveOrder(monthStart.plusHours(1), OrderStatus.PENDING, "100.00", user1, address1);
+        saveOrder(monthStart.plusHours(2), OrderStatus.DELIVERED, "200.00", user1, address1);
+        saveOrder(monthStart.plusHours(3), OrderStatus.PENDING, "300.00", user2, address2);
+
+        // Act
+        List<Order> results = orderHistoryRepository.findByUserIdAndStatus(user1.getId(), OrderStatus.PENDING,
+                PageRequest.of(0, 10, Sort.by("id"))).getContent();
+
+        // Assert
+        assertThat(results).hasSize(1);
+        assertThat(results.getFirst().getTotalAmount()).isEqualByComparingTo(new BigDecimal("100.00"));
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(3)
+    @DisplayName("Should count orders by user ID, with and without a status")
+    void shouldCountByUserId() {
+        // Arrange
+        saveOrder(monthStart.plusHours(1), OrderStatus.PENDING, "100.00", user1, address1);
+        saveOrder(monthStart.plusHours(2), OrderStatus.DELIVERED, "200.00", user1, address1);
+        saveOrder(monthStart.plusHours(3), OrderStatus.PENDING, "300.00", user2, address2);
+
+        // Act
+        long count = orderHistoryRepository.countByUserId(user1.getId());
+        long delivered = orderHistoryRepository.countByUserIdAndStatus(user1.getId(), OrderStatus.DELIVERED);
+
+        // Assert
+        assertThat(count).isEqualTo(2);
+        assertThat(delivered).isEqualTo(1);
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(4)
+    @DisplayName("Should report a following page only when one exists")
+    void shouldSliceByPageSize() {
+        // Arrange
+        for (int hour = 1; hour <= 3; hour++) {
+            saveOrder(monthStart.plusHours(hour), OrderStatus.PENDING, "10.00", user1, address1);
+        }
+
+        // Act
+        Slice<Order> first = orderHistoryRepository.findByUserId(user1.getId(), PageRequest.of(0, 2));
+        Slice<Order> second = orderHistoryRepository.findByUserId(user1.getId(), PageRequest.of(1, 2));
+
+        // Assert
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).hasSize(1);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(5)
+    @DisplayName("Should reject sorting by a property that is not a column of the view")
+    void shouldRejectUnknownSort() {
+        // Act & Assert
+        assertThatThrownBy(() -> orderHistoryRepository.findByUserIdAndStatus(user1.getId(), OrderStatus.PENDING,
+                PageRequest.of(0, 10, Sort.by("user.name"))))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("user.name");
+    }
+
+    // ========================
+    // PARTITION FUNCTIONS
+    // ========================
+
+    @Test
+    @org.junit.jupiter.api.Order(6)
+    @DisplayName("Should create the partition pair of a month once")
+    void shouldEnsureOrderPartition() {
+        // Act
+        Integer created = call("smartorder_ensure_order_partition", ARCHIVED_MONTH.toLocalDate());
+        Integer again = call("smartorder_ensure_order_partition", ARCHIVED_MONTH.toLocalDate().withDayOfMonth(28));
+
+        // Assert
+        assertThat(created).isEqualTo(1);
+        assertThat(again).isZero();
+        assertThat(parentOf("tb_order_y2001m01")).isEqualTo("tb_order");
+        assertThat(parentOf("tb_order_item_y2001m01")).isEqualTo("tb_order_item");
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(7)
+    @DisplayName("Should create every missing partition up to the given number of months ahead")
+    void shouldCreateOrderPartitionsAhead() {
+        // Act
+        call("smartorder_create_order_partitions", 6);
+        Integer again = call("smartorder_create_order_partitions", 6);
+
+        // Assert
+        assertThat(again).isZero();
+        LocalDate month = monthStart.toLocalDate();
+        for (int i = 0; i <= 6; i++) {
+            String suffix = String.format("y%04dm%02d", month.plusMonths(i).getYear(),
+                    month.plusMonths(i).getMonthValue());
+            assertThat(parentOf("tb_order_" + suffix)).isEqualTo("tb_order");
+            assertThat(parentOf("tb_order_item_" + suffix)).isEqualTo("tb_order_item");
+        }
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(8)
+    @DisplayName("Should archive closed months only and keep their orders readable through the history")
+    void shouldArchiveClosedMonthsAndReadThemBack() {
+        // Arrange
+        call("smartorder_ensure_order_partition", ARCHIVED_MONTH.toLocalDate());
+        call("smartorder_ensure_order_partition", OPEN_MONTH.toLocalDate());
+        Order archived = saveOrder(ARCHIVED_MONTH, OrderStatus.DELIVERED, "80.00", user1, address1);
+        Order open = saveOrder(OPEN_MONTH, OrderStatus.SHIPPED, "90.00", user1, address1);
+        Order recent = saveOrder(monthStart.plusHours(1), OrderStatus.PENDING, "70.00", user1, address1);
+
+        // Act
+        Integer months = call("smartorder_archive_order_partitions", 12);
+
+        // Assert: January moved to the archive, February waits for its shipped order
+        assertThat(months).isPositive();
+        assertThat(parentOf("tb_order_y2001m01")).isEqualTo("tb_order_archive");
+        assertThat(parentOf("tb_order_item_y2001m01")).isEqualTo("tb_order_item_archive");
+        assertThat(parentOf("tb_order_y2001m02")).isEqualTo("tb_order");
+
+        // Assert: gone from the hot tables, still in the history
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_order WHERE id = ?",
+                Long.class, archived.getId())).isZero();
+        Optional<Order> found = orderHistoryRepository.findById(archived.getId());
+        assertThat(found).isPresent();
+        assertThat(found.get().getStatus()).isEqualTo(OrderStatus.DELIVERED);
+        assertThat(found.get().getOrderDate()).isEqualTo(ARCHIVED_MONTH);
+        assertThat(found.get().getItems()).hasSize(1);
+        assertThat(found.get().getItems().getFirst().getProduct().getId()).isEqualTo(phone.getId());
+        assertThat(orderHistoryRepository.findByUserId(user1.getId(), PageRequest.of(0, 10)).getContent())
+                .extracting(Order::getId)
+                .containsExactly(recent.getId(), open.getId(), archived.getId());
+        assertThat(orderHistoryRepository.countByUserIdAndStatus(user1.getId(), OrderStatus.DELIVERED))
+                .isEqualTo(1);
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -91,7 +92,7 @@ public class OrderItemRepositoryTest {
 
     private OrderItem createOrderItem(Integer quantity, BigDecimal price, Order order, Product product) {
         BigDecimal subtotal = price.multiply(BigDecimal.valueOf(quantity));
-        return new OrderItem(null, quantity, price, subtotal, order, product);
+        return new OrderItem(null, quantity, price, subtotal, order, product, null);
     }
 
     @Test
@@ -139,7 +140,7 @@ public class OrderItemRepositoryTest {
         orderItemRepository.save(createOrderItem(1, new BigDecimal("4500.00"), order1, product2));
 
         // Act
-        List<OrderItem> results = orderItemRepository.findByProductId(product1.getId());
+        List<OrderItem> results = orderItemRepository.findByProductId(product1.getId(), PageRequest.of(0, 10)).getContent();
 
         // Assert
         assertThat(results).hasSize(2);
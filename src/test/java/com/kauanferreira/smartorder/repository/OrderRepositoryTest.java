@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -23,7 +24,8 @@ import static org.assertj.core.api.Assertions.assertThat;
  * Integration tests for {@link OrderRepository}.
  *
  * <p>Validates CRUD operations and custom query methods
- * against the database using Spring Data JPA test slice.</p>
+ * against the database using Spring Data JPA test slice. The reads of a
+ * customer's order history are covered by {@link OrderHistoryRepositoryTest}.</p>
  *
  * @author Kauan Santos Ferreira
  * @version 1.0
@@ -93,22 +95,6 @@ public class OrderRepositoryTest {
 
     @Test
     @org.junit.jupiter.api.Order(2)
-    @DisplayName("Should find orders by user ID ordered by date descending")
-    void shouldFindByUserIdOrderByOrderDateDesc() {
-        // Arrange
-        orderRepository.save(createOrder(OrderStatus.DELIVERED, new BigDecimal("100.00"), user1, address1));
-        orderRepository.save(createOrder(OrderStatus.PENDING, new BigDecimal("200.00"), user1, address1));
-        orderRepository.save(createOrder(OrderStatus.PENDING, new BigDecimal("300.00"), user2, address2));
-
-        // Act
-        List<Order> results = orderRepository.findByUserIdOrderByOrderDateDesc(user1.getId());
-
-        // Assert
-        assertThat(results).hasSize(2);
-    }
-
-    @Test
-    @org.junit.jupiter.api.Order(3)
     @DisplayName("Should find orders by status")
     void shouldFindByStatus() {
         // Arrange
@@ -117,31 +103,14 @@ public class OrderRepositoryTest {
         orderRepository.save(createOrder(OrderStatus.DELIVERED, new BigDecimal("300.00"), user1, address1));
 
         // Act
-        List<Order> results = orderRepository.findByStatus(OrderStatus.PENDING);
+        List<Order> results = orderRepository.findByStatus(OrderStatus.PENDING, PageRequest.of(0, 10)).getContent();
 
         // Assert
         assertThat(results).hasSize(2);
     }
 
     @Test
-    @org.junit.jupiter.api.Order(4)
-    @DisplayName("Should find orders by user ID and status")
-    void shouldFindByUserIdAndStatus() {
-        // Arrange
-        orderRepository.save(createOrder(OrderStatus.PENDING, new BigDecimal("100.00"), user1, address1));
-        orderRepository.save(createOrder(OrderStatus.DELIVERED, new BigDecimal("200.00"), user1, address1));
-        orderRepository.save(createOrder(OrderStatus.PENDING, new BigDecimal("300.00"), user2, address2));
-
-        // Act
-        List<Order> results = orderRepository.findByUserIdAndStatus(user1.getId(), OrderStatus.PENDING);
-
-        // Assert
-        assertThat(results).hasSize(1);
-        assertThat(results.getFirst().getTotalAmount()).isEqualByComparingTo(new BigDecimal("100.00"));
-    }
-
-    @Test
-    @org.junit.jupiter.api.Order(5)
+    @org.junit.jupiter.api.Order(3)
     @DisplayName("Should find orders by address ID")
     void shouldFindByAddressId() {
         // Arrange
@@ -149,29 +118,14 @@ public class OrderRepositoryTest {
         orderRepository.save(createOrder(OrderStatus.CONFIRMED, new BigDecimal("200.00"), user1, address1));
 
         // Act
-        List<Order> results = orderRepository.findByAddressId(address1.getId());
+        List<Order> results = orderRepository.findByAddressId(address1.getId(), PageRequest.of(0, 10)).getContent();
 
         // Assert
         assertThat(results).hasSize(2);
     }
 
     @Test
-    @org.junit.jupiter.api.Order(6)
-    @DisplayName("Should count orders by user ID")
-    void shouldCountByUserId() {
-        // Arrange
-        orderRepository.save(createOrder(OrderStatus.PENDING, new BigDecimal("100.00"), user1, address1));
-        orderRepository.save(createOrder(OrderStatus.DELIVERED, new BigDecimal("200.00"), user1, address1));
-
-        // Act
-        long count = orderRepository.countByUserId(user1.getId());
-
-        // Assert
-        assertThat(count).isEqualTo(2);
-    }
-
-    @Test
-    @org.junit.jupiter.api.Order(7)
+    @org.junit.jupiter.api.Order(4)
     @DisplayName("Should count orders by status")
     void shouldCountByStatus() {
         // Arrange
@@ -187,7 +141,7 @@ public class OrderRepositoryTest {
     }
 
     @Test
-    @org.junit.jupiter.api.Order(8)
+    @org.junit.jupiter.api.Order(5)
     @DisplayName("Should update order status")
     void shouldUpdateOrderStatus() {
         // Arrange
@@ -203,7 +157,7 @@ public class OrderRepositoryTest {
     }
 
     @Test
-    @org.junit.jupiter.api.Order(9)
+    @org.junit.jupiter.api.Order(6)
     @DisplayName("Should delete an order by ID")
     void shouldDeleteOrder() {
         // Arrange
@@ -0,0 +1,169 @@
+package com.kauanferreira.smartorder.repository;
+
+import com.kauanferreira.smartorder.entity.*;
+import com.kauanferreira.smartorder.enums.ReviewSort;
+import com.kauanferreira.smartorder.enums.Role;
+import com.kauanferreira.smartorder.repository.ReviewFeedRepository.FeedRow;
+import com.kauanferreira.smartorder.repository.ReviewFeedRepository.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link ReviewFeedRepository}.
+ *
+ * <p>Walks a product's review feed page by page in every order to validate
+ * the keyset predicates and the stored like counts read with each page,
+ * as maintained by {@link ReviewLikeCountRepository}.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see ReviewFeedRepository
+ * @see ReviewLikeCountRepository
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReviewFeedRepository.class, ReviewLikeCountRepository.class})
+public class ReviewFeedRepositoryTest {
+
+    @Autowired
+    private ReviewFeedRepository reviewFeedRepository;
+
+    @Autowired
+    private ReviewLikeCountRepository reviewLikeCountRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ReviewLikeRepository reviewLikeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Product product;
+    private List<Long> reviewIds;
+
+    @BeforeEach
+    void setUp() {
+        Category category = categoryRepository.save(new Category(null, "Eletrônicos", "Produtos eletrônicos"));
+        product = productRepository.save(new Product(null, "Smartphone", null, new BigDecimal("2999.99"), 50,
+                null, true, null, null, null, null, category));
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            users.add(userRepository.save(new User(null, "Reviewer " + i, "feed-reviewer" + i + "@email.com",
+                    "senha123", Role.CUSTOMER, null, null, null)));
+        }
+
+        // Ratings 3, 5, 3, 1, 5 with 0..4 likes each
+        int[] ratings = {3, 5, 3, 1, 5};
+        reviewIds = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            Review review = new Review();
+            review.setUser(users.get(i));
+            review.setProduct(product);
+            review.setRating(ratings[i]);
+            review.setComment("Review " + i);
+            review = reviewRepository.save(review);
+            reviewIds.add(review.getId());
+
+            for (int j = 0; j < i; j++) {
+                ReviewLike like = new ReviewLike();
+                like.setUser(users.get(j));
+                like.setReview(review);
+                reviewLikeRepository.save(like);
+            }
+        }
+        reviewLikeRepository.flush();
+        reviewLikeCountRepository.reconcile();
+    }
+
+    private List<FeedRow> walk(ReviewSort sort) {
+        List<FeedRow> seen = new ArrayList<>();
+        Position after = null;
+        List<FeedRow> page;
+        do {
+            page = reviewFeedRepository.findPage(product.getId(), sort, after, 2);
+            seen.addAll(page);
+            if (!page.isEmpty()) {
+                after = Position.of(sort, page.get(page.size() - 1));
+            }
+        } while (page.size() == 2);
+        return seen;
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should walk the newest feed page by page without repeating reviews")
+    void shouldWalkNewestFeed() {
+        // Act
+        List<FeedRow> rows = walk(ReviewSort.NEWEST);
+
+        // Assert
+        assertThat(rows).extracting(FeedRow::comment)
+                .containsExactly("Review 4", "Review 3", "Review 2", "Review 1", "Review 0");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should order the rating feed by rating, then newest first")
+    void shouldWalkRatingFeed() {
+        // Act
+        List<FeedRow> rows = walk(ReviewSort.RATING);
+
+        // Assert
+        assertThat(rows).extracting(FeedRow::comment)
+                .containsExactly("Review 4", "Review 1", "Review 2", "Review 0", "Review 3");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should order the helpful feed by like count and read the counts with the page")
+    void shouldWalkHelpfulFeed() {
+        // Act
+        List<FeedRow> rows = walk(ReviewSort.HELPFUL);
+
+        // Assert
+        assertThat(rows).extracting(FeedRow::likeCount).containsExactly(4, 3, 2, 1, 0);
+        assertThat(rows).extracting(FeedRow::userName).first().isEqualTo("Reviewer 4");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should apply flushed like deltas and repair them on reconcile")
+    void shouldApplyDeltasAndReconcile() {
+        // Arrange
+        reviewLikeCountRepository.addDeltas(Map.of(reviewIds.get(0), 10, reviewIds.get(4), -1));
+
+        // Act
+        List<FeedRow> drifted = walk(ReviewSort.HELPFUL);
+        int corrected = reviewLikeCountRepository.reconcile();
+        List<FeedRow> reconciled = walk(ReviewSort.HELPFUL);
+
+        // Assert
+        assertThat(drifted).extracting(FeedRow::likeCount).containsExactly(10, 3, 3, 2, 1);
+        assertThat(drifted.get(0).id()).isEqualTo(reviewIds.get(0));
+        assertThat(corrected).isGreaterThanOrEqualTo(2);
+        assertThat(reconciled).extracting(FeedRow::likeCount).containsExactly(4, 3, 2, 1, 0);
+    }
+}
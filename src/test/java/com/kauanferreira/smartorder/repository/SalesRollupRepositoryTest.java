@@ -0,0 +1,245 @@
+package com.kauanferreira.smartorder.repository;
+
+import com.kauanferreira.smartorder.dto.response.TimeseriesPointResponse;
+import com.kauanferreira.smartorder.entity.*;
+import com.kauanferreira.smartorder.enums.OrderStatus;
+import com.kauanferreira.smartorder.enums.Role;
+import com.kauanferreira.smartorder.enums.RollupDimension;
+import com.kauanferreira.smartorder.enums.RollupGranularity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link SalesRollupRepository}.
+ *
+ * <p>Places two orders in the same hour and checks the TOTAL, CATEGORY and
+ * PRODUCT rows produced by the {@code GROUPING SETS} upsert, the sign applied
+ * when an order is cancelled and un-cancelled, and that a range rebuild
+ * replaces drifted rows with figures recomputed from the orders.</p>
+ *
+ * <p>{@link SalesRollupRepository#applyOrder} runs in a transaction of its
+ * own, which would not see rows written by a test transaction, so this class
+ * commits its fixtures and deletes them after each test.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see SalesRollupRepository
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(SalesRollupRepository.class)
+public class SalesRollupRepositoryTest {
+
+    @Autowired
+    private SalesRollupRepository salesRollupRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private LocalDateTime day;
+    private LocalDateTime hour;
+    private User user;
+    private Address address;
+    private final List<Category> categories = new ArrayList<>();
+    private final List<Product> products = new ArrayList<>();
+    private Product phone;
+    private Product charger;
+    private Product desk;
+    private Order first;
+    private Order second;
+
+    @BeforeEach
+    void setUp() {
+        // First day of next month: its partitions always exist and no other test writes there
+        day = LocalDate.now().withDayOfMonth(1).plusMonths(1).atStartOfDay();
+        hour = day.plusHours(10);
+
+        user = userRepository.save(new User(null, "Rollup", "rollup@email.com", "senha123",
+                Role.CUSTOMER, null, null, null));
+        address = addressRepository.save(new Address(null, "Rua A", "100", null, "Aracaju", "SE",
+                "49000-000", "Brasil", user));
+
+        Category electronics = saveCategory("Eletrônicos");
+        Category furniture = saveCategory("Móveis");
+        phone = saveProduct("Smartphone", electronics);
+        charger = saveProduct("Carregador", electronics);
+        desk = saveProduct("Mesa", furniture);
+
+        // first: 2 phones (20.00) + 1 charger (5.00); second: 3 desks (30.00) + 1 phone (10.00)
+        first = saveOrder(hour.plusMinutes(5), item(phone, 2, "20.00"), item(charger, 1, "5.00"));
+        second = saveOrder(hour.plusMinutes(40), item(desk, 3, "30.00"), item(phone, 1, "10.00"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (String table : List.of("tb_sales_rollup_hourly", "tb_sales_rollup_daily")) {
+            jdbcTemplate.update("DELETE FROM " + table + " WHERE bucket_start >= ? AND bucket_start < ?",
+                    Timestamp.valueOf(day), Timestamp.valueOf(day.plusDays(1)));
+        }
+        orderRepository.deleteAll(List.of(first, second));
+        productRepository.deleteAll(products);
+        categoryRepository.deleteAll(categories);
+        addressRepository.delete(address);
+        userRepository.delete(user);
+    }
+
+    private Category saveCategory(String name) {
+        Category category = categoryRepository.save(new Category(null, name, name));
+        categories.add(category);
+        return category;
+    }
+
+    private Product saveProduct(String name, Category category) {
+        Product product = productRepository.save(new Product(null, name, null, new BigDecimal("10.00"), 50,
+                null, true, null, null, null, null, category));
+        products.add(product);
+        return product;
+    }
+
+    private OrderItem item(Product product, int quantity, String subtotal) {
+        BigDecimal total = new BigDecimal(subtotal);
+        return new OrderItem(null, quantity, total.divide(BigDecimal.valueOf(quantity)), total,
+                null, product, null);
+    }
+
+    private Order saveOrder(LocalDateTime orderDate, OrderItem... items) {
+        Order order = new Order(null, orderDate, OrderStatus.CONFIRMED, BigDecimal.ZERO, user, address,
+                new ArrayList<>());
+        for (OrderItem item : items) {
+            item.setOrder(order);
+            order.getItems().add(item);
+            order.setTotalAmount(order.getTotalAmount().add(item.getSubtotal()));
+        }
+        return orderRepository.save(order);
+    }
+
+    private TimeseriesPointResponse hourly(RollupDimension dimension, long dimensionId) {
+        List<TimeseriesPointResponse> series = salesRollupRepository.findSeries(
+                RollupGranularity.HOUR, dimension, dimensionId, hour, hour.plusHours(1));
+        assertThat(series).hasSize(1);
+        return series.getFirst();
+    }
+
+    private TimeseriesPointResponse daily(RollupDimension dimension, long dimensionId) {
+        List<TimeseriesPointResponse> series = salesRollupRepository.findSeries(
+                RollupGranularity.DAY, dimension, dimensionId, day, day.plusDays(1));
+        assertThat(series).hasSize(1);
+        return series.getFirst();
+    }
+
+    private static void assertPoint(TimeseriesPointResponse point, long orderCount, long units, String revenue) {
+        assertThat(point.orderCount()).isEqualTo(orderCount);
+        assertThat(point.units()).isEqualTo(units);
+        assertThat(point.revenue()).isEqualByComparingTo(revenue);
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(1)
+    @DisplayName("Should write TOTAL, CATEGORY and PRODUCT rows counting each order once per row")
+    void shouldUpsertEveryDimension() {
+        // Act
+        salesRollupRepository.applyOrder(first.getId(), first.getOrderDate(), 1);
+        salesRollupRepository.applyOrder(second.getId(), second.getOrderDate(), 1);
+
+        // Assert
+        assertPoint(hourly(RollupDimension.TOTAL, 0), 2, 7, "65.00");
+        assertPoint(hourly(RollupDimension.CATEGORY, phone.getCategory().getId()), 2, 4, "35.00");
+        assertPoint(hourly(RollupDimension.CATEGORY, desk.getCategory().getId()), 1, 3, "30.00");
+        assertPoint(hourly(RollupDimension.PRODUCT, phone.getId()), 2, 3, "30.00");
+        assertPoint(hourly(RollupDimension.PRODUCT, charger.getId()), 1, 1, "5.00");
+        assertPoint(hourly(RollupDimension.PRODUCT, desk.getId()), 1, 3, "30.00");
+        assertPoint(daily(RollupDimension.TOTAL, 0), 2, 7, "65.00");
+        assertPoint(daily(RollupDimension.PRODUCT, phone.getId()), 2, 3, "30.00");
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(2)
+    @DisplayName("Should subtract a cancelled order and add it back when it is un-cancelled")
+    void shouldApplyCancellationSign() {
+        // Arrange
+        salesRollupRepository.applyOrder(first.getId(), first.getOrderDate(), 1);
+        salesRollupRepository.applyOrder(second.getId(), second.getOrderDate(), 1);
+
+        // Act
+        salesRollupRepository.applyOrder(second.getId(), second.getOrderDate(), -1);
+
+        // Assert
+        assertPoint(hourly(RollupDimension.TOTAL, 0), 1, 3, "25.00");
+        assertPoint(hourly(RollupDimension.CATEGORY, phone.getCategory().getId()), 1, 3, "25.00");
+        assertPoint(hourly(RollupDimension.CATEGORY, desk.getCategory().getId()), 0, 0, "0.00");
+        assertPoint(daily(RollupDimension.PRODUCT, phone.getId()), 1, 2, "20.00");
+
+        // Act
+        salesRollupRepository.applyOrder(second.getId(), second.getOrderDate(), 1);
+
+        // Assert
+        assertPoint(hourly(RollupDimension.TOTAL, 0), 2, 7, "65.00");
+        assertPoint(hourly(RollupDimension.CATEGORY, desk.getCategory().getId()), 1, 3, "30.00");
+        assertPoint(daily(RollupDimension.PRODUCT, phone.getId()), 2, 3, "30.00");
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(3)
+    @DisplayName("Should delete the range and recompute it from the non-cancelled orders")
+    void shouldRebuildRange() {
+        // Arrange: drifted rows, then a cancellation the listener missed
+        salesRollupRepository.applyOrder(first.getId(), first.getOrderDate(), 1);
+        salesRollupRepository.applyOrder(first.getId(), first.getOrderDate(), 1);
+        salesRollupRepository.applyOrder(second.getId(), second.getOrderDate(), 1);
+        jdbcTemplate.update("UPDATE tb_order SET status = 'CANCELLED' WHERE id = ? AND order_date = ?",
+                second.getId(), Timestamp.valueOf(second.getOrderDate()));
+
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                salesRollupRepository.rebuildRange(day, day.plusDays(1)));
+
+        // Assert
+        assertPoint(hourly(RollupDimension.TOTAL, 0), 1, 3, "25.00");
+        assertPoint(hourly(RollupDimension.PRODUCT, phone.getId()), 1, 2, "20.00");
+        assertPoint(daily(RollupDimension.TOTAL, 0), 1, 3, "25.00");
+        assertThat(salesRollupRepository.findSeries(RollupGranularity.HOUR, RollupDimension.PRODUCT,
+                desk.getId(), day, day.plusDays(1))).isEmpty();
+        assertThat(salesRollupRepository.findSeries(RollupGranularity.DAY, RollupDimension.CATEGORY,
+                desk.getCategory().getId(), day, day.plusDays(1))).isEmpty();
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -124,8 +125,8 @@ public class UserRepositoryTest {
         userRepository.save(createUser("Cliente 2", "cliente2@email.com", Role.CUSTOMER, null));
 
         // Act
-        List<User> admins = userRepository.findByRole(Role.ADMIN);
-        List<User> customers = userRepository.findByRole(Role.CUSTOMER);
+        List<User> admins = userRepository.findByRole(Role.ADMIN, PageRequest.of(0, 10)).getContent();
+        List<User> customers = userRepository.findByRole(Role.CUSTOMER, PageRequest.of(0, 10)).getContent();
 
         // Assert
         assertThat(admins).hasSize(1);
@@ -143,7 +144,7 @@ public class UserRepositoryTest {
         userRepository.save(createUser("João Silva", "joao@email.com", Role.CUSTOMER, null));
 
         // Act
-        List<User> results = userRepository.findByNameContainingIgnoreCase("ferreira");
+        List<User> results = userRepository.findByNameContainingIgnoreCase("ferreira", PageRequest.of(0, 10)).getContent();
 
         // Assert
         assertThat(results).hasSize(2);
@@ -161,7 +162,7 @@ public class UserRepositoryTest {
         userRepository.save(createUser("Maria", "maria@email.com", Role.CUSTOMER, null));
 
         // Act
-        List<User> results = userRepository.findAllByOrderByNameAsc();
+        List<User> results = userRepository.findAllByOrderByNameAsc(PageRequest.of(0, 10)).getContent();
 
         // Assert
         assertThat(results).hasSize(3);
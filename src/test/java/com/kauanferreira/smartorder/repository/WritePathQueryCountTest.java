@@ -0,0 +1,318 @@
+package com.kauanferreira.smartorder.repository;
+
+import com.kauanferreira.smartorder.config.ClusterProperties;
+import com.kauanferreira.smartorder.dto.mapper.OrderItemMapper;
+import com.kauanferreira.smartorder.dto.mapper.OrderMapper;
+import com.kauanferreira.smartorder.dto.request.CheckoutRequest;
+import com.kauanferreira.smartorder.dto.request.OrderItemRequest;
+import com.kauanferreira.smartorder.dto.request.OrderRequest;
+import com.kauanferreira.smartorder.dto.response.OrderItemResponse;
+import com.kauanferreira.smartorder.dto.response.OrderResponse;
+import com.kauanferreira.smartorder.entity.*;
+import com.kauanferreira.smartorder.enums.OrderStatus;
+import com.kauanferreira.smartorder.enums.Role;
+import com.kauanferreira.smartorder.services.cache.FavoriteProductCache;
+import com.kauanferreira.smartorder.services.cache.ProductSnapshotCache;
+import com.kauanferreira.smartorder.services.cache.PurchasedProductCache;
+import com.kauanferreira.smartorder.services.cache.UserSnapshotCache;
+import com.kauanferreira.smartorder.services.chat.ChatMessageWriter;
+import com.kauanferreira.smartorder.services.chat.ChatUnreadCounter;
+import com.kauanferreira.smartorder.services.impl.*;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Query-count regression tests for the write paths that used to flush,
+ * clear and re-query the row they had just inserted.
+ *
+ * <p>Each test counts the JDBC statements one service call prepares,
+ * including its final flush, and fails when a change adds round trips
+ * beyond the budget. Each budget is the count observed on PostgreSQL 16;
+ * lower it when a change removes a statement. The returned entity must still
+ * be fully initialized so controllers can map it outside the transaction.</p>
+ *
+ * <p>Creating an order and updating an order item are measured the way
+ * their controllers run them: map the request, call the service and map the
+ * returned entity to the response, so a lazy association touched by the
+ * mapper counts against the budget too.</p>
+ *
+ * <p>Sending a chat message is measured before and after a long history
+ * is written: once its receiver and product are cached it must not run any
+ * statement at all, since storing the message is left to the write-behind
+ * writer.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see FavoriteServiceImpl
+ * @see ReviewServiceImpl
+ * @see OrderServiceImpl
+ * @see OrderItemServiceImpl
+ * @see ChatMessageServiceImpl
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({FavoriteServiceImpl.class, ReviewServiceImpl.class, OrderServiceImpl.class, ChatMessageServiceImpl.class,
+        OrderItemServiceImpl.class, ProductServiceImpl.class,
+        CategoryServiceImpl.class, AddressServiceImpl.class, UserServiceImpl.class,
+        FavoriteProductCache.class, PurchasedProductCache.class, ProductSnapshotCache.class, UserSnapshotCache.class,
+        ChatUnreadCounter.class, ClusterProperties.class, BCryptPasswordEncoder.class, OrderHistoryRepository.class})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class WritePathQueryCountTest {
+
+    private static final String EMAIL = "query-budget@email.com";
+
+    @Autowired
+    private FavoriteServiceImpl favoriteService;
+
+    @Autowired
+    private ReviewServiceImpl reviewService;
+
+    @Autowired
+    private OrderServiceImpl orderService;
+
+    @Autowired
+    private ChatMessageServiceImpl chatMessageService;
+
+    @Autowired
+    private OrderItemServiceImpl orderItemService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /** The chat service pushes unread counts; no broker runs in this slice. */
+    @MockitoBean
+    private SimpMessagingTemplate messagingTemplate;
+
+    /** Chat messages are written behind; sending only has to hand them over. */
+    @MockitoBean
+    private ChatMessageWriter chatMessageWriter;
+
+    private User user;
+
+    private Address address;
+
+    private Product product;
+
+    private Product otherProduct;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(null, "Kauan", EMAIL, "senha123", Role.CUSTOMER, null, null, null));
+        address = addressRepository.save(
+                new Address(null, "Rua A", "100", null, "Aracaju", "SE", "49000-000", "Brasil", user));
+        Category category = categoryRepository.save(new Category(null, "Eletrônicos", "Produtos eletrônicos"));
+        product = productRepository.save(new Product(null, "Smartphone", null, new BigDecimal("2999.99"), 50,
+                null, true, null, null, null, null, category));
+        otherProduct = productRepository.save(new Product(null, "Fone Bluetooth", null, new BigDecimal("199.90"), 30,
+                null, true, null, null, null, null, category));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Runs one service call followed by a flush and returns its result,
+     * recording how many statements were prepared in {@code statements}.
+     */
+    private <T> T countStatements(long[] statements, Supplier<T> call) {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        T result = call.get();
+        entityManager.flush();
+
+        statements[0] = statistics.getPrepareStatementCount();
+        return result;
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(1)
+    @DisplayName("Should add a favorite without re-reading it after the insert")
+    void shouldAddFavoriteWithinBudget() {
+        // Arrange
+        long[] statements = new long[1];
+
+        // Act
+        Favorite favorite = countStatements(statements, () -> favoriteService.addFavorite(EMAIL, product.getId()));
+
+        // Assert
+        assertThat(statements[0]).isLessThanOrEqualTo(4);
+        assertThat(Hibernate.isInitialized(favorite.getProduct())).isTrue();
+        assertThat(Hibernate.isInitialized(favorite.getProduct().getCategory())).isTrue();
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(2)
+    @DisplayName("Should create a review without re-reading it after the insert")
+    void shouldCreateReviewWithinBudget() {
+        // Arrange
+        long[] statements = new long[1];
+        Review review = new Review();
+        review.setProduct(new Product());
+        review.getProduct().setId(product.getId());
+        review.setRating(5);
+        review.setComment("Excelente");
+
+        // Act
+        Review created = countStatements(statements, () -> reviewService.create(EMAIL, review));
+
+        // Assert
+        assertThat(statements[0]).isLessThanOrEqualTo(4);
+        assertThat(Hibernate.isInitialized(created.getUser())).isTrue();
+        assertThat(Hibernate.isInitialized(created.getProduct())).isTrue();
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(3)
+    @DisplayName("Should check out with a single product read and no order re-read")
+    void shouldCheckoutWithinBudget() {
+        // Arrange
+        long[] statements = new long[1];
+
+        // Act
+        Order order = countStatements(statements,
+                () -> orderService.checkout(EMAIL, new CheckoutRequest(product.getId(), 2)));
+
+        // Assert
+        assertThat(statements[0]).isLessThanOrEqualTo(6);
+        assertThat(order.getItems()).hasSize(1);
+        assertThat(Hibernate.isInitialized(order.getAddress().getUser())).isTrue();
+        assertThat(Hibernate.isInitialized(order.getItems().get(0).getProduct().getCategory())).isTrue();
+        assertThat(order.getItems().get(0).getProduct().getStockQuantity()).isEqualTo(48);
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(4)
+    @DisplayName("Should send a chat message without statements once its receiver and product are cached")
+    void shouldSendChatMessageIndependentOfHistory() {
+        // Arrange
+        User sender = userRepository.findByEmailIgnoreCase(EMAIL).orElseThrow();
+        User seller = userRepository.save(new User(null, "Seller", "query-budget-seller@email.com", "senha123",
+                Role.CUSTOMER, null, null, null));
+        long[] coldCache = new long[1];
+        long[] longHistory = new long[1];
+        when(chatMessageWriter.enqueue(any(ChatMessage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        entityManager.flush();
+        entityManager.clear();
+
+        countStatements(coldCache, () -> chatMessageService.send(sender, newMessage(seller)));
+        entityManager.clear();
+
+        List<ChatMessage> history = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            boolean inbound = i % 2 == 0;
+            history.add(new ChatMessage(null, inbound ? seller : sender, inbound ? sender : seller,
+                    product, "Message " + i, null, false));
+        }
+        chatMessageRepository.saveAll(history);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        ChatMessage sent = countStatements(longHistory, () -> chatMessageService.send(sender, newMessage(seller)));
+
+        // Assert
+        assertThat(coldCache[0]).isLessThanOrEqualTo(2);
+        assertThat(longHistory[0]).isZero();
+        assertThat(Hibernate.isInitialized(sent.getReceiver())).isTrue();
+        assertThat(Hibernate.isInitialized(sent.getProduct())).isTrue();
+        assertThat(sent.getReceiver().getName()).isEqualTo("Seller");
+        assertThat(sent.getSender()).isSameAs(sender);
+        verify(chatMessageWriter, times(2)).enqueue(any(ChatMessage.class));
+        assertThat(chatMessageRepository.countUnreadMessages(sender.getId())).isEqualTo(100);
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(5)
+    @DisplayName("Should create an order and map the response without re-reading it")
+    void shouldCreateOrderWithinBudget() {
+        // Arrange
+        long[] statements = new long[1];
+        OrderRequest request = new OrderRequest(OrderStatus.PENDING, new BigDecimal("2999.99"),
+                user.getId(), address.getId());
+
+        // Act
+        OrderResponse response = countStatements(statements,
+                () -> OrderMapper.toResponser(orderService.create(OrderMapper.toEntity(request))));
+
+        // Assert
+        assertThat(statements[0]).isLessThanOrEqualTo(3);
+        assertThat(response.id()).isNotNull();
+        assertThat(response.user().email()).isEqualTo(EMAIL);
+        assertThat(response.address().user().email()).isEqualTo(EMAIL);
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(6)
+    @DisplayName("Should update an order item and map the response without re-reading it")
+    void shouldUpdateOrderItemWithinBudget() {
+        // Arrange
+        long[] statements = new long[1];
+        Order order = orderService.checkout(EMAIL, new CheckoutRequest(product.getId(), 1));
+        entityManager.flush();
+        entityManager.clear();
+        Long itemId = order.getItems().get(0).getId();
+        OrderItemRequest request = new OrderItemRequest(2, new BigDecimal("199.90"), new BigDecimal("399.80"),
+                order.getId(), otherProduct.getId());
+
+        // Act
+        OrderItemResponse response = countStatements(statements,
+                () -> OrderItemMapper.toResponse(orderItemService.update(itemId, OrderItemMapper.toEntity(request))));
+
+        // Assert
+        assertThat(statements[0]).isLessThanOrEqualTo(3);
+        assertThat(response.quantity()).isEqualTo(2);
+        assertThat(response.orderId()).isEqualTo(order.getId());
+        assertThat(response.product().name()).isEqualTo("Fone Bluetooth");
+    }
+
+    private ChatMessage newMessage(User receiver) {
+        ChatMessage message = new ChatMessage();
+        message.setReceiver(new User());
+        message.getReceiver().setId(receiver.getId());
+        message.setProduct(new Product());
+        message.getProduct().setId(product.getId());
+        message.setMessage("Is it still available?");
+        return message;
+    }
+}
@@ -0,0 +1,216 @@
+package com.kauanferreira.smartorder.service.cache;
+
+import com.kauanferreira.smartorder.config.ClusterProperties;
+import com.kauanferreira.smartorder.repository.FavoriteRepository;
+import com.kauanferreira.smartorder.services.cache.FavoriteProductCache;
+import com.kauanferreira.smartorder.services.event.FavoriteChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link FavoriteProductCache}.
+ *
+ * <p>Uses Mockito to mock {@link FavoriteRepository}, testing how favoriting
+ * and unfavoriting change a warm entry, that a load racing with a change is
+ * not cached, and that entries are evicted least-recently-used by either
+ * limit.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see FavoriteProductCache
+ */
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class FavoriteProductCacheTest {
+
+    private static final long USER_ID = 1L;
+    private static final long OTHER_USER_ID = 2L;
+    private static final long THIRD_USER_ID = 3L;
+
+    @Mock
+    private FavoriteRepository favoriteRepository;
+
+    @Mock
+    private ClusterProperties clusterProperties;
+
+    private FavoriteProductCache favoriteProductCache;
+
+    @BeforeEach
+    void setUp() {
+        favoriteProductCache = newCache(100, 1000L);
+    }
+
+    private FavoriteProductCache newCache(int maxUsers, long maxProductIds) {
+        return new FavoriteProductCache(favoriteRepository, clusterProperties, maxUsers, maxProductIds);
+    }
+
+    private long storedProductIds() {
+        return (long) ReflectionTestUtils.getField(favoriteProductCache, "storedProductIds");
+    }
+
+    // ========================
+    // WARM ENTRY
+    // ========================
+
+    @Test
+    @Order(1)
+    @DisplayName("Should insert a favorited product into a warm entry in order")
+    void shouldInsertIntoWarmEntry() {
+        // Arrange
+        when(favoriteRepository.findProductIdsByUserId(USER_ID)).thenReturn(List.of(30L, 10L));
+        favoriteProductCache.isFavorited(USER_ID, 10L);
+
+        // Act
+        favoriteProductCache.onFavoriteChanged(new FavoriteChangedEvent(USER_ID, 20L, true));
+        favoriteProductCache.onFavoriteChanged(new FavoriteChangedEvent(USER_ID, 40L, true));
+        favoriteProductCache.onFavoriteChanged(new FavoriteChangedEvent(USER_ID, 10L, true));
+
+        // Assert
+        assertThat(favoriteProductCache.allFavorited(USER_ID)).containsExactly(10L, 20L, 30L, 40L);
+        assertThat(storedProductIds()).isEqualTo(4);
+        verify(favoriteRepository, times(1)).findProductIdsByUserId(USER_ID);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should delete an unfavorited product from a warm entry")
+    void shouldDeleteFromWarmEntry() {
+        // Arrange
+        when(favoriteRepository.findProductIdsByUserId(USER_ID)).thenReturn(List.of(10L, 20L, 30L));
+        favoriteProductCache.isFavorited(USER_ID, 10L);
+
+        // Act
+        favoriteProductCache.onFavoriteChanged(new FavoriteChangedEvent(USER_ID, 20L, false));
+        favoriteProductCache.onFavoriteChanged(new FavoriteChangedEvent(USER_ID, 50L, false));
+
+        // Assert
+        assertThat(favoriteProductCache.filterFavorited(USER_ID, List.of(30L, 20L, 10L, 30L)))
+                .containsExactly(30L, 10L);
+        assertThat(favoriteProductCache.isFavorited(USER_ID, 20L)).isFalse();
+        assertThat(storedProductIds()).isEqualTo(2);
+        verify(favoriteRepository, times(1)).findProductIdsByUserId(USER_ID);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should ignore a change of a user who is not cached")
+    void shouldIgnoreChangeOfColdUser() {
+        // Act
+        favoriteProductCache.onFavoriteChanged(new FavoriteChangedEvent(USER_ID, 10L, true));
+
+        // Assert
+        assertThat(storedProductIds()).isZero();
+        verifyNoInteractions(favoriteRepository);
+    }
+
+    // ========================
+    // LOAD RACE
+    // ========================
+
+    @Test
+    @Order(4)
+    @DisplayName("Should not cache a load that raced with a change")
+    void shouldDiscardLoadRacingWithChange() {
+        // Arrange
+        when(favoriteRepository.findProductIdsByUserId(USER_ID))
+                .thenAnswer(invocation -> {
+                    favoriteProductCache.onFavoriteChanged(new FavoriteChangedEvent(USER_ID, 20L, true));
+                    return List.of(10L);
+                })
+                .thenReturn(List.of(10L, 20L));
+
+        // Act
+        boolean first = favoriteProductCache.isFavorited(USER_ID, 20L);
+        boolean second = favoriteProductCache.isFavorited(USER_ID, 20L);
+        boolean third = favoriteProductCache.isFavorited(USER_ID, 20L);
+
+        // Assert
+        assertThat(first).isFalse();
+        assertThat(second).isTrue();
+        assertThat(third).isTrue();
+        assertThat(storedProductIds()).isEqualTo(2);
+        verify(favoriteRepository, times(2)).findProductIdsByUserId(USER_ID);
+    }
+
+    // ========================
+    // EVICTION
+    // ========================
+
+    @Test
+    @Order(5)
+    @DisplayName("Should evict the least recently used user when there are too many users")
+    void shouldEvictLeastRecentlyUsedUser() {
+        // Arrange
+        favoriteProductCache = newCache(2, 1000L);
+        when(favoriteRepository.findProductIdsByUserId(anyLong())).thenReturn(List.of(10L));
+        favoriteProductCache.isFavorited(USER_ID, 10L);
+        favoriteProductCache.isFavorited(OTHER_USER_ID, 10L);
+        favoriteProductCache.isFavorited(USER_ID, 10L);
+
+        // Act
+        favoriteProductCache.isFavorited(THIRD_USER_ID, 10L);
+        favoriteProductCache.isFavorited(USER_ID, 10L);
+        favoriteProductCache.isFavorited(OTHER_USER_ID, 10L);
+
+        // Assert
+        verify(favoriteRepository, times(1)).findProductIdsByUserId(USER_ID);
+        verify(favoriteRepository, times(2)).findProductIdsByUserId(OTHER_USER_ID);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Should evict older users when a favorite grows an entry past the product id limit")
+    void shouldEvictWhenProductIdLimitExceeded() {
+        // Arrange
+        favoriteProductCache = newCache(100, 4L);
+        when(favoriteRepository.findProductIdsByUserId(OTHER_USER_ID)).thenReturn(List.of(30L, 40L));
+        when(favoriteRepository.findProductIdsByUserId(USER_ID)).thenReturn(List.of(10L, 20L));
+        favoriteProductCache.isFavorited(OTHER_USER_ID, 30L);
+        favoriteProductCache.isFavorited(USER_ID, 10L);
+
+        // Act
+        favoriteProductCache.onFavoriteChanged(new FavoriteChangedEvent(USER_ID, 50L, true));
+
+        // Assert
+        assertThat(storedProductIds()).isEqualTo(3);
+        assertThat(favoriteProductCache.isFavorited(USER_ID, 50L)).isTrue();
+        assertThat(favoriteProductCache.isFavorited(OTHER_USER_ID, 30L)).isTrue();
+        verify(favoriteRepository, times(1)).findProductIdsByUserId(USER_ID);
+        verify(favoriteRepository, times(2)).findProductIdsByUserId(OTHER_USER_ID);
+    }
+
+    // ========================
+    // MULTI-NODE
+    // ========================
+
+    @Test
+    @Order(7)
+    @DisplayName("Should read the ids on every call with several nodes")
+    void shouldNotCacheWhenMultiNode() {
+        // Arrange
+        when(clusterProperties.isMultiNode()).thenReturn(true);
+        when(favoriteRepository.findProductIdsByUserId(USER_ID)).thenReturn(List.of(10L));
+
+        // Act
+        favoriteProductCache.isFavorited(USER_ID, 10L);
+        favoriteProductCache.isFavorited(USER_ID, 10L);
+
+        // Assert
+        assertThat(storedProductIds()).isZero();
+        verify(favoriteRepository, times(2)).findProductIdsByUserId(USER_ID);
+    }
+}
@@ -0,0 +1,286 @@
+package com.kauanferreira.smartorder.service.cache;
+
+import com.kauanferreira.smartorder.config.ClusterProperties;
+import com.kauanferreira.smartorder.enums.OrderStatus;
+import com.kauanferreira.smartorder.repository.OrderRepository;
+import com.kauanferreira.smartorder.services.cache.PurchasedProductCache;
+import com.kauanferreira.smartorder.services.event.OrderPlacedEvent;
+import com.kauanferreira.smartorder.services.event.OrderStatusChangedEvent;
+import com.kauanferreira.smartorder.services.event.PurchaseHistoryChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link PurchasedProductCache}.
+ *
+ * <p>Uses Mockito to mock {@link OrderRepository}, testing how a new order is
+ * merged into a warm entry, how entries are evicted least-recently-used by
+ * either limit, and that a load racing with an invalidation is not cached.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see PurchasedProductCache
+ */
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class PurchasedProductCacheTest {
+
+    private static final long USER_ID = 1L;
+    private static final long OTHER_USER_ID = 2L;
+    private static final long THIRD_USER_ID = 3L;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ClusterProperties clusterProperties;
+
+    private PurchasedProductCache purchasedProductCache;
+
+    @BeforeEach
+    void setUp() {
+        purchasedProductCache = newCache(100, 1000L);
+    }
+
+    private PurchasedProductCache newCache(int maxUsers, long maxProductIds) {
+        return new PurchasedProductCache(orderRepository, clusterProperties, maxUsers, maxProductIds);
+    }
+
+    private static OrderPlacedEvent orderPlaced(long userId, Long... productIds) {
+        List<OrderPlacedEvent.Line> lines = Arrays.stream(productIds)
+                .map(productId -> new OrderPlacedEvent.Line(productId, 1, BigDecimal.TEN))
+                .toList();
+        return new OrderPlacedEvent(100L, userId, LocalDateTime.of(2026, 3, 2, 10, 0), BigDecimal.TEN, lines);
+    }
+
+    private static OrderStatusChangedEvent statusChanged(long userId, OrderStatus from, OrderStatus to) {
+        return new OrderStatusChangedEvent(100L, userId, LocalDateTime.of(2026, 3, 2, 10, 0),
+                BigDecimal.TEN, from, to);
+    }
+
+    private long storedProductIds() {
+        return (long) ReflectionTestUtils.getField(purchasedProductCache, "storedProductIds");
+    }
+
+    // ========================
+    // MERGE
+    // ========================
+
+    @Test
+    @Order(1)
+    @DisplayName("Should merge a new order into a warm entry without reloading it")
+    void shouldMergeNewOrderIntoWarmEntry() {
+        // Arrange
+        when(orderRepository.findPurchasedProductIds(USER_ID)).thenReturn(List.of(50L, 10L, 30L));
+        assertThat(purchasedProductCache.hasPurchased(USER_ID, 10L)).isTrue();
+
+        // Act
+        purchasedProductCache.onOrderPlaced(orderPlaced(USER_ID, 40L, 10L, 20L, 20L, 60L));
+
+        // Assert
+        assertThat(purchasedProductCache.filterPurchased(USER_ID, List.of(5L, 10L, 20L, 25L, 30L, 40L, 50L, 60L, 70L)))
+                .containsExactly(10L, 20L, 30L, 40L, 50L, 60L);
+        assertThat(storedProductIds()).isEqualTo(6);
+        verify(orderRepository, times(1)).findPurchasedProductIds(USER_ID);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should keep a warm entry unchanged when the new order only repeats its products")
+    void shouldMergeRepeatedProducts() {
+        // Arrange
+        when(orderRepository.findPurchasedProductIds(USER_ID)).thenReturn(List.of(10L, 30L));
+        purchasedProductCache.hasPurchased(USER_ID, 10L);
+
+        // Act
+        purchasedProductCache.onOrderPlaced(orderPlaced(USER_ID, 30L, 10L));
+        purchasedProductCache.onOrderPlaced(orderPlaced(USER_ID));
+
+        // Assert
+        assertThat(purchasedProductCache.filterPurchased(USER_ID, List.of(30L, 20L, 10L, 30L)))
+                .containsExactly(30L, 10L);
+        assertThat(storedProductIds()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should ignore a new order of a user who is not cached")
+    void shouldIgnoreOrderOfColdUser() {
+        // Act
+        purchasedProductCache.onOrderPlaced(orderPlaced(USER_ID, 10L));
+
+        // Assert
+        assertThat(storedProductIds()).isZero();
+        verifyNoInteractions(orderRepository);
+    }
+
+    // ========================
+    // EVICTION
+    // ========================
+
+    @Test
+    @Order(4)
+    @DisplayName("Should evict the least recently used user when there are too many users")
+    void shouldEvictLeastRecentlyUsedUser() {
+        // Arrange
+        purchasedProductCache = newCache(2, 1000L);
+        when(orderRepository.findPurchasedProductIds(anyLong())).thenReturn(List.of(10L));
+        purchasedProductCache.hasPurchased(USER_ID, 10L);
+        purchasedProductCache.hasPurchased(OTHER_USER_ID, 10L);
+        purchasedProductCache.hasPurchased(USER_ID, 10L);
+
+        // Act
+        purchasedProductCache.hasPurchased(THIRD_USER_ID, 10L);
+        purchasedProductCache.hasPurchased(USER_ID, 10L);
+        purchasedProductCache.hasPurchased(OTHER_USER_ID, 10L);
+
+        // Assert
+        verify(orderRepository, times(1)).findPurchasedProductIds(USER_ID);
+        verify(orderRepository, times(2)).findPurchasedProductIds(OTHER_USER_ID);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Should evict the least recently used users when too many product ids are stored")
+    void shouldEvictWhenProductIdLimitExceeded() {
+        // Arrange
+        purchasedProductCache = newCache(100, 3L);
+        when(orderRepository.findPurchasedProductIds(USER_ID)).thenReturn(List.of(10L, 20L));
+        when(orderRepository.findPurchasedProductIds(OTHER_USER_ID)).thenReturn(List.of(30L, 40L));
+
+        // Act
+        purchasedProductCache.hasPurchased(USER_ID, 10L);
+        purchasedProductCache.hasPurchased(OTHER_USER_ID, 30L);
+        purchasedProductCache.hasPurchased(USER_ID, 10L);
+
+        // Assert
+        verify(orderRepository, times(2)).findPurchasedProductIds(USER_ID);
+        assertThat(storedProductIds()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Should evict older users when a merge grows an entry past the product id limit")
+    void shouldEvictWhenMergeExceedsLimit() {
+        // Arrange
+        purchasedProductCache = newCache(100, 4L);
+        when(orderRepository.findPurchasedProductIds(OTHER_USER_ID)).thenReturn(List.of(30L, 40L));
+        when(orderRepository.findPurchasedProductIds(USER_ID)).thenReturn(List.of(10L, 20L));
+        purchasedProductCache.hasPurchased(OTHER_USER_ID, 30L);
+        purchasedProductCache.hasPurchased(USER_ID, 10L);
+
+        // Act
+        purchasedProductCache.onOrderPlaced(orderPlaced(USER_ID, 50L));
+
+        // Assert
+        assertThat(storedProductIds()).isEqualTo(3);
+        assertThat(purchasedProductCache.hasPurchased(USER_ID, 50L)).isTrue();
+        verify(orderRepository, times(1)).findPurchasedProductIds(USER_ID);
+    }
+
+    // ========================
+    // INVALIDATION
+    // ========================
+
+    @Test
+    @Order(7)
+    @DisplayName("Should drop the entry only when an order crosses cancellation")
+    void shouldInvalidateOnCancellation() {
+        // Arrange
+        when(orderRepository.findPurchasedProductIds(USER_ID)).thenReturn(List.of(10L));
+        purchasedProductCache.hasPurchased(USER_ID, 10L);
+
+        // Act
+        purchasedProductCache.onOrderStatusChanged(statusChanged(USER_ID, OrderStatus.PENDING, OrderStatus.CONFIRMED));
+        purchasedProductCache.hasPurchased(USER_ID, 10L);
+        purchasedProductCache.onOrderStatusChanged(statusChanged(USER_ID, OrderStatus.PENDING, OrderStatus.CANCELLED));
+        purchasedProductCache.hasPurchased(USER_ID, 10L);
+
+        // Assert
+        verify(orderRepository, times(2)).findPurchasedProductIds(USER_ID);
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Should not cache a load that raced with an invalidation")
+    void shouldDiscardLoadRacingWithInvalidation() {
+        // Arrange
+        when(orderRepository.findPurchasedProductIds(USER_ID))
+                .thenAnswer(invocation -> {
+                    purchasedProductCache.onPurchaseHistoryChanged(new PurchaseHistoryChangedEvent(USER_ID));
+                    return List.of(10L);
+                })
+                .thenReturn(List.of(20L));
+
+        // Act
+        boolean first = purchasedProductCache.hasPurchased(USER_ID, 10L);
+        boolean second = purchasedProductCache.hasPurchased(USER_ID, 20L);
+        boolean third = purchasedProductCache.hasPurchased(USER_ID, 20L);
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isTrue();
+        assertThat(storedProductIds()).isEqualTo(1);
+        verify(orderRepository, times(2)).findPurchasedProductIds(USER_ID);
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Should not cache a load that raced with a new order")
+    void shouldDiscardLoadRacingWithNewOrder() {
+        // Arrange
+        when(orderRepository.findPurchasedProductIds(USER_ID))
+                .thenAnswer(invocation -> {
+                    purchasedProductCache.onOrderPlaced(orderPlaced(USER_ID, 20L));
+                    return List.of(10L);
+                })
+                .thenReturn(List.of(10L, 20L));
+
+        // Act
+        purchasedProductCache.hasPurchased(USER_ID, 10L);
+        boolean purchased = purchasedProductCache.hasPurchased(USER_ID, 20L);
+
+        // Assert
+        assertThat(purchased).isTrue();
+        verify(orderRepository, times(2)).findPurchasedProductIds(USER_ID);
+    }
+
+    // ========================
+    // MULTI-NODE
+    // ========================
+
+    @Test
+    @Order(10)
+    @DisplayName("Should read the ids on every call with several nodes")
+    void shouldNotCacheWhenMultiNode() {
+        // Arrange
+        when(clusterProperties.isMultiNode()).thenReturn(true);
+        when(orderRepository.findPurchasedProductIds(USER_ID)).thenReturn(List.of(10L));
+
+        // Act
+        purchasedProductCache.hasPurchased(USER_ID, 10L);
+        purchasedProductCache.hasPurchased(USER_ID, 10L);
+
+        // Assert
+        assertThat(storedProductIds()).isZero();
+        verify(orderRepository, times(2)).findPurchasedProductIds(USER_ID);
+    }
+}
@@ -0,0 +1,183 @@
+package com.kauanferreira.smartorder.service.cart;
+
+import com.kauanferreira.smartorder.config.ClusterProperties;
+import com.kauanferreira.smartorder.repository.CartStoreRepository;
+import com.kauanferreira.smartorder.repository.CartStoreRepository.CartRow;
+import com.kauanferreira.smartorder.services.cart.CartStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link CartStore}.
+ *
+ * <p>Uses Mockito to mock {@link CartStoreRepository}, testing how a flush
+ * that fails is retried: a constraint violation drops only the offending
+ * item, any other failure keeps the changes for the next flush. Also tests
+ * that a full store of unsaved carts still admits a new cart.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see CartStore
+ */
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class CartStoreTest {
+
+    private static final long USER_ID = 1L;
+    private static final long DELETED_PRODUCT_ID = 20L;
+
+    @Mock
+    private CartStoreRepository cartStoreRepository;
+
+    private CartStore cartStore;
+
+    private long nextId;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(cartStoreRepository.findByUserId(anyLong())).thenReturn(List.of());
+        when(cartStoreRepository.nextIds(anyInt())).thenAnswer(invocation -> new long[]{++nextId});
+
+        cartStore = newCartStore(false);
+    }
+
+    private CartStore newCartStore(boolean multiNode) {
+        CartStore store = new CartStore(cartStoreRepository, new ClusterProperties(multiNode));
+        ReflectionTestUtils.setField(store, "maxUsers", 100);
+        ReflectionTestUtils.setField(store, "idBlockSize", 1);
+        return store;
+    }
+
+    private static boolean containsProduct(Collection<CartRow> rows, long productId) {
+        return rows.stream().anyMatch(row -> row.productId() == productId);
+    }
+
+    // ========================
+    // FLUSH FAILURES
+    // ========================
+
+    @Test
+    @Order(1)
+    @DisplayName("Should drop only the item that violates a constraint")
+    void shouldDropOnlyOffendingItem() {
+        // Arrange
+        doAnswer(invocation -> {
+            if (containsProduct(invocation.getArgument(1), DELETED_PRODUCT_ID)) {
+                throw new DataIntegrityViolationException("fk_cart_item_product");
+            }
+            return null;
+        }).when(cartStoreRepository).write(anyCollection(), anyCollection());
+        CartStore.Item kept = cartStore.add(USER_ID, 10L, 2, (productId, quantity) -> {
+        });
+        CartStore.Item dropped = cartStore.add(USER_ID, DELETED_PRODUCT_ID, 1, (productId, quantity) -> {
+        });
+
+        // Act
+        cartStore.flush();
+
+        // Assert
+        assertThat(cartStore.items(USER_ID)).containsExactly(kept);
+        verify(cartStoreRepository).write(eq(List.of()),
+                argThat(rows -> rows.size() == 1 && containsProduct(rows, 10L)));
+
+        cartStore.flush();
+        verify(cartStoreRepository).write(eq(List.of(dropped.id())), eq(List.of()));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should keep the changes for the next flush when the database fails")
+    void shouldRetryOnTransientFailure() {
+        // Arrange
+        doThrow(new QueryTimeoutException("timeout"))
+                .doThrow(new QueryTimeoutException("timeout"))
+                .doNothing()
+                .when(cartStoreRepository).write(anyCollection(), anyCollection());
+        CartStore.Item item = cartStore.add(USER_ID, 10L, 2, (productId, quantity) -> {
+        });
+
+        // Act
+        cartStore.flush();
+        cartStore.flush();
+
+        // Assert
+        assertThat(cartStore.items(USER_ID)).containsExactly(item);
+        verify(cartStoreRepository, times(3)).write(eq(List.of()),
+                argThat(rows -> rows.size() == 1 && containsProduct(rows, 10L)));
+    }
+
+    // ========================
+    // EVICTION
+    // ========================
+
+    @Test
+    @Order(3)
+    @Timeout(5)
+    @DisplayName("Should admit a new cart when every other cart has unsaved changes")
+    void shouldAdmitCartWhenStoreIsFullOfDirtyCarts() {
+        // Arrange
+        ReflectionTestUtils.setField(cartStore, "maxUsers", 2);
+        cartStore.add(1L, 10L, 1, (productId, quantity) -> {
+        });
+        cartStore.add(2L, 10L, 1, (productId, quantity) -> {
+        });
+
+        // Act
+        List<CartStore.Item> items = cartStore.items(3L);
+        cartStore.flush();
+        cartStore.items(1L);
+
+        // Assert
+        assertThat(items).isEmpty();
+        verify(cartStoreRepository, times(1)).findByUserId(3L);
+        verify(cartStoreRepository, times(2)).findByUserId(1L);
+    }
+
+    // ========================
+    // MULTI-NODE
+    // ========================
+
+    @Test
+    @Order(4)
+    @DisplayName("Should read the cart and write each change at once with several nodes")
+    void shouldWriteThroughWhenMultiNode() {
+        // Arrange
+        cartStore = newCartStore(true);
+        CartRow stored = new CartRow(7L, USER_ID, 30L, 1, LocalDateTime.of(2026, 1, 1, 12, 0));
+        when(cartStoreRepository.findByUserId(USER_ID)).thenReturn(List.of(stored));
+
+        // Act
+        CartStore.Item added = cartStore.add(USER_ID, 10L, 2, (productId, quantity) -> {
+        });
+        List<CartStore.Item> items = cartStore.items(USER_ID);
+
+        // Assert
+        verify(cartStoreRepository).write(eq(List.of()),
+                argThat(rows -> rows.size() == 1 && containsProduct(rows, added.productId())));
+        verify(cartStoreRepository, times(2)).findByUserId(USER_ID);
+        assertThat(items).extracting(CartStore.Item::id).containsExactly(stored.id());
+    }
+}
@@ -0,0 +1,236 @@
+package com.kauanferreira.smartorder.service.chat;
+
+import com.kauanferreira.smartorder.entity.ChatMessage;
+import com.kauanferreira.smartorder.entity.Product;
+import com.kauanferreira.smartorder.entity.User;
+import com.kauanferreira.smartorder.repository.ChatMessageWriteRepository;
+import com.kauanferreira.smartorder.repository.ChatMessageWriteRepository.MessageRow;
+import com.kauanferreira.smartorder.services.chat.ChatMessageWriter;
+import com.kauanferreira.smartorder.services.event.ChatUnreadChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ChatMessageWriter}.
+ *
+ * <p>Uses Mockito to mock {@link ChatMessageWriteRepository} and the event
+ * publisher, testing that the writer thread survives failures after a batch
+ * commits, that no message taken from the queue is lost on shutdown, and
+ * that marking a conversation as read can wait for its queued messages.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see ChatMessageWriter
+ */
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ChatMessageWriterTest {
+
+    @Mock
+    private ChatMessageWriteRepository chatMessageWriteRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ChatMessageWriter writer;
+
+    private long nextId;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(chatMessageWriteRepository.nextIds(anyInt()))
+                .thenAnswer(invocation -> new long[]{++nextId});
+
+        writer = new ChatMessageWriter(chatMessageWriteRepository, eventPublisher);
+        ReflectionTestUtils.setField(writer, "flushMs", 20L);
+        ReflectionTestUtils.setField(writer, "batchSize", 500);
+        ReflectionTestUtils.setField(writer, "queueCapacity", 100);
+        ReflectionTestUtils.setField(writer, "offerTimeoutMs", 100L);
+        ReflectionTestUtils.setField(writer, "retryMs", 10L);
+        ReflectionTestUtils.setField(writer, "idBlockSize", 1);
+        ReflectionTestUtils.setField(writer, "readWaitMs", 500L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdown();
+    }
+
+    private static ChatMessage message() {
+        User sender = new User();
+        sender.setId(1L);
+        User receiver = new User();
+        receiver.setId(2L);
+        receiver.setEmail("seller@email.com");
+        Product product = new Product();
+        product.setId(3L);
+
+        ChatMessage message = new ChatMessage();
+        message.setSender(sender);
+        message.setReceiver(receiver);
+        message.setProduct(product);
+        message.setMessage("Is it still available?");
+        return message;
+    }
+
+    // ========================
+    // FAILURES
+    // ========================
+
+    @Test
+    @Order(1)
+    @DisplayName("Should keep writing after pushing an unread count fails")
+    void shouldSurviveUnreadPushFailure() {
+        // Arrange
+        doThrow(new MessageDeliveryException("Outbound channel is closed"))
+                .doNothing()
+                .when(eventPublisher).publishEvent(any(ChatUnreadChangedEvent.class));
+        writer.start();
+
+        // Act
+        writer.enqueue(message());
+        verify(eventPublisher, timeout(2000)).publishEvent(any(ChatUnreadChangedEvent.class));
+        writer.enqueue(message());
+
+        // Assert
+        verify(chatMessageWriteRepository, timeout(2000).times(2)).write(anyList());
+        verify(eventPublisher, timeout(2000).times(2)).publishEvent(any(ChatUnreadChangedEvent.class));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should retry a batch whose transaction could not start")
+    void shouldRetryWhenTransactionCannotStart() {
+        // Arrange
+        doThrow(new CannotCreateTransactionException("Connection refused"))
+                .doThrow(new CannotCreateTransactionException("Connection refused"))
+                .doNothing()
+                .when(chatMessageWriteRepository).write(anyList());
+        writer.start();
+
+        // Act
+        writer.enqueue(message());
+
+        // Assert
+        verify(chatMessageWriteRepository, timeout(2000).times(3)).write(anyList());
+        verify(eventPublisher, timeout(2000)).publishEvent(any(ChatUnreadChangedEvent.class));
+    }
+
+    // ========================
+    // SHUTDOWN
+    // ========================
+
+    @Test
+    @Order(3)
+    @DisplayName("Should write the batch being gathered when shutdown interrupts the writer")
+    @SuppressWarnings("unchecked")
+    void shouldWriteGatheredBatchOnShutdown() throws InterruptedException {
+        // Arrange
+        ReflectionTestUtils.setField(writer, "flushMs", 10_000L);
+        writer.start();
+        ChatMessage message = writer.enqueue(message());
+        while (writer.backlog() > 0) {
+            Thread.sleep(5);
+        }
+
+        // Act
+        writer.shutdown();
+
+        // Assert
+        ArgumentCaptor<List<MessageRow>> rows = ArgumentCaptor.forClass(List.class);
+        verify(chatMessageWriteRepository).write(rows.capture());
+        assertThat(rows.getValue()).extracting(MessageRow::id).containsExactly(message.getId());
+    }
+
+    // ========================
+    // READ WAIT
+    // ========================
+
+    @Test
+    @Order(4)
+    @DisplayName("Should return from the read wait only once the queued message is written and counted")
+    void shouldWaitForQueuedMessage() {
+        // Arrange
+        doAnswer(invocation -> {
+            Thread.sleep(200);
+            return null;
+        }).when(chatMessageWriteRepository).write(anyList());
+        writer.start();
+        writer.enqueue(message());
+
+        // Act
+        boolean written = writer.awaitWritten(1L, 2L, 3L);
+
+        // Assert
+        assertThat(written).isTrue();
+        verify(chatMessageWriteRepository).write(anyList());
+        verify(eventPublisher).publishEvent(any(ChatUnreadChangedEvent.class));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Should not wait for the messages of other conversations")
+    void shouldNotWaitForOtherConversations() throws InterruptedException {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(chatMessageWriteRepository).write(anyList());
+        writer.start();
+        writer.enqueue(message());
+
+        // Act
+        boolean otherDirection = writer.awaitWritten(2L, 1L, 3L);
+        boolean otherProduct = writer.awaitWritten(1L, 2L, 4L);
+        boolean sameConversation = writer.awaitWritten(1L, 2L, 3L);
+        release.countDown();
+
+        // Assert
+        assertThat(otherDirection).isTrue();
+        assertThat(otherProduct).isTrue();
+        assertThat(sameConversation).isFalse();
+        assertThat(writer.awaitWritten(1L, 2L, 3L)).isTrue();
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Should give up the read wait while the message cannot be written")
+    void shouldGiveUpWhileMessageIsRetried() {
+        // Arrange
+        doThrow(new CannotCreateTransactionException("Connection refused"))
+                .when(chatMessageWriteRepository).write(anyList());
+        writer.start();
+        writer.enqueue(message());
+
+        // Act
+        boolean written = writer.awaitWritten(1L, 2L, 3L);
+
+        // Assert
+        assertThat(written).isFalse();
+        verifyNoInteractions(eventPublisher);
+    }
+}
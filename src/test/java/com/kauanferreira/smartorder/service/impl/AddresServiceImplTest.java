@@ -19,6 +19,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.Collections;
 import java.util.List;
@@ -166,24 +168,27 @@ public class AddresServiceImplTest {
     @Order(5)
     @DisplayName("Should return all addresses")
     void shouldReturnAllAddresses() {
-        when(addressRepository.findAll()).thenReturn(List.of(address1, address2));
+        Pageable pageable = PageRequest.of(0, 10);
+        when(addressRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(address1, address2), pageable, false));
 
-        List<Address> result = addressService.findAll();
+        Slice<Address> result = addressService.findAll(pageable, false);
 
-        assertThat(result).hasSize(2);
-        verify(addressRepository).findAll();
+        assertThat(result.getContent()).hasSize(2);
+        verify(addressRepository).findAllBy(pageable);
+        verify(addressRepository, never()).count();
     }
 
     @Test
     @Order(6)
-    @DisplayName("Should return empty list when no addresses exist")
+    @DisplayName("Should return empty slice when no addresses exist")
     void shouldReturnEmptyListWhenNoAddressesExist() {
-        when(addressRepository.findAll()).thenReturn(Collections.emptyList());
+        Pageable pageable = PageRequest.of(0, 10);
+        when(addressRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(Collections.emptyList(), pageable, false));
 
-        List<Address> result = addressService.findAll();
+        Slice<Address> result = addressService.findAll(pageable, false);
 
-        assertThat(result).isEmpty();
-        verify(addressRepository).findAll();
+        assertThat(result.getContent()).isEmpty();
+        verify(addressRepository).findAllBy(pageable);
     }
 
     // ========================
@@ -260,25 +265,31 @@ public class AddresServiceImplTest {
     @Order(11)
     @DisplayName("Should return addresses by city")
     void shouldReturnAddressesByCity() {
-        when(addressRepository.findByCityIgnoreCase("Aracaju")).thenReturn(List.of(address1));
+        Pageable pageable = PageRequest.of(0, 1);
+        when(addressRepository.findByCityIgnoreCase("Aracaju", pageable))
+                .thenReturn(new SliceImpl<>(List.of(address1), pageable, true));
+        when(addressRepository.countByCityIgnoreCase("Aracaju")).thenReturn(2L);
 
-        List<Address> result = addressService.findByCity("Aracaju");
+        Slice<Address> result = addressService.findByCity("Aracaju", pageable, true);
 
-        assertThat(result).hasSize(1);
-        assertThat(result.getFirst().getCity()).isEqualTo("Aracaju");
-        verify(addressRepository).findByCityIgnoreCase("Aracaju");
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().getFirst().getCity()).isEqualTo("Aracaju");
+        assertThat(((Page<Address>) result).getTotalElements()).isEqualTo(2);
+        verify(addressRepository).countByCityIgnoreCase("Aracaju");
     }
 
     @Test
     @Order(12)
     @DisplayName("Should return empty list when no addresses found by city")
     void shouldReturnEmptyListWhenNoAddressesFoundByCity() {
-        when(addressRepository.findByCityIgnoreCase("Manaus")).thenReturn(Collections.emptyList());
+        Pageable pageable = PageRequest.of(0, 10);
+        when(addressRepository.findByCityIgnoreCase("Manaus", pageable))
+                .thenReturn(new SliceImpl<>(Collections.emptyList(), pageable, false));
 
-        List<Address> result = addressService.findByCity("Manaus");
+        Slice<Address> result = addressService.findByCity("Manaus", pageable, true);
 
-        assertThat(result).isEmpty();
-        verify(addressRepository).findByCityIgnoreCase("Manaus");
+        assertThat(result.getContent()).isEmpty();
+        verify(addressRepository, never()).countByCityIgnoreCase(any());
     }
 
     // ========================
@@ -289,25 +300,29 @@ public class AddresServiceImplTest {
     @Order(13)
     @DisplayName("Should return addresses by state")
     void shouldReturnAddressesByState() {
-        when(addressRepository.findByStateIgnoreCase("Sergipe")).thenReturn(List.of(address1));
+        Pageable pageable = PageRequest.of(0, 10);
+        when(addressRepository.findByStateIgnoreCase("Sergipe", pageable))
+                .thenReturn(new SliceImpl<>(List.of(address1), pageable, false));
 
-        List<Address> result = addressService.findByState("Sergipe");
+        Slice<Address> result = addressService.findByState("Sergipe", pageable, false);
 
-        assertThat(result).hasSize(1);
-        assertThat(result.getFirst().getState()).isEqualTo("Sergipe");
-        verify(addressRepository).findByStateIgnoreCase("Sergipe");
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().getFirst().getState()).isEqualTo("Sergipe");
+        verify(addressRepository).findByStateIgnoreCase("Sergipe", pageable);
     }
 
     @Test
     @Order(14)
     @DisplayName("Should return empty list when no addresses found by state")
     void shouldReturnEmptyListWhenNoAddressesFoundByState() {
-        when(addressRepository.findByStateIgnoreCase("Amazonas")).thenReturn(Collections.emptyList());
+        Pageable pageable = PageRequest.of(0, 10);
+        when(addressRepository.findByStateIgnoreCase("Amazonas", pageable))
+                .thenReturn(new SliceImpl<>(Collections.emptyList(), pageable, false));
 
-        List<Address> result = addressService.findByState("Amazonas");
+        Slice<Address> result = addressService.findByState("Amazonas", pageable, false);
 
-        assertThat(result).isEmpty();
-        verify(addressRepository).findByStateIgnoreCase("Amazonas");
+        assertThat(result.getContent()).isEmpty();
+        verify(addressRepository).findByStateIgnoreCase("Amazonas", pageable);
     }
 
     // ========================
@@ -318,25 +333,29 @@ public class AddresServiceImplTest {
     @Order(15)
     @DisplayName("Should return addresses by zip code")
     void shouldReturnAddressesByZipCode() {
-        when(addressRepository.findByZipCode("49000-000")).thenReturn(List.of(address1));
+        Pageable pageable = PageRequest.of(0, 10);
+        when(addressRepository.findByZipCode("49000-000", pageable))
+                .thenReturn(new SliceImpl<>(List.of(address1), pageable, false));
 
-        List<Address> result = addressService.findByZipCode("49000-000");
+        Slice<Address> result = addressService.findByZipCode("49000-000", pageable, false);
 
-        assertThat(result).hasSize(1);
-        assertThat(result.getFirst().getZipCode()).isEqualTo("49000-000");
-        verify(addressRepository).findByZipCode("49000-000");
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().getFirst().getZipCode()).isEqualTo("49000-000");
+        verify(addressRepository).findByZipCode("49000-000", pageable);
     }
 
     @Test
     @Order(16)
     @DisplayName("Should return empty list when no addresses found by zip code")
     void shouldReturnEmptyListWhenNoAddressesFoundByZipCode() {
-        when(addressRepository.findByZipCode("99999-999")).thenReturn(Collections.emptyList());
+        Pageable pageable = PageRequest.of(0, 10);
+        when(addressRepository.findByZipCode("99999-999", pageable))
+                .thenReturn(new SliceImpl<>(Collections.emptyList(), pageable, false));
 
-        List<Address> result = addressService.findByZipCode("99999-999");
+        Slice<Address> result = addressService.findByZipCode("99999-999", pageable, false);
 
-        assertThat(result).isEmpty();
-        verify(addressRepository).findByZipCode("99999-999");
+        assertThat(result.getContent()).isEmpty();
+        verify(addressRepository).findByZipCode("99999-999", pageable);
     }
 
     // ========================
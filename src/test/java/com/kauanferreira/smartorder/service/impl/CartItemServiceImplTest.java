@@ -0,0 +1,394 @@
+package com.kauanferreira.smartorder.service.impl;
+
+import com.kauanferreira.smartorder.config.ClusterProperties;
+import com.kauanferreira.smartorder.dto.request.CartOperationRequest;
+import com.kauanferreira.smartorder.dto.response.CartSummaryLineResponse;
+import com.kauanferreira.smartorder.dto.response.CartSummaryResponse;
+import com.kauanferreira.smartorder.entity.Category;
+import com.kauanferreira.smartorder.entity.Product;
+import com.kauanferreira.smartorder.enums.CartOperationType;
+import com.kauanferreira.smartorder.enums.CartStockStatus;
+import com.kauanferreira.smartorder.exception.BusinessRuleException;
+import com.kauanferreira.smartorder.exception.InsufficientStockException;
+import com.kauanferreira.smartorder.exception.ResourceNotFoundException;
+import com.kauanferreira.smartorder.repository.CartStoreRepository;
+import com.kauanferreira.smartorder.services.cache.ProductSnapshotCache;
+import com.kauanferreira.smartorder.services.cart.CartStore;
+import com.kauanferreira.smartorder.services.impl.CartItemServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link CartItemServiceImpl}.
+ *
+ * <p>Runs the service against a real {@link CartStore} backed by a mocked
+ * {@link CartStoreRepository}, with products served by a mocked
+ * {@link ProductSnapshotCache}. Tests that batched cart operations are
+ * played in order, validated once and applied all or nothing, including
+ * when another request changes the cart while the products are read, and
+ * how the summary prices lines, flags stock and drops deleted products.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see CartItemServiceImpl
+ * @see CartStore
+ */
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class CartItemServiceImplTest {
+
+    private static final long USER_ID = 1L;
+    private static final long UNKNOWN_PRODUCT_ID = 99L;
+
+    @Mock
+    private CartStoreRepository cartStoreRepository;
+
+    @Mock
+    private ProductSnapshotCache productSnapshotCache;
+
+    private CartStore cartStore;
+    private CartItemServiceImpl cartItemService;
+
+    private final Map<Long, Product> catalog = new HashMap<>();
+    private long nextId;
+
+    private Product phone;
+    private Product charger;
+    private Product desk;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(cartStoreRepository.findByUserId(anyLong())).thenReturn(List.of());
+        lenient().when(cartStoreRepository.nextIds(anyInt())).thenAnswer(invocation -> new long[]{++nextId});
+
+        cartStore = new CartStore(cartStoreRepository, new ClusterProperties(false));
+        ReflectionTestUtils.setField(cartStore, "maxUsers", 100);
+        ReflectionTestUtils.setField(cartStore, "idBlockSize", 1);
+        cartItemService = new CartItemServiceImpl(cartStore, productSnapshotCache);
+
+        Category electronics = new Category(1L, "Eletrônicos", "Produtos eletrônicos");
+        Category furniture = new Category(2L, "Móveis", "Móveis para casa");
+        phone = product(10L, "Smartphone", "100.00", 10, 10, electronics);
+        charger = product(20L, "Carregador", "20.00", 3, null, electronics);
+        desk = product(30L, "Mesa", "500.00", 2, null, furniture);
+
+        lenient().when(productSnapshotCache.getAll(anyCollection())).thenAnswer(invocation -> catalog(invocation.getArgument(0)));
+        lenient().when(productSnapshotCache.get(anyLong())).thenAnswer(invocation -> {
+            Product product = catalog.get(invocation.<Long>getArgument(0));
+            if (product == null) {
+                throw new ResourceNotFoundException("Product not found");
+            }
+            return product;
+        });
+    }
+
+    private Product product(long id, String name, String price, int stock, Integer discountPercent, Category category) {
+        Product product = new Product(id, name, null, new BigDecimal(price), stock, null, true,
+                discountPercent, null, null, null, category);
+        catalog.put(id, product);
+        return product;
+    }
+
+    private Map<Long, Product> catalog(Collection<Long> productIds) {
+        Map<Long, Product> found = new HashMap<>();
+        for (Long productId : productIds) {
+            Product product = catalog.get(productId);
+            if (product != null) {
+                found.put(productId, product);
+            }
+        }
+        return found;
+    }
+
+    private CartStore.Item addToStore(Product product, int quantity) {
+        return cartStore.add(USER_ID, product.getId(), quantity, (productId, total) -> {
+        });
+    }
+
+    private static CartOperationRequest add(Product product, int quantity) {
+        return new CartOperationRequest(CartOperationType.ADD, null, product.getId(), quantity);
+    }
+
+    private static CartOperationRequest update(long cartItemId, int quantity) {
+        return new CartOperationRequest(CartOperationType.UPDATE, cartItemId, null, quantity);
+    }
+
+    private static CartOperationRequest remove(long cartItemId) {
+        return new CartOperationRequest(CartOperationType.REMOVE, cartItemId, null, null);
+    }
+
+    // ========================
+    // APPLY OPERATIONS
+    // ========================
+
+    @Test
+    @Order(1)
+    @DisplayName("Should play operations in order and validate only the resulting quantities")
+    void shouldApplyOperationsInOrder() {
+        // Arrange
+        CartStore.Item phoneItem = addToStore(phone, 1);
+
+        // Act: 1 + 20 would exceed the stock of 10, but the update brings it back to 4
+        CartSummaryResponse summary = cartItemService.applyOperations(USER_ID, List.of(
+                add(phone, 20),
+                update(phoneItem.id(), 3),
+                add(charger, 2),
+                add(phone, 1)));
+
+        // Assert
+        assertThat(summary.lines()).extracting(CartSummaryLineResponse::productId, CartSummaryLineResponse::quantity)
+                .containsExactly(tuple(10L, 4), tuple(20L, 2));
+        assertThat(summary.lines().getFirst().id()).isEqualTo(phoneItem.id());
+        assertThat(summary.itemCount()).isEqualTo(6);
+        assertThat(cartStore.items(USER_ID)).extracting(CartStore.Item::quantity).containsExactly(4, 2);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should re-add a product removed earlier in the same batch")
+    void shouldReAddRemovedProduct() {
+        // Arrange
+        CartStore.Item phoneItem = addToStore(phone, 2);
+
+        // Act
+        CartSummaryResponse summary = cartItemService.applyOperations(USER_ID, List.of(
+                remove(phoneItem.id()),
+                add(phone, 5)));
+
+        // Assert
+        assertThat(summary.lines()).extracting(CartSummaryLineResponse::productId, CartSummaryLineResponse::quantity)
+                .containsExactly(tuple(10L, 5));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should reject an operation missing a required field before touching the cart")
+    void shouldRejectMissingField() {
+        // Arrange
+        addToStore(phone, 1);
+        List<CartOperationRequest> operations = List.of(
+                add(charger, 1),
+                new CartOperationRequest(CartOperationType.UPDATE, null, null, 2));
+
+        // Act & Assert
+        assertThatThrownBy(() -> cartItemService.applyOperations(USER_ID, operations))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessage("UPDATE operation requires cartItemId");
+        verifyNoInteractions(productSnapshotCache);
+        assertThat(cartStore.items(USER_ID)).extracting(CartStore.Item::productId).containsExactly(10L);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should reject an item removed earlier in the same batch")
+    void shouldRejectItemRemovedInBatch() {
+        // Arrange
+        CartStore.Item phoneItem = addToStore(phone, 1);
+        List<CartOperationRequest> operations = List.of(remove(phoneItem.id()), update(phoneItem.id(), 2));
+
+        // Act & Assert
+        assertThatThrownBy(() -> cartItemService.applyOperations(USER_ID, operations))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(cartStore.items(USER_ID)).containsExactly(phoneItem);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Should reject a product that does not exist")
+    void shouldRejectUnknownProduct() {
+        // Arrange
+        List<CartOperationRequest> operations = List.of(
+                add(phone, 1),
+                new CartOperationRequest(CartOperationType.ADD, null, UNKNOWN_PRODUCT_ID, 1));
+
+        // Act & Assert
+        assertThatThrownBy(() -> cartItemService.applyOperations(USER_ID, operations))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(cartStore.items(USER_ID)).isEmpty();
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Should leave the cart unchanged when any resulting quantity exceeds stock")
+    void shouldApplyNothingWhenOneQuantityFails() {
+        // Arrange
+        CartStore.Item phoneItem = addToStore(phone, 1);
+
+        // Act & Assert
+        assertThatThrownBy(() -> cartItemService.applyOperations(USER_ID, List.of(
+                update(phoneItem.id(), 5),
+                add(charger, 1),
+                add(desk, 3))))
+                .isInstanceOf(InsufficientStockException.class)
+                .hasMessage("Only 2 unit(s) available for 'Mesa'");
+        assertThat(cartStore.items(USER_ID)).containsExactly(phoneItem);
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Should load the products of items added while the products were being read")
+    void shouldLoadProductsAddedConcurrently() {
+        // Arrange: another request adds two products between the read-ahead and the cart lock
+        when(productSnapshotCache.getAll(anyCollection()))
+                .thenAnswer(invocation -> {
+                    addToStore(charger, 1);
+                    addToStore(desk, 1);
+                    return catalog(invocation.getArgument(0));
+                })
+                .thenAnswer(invocation -> catalog(invocation.getArgument(0)));
+
+        // Act: item 1 is the charger, which the read-ahead did not see
+        CartSummaryResponse summary = cartItemService.applyOperations(USER_ID, List.of(
+                add(phone, 1),
+                update(1L, 3)));
+
+        // Assert
+        assertThat(summary.lines()).extracting(CartSummaryLineResponse::productId, CartSummaryLineResponse::quantity)
+                .containsExactly(tuple(20L, 3), tuple(30L, 1), tuple(10L, 1));
+        verify(productSnapshotCache).get(20L);
+        verify(productSnapshotCache).getAll(List.of(30L));
+    }
+
+    // ========================
+    // GET SUMMARY
+    // ========================
+
+    @Test
+    @Order(8)
+    @DisplayName("Should price each line with the discounted price and total the savings")
+    void shouldComputeLineTotalsAndSavings() {
+        // Arrange
+        addToStore(phone, 2);
+        addToStore(charger, 1);
+
+        // Act
+        CartSummaryResponse summary = cartItemService.getSummary(USER_ID);
+
+        // Assert
+        CartSummaryLineResponse phoneLine = summary.lines().getFirst();
+        assertThat(phoneLine.finalPrice()).isEqualByComparingTo("90.00");
+        assertThat(phoneLine.lineTotal()).isEqualByComparingTo("180.00");
+        assertThat(phoneLine.lineSavings()).isEqualByComparingTo("20.00");
+        assertThat(phoneLine.categoryName()).isEqualTo("Eletrônicos");
+
+        CartSummaryLineResponse chargerLine = summary.lines().get(1);
+        assertThat(chargerLine.finalPrice()).isEqualByComparingTo("20.00");
+        assertThat(chargerLine.lineTotal()).isEqualByComparingTo("20.00");
+        assertThat(chargerLine.lineSavings()).isEqualByComparingTo("0.00");
+
+        assertThat(summary.itemCount()).isEqualTo(3);
+        assertThat(summary.subtotal()).isEqualByComparingTo("220.00");
+        assertThat(summary.discount()).isEqualByComparingTo("20.00");
+        assertThat(summary.total()).isEqualByComparingTo("200.00");
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Should flag low stock at five units left without reporting a stock issue")
+    void shouldFlagLowStockAtThreshold() {
+        // Arrange
+        Category category = phone.getCategory();
+        Product atThreshold = product(40L, "Fone", "50.00", 5, null, category);
+        Product aboveThreshold = product(41L, "Capa", "30.00", 6, null, category);
+        addToStore(atThreshold, 5);
+        addToStore(aboveThreshold, 1);
+
+        // Act
+        CartSummaryResponse summary = cartItemService.getSummary(USER_ID);
+
+        // Assert
+        assertThat(summary.lines()).extracting(CartSummaryLineResponse::stockStatus)
+                .containsExactly(CartStockStatus.LOW_STOCK, CartStockStatus.IN_STOCK);
+        assertThat(summary.hasStockIssues()).isFalse();
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Should report stock issues for insufficient, sold out and deactivated products")
+    void shouldReportStockIssues() {
+        // Arrange
+        addToStore(charger, 4);
+        addToStore(phone, 1);
+        addToStore(desk, 1);
+        phone.setStockQuantity(0);
+        desk.setActive(false);
+
+        // Act
+        CartSummaryResponse summary = cartItemService.getSummary(USER_ID);
+
+        // Assert
+        assertThat(summary.lines()).extracting(CartSummaryLineResponse::stockStatus).containsExactly(
+                CartStockStatus.INSUFFICIENT_STOCK, CartStockStatus.OUT_OF_STOCK, CartStockStatus.UNAVAILABLE);
+        assertThat(summary.hasStockIssues()).isTrue();
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Should drop lines whose product was deleted and remove them from the cart")
+    void shouldDropDeletedProducts() {
+        // Arrange
+        addToStore(phone, 1);
+        cartStore.add(USER_ID, UNKNOWN_PRODUCT_ID, 2, (productId, total) -> {
+        });
+
+        // Act
+        CartSummaryResponse summary = cartItemService.getSummary(USER_ID);
+
+        // Assert
+        assertThat(summary.lines()).extracting(CartSummaryLineResponse::productId).containsExactly(10L);
+        assertThat(summary.itemCount()).isEqualTo(1);
+        assertThat(summary.total()).isEqualByComparingTo("90.00");
+        assertThat(cartStore.items(USER_ID)).extracting(CartStore.Item::productId).containsExactly(10L);
+    }
+
+    // ========================
+    // COUNT ITEMS
+    // ========================
+
+    @Test
+    @Order(12)
+    @DisplayName("Should count units across every line")
+    void shouldCountUnits() {
+        // Arrange
+        addToStore(phone, 2);
+        addToStore(charger, 3);
+
+        // Act
+        int count = cartItemService.countItems(USER_ID);
+
+        // Assert
+        assertThat(count).isEqualTo(5);
+        verifyNoInteractions(productSnapshotCache);
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Should count zero units for an empty cart")
+    void shouldCountEmptyCart() {
+        // Act & Assert
+        assertThat(cartItemService.countItems(USER_ID)).isZero();
+    }
+}
@@ -0,0 +1,126 @@
+package com.kauanferreira.smartorder.service.impl;
+
+import com.kauanferreira.smartorder.entity.User;
+import com.kauanferreira.smartorder.repository.ChatConversationRepository;
+import com.kauanferreira.smartorder.repository.ChatMessageRepository;
+import com.kauanferreira.smartorder.repository.UserRepository;
+import com.kauanferreira.smartorder.services.cache.ProductSnapshotCache;
+import com.kauanferreira.smartorder.services.cache.UserSnapshotCache;
+import com.kauanferreira.smartorder.services.chat.ChatMessageWriter;
+import com.kauanferreira.smartorder.services.chat.ChatUnreadCounter;
+import com.kauanferreira.smartorder.services.event.ChatUnreadChangedEvent;
+import com.kauanferreira.smartorder.services.impl.ChatMessageServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ChatMessageServiceImpl}.
+ *
+ * <p>Uses Mockito to mock the repositories and {@link ChatMessageWriter},
+ * testing that marking a conversation as read waits for the other user's
+ * queued messages before resetting the inbox row and the messages.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see ChatMessageServiceImpl
+ * @see ChatMessageWriter
+ */
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ChatMessageServiceImplTest {
+
+    private static final String EMAIL = "buyer@email.com";
+    private static final long USER_ID = 1L;
+    private static final long SELLER_ID = 2L;
+    private static final long PRODUCT_ID = 3L;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatConversationRepository chatConversationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserSnapshotCache userSnapshotCache;
+
+    @Mock
+    private ProductSnapshotCache productSnapshotCache;
+
+    @Mock
+    private ChatMessageWriter chatMessageWriter;
+
+    @Mock
+    private ChatUnreadCounter chatUnreadCounter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ChatMessageServiceImpl chatMessageService;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId(USER_ID);
+        user.setEmail(EMAIL);
+        when(userRepository.findByEmailIgnoreCase(EMAIL)).thenReturn(Optional.of(user));
+    }
+
+    // ========================
+    // MARK AS READ
+    // ========================
+
+    @Test
+    @Order(1)
+    @DisplayName("Should wait for the other user's queued messages before marking the conversation read")
+    void shouldWaitForQueuedMessagesBeforeMarkingRead() {
+        // Arrange
+        when(chatMessageWriter.awaitWritten(SELLER_ID, USER_ID, PRODUCT_ID)).thenReturn(true);
+        when(chatMessageRepository.markConversationAsRead(SELLER_ID, USER_ID, PRODUCT_ID)).thenReturn(2);
+
+        // Act
+        chatMessageService.markAsRead(EMAIL, SELLER_ID, PRODUCT_ID);
+
+        // Assert
+        InOrder inOrder = inOrder(chatMessageWriter, chatConversationRepository, chatMessageRepository, eventPublisher);
+        inOrder.verify(chatMessageWriter).awaitWritten(SELLER_ID, USER_ID, PRODUCT_ID);
+        inOrder.verify(chatConversationRepository).markAsRead(USER_ID, SELLER_ID, PRODUCT_ID);
+        inOrder.verify(chatMessageRepository).markConversationAsRead(SELLER_ID, USER_ID, PRODUCT_ID);
+        inOrder.verify(eventPublisher).publishEvent(new ChatUnreadChangedEvent(USER_ID, EMAIL, -2));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should still mark the stored messages read when the wait gives up")
+    void shouldMarkReadWhenWaitGivesUp() {
+        // Arrange
+        when(chatMessageWriter.awaitWritten(SELLER_ID, USER_ID, PRODUCT_ID)).thenReturn(false);
+
+        // Act
+        chatMessageService.markAsRead(EMAIL, SELLER_ID, PRODUCT_ID);
+
+        // Assert
+        verify(chatConversationRepository).markAsRead(USER_ID, SELLER_ID, PRODUCT_ID);
+        verify(chatMessageRepository).markConversationAsRead(SELLER_ID, USER_ID, PRODUCT_ID);
+        verify(eventPublisher, never()).publishEvent(any(ChatUnreadChangedEvent.class));
+    }
+}
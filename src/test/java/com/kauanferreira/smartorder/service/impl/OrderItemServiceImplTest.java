@@ -18,10 +18,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.math.BigDecimal;
 import java.util.Collections;
@@ -58,6 +61,9 @@ public class OrderItemServiceImplTest {
     @Mock
     private ProductService productService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private OrderItemServiceImpl orderItemService;
 
@@ -228,24 +234,29 @@ public class OrderItemServiceImplTest {
     @org.junit.jupiter.api.Order(6)
     @DisplayName("Should return all order items")
     void shouldReturnAllOrderItems() {
-        when(orderItemRepository.findAll()).thenReturn(List.of(orderItem1, orderItem2));
+        Pageable pageable = PageRequest.of(0, 10);
+        when(orderItemRepository.findAllBy(pageable))
+                .thenReturn(new SliceImpl<>(List.of(orderItem1, orderItem2), pageable, false));
 
-        List<OrderItem> result = orderItemService.findAll();
+        Slice<OrderItem> result = orderItemService.findAll(pageable, false);
 
-        assertThat(result).hasSize(2);
-        verify(orderItemRepository).findAll();
+        assertThat(result.getContent()).hasSize(2);
+        verify(orderItemRepository).findAllBy(pageable);
+        verify(orderItemRepository, never()).count();
     }
 
     @Test
     @org.junit.jupiter.api.Order(7)
-    @DisplayName("Should return empty list when no order items exist")
+    @DisplayName("Should return empty slice when no order items exist")
     void shouldReturnEmptyListWhenNoOrderItemsExist() {
-        when(orderItemRepository.findAll()).thenReturn(Collections.emptyList());
+        Pageable pageable = PageRequest.of(0, 10);
+        when(orderItemRepository.findAllBy(pageable))
+                .thenReturn(new SliceImpl<>(Collections.emptyList(), pageable, false));
 
-        List<OrderItem> result = orderItemService.findAll();
+        Slice<OrderItem> result = orderItemService.findAll(pageable, false);
 
-        assertThat(result).isEmpty();
-        verify(orderItemRepository).findAll();
+        assertThat(result.getContent()).isEmpty();
+        verify(orderItemRepository).findAllBy(pageable);
     }
 
     // ========================
@@ -322,28 +333,34 @@ public class OrderItemServiceImplTest {
     @org.junit.jupiter.api.Order(12)
     @DisplayName("Should return order items by product id")
     void shouldReturnOrderItemsByProductId() {
+        Pageable pageable = PageRequest.of(0, 1);
         when(productService.findById(1L)).thenReturn(product1);
-        when(orderItemRepository.findByProductId(1L)).thenReturn(List.of(orderItem1));
+        when(orderItemRepository.findByProductId(1L, pageable))
+                .thenReturn(new SliceImpl<>(List.of(orderItem1), pageable, true));
+        when(orderItemRepository.countByProductId(1L)).thenReturn(3L);
 
-        List<OrderItem> result = orderItemService.findByProductId(1L);
+        Slice<OrderItem> result = orderItemService.findByProductId(1L, pageable, true);
 
-        assertThat(result).hasSize(1);
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(((Page<OrderItem>) result).getTotalElements()).isEqualTo(3);
         verify(productService).findById(1L);
-        verify(orderItemRepository).findByProductId(1L);
+        verify(orderItemRepository).findByProductId(1L, pageable);
     }
 
     @Test
     @org.junit.jupiter.api.Order(13)
     @DisplayName("Should return empty list when no items found by product id")
     void shouldReturnEmptyListWhenNoItemsFoundByProductId() {
+        Pageable pageable = PageRequest.of(0, 10);
         when(productService.findById(1L)).thenReturn(product1);
-        when(orderItemRepository.findByProductId(1L)).thenReturn(Collections.emptyList());
+        when(orderItemRepository.findByProductId(1L, pageable))
+                .thenReturn(new SliceImpl<>(Collections.emptyList(), pageable, false));
 
-        List<OrderItem> result = orderItemService.findByProductId(1L);
+        Slice<OrderItem> result = orderItemService.findByProductId(1L, pageable, false);
 
-        assertThat(result).isEmpty();
+        assertThat(result.getContent()).isEmpty();
         verify(productService).findById(1L);
-        verify(orderItemRepository).findByProductId(1L);
+        verify(orderItemRepository).findByProductId(1L, pageable);
     }
 
     @Test
@@ -353,12 +370,12 @@ public class OrderItemServiceImplTest {
         when(productService.findById(99L)).thenThrow(
                 new ResourceNotFoundException("Product not found. Id: 99"));
 
-        assertThatThrownBy(() -> orderItemService.findByProductId(99L))
+        assertThatThrownBy(() -> orderItemService.findByProductId(99L, PageRequest.of(0, 10), false))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Product not found");
 
         verify(productService).findById(99L);
-        verify(orderItemRepository, never()).findByProductId(any());
+        verify(orderItemRepository, never()).findByProductId(any(), any());
     }
 
     // ========================
@@ -0,0 +1,203 @@
+package com.kauanferreira.smartorder.service.impl;
+
+import com.kauanferreira.smartorder.exception.BusinessRuleException;
+import com.kauanferreira.smartorder.services.impl.OrderReportServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link OrderReportServiceImpl}.
+ *
+ * <p>Uses Mockito to mock {@link JdbcTemplate} and feed result set rows to
+ * the report, testing the date range validation and how the CSV writer
+ * quotes and escapes free-text columns and buffers long reports.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see OrderReportServiceImpl
+ */
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class OrderReportServiceImplTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 3, 31);
+
+    private static final String HEADER = "order_id,order_date,status,order_total,user_id,user_email," +
+            "item_id,product_id,product_name,quantity,unit_price,subtotal";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private OrderReportServiceImpl orderReportService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orderReportService, "maxRangeDays", 366L);
+    }
+
+    /**
+     * Builds a report row whose email and product name are the given values.
+     */
+    private static ResultSet row(long itemId, String email, String productName) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        String[] columns = {"7", "2026-03-02 10:15:00", "DELIVERED", "59.90", "3", email,
+                String.valueOf(itemId), "11", productName, "2", "29.95", "59.90"};
+        for (int i = 0; i < columns.length; i++) {
+            lenient().when(rs.getString(i + 1)).thenReturn(columns[i]);
+        }
+        return rs;
+    }
+
+    /**
+     * Runs the export against the given rows and returns the CSV lines.
+     */
+    private List<String> export(List<ResultSet> rows) throws IOException {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (ResultSet rs : rows) {
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = orderReportService.writeOrdersCsv(FROM, TO, null, out);
+
+        assertThat(count).isEqualTo(rows.size());
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).endsWith("\n");
+        return List.of(csv.substring(0, csv.length() - 1).split("\n", -1));
+    }
+
+    // ========================
+    // RANGE
+    // ========================
+
+    @Test
+    @Order(1)
+    @DisplayName("Should reject a range that ends before it starts or is too wide")
+    void shouldRejectInvalidRange() {
+        // Act & Assert
+        assertThatThrownBy(() -> orderReportService.validateRange(TO, FROM))
+                .isInstanceOf(BusinessRuleException.class);
+        assertThatThrownBy(() -> orderReportService.validateRange(FROM, FROM.plusDays(366)))
+                .isInstanceOf(BusinessRuleException.class);
+        orderReportService.validateRange(FROM, FROM.plusDays(365));
+    }
+
+    // ========================
+    // CSV ESCAPING
+    // ========================
+
+    @Test
+    @Order(2)
+    @DisplayName("Should copy plain text columns unquoted")
+    void shouldWritePlainRow() throws Exception {
+        // Act
+        List<String> lines = export(List.of(row(100L, "kauan@email.com", "Notebook Pro")));
+
+        // Assert
+        assertThat(lines).containsExactly(HEADER,
+                "7,2026-03-02 10:15:00,DELIVERED,59.90,3,kauan@email.com,100,11,Notebook Pro,2,29.95,59.90");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should quote text with commas and double the quotes inside it")
+    void shouldQuoteCommasAndQuotes() throws Exception {
+        // Act
+        List<String> lines = export(List.of(
+                row(100L, "kauan@email.com", "Cable, USB-C"),
+                row(101L, "kauan@email.com", "Monitor 27\" 4K")));
+
+        // Assert
+        assertThat(lines.get(1)).contains(",\"Cable, USB-C\",");
+        assertThat(lines.get(2)).contains(",\"Monitor 27\"\" 4K\",");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should quote text with line breaks so the row stays one record")
+    void shouldQuoteLineBreaks() throws Exception {
+        // Act
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(row(100L, "kauan@email.com", "Line one\nLine two"));
+            handler.processRow(row(101L, "kauan@email.com", "Carriage\rreturn"));
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        orderReportService.writeOrdersCsv(FROM, TO, null, out);
+
+        // Assert
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).contains(",\"Line one\nLine two\",");
+        assertThat(csv).contains(",\"Carriage\rreturn\",");
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Should write an empty field for a missing text value")
+    void shouldWriteEmptyFieldForNull() throws Exception {
+        // Act
+        List<String> lines = export(List.of(row(100L, null, null)));
+
+        // Assert
+        assertThat(lines.get(1)).isEqualTo("7,2026-03-02 10:15:00,DELIVERED,59.90,3,,100,11,,2,29.95,59.90");
+    }
+
+    // ========================
+    // BUFFERING
+    // ========================
+
+    @Test
+    @Order(6)
+    @DisplayName("Should keep every row, in order, when the report exceeds the write buffer")
+    void shouldKeepRowsAcrossBufferDrains() throws Exception {
+        // Arrange
+        String longName = "x".repeat(70 * 1024);
+        List<ResultSet> rows = new ArrayList<>();
+        for (long itemId = 1; itemId <= 2000; itemId++) {
+            rows.add(row(itemId, "kauan@email.com", itemId == 1000 ? longName : "Product " + itemId));
+        }
+
+        // Act
+        List<String> lines = export(rows);
+
+        // Assert
+        assertThat(lines).hasSize(2001);
+        for (int itemId = 1; itemId <= 2000; itemId++) {
+            assertThat(lines.get(itemId).split(",")[6]).isEqualTo(String.valueOf(itemId));
+        }
+        assertThat(lines.get(1000)).contains(longName);
+    }
+}
@@ -6,7 +6,11 @@ import com.kauanferreira.smartorder.entity.User;
 import com.kauanferreira.smartorder.enums.OrderStatus;
 import com.kauanferreira.smartorder.enums.Role;
 import com.kauanferreira.smartorder.exception.ResourceNotFoundException;
+import com.kauanferreira.smartorder.repository.OrderHistoryRepository;
 import com.kauanferreira.smartorder.repository.OrderRepository;
+import com.kauanferreira.smartorder.services.cache.PurchasedProductCache;
+import com.kauanferreira.smartorder.services.event.OrderStatusChangedEvent;
+import com.kauanferreira.smartorder.services.event.PurchaseHistoryChangedEvent;
 import com.kauanferreira.smartorder.services.impl.OrderServiceImpl;
 import com.kauanferreira.smartorder.services.interfaces.AddressService;
 import com.kauanferreira.smartorder.services.interfaces.UserService;
@@ -15,10 +19,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
@@ -32,9 +39,9 @@ import static org.mockito.Mockito.*;
 /**
  * Unit tests for {@link OrderServiceImpl}.
  *
- * <p>Uses Mockito to mock {@link OrderRepository}, {@link UserService},
- * and {@link AddressService}, testing all CRUD operations and query methods
- * in isolation.</p>
+ * <p>Uses Mockito to mock {@link OrderRepository}, {@link OrderHistoryRepository},
+ * {@link UserService} and {@link AddressService}, testing all CRUD operations
+ * and query methods in isolation.</p>
  *
  * @author Kauan Santos Ferreira
  * @version 1.0
@@ -50,12 +57,21 @@ public class OrderServiceImplTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private OrderHistoryRepository orderHistoryRepository;
+
     @Mock
     private UserService userService;
 
     @Mock
     private AddressService addressService;
 
+    @Mock
+    private PurchasedProductCache purchasedProductCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -198,32 +214,76 @@ public class OrderServiceImplTest {
         verify(orderRepository).findById(99L);
     }
 
+    @Test
+    @org.junit.jupiter.api.Order(32)
+    @DisplayName("Should find an order in the history by id")
+    void shouldFindOrderInHistoryById() {
+        when(orderHistoryRepository.findById(1L)).thenReturn(Optional.of(order1));
+
+        com.kauanferreira.smartorder.entity.Order result = orderService.findInHistoryById(1L);
+
+        assertThat(result).isSameAs(order1);
+        verify(orderHistoryRepository).findById(1L);
+        verify(orderRepository, never()).findById(any());
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(33)
+    @DisplayName("Should throw exception when order not found in the history by id")
+    void shouldThrowExceptionWhenOrderNotFoundInHistoryById() {
+        when(orderHistoryRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> orderService.findInHistoryById(99L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Order with id 99 not found");
+    }
+
     // ========================
     // FIND ALL
     // ========================
 
     @Test
     @org.junit.jupiter.api.Order(6)
-    @DisplayName("Should return all orders")
+    @DisplayName("Should return a slice of orders without counting")
     void shouldReturnAllOrders() {
-        when(orderRepository.findAll()).thenReturn(List.of(order1, order2));
+        Pageable pageable = PageRequest.of(0, 2);
+        when(orderRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(order1, order2), pageable, true));
 
-        List<Order> result = orderService.findAll();
+        Slice<Order> result = orderService.findAll(pageable, false);
 
-        assertThat(result).hasSize(2);
-        verify(orderRepository).findAll();
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result).isNotInstanceOf(Page.class);
+        verify(orderRepository).findWithItemsByIdIn(List.of(order1.getId(), order2.getId()));
+        verify(orderRepository, never()).count();
     }
 
     @Test
     @org.junit.jupiter.api.Order(7)
-    @DisplayName("Should return empty list when no orders exist")
+    @DisplayName("Should return empty slice when no orders exist")
     void shouldReturnEmptyListWhenNoOrdersExist() {
-        when(orderRepository.findAll()).thenReturn(Collections.emptyList());
+        Pageable pageable = PageRequest.of(0, 10);
+        when(orderRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(Collections.emptyList(), pageable, false));
 
-        List<com.kauanferreira.smartorder.entity.Order> result = orderService.findAll();
+        Slice<Order> result = orderService.findAll(pageable, false);
 
-        assertThat(result).isEmpty();
-        verify(orderRepository).findAll();
+        assertThat(result.getContent()).isEmpty();
+        verify(orderRepository, never()).findWithItemsByIdIn(any());
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(31)
+    @DisplayName("Should count all orders only when the total is requested")
+    void shouldCountOrdersWhenTotalRequested() {
+        Pageable pageable = PageRequest.of(0, 2);
+        when(orderRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(order1, order2), pageable, true));
+        when(orderRepository.count()).thenReturn(5L);
+
+        Slice<Order> result = orderService.findAll(pageable, true);
+
+        assertThat(result).isInstanceOf(Page.class);
+        assertThat(((Page<Order>) result).getTotalElements()).isEqualTo(5);
+        verify(orderRepository).count();
     }
 
     // ========================
@@ -254,30 +314,33 @@ public class OrderServiceImplTest {
     @org.junit.jupiter.api.Order(9)
     @DisplayName("Should return orders by user id")
     void shouldReturnOrdersByUserId() {
+        Pageable pageable = PageRequest.of(0, 10);
         when(userService.findById(1L)).thenReturn(user);
-        when(orderRepository.findByUserIdOrderByOrderDateDesc(1L))
-                .thenReturn(List.of(order1, order2));
+        when(orderHistoryRepository.findByUserId(1L, pageable))
+                .thenReturn(new SliceImpl<>(List.of(order1, order2), pageable, false));
 
-        List<com.kauanferreira.smartorder.entity.Order> result = orderService.findByUserId(1L);
+        Slice<com.kauanferreira.smartorder.entity.Order> result = orderService.findByUserId(1L, pageable, false);
 
-        assertThat(result).hasSize(2);
+        assertThat(result.getContent()).hasSize(2);
         verify(userService).findById(1L);
-        verify(orderRepository).findByUserIdOrderByOrderDateDesc(1L);
+        verify(orderHistoryRepository).findByUserId(1L, pageable);
     }
 
     @Test
     @org.junit.jupiter.api.Order(10)
-    @DisplayName("Should return empty list when user has no orders")
+    @DisplayName("Should return empty slice when user has no orders")
     void shouldReturnEmptyListWhenUserHasNoOrders() {
+        Pageable pageable = PageRequest.of(0, 10);
         when(userService.findById(1L)).thenReturn(user);
-        when(orderRepository.findByUserIdOrderByOrderDateDesc(1L))
-                .thenReturn(Collections.emptyList());
+        when(orderHistoryRepository.findByUserId(1L, pageable))
+                .thenReturn(new SliceImpl<>(Collections.emptyList(), pageable, false));
 
-        List<com.kauanferreira.smartorder.entity.Order> result = orderService.findByUserId(1L);
+        Slice<com.kauanferreira.smartorder.entity.Order> result = orderService.findByUserId(1L, pageable, true);
 
-        assertThat(result).isEmpty();
+        assertThat(result.getContent()).isEmpty();
+        assertThat(((Page<Order>) result).getTotalElements()).isZero();
         verify(userService).findById(1L);
-        verify(orderRepository).findByUserIdOrderByOrderDateDesc(1L);
+        verify(orderHistoryRepository, never()).countByUserId(any());
     }
 
     @Test
@@ -287,12 +350,12 @@ public class OrderServiceImplTest {
         when(userService.findById(99L)).thenThrow(
                 new ResourceNotFoundException("User not found. Id: 99"));
 
-        assertThatThrownBy(() -> orderService.findByUserId(99L))
+        assertThatThrownBy(() -> orderService.findByUserId(99L, PageRequest.of(0, 10), false))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("User not found");
 
         verify(userService).findById(99L);
-        verify(orderRepository, never()).findByUserIdOrderByOrderDateDesc(any());
+        verify(orderHistoryRepository, never()).findByUserId(any(), any());
     }
 
     // ========================
@@ -303,28 +366,31 @@ public class OrderServiceImplTest {
     @org.junit.jupiter.api.Order(12)
     @DisplayName("Should return orders by status")
     void shouldReturnOrdersByStatus() {
-        when(orderRepository.findByStatus(OrderStatus.PENDING)).thenReturn(List.of(order1));
+        Pageable pageable = PageRequest.of(0, 10);
+        when(orderRepository.findByStatus(OrderStatus.PENDING, pageable))
+                .thenReturn(new SliceImpl<>(List.of(order1), pageable, false));
 
-        List<com.kauanferreira.smartorder.entity.Order> result =
-                orderService.findByStatus(OrderStatus.PENDING);
+        Slice<com.kauanferreira.smartorder.entity.Order> result =
+                orderService.findByStatus(OrderStatus.PENDING, pageable, false);
 
-        assertThat(result).hasSize(1);
-        assertThat(result.getFirst().getStatus()).isEqualTo(OrderStatus.PENDING);
-        verify(orderRepository).findByStatus(OrderStatus.PENDING);
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().getFirst().getStatus()).isEqualTo(OrderStatus.PENDING);
+        verify(orderRepository).findByStatus(OrderStatus.PENDING, pageable);
     }
 
     @Test
     @org.junit.jupiter.api.Order(13)
-    @DisplayName("Should return empty list when no orders found by status")
+    @DisplayName("Should return empty slice when no orders found by status")
     void shouldReturnEmptyListWhenNoOrdersFoundByStatus() {
-        when(orderRepository.findByStatus(OrderStatus.CANCELLED))
-                .thenReturn(Collections.emptyList());
+        Pageable pageable = PageRequest.of(0, 10);
+        when(orderRepository.findByStatus(OrderStatus.CANCELLED, pageable))
+                .thenReturn(new SliceImpl<>(Collections.emptyList(), pageable, false));
 
-        List<com.kauanferreira.smartorder.entity.Order> result =
-                orderService.findByStatus(OrderStatus.CANCELLED);
+        Slice<com.kauanferreira.smartorder.entity.Order> result =
+                orderService.findByStatus(OrderStatus.CANCELLED, pageable, false);
 
-        assertThat(result).isEmpty();
-        verify(orderRepository).findByStatus(OrderStatus.CANCELLED);
+        assertThat(result.getContent()).isEmpty();
+        verify(orderRepository).findByStatus(OrderStatus.CANCELLED, pageable);
     }
 
     // ========================
@@ -335,16 +401,17 @@ public class OrderServiceImplTest {
     @org.junit.jupiter.api.Order(14)
     @DisplayName("Should return orders by user id and status")
     void shouldReturnOrdersByUserIdAndStatus() {
+        Pageable pageable = PageRequest.of(0, 10);
         when(userService.findById(1L)).thenReturn(user);
-        when(orderRepository.findByUserIdAndStatus(1L, OrderStatus.PENDING))
-                .thenReturn(List.of(order1));
+        when(orderHistoryRepository.findByUserIdAndStatus(1L, OrderStatus.PENDING, pageable))
+                .thenReturn(new SliceImpl<>(List.of(order1), pageable, false));
 
-        List<com.kauanferreira.smartorder.entity.Order> result =
-                orderService.findByUserIdAndStatus(1L, OrderStatus.PENDING);
+        Slice<com.kauanferreira.smartorder.entity.Order> result =
+                orderService.findByUserIdAndStatus(1L, OrderStatus.PENDING, pageable, false);
 
-        assertThat(result).hasSize(1);
+        assertThat(result.getContent()).hasSize(1);
         verify(userService).findById(1L);
-        verify(orderRepository).findByUserIdAndStatus(1L, OrderStatus.PENDING);
+        verify(orderHistoryRepository).findByUserIdAndStatus(1L, OrderStatus.PENDING, pageable);
     }
 
     @Test
@@ -354,12 +421,12 @@ public class OrderServiceImplTest {
         when(userService.findById(99L)).thenThrow(
                 new ResourceNotFoundException("User not found. Id: 99"));
 
-        assertThatThrownBy(() -> orderService.findByUserIdAndStatus(99L, OrderStatus.PENDING))
+        assertThatThrownBy(() -> orderService.findByUserIdAndStatus(99L, OrderStatus.PENDING, PageRequest.of(0, 10), false))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("User not found");
 
         verify(userService).findById(99L);
-        verify(orderRepository, never()).findByUserIdAndStatus(any(), any());
+        verify(orderHistoryRepository, never()).findByUserIdAndStatus(any(), any(), any());
     }
 
     // ========================
@@ -370,26 +437,29 @@ public class OrderServiceImplTest {
     @org.junit.jupiter.api.Order(16)
     @DisplayName("Should return orders by address id")
     void shouldReturnOrdersByAddressId() {
-        when(orderRepository.findByAddressId(1L)).thenReturn(List.of(order1));
+        Pageable pageable = PageRequest.of(0, 10);
+        when(orderRepository.findByAddressId(1L, pageable)).thenReturn(new SliceImpl<>(List.of(order1), pageable, false));
 
-        List<com.kauanferreira.smartorder.entity.Order> result =
-                orderService.findByAddressId(1L);
+        Slice<com.kauanferreira.smartorder.entity.Order> result =
+                orderService.findByAddressId(1L, pageable, false);
 
-        assertThat(result).hasSize(1);
-        verify(orderRepository).findByAddressId(1L);
+        assertThat(result.getContent()).hasSize(1);
+        verify(orderRepository).findByAddressId(1L, pageable);
     }
 
     @Test
     @org.junit.jupiter.api.Order(17)
-    @DisplayName("Should return empty list when no orders found by address id")
+    @DisplayName("Should return empty slice when no orders found by address id")
     void shouldReturnEmptyListWhenNoOrdersFoundByAddressId() {
-        when(orderRepository.findByAddressId(99L)).thenReturn(Collections.emptyList());
+        Pageable pageable = PageRequest.of(0, 10);
+        when(orderRepository.findByAddressId(99L, pageable))
+                .thenReturn(new SliceImpl<>(Collections.emptyList(), pageable, false));
 
-        List<com.kauanferreira.smartorder.entity.Order> result =
-                orderService.findByAddressId(99L);
+        Slice<com.kauanferreira.smartorder.entity.Order> result =
+                orderService.findByAddressId(99L, pageable, false);
 
-        assertThat(result).isEmpty();
-        verify(orderRepository).findByAddressId(99L);
+        assertThat(result.getContent()).isEmpty();
+        verify(orderRepository).findByAddressId(99L, pageable);
     }
 
     // ========================
@@ -400,24 +470,24 @@ public class OrderServiceImplTest {
     @org.junit.jupiter.api.Order(18)
     @DisplayName("Should count orders by user id")
     void shouldCountOrdersByUserId() {
-        when(orderRepository.countByUserId(1L)).thenReturn(2L);
+        when(orderHistoryRepository.countByUserId(1L)).thenReturn(2L);
 
         long result = orderService.countByUserId(1L);
 
         assertThat(result).isEqualTo(2L);
-        verify(orderRepository).countByUserId(1L);
+        verify(orderHistoryRepository).countByUserId(1L);
     }
 
     @Test
     @org.junit.jupiter.api.Order(19)
     @DisplayName("Should return zero when user has no orders")
     void shouldReturnZeroWhenUserHasNoOrders() {
-        when(orderRepository.countByUserId(1L)).thenReturn(0L);
+        when(orderHistoryRepository.countByUserId(1L)).thenReturn(0L);
 
         long result = orderService.countByUserId(1L);
 
         assertThat(result).isZero();
-        verify(orderRepository).countByUserId(1L);
+        verify(orderHistoryRepository).countByUserId(1L);
     }
 
     // ========================
@@ -467,6 +537,7 @@ public class OrderServiceImplTest {
         assertThat(order1.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
         verify(orderRepository).findById(1L);
         verify(orderRepository).save(order1);
+        verify(eventPublisher).publishEvent(any(OrderStatusChangedEvent.class));
     }
 
     @Test
@@ -558,6 +629,7 @@ public class OrderServiceImplTest {
 
         verify(orderRepository).findById(1L);
         verify(orderRepository).delete(order1);
+        verify(eventPublisher).publishEvent(new PurchaseHistoryChangedEvent(1L));
     }
 
     @Test
@@ -573,4 +645,33 @@ public class OrderServiceImplTest {
         verify(orderRepository).findById(99L);
         verify(orderRepository, never()).delete(any());
     }
+
+    // ========================
+    // PURCHASED PRODUCTS
+    // ========================
+
+    @Test
+    @org.junit.jupiter.api.Order(29)
+    @DisplayName("Should answer has-purchased check from the cache")
+    void shouldCheckPurchasedProductFromCache() {
+        when(purchasedProductCache.hasPurchased(1L, 10L)).thenReturn(true);
+
+        boolean result = orderService.hasUserPurchasedProduct(1L, 10L);
+
+        assertThat(result).isTrue();
+        verify(purchasedProductCache).hasPurchased(1L, 10L);
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @org.junit.jupiter.api.Order(30)
+    @DisplayName("Should return purchased subset of products from the cache")
+    void shouldFindPurchasedProductIdsFromCache() {
+        when(purchasedProductCache.filterPurchased(1L, List.of(10L, 20L, 30L))).thenReturn(List.of(20L));
+
+        List<Long> result = orderService.findPurchasedProductIds(1L, List.of(10L, 20L, 30L));
+
+        assertThat(result).containsExactly(20L);
+        verifyNoInteractions(orderRepository);
+    }
 }
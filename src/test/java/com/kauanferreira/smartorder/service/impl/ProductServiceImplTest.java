@@ -1,10 +1,13 @@
 package com.kauanferreira.smartorder.service.impl;
 
+import com.kauanferreira.smartorder.dto.projection.RatingProjection;
 import com.kauanferreira.smartorder.entity.Category;
 import com.kauanferreira.smartorder.entity.Product;
 import com.kauanferreira.smartorder.exception.DuplicateResourceException;
 import com.kauanferreira.smartorder.exception.ResourceNotFoundException;
+import com.kauanferreira.smartorder.dto.response.ProductResponse;
 import com.kauanferreira.smartorder.repository.ProductRepository;
+import com.kauanferreira.smartorder.repository.ReviewRepository;
 import com.kauanferreira.smartorder.services.impl.ProductServiceImpl;
 import com.kauanferreira.smartorder.services.interfaces.CategoryService;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +22,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.math.BigDecimal;
 import java.util.Collections;
@@ -51,6 +56,9 @@ public class ProductServiceImplTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ReviewRepository reviewRepository;
+
     @Mock
     private CategoryService categoryService;
 
@@ -545,4 +553,64 @@ public class ProductServiceImplTest {
 
         verify(productRepository, never()).delete(any());
     }
+
+    // ========================
+    // RANKINGS
+    // ========================
+
+    @Test
+    @Order(27)
+    @DisplayName("Should return active products in the order of the given ids")
+    void shouldFindActiveByIdsInGivenOrder() {
+        // Arrange
+        List<Long> ids = List.of(2L, 99L, 1L);
+        when(productRepository.findActiveByIdIn(ids)).thenReturn(List.of(smartphone, notebook));
+        when(reviewRepository.findRatingsByProductIds(List.of(2L, 1L))).thenReturn(Collections.emptyList());
+
+        // Act
+        List<ProductResponse> result = productService.findActiveByIdsWithRating(ids);
+
+        // Assert
+        assertThat(result).extracting(ProductResponse::id).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @Order(28)
+    @DisplayName("Should not query when no ids are given")
+    void shouldReturnEmptyWhenNoIdsGiven() {
+        // Act
+        List<ProductResponse> result = productService.findActiveByIdsWithRating(List.of());
+
+        // Assert
+        assertThat(result).isEmpty();
+        verifyNoInteractions(productRepository, reviewRepository);
+    }
+
+    // ========================
+    // BOUNDED LISTS
+    // ========================
+
+    @Test
+    @Order(29)
+    @DisplayName("Should enrich one slice of a category with ratings and count only on request")
+    void shouldFindCategorySliceWithRating() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 2);
+        when(productRepository.findByCategoryId(1L, pageable))
+                .thenReturn(new SliceImpl<>(List.of(smartphone, notebook), pageable, true));
+        when(reviewRepository.findRatingsByProductIds(List.of(1L, 2L)))
+                .thenReturn(List.of(new RatingProjection(1L, 4.5, 2L)));
+        when(productRepository.countByCategoryId(1L)).thenReturn(5L);
+
+        // Act
+        Slice<ProductResponse> withoutTotal = productService.findByCategoryWithRating(1L, pageable, false);
+        Slice<ProductResponse> withTotal = productService.findByCategoryWithRating(1L, pageable, true);
+
+        // Assert
+        assertThat(withoutTotal).isNotInstanceOf(Page.class);
+        assertThat(withoutTotal.hasNext()).isTrue();
+        assertThat(withoutTotal.getContent()).extracting(ProductResponse::reviewCount).containsExactly(2L, 0L);
+        assertThat(((Page<ProductResponse>) withTotal).getTotalElements()).isEqualTo(5);
+        verify(productRepository, times(1)).countByCategoryId(1L);
+    }
 }
@@ -0,0 +1,161 @@
+package com.kauanferreira.smartorder.service.impl;
+
+import com.kauanferreira.smartorder.dto.response.TimeseriesPointResponse;
+import com.kauanferreira.smartorder.enums.RollupDimension;
+import com.kauanferreira.smartorder.enums.RollupGranularity;
+import com.kauanferreira.smartorder.exception.BusinessRuleException;
+import com.kauanferreira.smartorder.repository.SalesRollupRepository;
+import com.kauanferreira.smartorder.services.impl.SalesRollupServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link SalesRollupServiceImpl}.
+ *
+ * <p>Uses Mockito to mock {@link SalesRollupRepository}, testing the bucket
+ * limit and zero filling of time series reads, and that a rebuild runs one
+ * range per day.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see SalesRollupServiceImpl
+ */
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class SalesRollupServiceImplTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 3, 1, 0, 0);
+
+    @Mock
+    private SalesRollupRepository salesRollupRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SalesRollupServiceImpl salesRollupService;
+
+    @BeforeEach
+    void setUp() {
+        salesRollupService = new SalesRollupServiceImpl(salesRollupRepository, transactionManager, 2, 31);
+    }
+
+    @AfterEach
+    void tearDown() {
+        salesRollupService.shutdown();
+    }
+
+    // ========================
+    // FIND TIMESERIES
+    // ========================
+
+    @Test
+    @Order(1)
+    @DisplayName("Should fill buckets without a stored row with zeros")
+    void shouldFillMissingBucketsWithZeros() {
+        // Arrange
+        TimeseriesPointResponse stored = new TimeseriesPointResponse(FROM.plusHours(1), 2, 5, new BigDecimal("50.00"));
+        when(salesRollupRepository.findSeries(RollupGranularity.HOUR, RollupDimension.TOTAL, 0L,
+                FROM, FROM.plusHours(3))).thenReturn(List.of(stored));
+
+        // Act
+        List<TimeseriesPointResponse> series = salesRollupService.findTimeseries(
+                RollupGranularity.HOUR, RollupDimension.TOTAL, null, FROM.plusMinutes(20), FROM.plusHours(3));
+
+        // Assert
+        assertThat(series).containsExactly(
+                new TimeseriesPointResponse(FROM, 0, 0, BigDecimal.ZERO),
+                stored,
+                new TimeseriesPointResponse(FROM.plusHours(2), 0, 0, BigDecimal.ZERO));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should accept a range of exactly the maximum number of buckets")
+    void shouldAcceptMaxBuckets() {
+        // Arrange
+        when(salesRollupRepository.findSeries(any(), any(), anyLong(), any(), any())).thenReturn(List.of());
+
+        // Act
+        List<TimeseriesPointResponse> series = salesRollupService.findTimeseries(
+                RollupGranularity.HOUR, RollupDimension.PRODUCT, 7L, FROM, FROM.plusHours(2000));
+
+        // Assert
+        assertThat(series).hasSize(2000);
+        verify(salesRollupRepository).findSeries(RollupGranularity.HOUR, RollupDimension.PRODUCT, 7L,
+                FROM, FROM.plusHours(2000));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should reject a range of more than the maximum number of buckets")
+    void shouldRejectTooManyBuckets() {
+        // Act & Assert
+        assertThatThrownBy(() -> salesRollupService.findTimeseries(
+                RollupGranularity.DAY, RollupDimension.TOTAL, null, FROM, FROM.plusDays(2001)))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("2000 day buckets");
+        verifyNoInteractions(salesRollupRepository);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should require an id for the category and product dimensions")
+    void shouldRequireDimensionId() {
+        // Act & Assert
+        assertThatThrownBy(() -> salesRollupService.findTimeseries(
+                RollupGranularity.DAY, RollupDimension.CATEGORY, null, FROM, FROM.plusDays(1)))
+                .isInstanceOf(BusinessRuleException.class);
+        verifyNoInteractions(salesRollupRepository);
+    }
+
+    // ========================
+    // REBUILD
+    // ========================
+
+    @Test
+    @Order(5)
+    @DisplayName("Should rebuild every day of the range, end day included")
+    void shouldRebuildEachDay() {
+        // Act
+        int days = salesRollupService.rebuild(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 3));
+
+        // Assert
+        assertThat(days).isEqualTo(3);
+        for (int day = 1; day <= 3; day++) {
+            LocalDateTime start = LocalDate.of(2026, 3, day).atStartOfDay();
+            verify(salesRollupRepository).rebuildRange(start, start.plusDays(1));
+        }
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Should reject a rebuild longer than the maximum range")
+    void shouldRejectTooLongRebuild() {
+        // Act & Assert
+        assertThatThrownBy(() -> salesRollupService.rebuild(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 4, 1)))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("31 days");
+        verifyNoInteractions(salesRollupRepository);
+    }
+}
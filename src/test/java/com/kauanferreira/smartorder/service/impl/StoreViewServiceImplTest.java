@@ -0,0 +1,185 @@
+package com.kauanferreira.smartorder.service.impl;
+
+import com.kauanferreira.smartorder.dto.response.CategoryResponse;
+import com.kauanferreira.smartorder.dto.response.GridPageResponse;
+import com.kauanferreira.smartorder.dto.response.PageResponse;
+import com.kauanferreira.smartorder.dto.response.ProductResponse;
+import com.kauanferreira.smartorder.dto.response.ProductViewResponse;
+import com.kauanferreira.smartorder.dto.response.ReviewFeedItemResponse;
+import com.kauanferreira.smartorder.dto.response.StoreBootstrapResponse;
+import com.kauanferreira.smartorder.enums.ReviewSort;
+import com.kauanferreira.smartorder.exception.ResourceNotFoundException;
+import com.kauanferreira.smartorder.services.cache.StoreCatalogCache;
+import com.kauanferreira.smartorder.services.cache.StoreCatalogCache.Catalog;
+import com.kauanferreira.smartorder.services.impl.StoreViewServiceImpl;
+import com.kauanferreira.smartorder.services.interfaces.CartItemService;
+import com.kauanferreira.smartorder.services.interfaces.FavoriteService;
+import com.kauanferreira.smartorder.services.interfaces.OrderService;
+import com.kauanferreira.smartorder.services.interfaces.ProductService;
+import com.kauanferreira.smartorder.services.interfaces.ReviewFeedService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link StoreViewServiceImpl}.
+ *
+ * <p>Uses Mockito to mock the services and caches behind each read, testing
+ * how the product and home pages are composed and how failures of a parallel
+ * read surface.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see StoreViewServiceImpl
+ */
+@ExtendWith(MockitoExtension.class)
+public class StoreViewServiceImplTest {
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private FavoriteService favoriteService;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private ReviewFeedService reviewFeedService;
+
+    @Mock
+    private CartItemService cartItemService;
+
+    @Mock
+    private StoreCatalogCache storeCatalogCache;
+
+    @InjectMocks
+    private StoreViewServiceImpl storeViewService;
+
+    private ProductResponse product;
+    private GridPageResponse<ReviewFeedItemResponse> reviews;
+    private Catalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        product = new ProductResponse(1L, "Smartphone", null, new BigDecimal("2999.99"), 50, null, true,
+                null, null, null, false, new BigDecimal("2999.99"), null, 4.5, 2L);
+        reviews = new GridPageResponse<>(List.of(new ReviewFeedItemResponse(7L, 5L, "Kauan", 5, "Ótimo",
+                LocalDateTime.now(), 3, true)), 10, null, false, null);
+        catalog = new Catalog(List.of(new CategoryResponse(1L, "Eletrônicos", "Produtos eletrônicos")),
+                List.of(product), List.of(), List.of(product),
+                new PageResponse<>(List.of(product), 0, 12, false, null));
+    }
+
+    // ========================
+    // GET PRODUCT VIEW
+    // ========================
+
+    @Test
+    @Order(1)
+    @DisplayName("Should compose the product page for an authenticated viewer")
+    void shouldComposeProductViewForViewer() {
+        // Arrange
+        when(productService.findByIdWithRating(1L)).thenReturn(product);
+        when(favoriteService.isFavorited(5L, 1L)).thenReturn(true);
+        when(orderService.hasUserPurchasedProduct(5L, 1L)).thenReturn(true);
+        when(reviewFeedService.getFeed(1L, ReviewSort.NEWEST, 10, null, 5L)).thenReturn(reviews);
+
+        // Act
+        ProductViewResponse result = storeViewService.getProductView(1L, 5L, ReviewSort.NEWEST, 10);
+
+        // Assert
+        assertThat(result.product()).isSameAs(product);
+        assertThat(result.favorited()).isTrue();
+        assertThat(result.purchased()).isTrue();
+        assertThat(result.reviews()).isSameAs(reviews);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should skip the viewer reads for anonymous visitors")
+    void shouldSkipViewerReadsWhenAnonymous() {
+        // Arrange
+        when(productService.findByIdWithRating(1L)).thenReturn(product);
+        when(reviewFeedService.getFeed(1L, ReviewSort.HELPFUL, null, null, null)).thenReturn(reviews);
+
+        // Act
+        ProductViewResponse result = storeViewService.getProductView(1L, null, ReviewSort.HELPFUL, null);
+
+        // Assert
+        assertThat(result.favorited()).isFalse();
+        assertThat(result.purchased()).isFalse();
+        verifyNoInteractions(favoriteService, orderService);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should rethrow the exception of a failed read unwrapped")
+    void shouldRethrowReadFailure() {
+        // Arrange
+        when(productService.findByIdWithRating(99L))
+                .thenThrow(new ResourceNotFoundException("Product not found. Id: 99"));
+        lenient().when(reviewFeedService.getFeed(99L, ReviewSort.NEWEST, null, null, null))
+                .thenThrow(new ResourceNotFoundException("Product with ID 99 not found"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> storeViewService.getProductView(99L, null, ReviewSort.NEWEST, null))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Product not found. Id: 99");
+    }
+
+    // ========================
+    // GET BOOTSTRAP
+    // ========================
+
+    @Test
+    @Order(4)
+    @DisplayName("Should combine the shared catalog with the viewer's cart count and favorites")
+    void shouldComposeBootstrapForViewer() {
+        // Arrange
+        when(storeCatalogCache.get()).thenReturn(catalog);
+        when(cartItemService.countItems(5L)).thenReturn(3);
+        when(favoriteService.getFavoriteProductIds(5L)).thenReturn(List.of(1L));
+
+        // Act
+        StoreBootstrapResponse result = storeViewService.getBootstrap(5L);
+
+        // Assert
+        assertThat(result.categories()).isSameAs(catalog.categories());
+        assertThat(result.featured()).containsExactly(product);
+        assertThat(result.products()).isSameAs(catalog.products());
+        assertThat(result.cartCount()).isEqualTo(3);
+        assertThat(result.favoriteIds()).containsExactly(1L);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Should serve only the shared catalog to anonymous visitors")
+    void shouldServeCatalogWhenAnonymous() {
+        // Arrange
+        when(storeCatalogCache.get()).thenReturn(catalog);
+
+        // Act
+        StoreBootstrapResponse result = storeViewService.getBootstrap(null);
+
+        // Assert
+        assertThat(result.lowStock()).containsExactly(product);
+        assertThat(result.cartCount()).isZero();
+        assertThat(result.favoriteIds()).isEmpty();
+        verifyNoInteractions(cartItemService, favoriteService);
+    }
+}
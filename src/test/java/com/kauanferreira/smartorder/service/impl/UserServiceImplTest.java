@@ -18,6 +18,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Collections;
@@ -177,27 +179,30 @@ public class UserServiceImplTest {
     @DisplayName("Should find all users")
     void shouldFindAll() {
         // Arrange
-        when(userRepository.findAll()).thenReturn(List.of(kauan, ana));
+        Pageable pageable = PageRequest.of(0, 10);
+        when(userRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(kauan, ana), pageable, false));
 
         // Act
-        List<User> results = userService.findAll();
+        Slice<User> results = userService.findAll(pageable, false);
 
         // Assert
-        assertThat(results).hasSize(2);
+        assertThat(results.getContent()).hasSize(2);
+        verify(userRepository, never()).count();
     }
 
     @Test
     @Order(8)
-    @DisplayName("Should return empty list when no users exist")
+    @DisplayName("Should return empty slice when no users exist")
     void shouldReturnEmptyListWhenNoUsers() {
         // Arrange
-        when(userRepository.findAll()).thenReturn(Collections.emptyList());
+        Pageable pageable = PageRequest.of(0, 10);
+        when(userRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(Collections.emptyList(), pageable, false));
 
         // Act
-        List<User> results = userService.findAll();
+        Slice<User> results = userService.findAll(pageable, false);
 
         // Assert
-        assertThat(results).isEmpty();
+        assertThat(results.getContent()).isEmpty();
     }
 
     // ========================
@@ -230,14 +235,16 @@ public class UserServiceImplTest {
     @DisplayName("Should find all users ordered by name ascending")
     void shouldFindAllOrderByNameAsc() {
         // Arrange
-        when(userRepository.findAllByOrderByNameAsc()).thenReturn(List.of(ana, kauan));
+        Pageable pageable = PageRequest.of(0, 10);
+        when(userRepository.findAllByOrderByNameAsc(pageable))
+                .thenReturn(new SliceImpl<>(List.of(ana, kauan), pageable, false));
 
         // Act
-        List<User> results = userService.findAllOrderByNameAsc();
+        Slice<User> results = userService.findAllOrderByNameAsc(pageable, false);
 
         // Assert
-        assertThat(results).hasSize(2);
-        assertThat(results.getFirst().getName()).isEqualTo("Ana");
+        assertThat(results.getContent()).hasSize(2);
+        assertThat(results.getContent().getFirst().getName()).isEqualTo("Ana");
     }
 
     // ========================
@@ -249,14 +256,16 @@ public class UserServiceImplTest {
     @DisplayName("Should search users by partial name")
     void shouldSearchByName() {
         // Arrange
-        when(userRepository.findByNameContainingIgnoreCase("kau")).thenReturn(List.of(kauan));
+        Pageable pageable = PageRequest.of(0, 10);
+        when(userRepository.findByNameContainingIgnoreCase("kau", pageable))
+                .thenReturn(new SliceImpl<>(List.of(kauan), pageable, false));
 
         // Act
-        List<User> results = userService.searchByName("kau");
+        Slice<User> results = userService.searchByName("kau", pageable, false);
 
         // Assert
-        assertThat(results).hasSize(1);
-        assertThat(results.getFirst().getName()).isEqualTo("Kauan");
+        assertThat(results.getContent()).hasSize(1);
+        assertThat(results.getContent().getFirst().getName()).isEqualTo("Kauan");
     }
 
     @Test
@@ -264,13 +273,15 @@ public class UserServiceImplTest {
     @DisplayName("Should return empty list when no users match search")
     void shouldReturnEmptyListWhenNoSearchMatch() {
         // Arrange
-        when(userRepository.findByNameContainingIgnoreCase("xyz")).thenReturn(Collections.emptyList());
+        Pageable pageable = PageRequest.of(0, 10);
+        when(userRepository.findByNameContainingIgnoreCase("xyz", pageable))
+                .thenReturn(new SliceImpl<>(Collections.emptyList(), pageable, false));
 
         // Act
-        List<User> results = userService.searchByName("xyz");
+        Slice<User> results = userService.searchByName("xyz", pageable, false);
 
         // Assert
-        assertThat(results).isEmpty();
+        assertThat(results.getContent()).isEmpty();
     }
 
     // ========================
@@ -282,13 +293,17 @@ public class UserServiceImplTest {
     @DisplayName("Should find users by role")
     void shouldFindByRole() {
         // Arrange
-        when(userRepository.findByRole(Role.CUSTOMER)).thenReturn(List.of(kauan, ana));
+        Pageable pageable = PageRequest.of(0, 2);
+        when(userRepository.findByRole(Role.CUSTOMER, pageable))
+                .thenReturn(new SliceImpl<>(List.of(kauan, ana), pageable, true));
+        when(userRepository.countByRole(Role.CUSTOMER)).thenReturn(3L);
 
         // Act
-        List<User> results = userService.findByRole(Role.CUSTOMER);
+        Slice<User> results = userService.findByRole(Role.CUSTOMER, pageable, true);
 
         // Assert
-        assertThat(results).hasSize(2);
+        assertThat(results.getContent()).hasSize(2);
+        assertThat(((Page<User>) results).getTotalElements()).isEqualTo(3);
     }
 
     @Test
@@ -296,13 +311,15 @@ public class UserServiceImplTest {
     @DisplayName("Should return empty list when no users with given role")
     void shouldReturnEmptyListWhenNoUsersWithRole() {
         // Arrange
-        when(userRepository.findByRole(Role.ADMIN)).thenReturn(Collections.emptyList());
+        Pageable pageable = PageRequest.of(0, 10);
+        when(userRepository.findByRole(Role.ADMIN, pageable))
+                .thenReturn(new SliceImpl<>(Collections.emptyList(), pageable, false));
 
         // Act
-        List<User> results = userService.findByRole(Role.ADMIN);
+        Slice<User> results = userService.findByRole(Role.ADMIN, pageable, false);
 
         // Assert
-        assertThat(results).isEmpty();
+        assertThat(results.getContent()).isEmpty();
     }
 
     // ========================
@@ -0,0 +1,174 @@
+package com.kauanferreira.smartorder.service.like;
+
+import com.kauanferreira.smartorder.repository.ReviewLikeCountRepository;
+import com.kauanferreira.smartorder.services.event.ReviewLikeChangedEvent;
+import com.kauanferreira.smartorder.services.like.ReviewLikeCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ReviewLikeCounter}.
+ *
+ * <p>Uses Mockito to mock {@link ReviewLikeCountRepository}, testing how
+ * deltas are summed across stripes, drained by a flush, restored when a
+ * flush fails and left out of the flush once a reconciliation counted
+ * them.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see ReviewLikeCounter
+ */
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ReviewLikeCounterTest {
+
+    /** Review ids 1 and 17 share a stripe, review id 2 is in another one. */
+    private static final long REVIEW_ID = 1L;
+    private static final long SAME_STRIPE_REVIEW_ID = 17L;
+    private static final long OTHER_REVIEW_ID = 2L;
+
+    @Mock
+    private ReviewLikeCountRepository reviewLikeCountRepository;
+
+    @InjectMocks
+    private ReviewLikeCounter reviewLikeCounter;
+
+    private void like(long reviewId, int delta) {
+        reviewLikeCounter.onReviewLikeChanged(new ReviewLikeChangedEvent(reviewId, delta));
+    }
+
+    // ========================
+    // PENDING
+    // ========================
+
+    @Test
+    @Order(1)
+    @DisplayName("Should sum the deltas of each review separately")
+    void shouldSumDeltasPerReview() {
+        // Act
+        like(REVIEW_ID, 1);
+        like(REVIEW_ID, 1);
+        like(SAME_STRIPE_REVIEW_ID, 1);
+        like(OTHER_REVIEW_ID, -1);
+
+        // Assert
+        assertThat(reviewLikeCounter.pending(REVIEW_ID)).isEqualTo(2);
+        assertThat(reviewLikeCounter.pending(SAME_STRIPE_REVIEW_ID)).isEqualTo(1);
+        assertThat(reviewLikeCounter.pending(OTHER_REVIEW_ID)).isEqualTo(-1);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should not flush a like cancelled by an unlike")
+    void shouldDropCancelledDeltas() {
+        // Arrange
+        like(REVIEW_ID, 1);
+        like(REVIEW_ID, -1);
+
+        // Act
+        reviewLikeCounter.flush();
+
+        // Assert
+        assertThat(reviewLikeCounter.pending(REVIEW_ID)).isZero();
+        verify(reviewLikeCountRepository, never()).addDeltas(anyMap());
+    }
+
+    // ========================
+    // FLUSH
+    // ========================
+
+    @Test
+    @Order(3)
+    @DisplayName("Should write the deltas of every stripe in one batch and clear them")
+    void shouldDrainEveryStripe() {
+        // Arrange
+        like(REVIEW_ID, 1);
+        like(SAME_STRIPE_REVIEW_ID, 1);
+        like(OTHER_REVIEW_ID, 1);
+        like(OTHER_REVIEW_ID, 1);
+
+        // Act
+        reviewLikeCounter.flush();
+
+        // Assert
+        verify(reviewLikeCountRepository).addDeltas(Map.of(REVIEW_ID, 1, SAME_STRIPE_REVIEW_ID, 1, OTHER_REVIEW_ID, 2));
+        assertThat(reviewLikeCounter.pending(REVIEW_ID)).isZero();
+        assertThat(reviewLikeCounter.pending(OTHER_REVIEW_ID)).isZero();
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should put the deltas back when a flush fails and merge later likes into them")
+    void shouldRestoreDeltasOnFailure() {
+        // Arrange
+        like(REVIEW_ID, 1);
+        doThrow(new QueryTimeoutException("timeout"))
+                .doNothing()
+                .when(reviewLikeCountRepository).addDeltas(anyMap());
+
+        // Act
+        reviewLikeCounter.flush();
+        like(REVIEW_ID, 1);
+        reviewLikeCounter.flush();
+
+        // Assert
+        verify(reviewLikeCountRepository).addDeltas(Map.of(REVIEW_ID, 2));
+        assertThat(reviewLikeCounter.pending(REVIEW_ID)).isZero();
+    }
+
+    // ========================
+    // RECONCILE
+    // ========================
+
+    @Test
+    @Order(5)
+    @DisplayName("Should not flush the likes the recount already counted")
+    void shouldSubtractCountedDeltas() {
+        // Arrange
+        like(REVIEW_ID, 1);
+        like(OTHER_REVIEW_ID, -1);
+        when(reviewLikeCountRepository.reconcile()).thenAnswer(invocation -> {
+            like(REVIEW_ID, 1);
+            return 2;
+        });
+
+        // Act
+        reviewLikeCounter.reconcile();
+
+        // Assert
+        assertThat(reviewLikeCounter.pending(REVIEW_ID)).isEqualTo(1);
+        assertThat(reviewLikeCounter.pending(OTHER_REVIEW_ID)).isZero();
+
+        reviewLikeCounter.flush();
+        verify(reviewLikeCountRepository).addDeltas(Map.of(REVIEW_ID, 1));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Should keep the deltas pending when the recount fails")
+    void shouldKeepDeltasWhenRecountFails() {
+        // Arrange
+        like(REVIEW_ID, 1);
+        when(reviewLikeCountRepository.reconcile()).thenThrow(new QueryTimeoutException("timeout"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> reviewLikeCounter.reconcile()).isInstanceOf(QueryTimeoutException.class);
+        assertThat(reviewLikeCounter.pending(REVIEW_ID)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,198 @@
+package com.kauanferreira.smartorder.service.metrics;
+
+import com.kauanferreira.smartorder.dto.projection.OrderStatusTotalsProjection;
+import com.kauanferreira.smartorder.dto.response.LiveMetricsMessage;
+import com.kauanferreira.smartorder.enums.OrderStatus;
+import com.kauanferreira.smartorder.repository.CartItemRepository;
+import com.kauanferreira.smartorder.repository.OrderRepository;
+import com.kauanferreira.smartorder.services.event.OrderPlacedEvent;
+import com.kauanferreira.smartorder.services.event.OrderStatusChangedEvent;
+import com.kauanferreira.smartorder.services.metrics.LiveMetricsRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link LiveMetricsRegistry}.
+ *
+ * <p>Uses Mockito to mock the repositories and the messaging template,
+ * testing that reconciliation sets the counters to the SQL totals, that an
+ * event committed between the aggregate query and the counter update is
+ * erased until the next reconciliation, and that only changed snapshots are
+ * broadcast.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see LiveMetricsRegistry
+ */
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class LiveMetricsRegistryTest {
+
+    private static final LocalDateTime ORDER_DATE = LocalDateTime.of(2026, 3, 1, 10, 0);
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private CartItemRepository cartItemRepository;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @InjectMocks
+    private LiveMetricsRegistry liveMetricsRegistry;
+
+    private static OrderStatusTotalsProjection totals(OrderStatus status, long count, String revenue) {
+        return new OrderStatusTotalsProjection(status, count, new BigDecimal(revenue));
+    }
+
+    private static OrderPlacedEvent placed(String total) {
+        return new OrderPlacedEvent(1L, 1L, ORDER_DATE, new BigDecimal(total), List.of());
+    }
+
+    // ========================
+    // RECONCILE
+    // ========================
+
+    @Test
+    @Order(1)
+    @DisplayName("Should seed the counters from the SQL totals, excluding cancelled revenue")
+    void shouldSeedFromSqlTotals() {
+        // Arrange
+        when(orderRepository.sumTotalsByStatus()).thenReturn(List.of(
+                totals(OrderStatus.PENDING, 2, "30.50"),
+                totals(OrderStatus.DELIVERED, 3, "100.00"),
+                totals(OrderStatus.CANCELLED, 1, "999.99")));
+        when(cartItemRepository.countActiveCarts()).thenReturn(4L);
+
+        // Act
+        liveMetricsRegistry.seed();
+        LiveMetricsMessage snapshot = liveMetricsRegistry.snapshot();
+
+        // Assert
+        assertThat(snapshot.totalRevenue()).isEqualByComparingTo("130.50");
+        assertThat(snapshot.totalOrders()).isEqualTo(6);
+        assertThat(snapshot.ordersByStatus())
+                .containsEntry(OrderStatus.PENDING, 2L)
+                .containsEntry(OrderStatus.DELIVERED, 3L)
+                .containsEntry(OrderStatus.CANCELLED, 1L)
+                .containsEntry(OrderStatus.CONFIRMED, 0L);
+        assertThat(snapshot.activeCarts()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should correct counters that drifted from the database")
+    void shouldCorrectDrift() {
+        // Arrange: an administrative edit the events never saw
+        when(orderRepository.sumTotalsByStatus())
+                .thenReturn(List.of(totals(OrderStatus.PENDING, 1, "10.00")))
+                .thenReturn(List.of(totals(OrderStatus.CONFIRMED, 1, "12.00")));
+        liveMetricsRegistry.reconcile();
+        liveMetricsRegistry.onOrderPlaced(placed("5.00"));
+
+        // Act
+        liveMetricsRegistry.reconcile();
+        LiveMetricsMessage snapshot = liveMetricsRegistry.snapshot();
+
+        // Assert
+        assertThat(snapshot.totalRevenue()).isEqualByComparingTo("12.00");
+        assertThat(snapshot.ordersByStatus())
+                .containsEntry(OrderStatus.PENDING, 0L)
+                .containsEntry(OrderStatus.CONFIRMED, 1L);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should erase an event committed during the query until the next reconciliation")
+    void shouldEraseEventCommittedDuringQuery() {
+        // Arrange: the checkout commits after the aggregate read the orders
+        when(orderRepository.sumTotalsByStatus())
+                .thenAnswer(invocation -> {
+                    liveMetricsRegistry.onOrderPlaced(placed("7.00"));
+                    return List.of(totals(OrderStatus.PENDING, 1, "10.00"));
+                })
+                .thenReturn(List.of(totals(OrderStatus.PENDING, 2, "17.00")));
+
+        // Act
+        liveMetricsRegistry.reconcile();
+        LiveMetricsMessage erased = liveMetricsRegistry.snapshot();
+        liveMetricsRegistry.reconcile();
+        LiveMetricsMessage restored = liveMetricsRegistry.snapshot();
+
+        // Assert
+        assertThat(erased.totalRevenue()).isEqualByComparingTo("10.00");
+        assertThat(erased.ordersByStatus()).containsEntry(OrderStatus.PENDING, 1L);
+        assertThat(erased.checkoutsLastMinute()).isEqualTo(1);
+        assertThat(restored.totalRevenue()).isEqualByComparingTo("17.00");
+        assertThat(restored.ordersByStatus()).containsEntry(OrderStatus.PENDING, 2L);
+    }
+
+    // ========================
+    // EVENTS
+    // ========================
+
+    @Test
+    @Order(4)
+    @DisplayName("Should move revenue out of and back into the totals across a cancellation")
+    void shouldApplyCancellationToRevenue() {
+        // Arrange
+        liveMetricsRegistry.onOrderPlaced(placed("25.00"));
+
+        // Act
+        liveMetricsRegistry.onOrderStatusChanged(new OrderStatusChangedEvent(1L, 1L, ORDER_DATE,
+                new BigDecimal("25.00"), OrderStatus.PENDING, OrderStatus.CANCELLED));
+        LiveMetricsMessage cancelled = liveMetricsRegistry.snapshot();
+        liveMetricsRegistry.onOrderStatusChanged(new OrderStatusChangedEvent(1L, 1L, ORDER_DATE,
+                new BigDecimal("25.00"), OrderStatus.CANCELLED, OrderStatus.CONFIRMED));
+        LiveMetricsMessage confirmed = liveMetricsRegistry.snapshot();
+
+        // Assert
+        assertThat(cancelled.totalRevenue()).isEqualByComparingTo("0.00");
+        assertThat(cancelled.ordersByStatus())
+                .containsEntry(OrderStatus.PENDING, 0L)
+                .containsEntry(OrderStatus.CANCELLED, 1L);
+        assertThat(confirmed.totalRevenue()).isEqualByComparingTo("25.00");
+        assertThat(confirmed.ordersByStatus())
+                .containsEntry(OrderStatus.CANCELLED, 0L)
+                .containsEntry(OrderStatus.CONFIRMED, 1L);
+    }
+
+    // ========================
+    // BROADCAST
+    // ========================
+
+    @Test
+    @Order(5)
+    @DisplayName("Should broadcast only when something changed since the last broadcast")
+    void shouldBroadcastOnlyChanges() {
+        // Act
+        liveMetricsRegistry.broadcast();
+        liveMetricsRegistry.broadcast();
+        liveMetricsRegistry.onOrderPlaced(placed("5.00"));
+        liveMetricsRegistry.broadcast();
+        liveMetricsRegistry.broadcast();
+
+        // Assert
+        verify(messagingTemplate, times(2))
+                .convertAndSend(eq(LiveMetricsRegistry.DESTINATION), any(LiveMetricsMessage.class));
+    }
+}
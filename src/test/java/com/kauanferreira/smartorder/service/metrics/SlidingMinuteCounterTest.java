@@ -0,0 +1,138 @@
+package com.kauanferreira.smartorder.service.metrics;
+
+import com.kauanferreira.smartorder.services.metrics.SlidingMinuteCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link SlidingMinuteCounter}.
+ *
+ * <p>Drives the counter with a manual clock, testing that events stay in the
+ * window for 60 seconds and that a slot reused a minute later starts from
+ * zero.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see SlidingMinuteCounter
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class SlidingMinuteCounterTest {
+
+    private static final long START_MILLIS = 1_800_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong();
+    private SlidingMinuteCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        clock.set(START_MILLIS);
+        counter = new SlidingMinuteCounter(clock::get);
+    }
+
+    private void advanceSeconds(long seconds) {
+        clock.addAndGet(seconds * 1000);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should be zero before any event")
+    void shouldStartEmpty() {
+        // Act & Assert
+        assertThat(counter.sum()).isZero();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should sum the events of every second in the last minute")
+    void shouldSumEventsWithinMinute() {
+        // Arrange
+        counter.increment();
+        counter.increment();
+        advanceSeconds(1);
+        counter.increment();
+        advanceSeconds(58);
+        counter.increment();
+
+        // Act
+        long sum = counter.sum();
+
+        // Assert
+        assertThat(sum).isEqualTo(4);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should drop a second once it is 60 seconds old")
+    void shouldDropExpiredSeconds() {
+        // Arrange
+        counter.increment();
+        counter.increment();
+        advanceSeconds(30);
+        counter.increment();
+
+        // Act
+        advanceSeconds(29);
+        long beforeExpiry = counter.sum();
+        advanceSeconds(1);
+        long afterFirstExpiry = counter.sum();
+        advanceSeconds(30);
+        long afterAllExpired = counter.sum();
+
+        // Assert
+        assertThat(beforeExpiry).isEqualTo(3);
+        assertThat(afterFirstExpiry).isEqualTo(1);
+        assertThat(afterAllExpired).isZero();
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should reset a slot when it is reused for a new second")
+    void shouldResetReusedSlot() {
+        // Arrange
+        counter.increment();
+        counter.increment();
+        counter.increment();
+
+        // Act: same slot, one minute later
+        advanceSeconds(60);
+        counter.increment();
+
+        // Assert
+        assertThat(counter.sum()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Should count every increment made concurrently in the same second")
+    void shouldCountConcurrentIncrements() throws InterruptedException {
+        // Arrange
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    counter.increment();
+                }
+            });
+        }
+
+        // Act
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Assert
+        assertThat(counter.sum()).isEqualTo(4000);
+    }
+}
@@ -0,0 +1,197 @@
+package com.kauanferreira.smartorder.service.ranking;
+
+import com.kauanferreira.smartorder.services.ranking.HeavyHitterSketch;
+import com.kauanferreira.smartorder.services.ranking.HeavyHitterSketch.Counter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link HeavyHitterSketch}.
+ *
+ * <p>Feeds fixed update sequences, testing exact counts below capacity,
+ * Space-Saving replacement of the minimum, the Count-Min estimate inherited
+ * by a replacing product, negative weights and scaling.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see HeavyHitterSketch
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class HeavyHitterSketchTest {
+
+    /** Wide enough that the few products used here never collide in every row. */
+    private static final int WIDE = 2048;
+
+    // ========================
+    // COUNTS
+    // ========================
+
+    @Test
+    @Order(1)
+    @DisplayName("Should count exactly while there are fewer products than the capacity")
+    void shouldCountExactlyBelowCapacity() {
+        // Arrange
+        HeavyHitterSketch sketch = new HeavyHitterSketch(4, WIDE);
+
+        // Act
+        sketch.add(10L, 2);
+        sketch.add(20L, 5);
+        sketch.add(10L, 1);
+        sketch.add(30L, 1);
+
+        // Assert
+        assertThat(sketch.top(10)).containsExactly(
+                new Counter(20L, 5, 0),
+                new Counter(10L, 3, 0),
+                new Counter(30L, 1, 0));
+        assertThat(sketch.top(2)).extracting(Counter::productId).containsExactly(20L, 10L);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should keep the heaviest products of a long stream")
+    void shouldKeepHeaviestProducts() {
+        // Arrange
+        HeavyHitterSketch sketch = new HeavyHitterSketch(10, WIDE);
+
+        // Act
+        for (long productId = 1; productId <= 100; productId++) {
+            sketch.add(productId, productId);
+        }
+
+        // Assert
+        List<Counter> top = sketch.top(10);
+        assertThat(top).extracting(Counter::productId)
+                .containsExactly(100L, 99L, 98L, 97L, 96L, 95L, 94L, 93L, 92L, 91L);
+        assertThat(top).allSatisfy(counter -> {
+            assertThat(counter.count()).isEqualTo(counter.productId());
+            assertThat(counter.error()).isZero();
+        });
+    }
+
+    // ========================
+    // SPACE-SAVING
+    // ========================
+
+    @Test
+    @Order(3)
+    @DisplayName("Should admit a product only once its weight beats the minimum")
+    void shouldReplaceMinimumOnlyWhenHeavier() {
+        // Arrange
+        HeavyHitterSketch sketch = new HeavyHitterSketch(2, WIDE);
+        sketch.add(1L, 6);
+        sketch.add(2L, 3);
+
+        // Act
+        sketch.add(3L, 1);
+        List<Counter> afterLightSale = sketch.top(10);
+        sketch.add(3L, 4);
+
+        // Assert
+        assertThat(afterLightSale).extracting(Counter::productId).containsExactly(1L, 2L);
+        assertThat(sketch.top(10)).containsExactly(
+                new Counter(1L, 6, 0),
+                new Counter(3L, 5, 1));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should inherit the evicted minimum when the Count-Min estimate is no tighter")
+    void shouldInheritMinimumOnCollision() {
+        // Arrange
+        HeavyHitterSketch sketch = new HeavyHitterSketch(1, 1);
+        sketch.add(1L, 5);
+
+        // Act
+        sketch.add(2L, 2);
+
+        // Assert
+        Counter counter = sketch.top(10).getFirst();
+        assertThat(counter).isEqualTo(new Counter(2L, 7, 5));
+        assertThat(counter.count() - counter.error()).isEqualTo(2);
+    }
+
+    // ========================
+    // NEGATIVE WEIGHTS
+    // ========================
+
+    @Test
+    @Order(5)
+    @DisplayName("Should subtract a cancellation and hide products that drop to zero")
+    void shouldSubtractNegativeWeights() {
+        // Arrange
+        HeavyHitterSketch sketch = new HeavyHitterSketch(3, WIDE);
+        sketch.add(1L, 5);
+        sketch.add(2L, 2);
+
+        // Act
+        sketch.add(1L, -3);
+        sketch.add(2L, -4);
+        sketch.add(3L, -1);
+
+        // Assert
+        assertThat(sketch.top(10)).containsExactly(new Counter(1L, 2, 0));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Should let a cancelled product re-enter at its sketch estimate")
+    void shouldUseSketchEstimateAfterCancellation() {
+        // Arrange
+        HeavyHitterSketch sketch = new HeavyHitterSketch(1, WIDE);
+        sketch.add(1L, 4);
+        sketch.add(2L, 1);
+        sketch.add(2L, -1);
+
+        // Act
+        sketch.add(2L, 5);
+
+        // Assert
+        assertThat(sketch.top(10)).containsExactly(new Counter(2L, 5, 0));
+    }
+
+    // ========================
+    // SCALE / CLEAR
+    // ========================
+
+    @Test
+    @Order(7)
+    @DisplayName("Should scale counts, errors and the sketch by the same factor")
+    void shouldScaleEverything() {
+        // Arrange
+        HeavyHitterSketch sketch = new HeavyHitterSketch(1, 1);
+        sketch.add(1L, 8);
+        sketch.add(2L, 4);
+
+        // Act
+        sketch.scale(0.25);
+        sketch.add(3L, 4);
+
+        // Assert
+        assertThat(sketch.top(10)).containsExactly(new Counter(3L, 7, 3));
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Should forget every product and estimate after a clear")
+    void shouldClear() {
+        // Arrange
+        HeavyHitterSketch sketch = new HeavyHitterSketch(1, 1);
+        sketch.add(1L, 8);
+
+        // Act
+        sketch.clear();
+        sketch.add(2L, 1);
+
+        // Assert
+        assertThat(sketch.top(10)).containsExactly(new Counter(2L, 1, 0));
+    }
+}
@@ -0,0 +1,295 @@
+package com.kauanferreira.smartorder.service.ranking;
+
+import com.kauanferreira.smartorder.config.ClusterProperties;
+import com.kauanferreira.smartorder.enums.OrderStatus;
+import com.kauanferreira.smartorder.enums.ProductRanking;
+import com.kauanferreira.smartorder.repository.ProductRankingRepository;
+import com.kauanferreira.smartorder.repository.ProductRankingRepository.SaleConsumer;
+import com.kauanferreira.smartorder.services.event.OrderPlacedEvent;
+import com.kauanferreira.smartorder.services.event.OrderStatusChangedEvent;
+import com.kauanferreira.smartorder.services.ranking.HeavyHitterSketch.Counter;
+import com.kauanferreira.smartorder.services.ranking.ProductRankingRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ProductRankingRegistry}.
+ *
+ * <p>Uses Mockito to mock {@link ProductRankingRepository}, testing that
+ * scores decay with each ranking's half-life, that a cancellation removes
+ * exactly what its order added, and that moving the decay landmark keeps
+ * every score, and that with several nodes the rankings come from the
+ * order tables only. Sales are dated in whole hours from the moment the registry
+ * is created, so scores are exact up to the milliseconds the test takes.</p>
+ *
+ * @author Kauan Santos Ferreira
+ * @version 1.0
+ * @since 2026
+ * @see ProductRankingRegistry
+ */
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ProductRankingRegistryTest {
+
+    private static final double BEST_SELLERS_HALF_LIFE_HOURS = 168;
+    private static final double TRENDING_HALF_LIFE_HOURS = 1;
+    private static final double TOLERANCE = 1e-4;
+
+    private static final long PRODUCT_ID = 10L;
+    private static final long OTHER_PRODUCT_ID = 20L;
+
+    @Mock
+    private ProductRankingRepository productRankingRepository;
+
+    private ProductRankingRegistry registry;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        registry = newRegistry(false);
+        now = LocalDateTime.now();
+    }
+
+    private ProductRankingRegistry newRegistry(boolean multiNode) {
+        return new ProductRankingRegistry(productRankingRepository, new ClusterProperties(multiNode), 16, 2048,
+                BEST_SELLERS_HALF_LIFE_HOURS, TRENDING_HALF_LIFE_HOURS);
+    }
+
+    private void stubHourlySale(long productId, int units) {
+        doAnswer(invocation -> {
+            SaleConsumer consumer = invocation.getArgument(1);
+            consumer.accept(productId, LocalDateTime.now().minusHours(1), units);
+            return null;
+        }).when(productRankingRepository).forEachHourlySale(any(LocalDateTime.class), any(SaleConsumer.class));
+    }
+
+    private void sell(long orderId, long productId, int units, LocalDateTime orderDate) {
+        registry.onOrderPlaced(new OrderPlacedEvent(orderId, 1L, orderDate, BigDecimal.TEN,
+                List.of(new OrderPlacedEvent.Line(productId, units, BigDecimal.TEN))));
+    }
+
+    private void changeStatus(long orderId, LocalDateTime orderDate, OrderStatus from, OrderStatus to) {
+        registry.onOrderStatusChanged(new OrderStatusChangedEvent(orderId, 1L, orderDate, BigDecimal.TEN, from, to));
+    }
+
+    private void stubOrderLine(long orderId, long productId, int units) {
+        doAnswer(invocation -> {
+            SaleConsumer consumer = invocation.getArgument(2);
+            consumer.accept(productId, invocation.getArgument(1), units);
+            return null;
+        }).when(productRankingRepository).forEachOrderLine(eq(orderId), any(LocalDateTime.class), any(SaleConsumer.class));
+    }
+
+    private double score(ProductRanking ranking, long productId) {
+        return registry.top(ranking, Integer.MAX_VALUE).stream()
+                .filter(counter -> counter.productId() == productId)
+                .mapToDouble(Counter::count)
+                .findFirst()
+                .orElse(0);
+    }
+
+    // ========================
+    // DECAY
+    // ========================
+
+    @Test
+    @Order(1)
+    @DisplayName("Should decay a sale with the half-life of each ranking")
+    void shouldDecayWithHalfLife() {
+        // Act
+        sell(1L, PRODUCT_ID, 8, now.minusHours(2));
+
+        // Assert
+        assertThat(score(ProductRanking.TRENDING, PRODUCT_ID)).isCloseTo(2, within(TOLERANCE));
+        assertThat(score(ProductRanking.BEST_SELLERS, PRODUCT_ID))
+                .isCloseTo(8 * Math.pow(2, -2 / BEST_SELLERS_HALF_LIFE_HOURS), within(TOLERANCE));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should rank a recent sale above an older larger one only in trending")
+    void shouldRankByDecayedUnits() {
+        // Act
+        sell(1L, PRODUCT_ID, 8, now.minusHours(3));
+        sell(2L, OTHER_PRODUCT_ID, 2, now);
+
+        // Assert
+        assertThat(registry.top(ProductRanking.TRENDING, 10)).extracting(Counter::productId)
+                .containsExactly(OTHER_PRODUCT_ID, PRODUCT_ID);
+        assertThat(registry.top(ProductRanking.BEST_SELLERS, 10)).extracting(Counter::productId)
+                .containsExactly(PRODUCT_ID, OTHER_PRODUCT_ID);
+        assertThat(registry.top(ProductRanking.TRENDING, 1)).hasSize(1);
+    }
+
+    // ========================
+    // CANCELLATION
+    // ========================
+
+    @Test
+    @Order(3)
+    @DisplayName("Should remove a cancelled order's units and add them back when it is restored")
+    void shouldSubtractAndRestoreCancelledOrder() {
+        // Arrange
+        sell(1L, PRODUCT_ID, 3, now.minusHours(1));
+        sell(2L, OTHER_PRODUCT_ID, 2, now);
+        stubOrderLine(1L, PRODUCT_ID, 3);
+
+        // Act
+        changeStatus(1L, now.minusHours(1), OrderStatus.PENDING, OrderStatus.CANCELLED);
+        double cancelled = score(ProductRanking.TRENDING, PRODUCT_ID);
+        changeStatus(1L, now.minusHours(1), OrderStatus.CANCELLED, OrderStatus.PENDING);
+
+        // Assert
+        assertThat(cancelled).isCloseTo(0, within(TOLERANCE));
+        assertThat(score(ProductRanking.TRENDING, PRODUCT_ID)).isCloseTo(1.5, within(TOLERANCE));
+        assertThat(score(ProductRanking.TRENDING, OTHER_PRODUCT_ID)).isCloseTo(2, within(TOLERANCE));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should ignore status changes that do not cross cancellation")
+    void shouldIgnoreOtherStatusChanges() {
+        // Arrange
+        sell(1L, PRODUCT_ID, 3, now);
+
+        // Act
+        changeStatus(1L, now, OrderStatus.PENDING, OrderStatus.SHIPPED);
+
+        // Assert
+        verify(productRankingRepository, never()).forEachOrderLine(anyLong(), any(), any());
+        assertThat(score(ProductRanking.TRENDING, PRODUCT_ID)).isCloseTo(3, within(TOLERANCE));
+    }
+
+    // ========================
+    // LANDMARK
+    // ========================
+
+    @Test
+    @Order(5)
+    @DisplayName("Should keep every score when a late sale moves the landmark")
+    void shouldRescaleWhenLandmarkMoves() {
+        // Arrange
+        sell(1L, PRODUCT_ID, 1, now);
+
+        // Act
+        sell(2L, OTHER_PRODUCT_ID, 1, now.plusHours(41));
+
+        // Assert
+        assertThat(score(ProductRanking.TRENDING, PRODUCT_ID)).isCloseTo(1, within(TOLERANCE));
+        assertThat(score(ProductRanking.TRENDING, OTHER_PRODUCT_ID) / Math.pow(2, 41))
+                .isCloseTo(1, within(TOLERANCE));
+        assertThat(score(ProductRanking.BEST_SELLERS, PRODUCT_ID)).isCloseTo(1, within(TOLERANCE));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Should still remove exactly what was added after the landmark moved")
+    void shouldCancelAcrossLandmarkMove() {
+        // Arrange
+        sell(1L, PRODUCT_ID, 4, now);
+        sell(2L, OTHER_PRODUCT_ID, 1, now.plusHours(41));
+        stubOrderLine(1L, PRODUCT_ID, 4);
+
+        // Act
+        changeStatus(1L, now, OrderStatus.CONFIRMED, OrderStatus.CANCELLED);
+
+        // Assert
+        assertThat(score(ProductRanking.TRENDING, PRODUCT_ID)).isCloseTo(0, within(TOLERANCE));
+        assertThat(score(ProductRanking.BEST_SELLERS, PRODUCT_ID)).isCloseTo(0, within(TOLERANCE));
+    }
+
+    // ========================
+    // REBUILD / SNAPSHOT
+    // ========================
+
+    @Test
+    @Order(7)
+    @DisplayName("Should replace the rankings with the replayed sales on rebuild")
+    void shouldReplaceRankingsOnRebuild() {
+        // Arrange
+        sell(1L, PRODUCT_ID, 5, now);
+        stubHourlySale(OTHER_PRODUCT_ID, 4);
+
+        // Act
+        registry.rebuild();
+
+        // Assert
+        assertThat(registry.top(ProductRanking.TRENDING, 10)).extracting(Counter::productId)
+                .containsExactly(OTHER_PRODUCT_ID);
+        assertThat(score(ProductRanking.TRENDING, OTHER_PRODUCT_ID)).isCloseTo(2, within(TOLERANCE));
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Should snapshot the other ranking when one snapshot fails")
+    void shouldSnapshotEachRankingIndependently() {
+        // Arrange
+        sell(1L, PRODUCT_ID, 1, now);
+        doThrow(new QueryTimeoutException("timeout"))
+                .when(productRankingRepository).replaceSnapshot(eq(ProductRanking.BEST_SELLERS), anyList(), any());
+
+        // Act
+        registry.snapshot();
+
+        // Assert
+        verify(productRankingRepository).replaceSnapshot(eq(ProductRanking.TRENDING),
+                argThat(counters -> counters.size() == 1 && counters.getFirst().productId() == PRODUCT_ID), any());
+    }
+
+    // ========================
+    // MULTI-NODE
+    // ========================
+
+    @Test
+    @Order(9)
+    @DisplayName("Should ignore order events and rebuild on schedule with several nodes")
+    void shouldRebuildInsteadOfCountingEventsWhenMultiNode() {
+        // Arrange
+        registry = newRegistry(true);
+        stubHourlySale(OTHER_PRODUCT_ID, 4);
+
+        // Act
+        sell(1L, PRODUCT_ID, 3, now);
+        changeStatus(1L, now, OrderStatus.CANCELLED, OrderStatus.PENDING);
+        List<Counter> beforeRebuild = registry.top(ProductRanking.TRENDING, 10);
+        registry.rebuildIfMultiNode();
+
+        // Assert
+        assertThat(beforeRebuild).isEmpty();
+        assertThat(registry.top(ProductRanking.TRENDING, 10)).extracting(Counter::productId)
+                .containsExactly(OTHER_PRODUCT_ID);
+        verify(productRankingRepository, never()).forEachOrderLine(anyLong(), any(), any());
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Should not rebuild on schedule with a single node")
+    void shouldNotRebuildOnScheduleWhenSingleNode() {
+        // Act
+        registry.rebuildIfMultiNode();
+
+        // Assert
+        verifyNoInteractions(productRankingRepository);
+    }
+}